@@ -0,0 +1,71 @@
+package com.champlain.courseservice.datamapperlayer;
+
+import com.champlain.courseservice.dataaccesslayer.Course;
+import com.champlain.courseservice.presentationlayer.CourseResponseModel;
+import org.mapstruct.factory.Mappers;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.beans.BeanUtils;
+import reactor.core.publisher.Flux;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/*
+   getAllCourses maps every row of the findAll Flux, so this streams a catalog-sized list through the same
+   Flux.map with the old BeanUtils copy and with the generated mapper. Scores are per course.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class CourseResponseMapperBenchmark {
+
+    private static final int ROWS = 10_000;
+
+    private final CourseResponseMapper courseResponseMapper = Mappers.getMapper(CourseResponseMapper.class);
+    private List<Course> courses;
+
+    @Setup
+    public void setUp() {
+        courses = new ArrayList<>(ROWS);
+        for (int i = 0; i < ROWS; i++) {
+            courses.add(Course.builder()
+                    .id(i + 1)
+                    .courseId(UUID.randomUUID().toString())
+                    .courseNumber("trs-" + (i % 1000))
+                    .courseName("Web Services " + i)
+                    .numHours(90)
+                    .numCredits(2.0)
+                    .department("Math")
+                    .build());
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public CourseResponseModel beanUtilsStream() {
+        return Flux.fromIterable(courses)
+                .map(course -> {
+                    CourseResponseModel courseResponseModel = new CourseResponseModel();
+                    BeanUtils.copyProperties(course, courseResponseModel);
+                    return courseResponseModel;
+                })
+                .blockLast();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public CourseResponseModel mapStructStream() {
+        return Flux.fromIterable(courses)
+                .map(courseResponseMapper::entityToResponseModel)
+                .blockLast();
+    }
+}
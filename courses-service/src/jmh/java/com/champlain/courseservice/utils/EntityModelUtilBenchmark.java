@@ -0,0 +1,62 @@
+package com.champlain.courseservice.utils;
+
+import com.champlain.courseservice.dataaccesslayer.Course;
+import com.champlain.courseservice.presentationlayer.CourseRequestModel;
+import com.champlain.courseservice.presentationlayer.CourseResponseModel;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/*
+   Per-request CPU and allocation cost of the course mapping, run with -prof gc (see jmh block in build.gradle).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class EntityModelUtilBenchmark {
+
+    private Course course;
+    private CourseRequestModel courseRequestModel;
+
+    @Setup
+    public void setUp() {
+        course = Course.builder()
+                .id(4)
+                .courseId("9a29fff7-564a-4cc9-8fe1-36f6ca9bc223")
+                .courseNumber("trs-075")
+                .courseName("Web Services")
+                .numHours(90)
+                .numCredits(2.0)
+                .department("Math")
+                .build();
+
+        courseRequestModel = CourseRequestModel.builder()
+                .courseNumber("trs-075")
+                .courseName("Web Services")
+                .numHours(90)
+                .numCredits(2.0)
+                .department("Math")
+                .build();
+    }
+
+    @Benchmark
+    public CourseResponseModel toCourseResponseModel() {
+        return EntityModelUtil.toCourseResponseModel(course);
+    }
+
+    @Benchmark
+    public Course toCourseEntity() {
+        return EntityModelUtil.toCourseEntity(courseRequestModel);
+    }
+
+    @Benchmark
+    public String generateUUIDString() {
+        return EntityModelUtil.generateUUIDString();
+    }
+}
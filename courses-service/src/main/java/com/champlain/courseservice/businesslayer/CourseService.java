@@ -1,6 +1,9 @@
 package com.champlain.courseservice.businesslayer;
 
 import com.champlain.courseservice.dataaccesslayer.Course;
+import com.champlain.courseservice.presentationlayer.CourseBatchRequestModel;
+import com.champlain.courseservice.presentationlayer.CourseEventResponseModel;
+import com.champlain.courseservice.presentationlayer.CoursePageResponseModel;
 import com.champlain.courseservice.presentationlayer.CourseRequestModel;
 import com.champlain.courseservice.presentationlayer.CourseResponseModel;
 import reactor.core.publisher.Flux;
@@ -10,11 +13,19 @@ public interface CourseService {
 
     Flux<CourseResponseModel> getAllCourses();
 
+    Mono<String> getCatalogVersion();
+
+    Mono<CoursePageResponseModel> getCoursesPage(Integer after, int limit);
+
     Mono<CourseResponseModel> getCourseByCourseId(String courseId);
 
+    Flux<CourseResponseModel> getCoursesByBatch(CourseBatchRequestModel courseBatchRequestModel);
+
     Mono<CourseResponseModel> addCourse(Mono<CourseRequestModel> courseRequestModel);
 
     Mono<CourseResponseModel> updateCourseByCourseId(Mono<CourseRequestModel> courseRequestModel, String courseId);
 
     Mono<CourseResponseModel> deleteCourseByCourseId(String courseId);
+
+    Flux<CourseEventResponseModel> getCourseEventsAfter(Integer after, int limit);
 }
@@ -1,23 +1,34 @@
 package com.champlain.courseservice.businesslayer;
 
 import com.champlain.courseservice.dataaccesslayer.CourseRepository;
+import com.champlain.courseservice.dataaccesslayer.Course;
+import com.champlain.courseservice.dataaccesslayer.CourseEventRepository;
+import com.champlain.courseservice.dataaccesslayer.CourseEventType;
+import com.champlain.courseservice.presentationlayer.CourseEventResponseModel;
+import com.champlain.courseservice.presentationlayer.CourseBatchRequestModel;
+import com.champlain.courseservice.presentationlayer.CoursePageResponseModel;
 import com.champlain.courseservice.presentationlayer.CourseRequestModel;
 import com.champlain.courseservice.presentationlayer.CourseResponseModel;
 import com.champlain.courseservice.utils.EntityModelUtil;
 import com.champlain.courseservice.utils.exceptions.NotFoundException;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.List;
+
 @Service
 @Slf4j
 public class CourseServiceImpl implements CourseService {
 
     private final CourseRepository courseRepository;
+    private final CourseEventRepository courseEventRepository;
 
-    public CourseServiceImpl(CourseRepository courseRepository) {
+    public CourseServiceImpl(CourseRepository courseRepository, CourseEventRepository courseEventRepository) {
         this.courseRepository = courseRepository;
+        this.courseEventRepository = courseEventRepository;
     }
 
     @Override
@@ -27,6 +38,26 @@ public class CourseServiceImpl implements CourseService {
                                                                 // '::' = method reference
     }
 
+    @Override
+    public Mono<String> getCatalogVersion() {
+        return courseRepository.findCatalogVersion();
+    }
+
+    @Override
+    public Mono<CoursePageResponseModel> getCoursesPage(Integer after, int limit) {
+        // one extra row tells us if there is a next page without a count query
+        return courseRepository.findPageAfter(after, limit + 1)
+                .collectList()
+                .map(courses -> {
+                    boolean hasNext = courses.size() > limit;
+                    List<Course> page = hasNext ? courses.subList(0, limit) : courses;
+                    return CoursePageResponseModel.builder()
+                            .content(page.stream().map(EntityModelUtil::toCourseResponseModel).toList())
+                            .nextCursor(hasNext ? page.get(page.size() - 1).getId() : null)
+                            .build();
+                });
+    }
+
     @Override
     public Mono<CourseResponseModel> getCourseByCourseId(String courseId) {
         return courseRepository.findCourseByCourseId(courseId)
@@ -35,6 +66,16 @@ public class CourseServiceImpl implements CourseService {
                 .map(EntityModelUtil::toCourseResponseModel);
     }
 
+    @Override
+    public Flux<CourseResponseModel> getCoursesByBatch(CourseBatchRequestModel courseBatchRequestModel) {
+        if (courseBatchRequestModel.getCourseIds() == null || courseBatchRequestModel.getCourseIds().isEmpty()) {
+            return Flux.empty();
+        }
+        // one IN query for the whole batch, unknown ids are simply left out of the result
+        return courseRepository.findAllByCourseIdIn(courseBatchRequestModel.getCourseIds())
+                .map(EntityModelUtil::toCourseResponseModel);
+    }
+
     @Override
     public Mono<CourseResponseModel> addCourse(Mono<CourseRequestModel> courseRequestModel) {
         return courseRequestModel
@@ -44,7 +85,9 @@ public class CourseServiceImpl implements CourseService {
                 .map(EntityModelUtil::toCourseResponseModel);
     }
 
+    //the course and its event commit together, so a change is never saved without the event or the other way around
     @Override
+    @Transactional
     public Mono<CourseResponseModel> updateCourseByCourseId(Mono<CourseRequestModel> courseRequestModel, String courseId) {
         return courseRepository.findCourseByCourseId(courseId)
                 .switchIfEmpty(Mono.defer(() -> Mono.error(new NotFoundException("Course id not found: " + courseId))))
@@ -52,17 +95,28 @@ public class CourseServiceImpl implements CourseService {
                         .map(EntityModelUtil::toCourseEntity)
                         .doOnNext(e -> e.setCourseId(found.getCourseId()))
                         .doOnNext(e -> e.setId(found.getId()))
+                        .doOnNext(e -> e.setVersion(found.getVersion()))
                 )
                 .flatMap(courseRepository::save)
+                .flatMap(saved -> courseEventRepository.save(EntityModelUtil.toCourseEvent(saved, CourseEventType.UPDATED))
+                        .thenReturn(saved))
                 .map(EntityModelUtil::toCourseResponseModel);
     }
 
     @Override
+    @Transactional
     public Mono<CourseResponseModel> deleteCourseByCourseId(String courseId) {
         return courseRepository.findCourseByCourseId(courseId)
                 .switchIfEmpty(Mono.defer(() -> Mono.error(new NotFoundException("Course id not found: " + courseId))))
                 .flatMap(found -> courseRepository.delete(found)
+                        .then(courseEventRepository.save(EntityModelUtil.toCourseEvent(found, CourseEventType.DELETED)))
                         .then(Mono.just(found)))
                 .map(EntityModelUtil::toCourseResponseModel);
     }
+
+    @Override
+    public Flux<CourseEventResponseModel> getCourseEventsAfter(Integer after, int limit) {
+        return courseEventRepository.findEventsAfter(after, limit)
+                .map(EntityModelUtil::toCourseEventResponseModel);
+    }
 }
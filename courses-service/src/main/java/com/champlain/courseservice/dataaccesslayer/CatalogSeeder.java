@@ -0,0 +1,225 @@
+package com.champlain.courseservice.dataaccesslayer;
+
+import io.r2dbc.spi.Result;
+import io.r2dbc.spi.Statement;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.io.Resource;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.ReactiveTransactionManager;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+
+/*
+   Seeds the course catalog from seed/courses.csv at startup, once. The SHA-256 of the file is kept in catalog_seed,
+   a restart with the same file only reads that row. Otherwise the courses are loaded only into an empty table,
+   batch-size rows per multi-row INSERT, all in one transaction with the marker so a failed seed leaves nothing behind.
+   A table that already has courses is never touched, the marker is just recorded for it.
+
+   Runs before the application reports ready, so nothing is sent traffic while the catalog is still loading.
+ */
+@Component
+@Slf4j
+@ConditionalOnProperty(name = "app.catalog-seed.enabled", havingValue = "true")
+public class CatalogSeeder implements ApplicationRunner {
+
+    static final int MARKER_ID = 1;
+
+    private static final String COLUMNS = "course_id, course_number, course_name, num_hours, num_credits, department";
+    private static final int COLUMN_COUNT = 6;
+    //bind parameters per statement, the Postgres protocol counts them in a signed 16 bit field
+    private static final int MAX_PARAMETERS = Short.MAX_VALUE;
+
+    private final DatabaseClient databaseClient;
+    private final TransactionalOperator transactionalOperator;
+    private final Resource seed;
+    private final int batchSize;
+
+    public CatalogSeeder(DatabaseClient databaseClient, ReactiveTransactionManager transactionManager,
+                         @Value("${app.catalog-seed.location:classpath:seed/courses.csv}") Resource seed,
+                         @Value("${app.catalog-seed.batch-size:1000}") int batchSize) {
+        if (batchSize < 1 || batchSize * COLUMN_COUNT > MAX_PARAMETERS) {
+            throw new IllegalArgumentException("app.catalog-seed.batch-size must be between 1 and " + MAX_PARAMETERS / COLUMN_COUNT);
+        }
+        this.databaseClient = databaseClient;
+        this.transactionalOperator = TransactionalOperator.create(transactionManager);
+        this.seed = seed;
+        this.batchSize = batchSize;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        long start = System.nanoTime();
+        Integer seeded = seed().block();
+        log.info("Course catalog seeding done in {} ms, {} courses inserted", (System.nanoTime() - start) / 1_000_000, seeded);
+    }
+
+    //returns how many courses were inserted, 0 when the catalog was already there
+    public Mono<Integer> seed() {
+        return Mono.fromCallable(this::checksum)
+                .subscribeOn(Schedulers.boundedElastic())
+                .flatMap(checksum -> findSeededChecksum()
+                        .filter(checksum::equals)
+                        .map(seeded -> {
+                            log.info("Course catalog already seeded from {} ({})", seed.getDescription(), checksum);
+                            return 0;
+                        })
+                        .switchIfEmpty(Mono.defer(() -> seedIfEmpty(checksum)))
+                        .as(transactionalOperator::transactional))
+                //another instance seeding the same empty table at the same time, its courses win
+                .onErrorResume(DataIntegrityViolationException.class, e -> {
+                    log.info("Course catalog was seeded by another instance: {}", e.getMessage());
+                    return Mono.just(0);
+                });
+    }
+
+    private Mono<String> findSeededChecksum() {
+        return databaseClient.sql("SELECT checksum FROM catalog_seed WHERE id = $1")
+                .bind(0, MARKER_ID)
+                .map(row -> row.get("checksum", String.class))
+                .first();
+    }
+
+    private Mono<Integer> seedIfEmpty(String checksum) {
+        return databaseClient.sql("SELECT id FROM courses LIMIT 1")
+                .fetch()
+                .first()
+                .hasElement()
+                .flatMap(hasCourses -> {
+                    if (hasCourses) {
+                        log.warn("Courses table already has courses but was not seeded from {} ({}), leaving it as it is",
+                                seed.getDescription(), checksum);
+                        return saveMarker(checksum, 0).thenReturn(0);
+                    }
+                    return loadCourses().flatMap(inserted -> saveMarker(checksum, inserted).thenReturn(inserted));
+                });
+    }
+
+    private Mono<Integer> loadCourses() {
+        //the file is read on a worker thread, never on the driver's event loop
+        return Flux.using(() -> new BufferedReader(new InputStreamReader(seed.getInputStream(), StandardCharsets.UTF_8)),
+                        reader -> Flux.fromStream(reader.lines().skip(1)),
+                        this::closeQuietly)
+                .subscribeOn(Schedulers.boundedElastic())
+                .filter(line -> !line.isBlank())
+                .map(CatalogSeeder::parseLine)
+                .buffer(batchSize)
+                .concatMap(this::insertCourses)
+                .reduce(0, Integer::sum);
+    }
+
+    //one INSERT ... VALUES (...), (...) per batch, full batches share the same SQL so the driver can reuse the statement
+    private Mono<Integer> insertCourses(List<String[]> courses) {
+        StringBuilder sql = new StringBuilder("INSERT INTO courses (" + COLUMNS + ") VALUES ");
+        for (int i = 0; i < courses.size(); i++) {
+            int first = i * COLUMN_COUNT + 1;
+            sql.append(i == 0 ? "(" : ", (")
+                    .append("$").append(first).append(", $").append(first + 1).append(", $").append(first + 2)
+                    .append(", $").append(first + 3).append(", $").append(first + 4).append(", $").append(first + 5)
+                    .append(")");
+        }
+
+        //bound on the driver's statement, DatabaseClient.bind copies every earlier binding on each call
+        return databaseClient.inConnection(connection -> {
+            Statement insert = connection.createStatement(sql.toString());
+            for (int i = 0; i < courses.size(); i++) {
+                String[] course = courses.get(i);
+                int first = i * COLUMN_COUNT;
+                insert.bind(first, course[0])
+                        .bind(first + 1, course[1])
+                        .bind(first + 2, course[2])
+                        .bind(first + 3, Integer.valueOf(course[3]))
+                        .bind(first + 4, new BigDecimal(course[4]))
+                        .bind(first + 5, course[5]);
+            }
+            return Flux.from(insert.execute())
+                    .flatMap(Result::getRowsUpdated)
+                    .reduce(0L, Long::sum)
+                    .map(Long::intValue);
+        });
+    }
+
+    private Mono<Void> saveMarker(String checksum, int courseCount) {
+        return databaseClient.sql("DELETE FROM catalog_seed WHERE id = $1")
+                .bind(0, MARKER_ID)
+                .then()
+                .then(databaseClient.sql("INSERT INTO catalog_seed (id, checksum, course_count, seeded_at) VALUES ($1, $2, $3, $4)")
+                        .bind(0, MARKER_ID)
+                        .bind(1, checksum)
+                        .bind(2, courseCount)
+                        .bind(3, LocalDateTime.now())
+                        .then());
+    }
+
+    private String checksum() throws IOException, NoSuchAlgorithmException {
+        MessageDigest digest = MessageDigest.getInstance("SHA-256");
+        try (InputStream in = new DigestInputStream(seed.getInputStream(), digest)) {
+            in.transferTo(OutputStream.nullOutputStream());
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    private void closeQuietly(BufferedReader reader) {
+        try {
+            reader.close();
+        } catch (IOException e) {
+            log.warn("Could not close {}: {}", seed.getDescription(), e.toString());
+        }
+    }
+
+    //a CSV line, fields may be quoted ("..." with "" for a quote) when they contain commas
+    static String[] parseLine(String line) {
+        List<String> fields = new ArrayList<>(COLUMN_COUNT);
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    field.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    field.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        fields.add(field.toString());
+
+        if (fields.size() != COLUMN_COUNT) {
+            throw new IllegalStateException("Seed line has " + fields.size() + " fields instead of " + COLUMN_COUNT + ": " + line);
+        }
+        return fields.toArray(String[]::new);
+    }
+}
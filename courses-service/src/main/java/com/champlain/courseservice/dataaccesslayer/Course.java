@@ -5,6 +5,7 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.Version;
 import org.springframework.data.relational.core.mapping.Table;
 
 @Data
@@ -23,4 +24,7 @@ public class Course {
     private Double numCredits;
     private String department;
 
+    //0 on insert, bumped by every update, which also fails if another update got there first
+    @Version
+    private Integer version;
 }
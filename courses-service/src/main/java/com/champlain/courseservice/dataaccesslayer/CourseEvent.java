@@ -0,0 +1,27 @@
+package com.champlain.courseservice.dataaccesslayer;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Table;
+
+import java.time.LocalDateTime;
+
+//a course change for other services to pick up, carries the fields they keep copies of
+@Data
+@Builder
+@Table(name = "course_events")
+@AllArgsConstructor
+@NoArgsConstructor
+public class CourseEvent {
+
+    @Id
+    private Integer id;
+    private String courseId;
+    private CourseEventType eventType;
+    private String courseNumber;
+    private String courseName;
+    private LocalDateTime occurredAt;
+}
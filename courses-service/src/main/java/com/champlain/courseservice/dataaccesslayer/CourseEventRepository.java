@@ -0,0 +1,12 @@
+package com.champlain.courseservice.dataaccesslayer;
+
+import org.springframework.data.r2dbc.repository.Query;
+import org.springframework.data.repository.reactive.ReactiveCrudRepository;
+import reactor.core.publisher.Flux;
+
+public interface CourseEventRepository extends ReactiveCrudRepository<CourseEvent, Integer> {
+
+    //keyset read on the primary key, consumers pass back the last id they applied
+    @Query("SELECT * FROM course_events WHERE id > :after ORDER BY id LIMIT :limit")
+    Flux<CourseEvent> findEventsAfter(Integer after, int limit);
+}
@@ -0,0 +1,5 @@
+package com.champlain.courseservice.dataaccesslayer;
+
+public enum CourseEventType {
+    UPDATED, DELETED
+}
@@ -0,0 +1,98 @@
+package com.champlain.courseservice.dataaccesslayer;
+
+import io.r2dbc.spi.Connection;
+import io.r2dbc.spi.ConnectionFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/*
+   Startup self-check: explains every hot lookup of CourseRepository and refuses to start
+   if one of them is answered with a full table scan (H2 "tableScan", Postgres "Seq Scan").
+   On Postgres seq scans are switched off for the check, so a small table still has to prove it has a usable index.
+ */
+@Component
+@Slf4j
+@ConditionalOnProperty(name = "app.query-plan-check.enabled", havingValue = "true")
+public class CourseQueryPlanVerifier implements ApplicationRunner {
+
+    private static final String SAMPLE_ID = "00000000-0000-0000-0000-000000000000";
+    private static final String OTHER_SAMPLE_ID = "00000000-0000-0000-0000-000000000001";
+
+    private static final Map<String, String> HOT_QUERIES = new LinkedHashMap<>();
+
+    static {
+        HOT_QUERIES.put("findCourseByCourseId",
+                "SELECT * FROM courses WHERE course_id = '" + SAMPLE_ID + "'");
+        HOT_QUERIES.put("findAllByCourseIdIn",
+                "SELECT * FROM courses WHERE course_id IN ('" + SAMPLE_ID + "', '" + OTHER_SAMPLE_ID + "')");
+        HOT_QUERIES.put("findPageAfter",
+                "SELECT * FROM courses WHERE id > 0 ORDER BY id LIMIT 100");
+    }
+
+    private final ConnectionFactory connectionFactory;
+
+    public CourseQueryPlanVerifier(ConnectionFactory connectionFactory) {
+        this.connectionFactory = connectionFactory;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        String database = connectionFactory.getMetadata().getName();
+
+        List<String> fullScans = Flux.fromIterable(HOT_QUERIES.entrySet())
+                .concatMap(query -> explain(database, query.getValue())
+                        .doOnNext(plan -> log.info("Query plan for {}: {}", query.getKey(), plan))
+                        .filter(plan -> isFullScan(database, plan))
+                        .map(plan -> query.getKey()))
+                .collectList()
+                .block();
+
+        if (fullScans != null && !fullScans.isEmpty()) {
+            throw new IllegalStateException("Hot course lookups fall back to a full table scan: " + fullScans);
+        }
+    }
+
+    private Mono<String> explain(String database, String sql) {
+        boolean postgres = isPostgres(database);
+        return Mono.usingWhen(connectionFactory.create(),
+                connection -> (postgres ? execute(connection, "SET enable_seqscan = off") : Mono.<Void>empty())
+                        .then(Flux.from(connection.createStatement("EXPLAIN " + sql).execute())
+                                .flatMap(result -> result.map((row, metadata) -> row.get(0, String.class)))
+                                .collect(Collectors.joining("\n")))
+                        // the connection goes back to the pool, so put the planner back the way it was
+                        .flatMap(plan -> (postgres ? execute(connection, "RESET enable_seqscan") : Mono.<Void>empty())
+                                .thenReturn(plan)),
+                Connection::close);
+    }
+
+    private static Mono<Void> execute(Connection connection, String sql) {
+        return Flux.from(connection.createStatement(sql).execute())
+                .flatMap(result -> result.getRowsUpdated())
+                .then();
+    }
+
+    private static boolean isFullScan(String database, String plan) {
+        if (isPostgres(database)) {
+            return plan.contains("Seq Scan");
+        }
+        if (database.startsWith("H2")) {
+            return plan.contains("tableScan");
+        }
+        log.warn("No query plan check for database {}", database);
+        return false;
+    }
+
+    private static boolean isPostgres(String database) {
+        return database.startsWith("PostgreSQL");
+    }
+}
@@ -1,9 +1,24 @@
 package com.champlain.courseservice.dataaccesslayer;
 
+import org.springframework.data.r2dbc.repository.Query;
 import org.springframework.data.repository.reactive.ReactiveCrudRepository;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.Collection;
+
 public interface CourseRepository extends ReactiveCrudRepository<Course, Integer> {
 
     Mono<Course> findCourseByCourseId(String courseId);
+
+    Flux<Course> findAllByCourseIdIn(Collection<String> courseIds);
+
+    //keyset page on the primary key, only reads the rows it returns instead of skipping over an offset
+    @Query("SELECT * FROM courses WHERE id > :after ORDER BY id LIMIT :limit")
+    Flux<Course> findPageAfter(Integer after, int limit);
+
+    //changes whenever the catalog does, inserts raise the highest course id and updates and deletes write an event
+    @Query("SELECT CAST((SELECT COALESCE(MAX(id), 0) FROM courses) AS VARCHAR) || '-' "
+            + "|| CAST((SELECT COALESCE(MAX(id), 0) FROM course_events) AS VARCHAR)")
+    Mono<String> findCatalogVersion();
 }
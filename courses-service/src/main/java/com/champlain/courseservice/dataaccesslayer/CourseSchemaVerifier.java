@@ -0,0 +1,79 @@
+package com.champlain.courseservice.dataaccesslayer;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/*
+   Startup self-check that the database has the schema this build expects. schema-psql.sql only creates what is
+   missing, so a database kept from an older build keeps its old tables. Rather than fail on the first request,
+   the service refuses to start when schema_version isn't SCHEMA_VERSION or a table lacks a column it maps.
+   Runs before the catalog seeder and the query plan check.
+ */
+@Component
+@Slf4j
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@ConditionalOnProperty(name = "app.schema-check.enabled", havingValue = "true")
+public class CourseSchemaVerifier implements ApplicationRunner {
+
+    //bump together with the version schema-psql.sql inserts whenever that file changes
+    static final int SCHEMA_VERSION = 1;
+
+    private static final Map<String, String> MAPPED_COLUMNS = new LinkedHashMap<>();
+
+    static {
+        MAPPED_COLUMNS.put("courses", "id, course_id, course_number, course_name, num_hours, num_credits, department, version");
+        MAPPED_COLUMNS.put("course_events", "id, course_id, event_type, course_number, course_name, occurred_at");
+        MAPPED_COLUMNS.put("catalog_seed", "id, checksum, course_count, seeded_at");
+    }
+
+    private final DatabaseClient databaseClient;
+
+    public CourseSchemaVerifier(DatabaseClient databaseClient) {
+        this.databaseClient = databaseClient;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        Integer version = findVersion().block();
+        if (version == null || version != SCHEMA_VERSION) {
+            throw outdated("schema_version is " + version + ", this build expects " + SCHEMA_VERSION);
+        }
+
+        List<String> missing = Flux.fromIterable(MAPPED_COLUMNS.entrySet())
+                .concatMap(table -> databaseClient.sql("SELECT " + table.getValue() + " FROM " + table.getKey() + " WHERE 1 = 0")
+                        .fetch()
+                        .all()
+                        .then(Mono.<String>empty())
+                        .onErrorResume(e -> Mono.just(table.getKey() + " (" + e.getMessage() + ")")))
+                .collectList()
+                .block();
+
+        if (missing != null && !missing.isEmpty()) {
+            throw outdated("tables without the columns this build maps: " + missing);
+        }
+        log.info("Courses schema is at version {}", version);
+    }
+
+    private Mono<Integer> findVersion() {
+        return databaseClient.sql("SELECT version FROM schema_version WHERE id = 1")
+                .map(row -> row.get("version", Integer.class))
+                .first();
+    }
+
+    private static IllegalStateException outdated(String reason) {
+        return new IllegalStateException("The courses database was created by another version of courses-service: " + reason
+                + ". Recreate it (docker compose rm -sv postgres) or bring it up to schema-psql.sql by hand");
+    }
+}
@@ -0,0 +1,13 @@
+package com.champlain.courseservice.datamapperlayer;
+
+import com.champlain.courseservice.dataaccesslayer.CourseEvent;
+import com.champlain.courseservice.presentationlayer.CourseEventResponseModel;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+
+@Mapper
+public interface CourseEventResponseMapper {
+
+    @Mapping(target = "eventId", source = "id")
+    CourseEventResponseModel entityToResponseModel(CourseEvent courseEvent);
+}
@@ -0,0 +1,16 @@
+package com.champlain.courseservice.datamapperlayer;
+
+import com.champlain.courseservice.dataaccesslayer.Course;
+import com.champlain.courseservice.presentationlayer.CourseRequestModel;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+
+@Mapper
+public interface CourseRequestMapper {
+
+    //id and version come from the database and courseId is generated or kept by the service
+    @Mapping(target = "id", ignore = true)
+    @Mapping(target = "courseId", ignore = true)
+    @Mapping(target = "version", ignore = true)
+    Course requestModelToEntity(CourseRequestModel courseRequestModel);
+}
@@ -0,0 +1,15 @@
+package com.champlain.courseservice.datamapperlayer;
+
+import com.champlain.courseservice.dataaccesslayer.Course;
+import com.champlain.courseservice.presentationlayer.CourseResponseModel;
+import org.mapstruct.Mapper;
+
+import java.util.List;
+
+@Mapper
+public interface CourseResponseMapper {
+
+    CourseResponseModel entityToResponseModel(Course course);
+
+    List<CourseResponseModel> entityListToResponseModelList(List<Course> courses);
+}
@@ -0,0 +1,17 @@
+package com.champlain.courseservice.presentationlayer;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CourseBatchRequestModel {
+
+    private List<String> courseIds;
+}
@@ -3,38 +3,114 @@ package com.champlain.courseservice.presentationlayer;
 import com.champlain.courseservice.businesslayer.CourseService;
 import com.champlain.courseservice.utils.exceptions.InvalidInputException;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.server.reactive.ServerHttpRequest;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.util.UriComponentsBuilder;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.time.Duration;
+
+/*
+   Course reads carry an ETag and a Cache-Control max-age. A GET whose If-None-Match still matches gets a
+   304 from Spring's ResponseEntity handling before the body is written, so a revalidation costs the version
+   lookup and nothing else: no serialization and, for the catalog, no course query at all.
+
+   The reads other services make (by id, batch, events) also come back as Smile when the Accept header asks for it,
+   the same fields as the JSON in fewer bytes and cheaper to decode. JSON and Smile are different bytes for the
+   same course, so the ETag is weak, W/"<version>-<REPRESENTATION>", and the cached reads send Vary: Accept.
+   The batch sends each course's version in the body, a client can revalidate a batch-loaded course with it.
+ */
 @RestController
 @Slf4j
 @RequestMapping("api/v1/courses")
 public class CourseController {
+    private static final int MAX_BATCH_SIZE = 1000;
+    private static final int MAX_PAGE_SIZE = 1000;
+    private static final String APPLICATION_SMILE_VALUE = "application/x-jackson-smile";
+
+    //bump whenever CourseResponseModel changes shape, so an ETag from before the deploy no longer gets a 304
+    public static final String REPRESENTATION = "r1";
+
     private final CourseService courseService;
+    private final CacheControl cacheControl;
 
-    public CourseController(CourseService courseService) {
+    public CourseController(CourseService courseService,
+                            @Value("${app.courses.cache-control.max-age:60s}") Duration cacheMaxAge) {
         this.courseService = courseService;
+        this.cacheControl = CacheControl.maxAge(cacheMaxAge);
     }
 
 
+    //the version is read before the courses, a change in between leaves the ETag older than the body, never newer
     @GetMapping(value="", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
-    public Flux<CourseResponseModel> getAllCourses() {
-        return courseService.getAllCourses();
+    public Mono<ResponseEntity<Flux<CourseResponseModel>>> getAllCourses() {
+        return courseService.getCatalogVersion()
+                .map(version -> ResponseEntity.ok()
+                        .eTag(eTag(version))
+                        .cacheControl(cacheControl)
+                        .varyBy(HttpHeaders.ACCEPT)
+                        .body(courseService.getAllCourses()));
+    }
+
+    @GetMapping(value = "", params = "limit", produces = MediaType.APPLICATION_JSON_VALUE)
+    public Mono<ResponseEntity<CoursePageResponseModel>> getCoursesPage(@RequestParam(defaultValue = "0") Integer after,
+                                                                        @RequestParam int limit,
+                                                                        ServerHttpRequest request) {
+        if (after < 0 || limit < 1 || limit > MAX_PAGE_SIZE) {
+            return Mono.error(new InvalidInputException("Provided page is invalid, after must be >= 0 and limit between 1 and " + MAX_PAGE_SIZE));
+        }
+        return courseService.getCoursesPage(after, limit)
+                .map(page -> {
+                    ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+                    if (page.getNextCursor() != null) {
+                        String next = UriComponentsBuilder.fromUri(request.getURI())
+                                .replaceQueryParam("after", page.getNextCursor())
+                                .replaceQueryParam("limit", limit)
+                                .toUriString();
+                        response.header(HttpHeaders.LINK, "<" + next + ">; rel=\"next\"");
+                    }
+                    return response.body(page);
+                });
+    }
+
+    //course updates and deletes in the order they happened, for services that keep copies of course fields
+    @GetMapping(value = "/events", produces = {MediaType.APPLICATION_JSON_VALUE, APPLICATION_SMILE_VALUE})
+    public Flux<CourseEventResponseModel> getCourseEvents(@RequestParam(defaultValue = "0") Integer after,
+                                                          @RequestParam(defaultValue = "100") int limit) {
+        if (after < 0 || limit < 1 || limit > MAX_PAGE_SIZE) {
+            return Flux.error(new InvalidInputException("Provided page is invalid, after must be >= 0 and limit between 1 and " + MAX_PAGE_SIZE));
+        }
+        return courseService.getCourseEventsAfter(after, limit);
     }
 
     //todo: getCourseByCourseId
-    @GetMapping(value = "/{courseId}", produces = MediaType.APPLICATION_JSON_VALUE)
+    @GetMapping(value = "/{courseId}", produces = {MediaType.APPLICATION_JSON_VALUE, APPLICATION_SMILE_VALUE})
     public Mono<ResponseEntity<CourseResponseModel>> getCourseByCourseId(@PathVariable String courseId) {
         return Mono.just(courseId) // creates a publisher
                 .filter(id -> id.length() == 36) // validate the course id
                 .switchIfEmpty(Mono.error(new InvalidInputException("Provided Course id is invalid: " + courseId)))
                 .flatMap(courseService::getCourseByCourseId)
                 // before: .map makes Mono<Mono<...>>, flatmap makes it Mono<CourseResponseModel>
-                .map(ResponseEntity::ok);
+                .map(course -> ResponseEntity.ok()
+                        .eTag(eTag(String.valueOf(course.getVersion())))
+                        .cacheControl(cacheControl)
+                        .varyBy(HttpHeaders.ACCEPT)
+                        .body(course));
+    }
+
+    @PostMapping(value = "/batch", consumes = MediaType.APPLICATION_JSON_VALUE, produces = {MediaType.APPLICATION_JSON_VALUE, APPLICATION_SMILE_VALUE})
+    public Flux<CourseResponseModel> getCoursesByBatch(@RequestBody Mono<CourseBatchRequestModel> courseBatchRequestModel) {
+        return courseBatchRequestModel
+                .filter(batch -> batch.getCourseIds() == null || batch.getCourseIds().size() <= MAX_BATCH_SIZE)
+                .switchIfEmpty(Mono.error(new InvalidInputException("Batch size exceeds " + MAX_BATCH_SIZE)))
+                .flatMapMany(courseService::getCoursesByBatch);
     }
 
     //todo: addCourse
@@ -67,4 +143,8 @@ public class CourseController {
                 .map(ResponseEntity::ok)
                 .defaultIfEmpty(ResponseEntity.badRequest().build());
     }
+
+    private static String eTag(String version) {
+        return "W/\"" + version + "-" + REPRESENTATION + "\"";
+    }
 }
@@ -0,0 +1,23 @@
+package com.champlain.courseservice.presentationlayer;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CourseEventResponseModel {
+
+    //pass back as ?after= to get the events that came after this one
+    private Integer eventId;
+    private String courseId;
+    private String eventType;
+    private String courseNumber;
+    private String courseName;
+    private LocalDateTime occurredAt;
+}
@@ -0,0 +1,19 @@
+package com.champlain.courseservice.presentationlayer;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CoursePageResponseModel {
+
+    private List<CourseResponseModel> content;
+    //pass back as ?after= to get the next page, null on the last page
+    private Integer nextCursor;
+}
@@ -17,4 +17,7 @@ public class CourseResponseModel {
     private Integer numHours;
     private Double numCredits;
     private String department;
+
+    //also in the ETag, in the body so a course that came in a batch can be revalidated on its own
+    private Integer version;
 }
@@ -1,24 +1,46 @@
 package com.champlain.courseservice.utils;
 
 import com.champlain.courseservice.dataaccesslayer.Course;
+import com.champlain.courseservice.dataaccesslayer.CourseEvent;
+import com.champlain.courseservice.dataaccesslayer.CourseEventType;
+import com.champlain.courseservice.datamapperlayer.CourseEventResponseMapper;
+import com.champlain.courseservice.datamapperlayer.CourseRequestMapper;
+import com.champlain.courseservice.datamapperlayer.CourseResponseMapper;
+import com.champlain.courseservice.presentationlayer.CourseEventResponseModel;
 import com.champlain.courseservice.presentationlayer.CourseRequestModel;
 import com.champlain.courseservice.presentationlayer.CourseResponseModel;
-import org.springframework.beans.BeanUtils;
+import org.mapstruct.factory.Mappers;
 
+import java.time.LocalDateTime;
 import java.util.UUID;
 
 public class EntityModelUtil {
 
+    //generated at compile time, plain getters/setters instead of BeanUtils reflection on every row
+    private static final CourseResponseMapper courseResponseMapper = Mappers.getMapper(CourseResponseMapper.class);
+    private static final CourseRequestMapper courseRequestMapper = Mappers.getMapper(CourseRequestMapper.class);
+    private static final CourseEventResponseMapper courseEventResponseMapper = Mappers.getMapper(CourseEventResponseMapper.class);
+
     public static CourseResponseModel toCourseResponseModel(Course course) {
-        CourseResponseModel courseResponseModel = new CourseResponseModel();
-        BeanUtils.copyProperties(course, courseResponseModel);
-        return courseResponseModel;
+        return courseResponseMapper.entityToResponseModel(course);
     }
 
     public static Course toCourseEntity(CourseRequestModel courseRequestModel){
-        Course course = new Course();
-        BeanUtils.copyProperties(courseRequestModel, course);
-        return course;
+        return courseRequestMapper.requestModelToEntity(courseRequestModel);
+    }
+
+    public static CourseEventResponseModel toCourseEventResponseModel(CourseEvent courseEvent) {
+        return courseEventResponseMapper.entityToResponseModel(courseEvent);
+    }
+
+    public static CourseEvent toCourseEvent(Course course, CourseEventType eventType) {
+        return CourseEvent.builder()
+                .courseId(course.getCourseId())
+                .eventType(eventType)
+                .courseNumber(course.getCourseNumber())
+                .courseName(course.getCourseName())
+                .occurredAt(LocalDateTime.now())
+                .build();
     }
 
     public static String generateUUIDString() {
@@ -1,1000 +0,0 @@
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('275c1138-0190-426e-94d4-4aaeb838acac', 'fak-000', 'Java 1', 75, 1.5, 'Physics');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('d15b31e2-a583-49f7-921a-71f87e301bd6', 'lse-942', 'Shakespeare''s Greatest Works', 90, 3, 'French');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('8d764f78-8468-4769-b643-10cde392fbde', 'xud-857', 'Waves', 60, 2.5, 'Physics');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('9a29fff7-564a-4cc9-8fe1-36f6ca9bc223', 'trs-075', 'Web Services', 90, 2, 'Math');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('775266c6-2969-4335-b0a5-29a2956c3b21', 'jcb-348', 'Linear Algebra', 75, 3, 'Math');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('ab401ecc-8655-4036-a0ba-9b8588b18557', 'kmj-250', 'Final Project 1', 45, 2, 'Physics');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('d6530700-b1a5-49b2-ad38-2ee3c0016a22', 'qpg-352', 'Web Services', 75, 2.5, 'Physics');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('77918ba2-49da-4c67-bea8-9f26e5d355fb', 'qgz-480', 'History of Ancient Babylonia', 45, 3, 'History');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('0822c0fe-6e0b-46a0-af14-6144369433ec', 'vhe-121', 'Shakespeare''s Greatest Works', 60, 2, 'Physics');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('f0975cd8-384b-4b13-877b-142b6a9f59ab', 'bqb-078', 'Linear Algebra', 90, 1.5, 'Computer Science');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('b7fb6279-05ee-4570-8b1b-612f747ea02d', 'pnu-362', 'Linear Algebra', 60, 1.5, 'Physics');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('77880b6b-f07f-4ae1-9e3d-b758c868f74f', 'ztf-426', 'Final Project 1', 45, 3, 'Physics');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('19b507ae-5671-4b4c-a027-2cf84586c8a5', 'aer-892', 'History of Ancient Babylonia', 90, 1.5, 'Math');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('47215a9d-b92e-4494-b9d7-bb9ee31bec7e', 'mmc-793', 'Java 1', 45, 1.5, 'History');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('438bf501-a834-4746-8cb1-76dce2060658', 'wdk-803', 'Waves', 90, 1.5, 'Computer Science');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('0cd7d857-f613-4be7-932d-ed8c4e2bc85e', 'ikn-486', 'Web Services', 60, 1.5, 'English');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('4f1ebc42-b380-4176-b9a2-ad9ab785819e', 'ptq-535', 'History of Ancient Babylonia', 45, 2.5, 'Physics');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('aa1a0262-173b-412d-a30e-6475125982fa', 'ojr-155', 'Final Project 1', 90, 1.5, 'English');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('e3967d95-6951-46e6-8c1a-7a0b8505f60c', 'gvh-217', 'Web Services', 45, 2, 'Physics');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('0da66aa8-1d35-4ee7-8511-2101945a5120', 'ybh-712', 'Web Services', 60, 3, 'Math');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('17780788-b7a2-4575-994d-4653d27af6e2', 'ddi-501', 'Introduction to French Literature', 45, 3, 'History');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('970b6065-9d44-4a98-9335-97f58de26eef', 'duu-753', 'Shakespeare''s Greatest Works', 90, 3, 'Math');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('fe46eed9-8c11-49f8-9288-b6d8847a0e95', 'pnb-009', 'History of Ancient Babylonia', 90, 2.5, 'English');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('58e31657-e9ad-49e5-8b12-d35d75e3fa05', 'jpp-292', 'Final Project 1', 90, 1.5, 'French');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('5023947b-254d-41ec-8801-a662ef5a78bb', 'kww-330', 'Introduction to French Literature', 75, 2, 'Physics');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('441d534b-1c0a-46ca-9606-06e9b2a249de', 'dlw-929', 'Linear Algebra', 90, 1.5, 'Physics');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('d819e4f4-25af-4d33-91e9-2c45f0071606', 'ygo-675', 'Shakespeare''s Greatest Works', 60, 3, 'History');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('f241d1f4-e118-4f88-8b92-0b082ae2804a', 'dci-140', 'Web Services', 75, 2.5, 'French');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('d8cda19b-d5d5-4128-a071-eb27247d9b12', 'ysq-515', 'Java 1', 45, 2.5, 'Computer Science');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('8689214a-2a9c-449b-bdb6-5f4bd8175782', 'kni-278', 'Final Project 1', 75, 2.5, 'Physics');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('970ee3e1-e647-4ce2-b7f8-a89c4a4e29fb', 'xeo-743', 'Shakespeare''s Greatest Works', 45, 3, 'Math');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('5d05f736-c2a0-4e08-8cf5-765f2cee5c9b', 'lhq-775', 'Shakespeare''s Greatest Works', 90, 2, 'Computer Science');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('2fb70cf2-a3d7-4aa7-b60e-e437e1d8a33d', 'mlj-712', 'History of Ancient Babylonia', 60, 2.5, 'French');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('ed2ba107-781b-47fb-8e2d-c746dc35742a', 'cym-945', 'Web Services', 75, 2.5, 'French');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('57beed1a-ca7a-47e2-9f55-3056c5d624e0', 'ubd-247', 'Introduction to French Literature', 60, 1.5, 'Physics');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('a018869a-8cae-4c20-a988-0457ef26b648', 'mdz-537', 'Web Services', 75, 2, 'Computer Science');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('96fbf568-5d85-4f6e-a8bf-1c5b96d7c1c6', 'yui-581', 'Introduction to French Literature', 75, 1.5, 'Math');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('fb65c99a-9ff7-43e2-9cea-5dd4510c192e', 'olz-076', 'Shakespeare''s Greatest Works', 75, 2, 'English');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('64702c8f-6911-4fa4-b4ab-d28b0ba70060', 'qdt-871', 'Introduction to French Literature', 90, 3, 'Physics');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('878cc164-fe40-4234-9b8d-b8ff2a1271ec', 'wwj-136', 'Java 1', 75, 1.5, 'French');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('ccbfb40d-116f-4a2c-99ff-0e805e4b5a19', 'tzn-667', 'Introduction to French Literature', 45, 1.5, 'French');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('8489bedb-7aa1-46af-b7c9-b63b70fe6e82', 'wer-873', 'Final Project 1', 75, 2.5, 'Math');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('176e392f-b107-4087-8857-b6896b307e27', 'eju-914', 'Linear Algebra', 75, 1.5, 'English');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('a21dc218-66ed-46dc-a4ed-09905f106b14', 'fsu-808', 'Java 1', 90, 2.5, 'Physics');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('1a2960f5-7d77-4989-bf35-a31cc1b79a80', 'xvj-284', 'Introduction to French Literature', 90, 3, 'French');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('1449bac0-f587-4d82-b008-633d7bacab44', 'zkb-342', 'Web Services', 90, 2, 'Physics');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('7281a815-8e58-49a6-be2a-550bd86d8347', 'njb-061', 'Linear Algebra', 90, 3, 'Computer Science');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('36b93253-9ee9-4cc4-8ee0-2a03dc4e409c', 'yzy-318', 'Final Project 1', 90, 1.5, 'Math');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('d5ba7ff9-e5ac-4bcd-ba69-46d407f27f57', 'sof-307', 'Waves', 45, 1.5, 'Physics');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('41e955c7-cd3d-40b9-a797-cd8a14dfde8d', 'rss-383', 'Java 1', 45, 2.5, 'Computer Science');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('e1b09a3d-83f7-411b-a2a1-549d46e232eb', 'nuj-855', 'Web Services', 90, 1.5, 'Computer Science');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('5ccdb7b3-5324-497f-8ba4-8d7422c8901e', 'tdd-997', 'Final Project 1', 90, 1.5, 'English');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('19f11e84-1374-48c0-9190-d6e72fdf438d', 'ydd-452', 'Final Project 1', 90, 2.5, 'Physics');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('f530e5c7-05d7-47de-85a8-bea843e15512', 'yfh-723', 'Introduction to French Literature', 60, 1.5, 'Math');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('92dcd2fc-59fe-4773-93e1-b18888b36ebe', 'xpv-839', 'Java 1', 45, 1.5, 'Math');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('73eea3f4-52ac-46ca-8fea-9592835bda83', 'lhq-390', 'Linear Algebra', 45, 3, 'English');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('23228dcf-0890-447e-9c9a-2f7f3de966ba', 'ovy-949', 'Waves', 90, 3, 'Physics');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('5f198766-8676-42ab-bf81-34a72b7d8312', 'ibd-846', 'Waves', 60, 1.5, 'Physics');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('5f81f7ad-b3f6-467b-8c15-4555a145e656', 'cri-075', 'Linear Algebra', 45, 3, 'French');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('3f0bbf37-2234-4992-b33b-9bfb3268272d', 'yig-484', 'Linear Algebra', 60, 2.5, 'Math');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('92342bba-1fac-4fac-9d0c-fa9beb2c481d', 'lza-283', 'Java 1', 60, 1.5, 'Math');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('d37ab88c-e2a4-44e5-afe2-a8fc1cd591d6', 'ihb-037', 'Java 1', 75, 1.5, 'History');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('3a025098-7d02-4a89-92f2-8d20875e93c3', 'riw-726', 'Java 1', 75, 2, 'History');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('27c26114-0271-4b15-8f6b-8a07b679853a', 'juw-463', 'Shakespeare''s Greatest Works', 45, 2, 'French');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('1f029f7a-163e-465d-89d8-83f7157d09c4', 'hxn-010', 'Linear Algebra', 60, 2.5, 'Physics');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('59834962-9dcb-47ea-8b91-dc195c294966', 'rdt-655', 'Introduction to French Literature', 90, 2, 'History');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('5e30be05-29b3-4f36-ada6-9fd027e6d4e4', 'qeb-050', 'Shakespeare''s Greatest Works', 60, 2.5, 'Math');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('832850b7-4bc4-45d5-91e5-bc5117f25a0e', 'cii-469', 'Linear Algebra', 75, 3, 'History');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('b404b9a7-5c58-4ca7-a2ef-81caf7084c80', 'xtm-741', 'Java 1', 60, 2, 'Math');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('63fdf4ec-8f3c-4cbf-b0d8-a52727268c26', 'keu-426', 'Shakespeare''s Greatest Works', 60, 3, 'French');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('a3e26580-c525-44f4-86fb-a319345c88c7', 'ufd-350', 'Web Services', 90, 2, 'History');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('8247f364-101f-42a0-992b-d78264e2c833', 'yqi-509', 'Final Project 1', 75, 2, 'French');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('dce72e41-8b1d-49fe-9efa-6385a4beae2f', 'ptu-133', 'History of Ancient Babylonia', 45, 2, 'French');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('a0e70c65-7438-43ca-997d-9624969c1d09', 'ylg-864', 'History of Ancient Babylonia', 60, 2.5, 'Math');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('4d4bd886-d03b-40f7-b76e-b792ba602868', 'wwj-066', 'History of Ancient Babylonia', 90, 1.5, 'History');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('823c9e53-5e27-4c61-b4d9-d508e980cdd9', 'kpg-950', 'Java 1', 90, 1.5, 'History');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('c4de0af5-1485-45c2-9ea4-19f860e1eaa8', 'mpq-460', 'Shakespeare''s Greatest Works', 90, 2.5, 'French');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('75aa0590-1cbb-45cf-9c7e-6622b8cab7df', 'ere-403', 'Final Project 1', 75, 3, 'Computer Science');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('7f5072ac-34ca-4e38-8b1c-d4d8993f57c7', 'vbw-994', 'Final Project 1', 45, 1.5, 'French');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('82b99cfd-7b23-453f-9637-e789f26abba1', 'clf-427', 'Web Services', 45, 2, 'Computer Science');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('0f736d5b-feb7-4465-934a-221e0a07ebf1', 'dpe-919', 'Waves', 60, 2.5, 'English');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('4b62ce0d-30bf-419b-a85e-fa44c1bb0f5c', 'ovx-777', 'Introduction to French Literature', 60, 3, 'English');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('8e61a5c6-1be8-4cc7-90aa-32379b3513f0', 'jzy-228', 'Web Services', 45, 1.5, 'Computer Science');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('8a4cf5f8-ddcd-4c06-bd9a-cfca4e1c60dd', 'iar-936', 'Waves', 75, 1.5, 'Math');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('5d79480f-7016-42c1-9bd8-7cd5653822d4', 'hfi-054', 'Shakespeare''s Greatest Works', 75, 3, 'Computer Science');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('0554e777-e6cd-4d38-a890-ea3e978964c1', 'nyd-925', 'Java 1', 75, 2.5, 'History');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('eff68b46-da89-4d84-a321-cc005a0b3e72', 'bhk-805', 'Waves', 90, 2, 'French');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('1e817d45-2e9b-4a0c-82e7-f8a1e2eb08f4', 'kpc-032', 'Shakespeare''s Greatest Works', 45, 1.5, 'Math');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('a4a64f2d-3f87-4cd0-a87e-6f29946e9707', 'viz-787', 'Web Services', 75, 2, 'Computer Science');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('e9c5159e-5e98-4bc6-9baf-8f2c1ad4c478', 'pae-973', 'History of Ancient Babylonia', 45, 3, 'Physics');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('38213eab-28af-424a-915c-233a821de8df', 'pjy-596', 'Final Project 1', 45, 2.5, 'History');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('15e5d08f-75d6-48be-9d4f-dac4a4dce8bb', 'apz-970', 'Web Services', 90, 1.5, 'Physics');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('49ea3b40-4cb2-4172-9ff7-55df8da7e9c4', 'mlo-097', 'Shakespeare''s Greatest Works', 45, 2, 'French');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('5ee50df6-9887-4537-8d9c-3e55336f89ff', 'lyl-352', 'Java 1', 90, 2, 'French');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('ebb75366-fbef-4562-a82c-520ac746b26e', 'mks-632', 'Final Project 1', 45, 3, 'Math');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('66afb856-f112-4261-9cfa-2d63f8f8874e', 'tpb-745', 'History of Ancient Babylonia', 75, 2.5, 'Computer Science');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('4fed4156-8b43-49d3-94e7-5ea06b2b7fbf', 'kbx-842', 'Introduction to French Literature', 75, 2.5, 'Physics');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('bf4252a9-a265-4179-a702-d431761d9d8d', 'rlw-386', 'Linear Algebra', 75, 2.5, 'Computer Science');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('90c59c34-1880-49c1-8a74-6cf2e8a55ba4', 'glr-409', 'Waves', 45, 2, 'Computer Science');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('f8ea5129-8968-4d46-9c4b-0be9f9a71066', 'spx-544', 'Shakespeare''s Greatest Works', 90, 1.5, 'Physics');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('bc14db8e-d5d8-426e-806a-2dd2517f15ac', 'qja-180', 'History of Ancient Babylonia', 45, 1.5, 'History');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('f060dcd9-5ed9-4140-944e-7bf68e7582a9', 'wyq-123', 'Shakespeare''s Greatest Works', 45, 2.5, 'Computer Science');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('dbed1fc1-ee25-498f-9f1c-6e538ebdcf28', 'rgs-556', 'Linear Algebra', 60, 3, 'Computer Science');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('35b579ce-45b5-44c1-9b1f-c8554fd9561f', 'lqa-858', 'History of Ancient Babylonia', 75, 3, 'Computer Science');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('3d6fd071-5a30-428c-9a19-9a16e01daaf7', 'rem-264', 'Final Project 1', 90, 2, 'Computer Science');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('c0fe25d3-9690-4756-99a7-cbca84d4775f', 'bfz-071', 'Shakespeare''s Greatest Works', 90, 2.5, 'History');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('b32c80cb-8eaf-4889-b433-c4ecde83b187', 'hid-854', 'Linear Algebra', 90, 1.5, 'Physics');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('fdf75847-67db-46dc-8bb6-81a37ed2ebd6', 'aoy-927', 'Final Project 1', 75, 1.5, 'Math');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('88f895c0-c0ba-4b18-87d5-079b6cd14ccd', 'wfo-814', 'Shakespeare''s Greatest Works', 75, 2.5, 'Math');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('41b9120a-7758-4a96-8b1d-560280594a2d', 'lxm-083', 'Final Project 1', 90, 2.5, 'Physics');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('10dad714-9405-40c5-b649-cd7fd980cbcc', 'jox-706', 'Shakespeare''s Greatest Works', 75, 2, 'History');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('b1a5889b-fd29-42ab-a418-668950301584', 'ldk-586', 'Linear Algebra', 60, 1.5, 'Physics');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('578d18d8-0ef7-4772-8079-eb5eb56cd444', 'wxk-245', 'Final Project 1', 45, 1.5, 'French');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('b750c87b-bf60-43fd-a761-d311a3742524', 'obg-311', 'Shakespeare''s Greatest Works', 60, 1.5, 'Computer Science');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('c8352e47-a880-478f-b1aa-9cfb79694958', 'zko-691', 'History of Ancient Babylonia', 45, 1.5, 'Math');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('37c4b5d2-68fe-4b8f-88c8-73a13bf8e706', 'nbc-406', 'History of Ancient Babylonia', 75, 2, 'French');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('851d8d5f-482c-4ec5-bebf-5fd8cb7f3323', 'sxd-748', 'Waves', 60, 2.5, 'Math');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('54df8e04-2cbd-4b3d-9825-361572d1e960', 'hdm-881', 'History of Ancient Babylonia', 90, 1.5, 'English');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('8c18165f-edb3-4eda-ba6c-6800cd2cddbd', 'hcd-978', 'Waves', 90, 1.5, 'Math');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('9218bd55-fce3-42b8-ad42-1cede1bb2607', 'mdg-358', 'Linear Algebra', 75, 2, 'History');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('5a56c92c-7b0e-4804-8890-29c982807ea5', 'dxq-666', 'History of Ancient Babylonia', 90, 3, 'Math');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('0834b7f8-598f-4aa3-a837-a76add1cc9b8', 'eck-458', 'Java 1', 75, 2.5, 'French');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('8cb17035-e273-4d6b-a585-efa35f0cbeef', 'rta-244', 'Java 1', 75, 3, 'French');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('97d9be21-8485-4844-a2e8-9b5a7619e9a7', 'ehy-271', 'Waves', 60, 2, 'History');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('800e884b-5fd3-43c5-bc4a-1caa7f87ab6d', 'coy-444', 'Final Project 1', 90, 3, 'History');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('04c097a1-c03f-43f1-b5c1-bbc3707119ab', 'ziy-566', 'Web Services', 45, 2, 'Math');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('25d6fc08-f3bf-4215-90c3-eb2775ca1bf4', 'bjj-984', 'Web Services', 60, 1.5, 'Computer Science');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('1ffc47c0-a31a-4935-a2e7-303cc1702cc8', 'puu-810', 'Web Services', 75, 3, 'History');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('f3a38ec0-c69a-4893-883c-fcfea3fcb8b1', 'rqn-947', 'Linear Algebra', 75, 3, 'English');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('a90ca411-1fe1-4809-b740-1dba504c6f73', 'elk-591', 'Introduction to French Literature', 45, 2, 'Math');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('b9bd3d01-ce68-43d8-950e-0957573de7fb', 'ucz-739', 'Linear Algebra', 75, 2.5, 'Physics');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('1b098e2e-d4d8-4dbc-a092-b09ab6071049', 'pku-187', 'Waves', 60, 2.5, 'English');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('c2d92318-22a9-46a6-a08e-e7638ed98d23', 'cqm-314', 'Linear Algebra', 90, 2.5, 'Math');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('1b08dadf-41c9-4271-9c49-805955d8e6cf', 'yrw-684', 'Final Project 1', 90, 2.5, 'Physics');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('1ab92ac1-2d5b-4b0b-91c4-9e0e49c37b10', 'myw-700', 'Web Services', 90, 2.5, 'French');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('8d0c5bad-68d1-4324-8463-db66be977fbb', 'wdh-508', 'Waves', 75, 1.5, 'Computer Science');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('43044071-a6fb-40e5-8238-7385056f326d', 'efk-039', 'Waves', 75, 3, 'History');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('e817ee4b-bd93-4fa1-bfb8-8dcadd46f9aa', 'znt-847', 'Waves', 90, 1.5, 'Math');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('fcae73d4-72b3-47f7-b30d-a069ab650096', 'ulf-803', 'History of Ancient Babylonia', 45, 3, 'Physics');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('bcb0808c-f061-45a9-8a5c-ecf0d86fd454', 'yux-895', 'Final Project 1', 60, 2.5, 'French');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('0084bae0-53fa-4adb-b58c-de4b013a2345', 'fix-998', 'Web Services', 45, 3, 'Computer Science');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('30dd79b6-7abf-4168-a010-6502058e1e77', 'jgk-826', 'Waves', 45, 2.5, 'History');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('7162480c-aab8-4c50-a4b9-0424fc950a5d', 'eao-709', 'Introduction to French Literature', 75, 3, 'History');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('81bf57ac-a37e-4c5a-b820-5bec01e676b0', 'eqf-411', 'Introduction to French Literature', 60, 1.5, 'English');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('7189b4b2-3dda-4883-a26e-604a8f5c1f08', 'iim-218', 'Shakespeare''s Greatest Works', 90, 2.5, 'Computer Science');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('73fec7ee-1b3e-41f9-89f3-7156423b8f9a', 'ejt-956', 'Waves', 75, 3, 'Math');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('b97389b4-77c0-4fc2-a25e-558b022539b7', 'bbh-743', 'Introduction to French Literature', 90, 2.5, 'Physics');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('1db4a425-18a5-43d6-8509-d9bcb4b87c5a', 'nzu-466', 'Shakespeare''s Greatest Works', 45, 2.5, 'History');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('62b1b379-7744-4e92-8abe-2b53226bd879', 'oyy-614', 'Waves', 90, 2, 'Computer Science');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('0ff77f1d-3407-4895-9b84-41fec17c0569', 'eoz-327', 'Shakespeare''s Greatest Works', 75, 1.5, 'French');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('7e4a2525-946d-4c10-bc05-148cdc1fa3bb', 'yde-931', 'History of Ancient Babylonia', 90, 2, 'English');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('dec37831-1fa0-4de2-9973-e8136017d49c', 'vpo-219', 'Introduction to French Literature', 45, 3, 'Math');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('704156ec-dfa7-4a75-88a2-f20fb3a6f4c1', 'vvs-124', 'Web Services', 60, 1.5, 'Computer Science');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('f7f7e848-a2b2-4992-b9b6-21537f6ad04f', 'qhp-620', 'Web Services', 60, 1.5, 'Math');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('d7c70b05-d488-4a68-8442-ab22d285ae4a', 'xpf-281', 'History of Ancient Babylonia', 45, 2.5, 'History');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('b3874bf5-3401-41a8-8656-610ea420e2a9', 'rgi-004', 'History of Ancient Babylonia', 75, 2, 'History');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('62426d6d-c113-456a-8453-a0fde6097c8b', 'uqp-164', 'Linear Algebra', 90, 2, 'English');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('03460e06-1cb0-470f-bed6-5b7b0c3e53f2', 'mus-179', 'Linear Algebra', 75, 3, 'English');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('ce590c2a-0d41-4235-a1bb-b1b61cf86f05', 'owf-598', 'Linear Algebra', 60, 1.5, 'French');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('e6471764-0740-47e6-80a4-2f4be4ecba7a', 'zwn-926', 'History of Ancient Babylonia', 90, 2, 'Physics');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('7b9003fc-f1ba-4580-9694-6d63fe1d9419', 'zes-541', 'Shakespeare''s Greatest Works', 45, 2.5, 'Physics');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('c562c1ac-d4f3-4ba4-8a81-d87e6e0477e8', 'tte-738', 'Web Services', 75, 1.5, 'French');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('4fa9d35a-7e38-4118-914b-ed67d5b5ada6', 'glf-956', 'Shakespeare''s Greatest Works', 45, 2.5, 'English');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('0a898aa9-3056-4ee4-b94b-db21b5068e58', 'ltq-527', 'Introduction to French Literature', 75, 2, 'Physics');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('1c7ee08e-24ab-4499-bf97-9d3dbf0b892a', 'rar-136', 'Waves', 90, 1.5, 'History');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('963970f5-8fbd-41c7-aece-d72df90ae529', 'fav-871', 'Waves', 75, 2.5, 'Computer Science');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('188c330d-d5f8-4029-a823-64203befcf4e', 'gha-355', 'Linear Algebra', 45, 1.5, 'History');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('cdd28e46-d97a-4e86-9392-33bddfe3fcf8', 'bie-517', 'Final Project 1', 45, 3, 'Computer Science');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('d8124712-d9f5-4759-a7de-220c3fd61cd9', 'seh-898', 'Waves', 75, 2.5, 'Computer Science');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('e22e2f09-4b26-464f-bfa7-fccfbebfa3dd', 'eod-886', 'Waves', 90, 2, 'Physics');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('7fe89b8e-362a-4261-a692-c776d1e9dde3', 'tno-469', 'History of Ancient Babylonia', 75, 2.5, 'Physics');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('0d0b5cbb-0362-4217-a81f-f30e86f6b3e7', 'opu-700', 'Final Project 1', 90, 2.5, 'French');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('1b04fe7f-976b-4463-a4ab-b554e7440525', 'kof-705', 'Waves', 75, 1.5, 'English');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('0020285b-20a7-4895-8046-9d554ac1f8ea', 'exn-505', 'Waves', 75, 2.5, 'History');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('d09f0e9e-cec4-4e59-811d-8f0a277adec4', 'xkl-964', 'Web Services', 60, 2.5, 'Physics');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('3350f288-d3f6-4cca-b5e4-89180a60166d', 'awn-668', 'Shakespeare''s Greatest Works', 90, 3, 'English');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('d610e73d-c99d-4782-929d-f2502e7de91e', 'zze-563', 'Linear Algebra', 90, 3, 'Math');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('1dc52d18-792f-428b-86f9-b46274168471', 'aef-639', 'Java 1', 45, 3, 'French');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('915b8acb-411c-41e5-8ef5-d6404f43ea81', 'fda-834', 'Web Services', 75, 2.5, 'Computer Science');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('777bedf6-457a-451e-a0bd-7daa1e5cbb7c', 'ytp-711', 'History of Ancient Babylonia', 45, 1.5, 'French');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('dae4c837-e725-4bb0-9dcf-b52d9d9bcced', 'sly-365', 'Web Services', 60, 2, 'French');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('ddeeb929-0f69-4e6c-abd1-45da488e0a04', 'kni-937', 'Linear Algebra', 75, 1.5, 'Physics');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('9f3a8181-3cae-4eff-b1e5-ba9774e1b477', 'vgq-945', 'Waves', 60, 3, 'Computer Science');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('5adefce2-7225-47fe-9d08-a597f6eec9bb', 'nvh-028', 'Linear Algebra', 90, 1.5, 'Math');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('e6d26ce6-c37c-4278-a0f1-e6f4ac0d0210', 'gxm-886', 'Waves', 45, 3, 'Computer Science');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('0c1d016c-e662-42b1-915d-bbc14535e2b6', 'byl-635', 'Shakespeare''s Greatest Works', 75, 2.5, 'History');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('1ec6152a-cd64-47c7-9bf9-9c72419da0e5', 'isp-481', 'Waves', 45, 2, 'Math');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('ff619457-b4e0-4864-8b84-01790a80e30b', 'zkl-284', 'History of Ancient Babylonia', 75, 1.5, 'Physics');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('72688018-93d3-4e45-a828-ce34b548ccbb', 'wuw-833', 'Shakespeare''s Greatest Works', 60, 3, 'French');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('a5fde047-5495-4228-a959-d8c6c767a403', 'nlz-601', 'Shakespeare''s Greatest Works', 60, 1.5, 'English');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('5e4a5ad3-3bb1-43eb-97c1-dcbf83718148', 'ssb-149', 'Linear Algebra', 90, 2, 'Math');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('1c764674-7bcc-4f69-a1d2-d808b0f0d3a7', 'qnt-527', 'Introduction to French Literature', 75, 2.5, 'Computer Science');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('0ab87b63-29d2-4263-9a5e-0c322da13b19', 'yuj-969', 'Introduction to French Literature', 60, 2.5, 'Physics');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('92c742b2-539c-4255-b6e7-9a75135d4a8a', 'cry-742', 'Linear Algebra', 45, 2, 'History');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('5301a1ae-4bae-446c-81d7-c6fde39bb219', 'uva-184', 'History of Ancient Babylonia', 60, 1.5, 'Math');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('b31c8af8-3054-455a-99e2-2fe4bde24494', 'nhv-021', 'Linear Algebra', 75, 2, 'English');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('3aef41a9-da75-44b3-bbae-6d41694a7f2e', 'cqh-449', 'Shakespeare''s Greatest Works', 90, 3, 'English');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('820bf9ee-4864-4c06-817a-fd1154892fdf', 'rla-684', 'Shakespeare''s Greatest Works', 45, 1.5, 'Computer Science');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('c1680142-ec54-4ede-ab44-b1293c6d073e', 'czv-366', 'Introduction to French Literature', 75, 2, 'Physics');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('0bbe9fc5-47de-4d69-904a-1fcdd2e400f2', 'qgd-652', 'Java 1', 45, 2.5, 'History');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('0bd6e4b4-7566-42d3-bfb8-b961da033e23', 'jzq-967', 'Shakespeare''s Greatest Works', 75, 3, 'French');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('e01ef430-3d0a-4d5f-93bf-d1da9e2ddffc', 'syk-495', 'Waves', 45, 1.5, 'History');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('57bc8038-063c-46e2-ae49-568d79a1e5bb', 'uwr-351', 'Web Services', 45, 1.5, 'Computer Science');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('8e8461f3-5fba-43af-9bc6-65e98384694d', 'bhz-025', 'Java 1', 75, 2, 'English');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('5f3ad07b-4a27-486e-a1bd-deae94964fa5', 'nvt-037', 'Web Services', 90, 2.5, 'Computer Science');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('9410b81c-62ac-41d9-a594-ecf8a55d9335', 'xxp-061', 'Introduction to French Literature', 90, 1.5, 'Physics');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('2d63ee57-9ee4-45df-ab33-ffe052ffb811', 'kpv-346', 'History of Ancient Babylonia', 90, 1.5, 'Computer Science');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('ec0128ff-01a4-4196-b882-78bfcd2f7ee9', 'yxa-615', 'History of Ancient Babylonia', 60, 3, 'Math');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('e4115dfe-0c09-404c-a817-37c101c10233', 'bww-540', 'Introduction to French Literature', 60, 2, 'Computer Science');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('5d74c4a7-0a39-48c8-92dc-7027bb8cb5e2', 'qgm-770', 'Web Services', 60, 3, 'French');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('78de04ee-79bb-4bf5-97f0-3026e11be249', 'ckh-068', 'History of Ancient Babylonia', 45, 2, 'Physics');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('db8153f2-4aa3-4a2d-ad2c-169c1f2e3184', 'taz-986', 'Waves', 90, 2.5, 'Computer Science');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('184d6f2f-c840-427c-9c75-a60093982c26', 'kdj-845', 'Web Services', 60, 1.5, 'Computer Science');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('36ccc3db-9f5b-450a-8c95-1c953d7aebda', 'crd-439', 'Final Project 1', 90, 1.5, 'Math');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('17cd2afa-9f51-4790-ae10-ccf99885f86e', 'ckh-884', 'Java 1', 75, 2, 'History');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('5edad8c2-0c9d-45ee-81f2-23c999c0c84c', 'ojz-291', 'Java 1', 60, 2, 'English');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('205dcc9f-a6a6-4ec0-9be0-388007d15697', 'iiq-528', 'History of Ancient Babylonia', 75, 2, 'French');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('5e319fca-32d1-4ddb-9426-decb85167545', 'xdl-834', 'Java 1', 75, 1.5, 'History');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('7162f554-e811-4407-b69c-f49550ad6fae', 'xgu-828', 'Waves', 60, 2, 'French');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('c85cbfbf-3cbd-4e94-9355-4b374ba5afb9', 'ass-869', 'Introduction to French Literature', 90, 3, 'English');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('8b99dd33-1175-481c-8849-507f9c56f5e1', 'bxm-148', 'Shakespeare''s Greatest Works', 60, 2, 'Math');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('b3b782a2-bf0d-47ed-b7e0-cdb54cfe0847', 'ffa-651', 'Linear Algebra', 90, 1.5, 'History');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('9f15c74b-676a-42f2-8f01-f304e3c1b584', 'zch-353', 'Web Services', 90, 3, 'Physics');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('953bf357-21cd-453a-a3e2-1734334bcbf7', 'boz-474', 'History of Ancient Babylonia', 60, 1.5, 'English');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('d92c6c28-a70d-4b79-aa28-ce8031413ece', 'sxp-936', 'History of Ancient Babylonia', 45, 2, 'English');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('658313bc-1911-4ae3-b49e-ede2140700ac', 'rhf-556', 'Web Services', 90, 3, 'Computer Science');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('31bee7d4-b9f9-4c9f-ba92-25713d9e9020', 'hjm-380', 'History of Ancient Babylonia', 75, 2.5, 'Computer Science');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('7f38b7da-a221-4365-b86e-8e936fc4c51c', 'djb-213', 'Introduction to French Literature', 90, 1.5, 'French');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('0d74b506-fc79-43dc-97b0-620186496f19', 'drj-296', 'History of Ancient Babylonia', 75, 2, 'Computer Science');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('bf0e713a-d506-463c-9be2-dcbd2038192b', 'csu-155', 'Introduction to French Literature', 90, 3, 'History');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('376c915c-5bb1-40df-80dc-ff8c22bf1ecf', 'sro-046', 'Waves', 60, 1.5, 'Math');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('76ea9679-af5e-47fc-b193-b051e0e56e17', 'mzx-563', 'Linear Algebra', 90, 3, 'History');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('329db553-0845-40a9-80c5-2b47e5299849', 'pfc-760', 'Web Services', 90, 2.5, 'History');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('0d880c9b-1370-422c-88ce-fa9986984348', 'shn-631', 'Java 1', 90, 3, 'French');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('5028ef89-778d-4981-bf2b-843d5d9c6905', 'wko-711', 'Shakespeare''s Greatest Works', 90, 2.5, 'History');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('677a1a32-612e-4ac9-a770-f57d35cab8c6', 'jwu-434', 'Final Project 1', 90, 2, 'Math');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('953e09de-eadd-49d5-8835-5a1cad600726', 'dip-942', 'Linear Algebra', 45, 2, 'Physics');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('f03797d9-21bb-4b16-abaf-ccbfd57010f4', 'qek-172', 'Waves', 60, 2, 'Computer Science');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('b972ac22-4537-4965-9256-dfe5188752c9', 'meu-125', 'History of Ancient Babylonia', 90, 2.5, 'Physics');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('0e18477a-0ce7-43c7-bc57-ddfa351eb32d', 'vvb-074', 'Java 1', 90, 3, 'French');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('fed53edf-51ae-41f6-b55f-4c71b9ee4cd0', 'icb-984', 'History of Ancient Babylonia', 45, 1.5, 'English');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('7fd58f30-a943-458b-8e2e-9c83c8928c42', 'psu-732', 'History of Ancient Babylonia', 75, 2.5, 'Computer Science');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('332fd62a-7d58-41c7-9675-95895eae1c79', 'myt-619', 'Final Project 1', 45, 2, 'Math');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('e6fd5e15-6a06-4319-b783-05626ffb5f76', 'oqr-277', 'Java 1', 60, 2.5, 'Physics');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('93a4f592-84ce-4b5b-97e9-3159fcc4a0f5', 'fhm-464', 'Shakespeare''s Greatest Works', 90, 2, 'French');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('e762b3a1-c488-4347-846b-4ff147351b8f', 'inf-723', 'Shakespeare''s Greatest Works', 45, 2.5, 'Math');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('36cf4e6d-3780-4a72-aa06-533e23684cf1', 'hqf-628', 'Introduction to French Literature', 45, 2.5, 'Physics');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('72b326e6-da01-4fee-97fb-7d5fb90e2120', 'yaw-170', 'Waves', 90, 2, 'Math');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('ebc0906b-347d-49aa-91b6-54993b0968c2', 'wao-584', 'Introduction to French Literature', 60, 1.5, 'Math');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('4bba2987-f1c8-4318-9f72-54711ee69cf3', 'fvn-373', 'Waves', 75, 2, 'English');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('6fd38a66-374d-496b-8b48-030d626bd483', 'lwp-269', 'Web Services', 75, 2.5, 'Physics');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('e8b4f926-bada-438d-b155-ce26bec7843d', 'pfg-642', 'Shakespeare''s Greatest Works', 75, 2, 'Math');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('00d0436c-9e0c-4100-bede-4d53599ac34e', 'lfw-882', 'Web Services', 60, 2, 'English');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('251bcd97-2a55-4416-a04c-af191bc7fec5', 'oic-293', 'History of Ancient Babylonia', 60, 2, 'Physics');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('8fc843ca-cfe3-49a9-99c8-675041d5d87f', 'tcz-404', 'Waves', 60, 1.5, 'French');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('63779d59-f0f5-4251-be65-6601541d5a83', 'vay-900', 'Introduction to French Literature', 75, 1.5, 'English');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('64c2a029-00bf-4f96-9d46-fdf5e169fbac', 'rvv-598', 'Introduction to French Literature', 45, 2.5, 'Physics');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('a8b78d02-726c-4c8c-8eb9-756cd033339c', 'auz-655', 'Web Services', 90, 1.5, 'Computer Science');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('5b7c5172-b63a-47d4-a5be-7b7f0b1c2eaa', 'zrw-482', 'Introduction to French Literature', 60, 1.5, 'French');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('6b201494-ec19-42a7-b62e-77e0f16476e6', 'ywl-136', 'History of Ancient Babylonia', 60, 2.5, 'French');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('eb79730f-f37c-4570-9522-e1616d27e534', 'ytj-856', 'Final Project 1', 45, 2, 'History');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('08f6021d-aa38-4e72-a3b0-8abc2a064f31', 'gab-558', 'Waves', 75, 2, 'Math');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('b0109eee-7299-4810-a11c-6c5cc4c67094', 'rib-115', 'Waves', 45, 3, 'Math');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('8f90aacc-2036-4292-8ec7-5fcfd114dc0d', 'bwf-942', 'Introduction to French Literature', 90, 2.5, 'History');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('7210d8ee-8089-4ce4-b42b-0383ce8c20d1', 'nec-122', 'Shakespeare''s Greatest Works', 45, 3, 'Math');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('b186b5f0-94f2-48bc-aa20-6670306724e1', 'jug-329', 'Waves', 45, 1.5, 'History');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('dc00137b-773e-4159-b39a-6853ccd86ee2', 'sfg-779', 'Final Project 1', 90, 3, 'English');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('2ff9d361-5f08-4823-9062-5ce0a09e4968', 'woi-874', 'Final Project 1', 90, 3, 'Math');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('feabd313-ff55-490d-b02f-e15d98e2b109', 'pib-321', 'Waves', 45, 2.5, 'History');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('e514ab04-504d-41c8-904f-767ea0ba783b', 'bhs-078', 'Java 1', 90, 1.5, 'Computer Science');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('aa70a49b-434b-418c-b45f-b41ec4da24f7', 'pnj-091', 'Java 1', 75, 1.5, 'French');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('c4ad5b5d-4e38-4255-b744-af578cd3e4e5', 'zae-756', 'Web Services', 45, 2.5, 'English');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('ee7b7901-4a20-44df-8492-35db29075582', 'vhk-988', 'Linear Algebra', 45, 3, 'Computer Science');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('895639f3-4c7c-485f-a17d-d78c5820cd93', 'lyw-976', 'Java 1', 60, 3, 'Physics');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('2e806152-0eb9-40a1-a3aa-98030d40fc3a', 'dbg-680', 'Java 1', 45, 3, 'History');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('f9742650-ed2e-45bc-acb6-e0fad91a6b89', 'nla-556', 'Introduction to French Literature', 60, 1.5, 'Computer Science');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('7564f5bc-18c0-4728-bd0a-bfe01fb34817', 'eyw-057', 'History of Ancient Babylonia', 60, 1.5, 'Computer Science');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('cf1e7ce6-a8d5-4c95-ac89-22dc26e2bb04', 'lbd-795', 'Linear Algebra', 45, 1.5, 'French');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('c8cdbff1-c736-4b46-abae-51393c4fc867', 'pwu-581', 'History of Ancient Babylonia', 45, 2.5, 'Physics');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('34e7869c-4691-4f00-bb71-6376ec635e46', 'zie-036', 'Shakespeare''s Greatest Works', 90, 2, 'History');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('d8b34fe9-4196-4cfc-982d-afc4240369f6', 'nmv-541', 'Introduction to French Literature', 90, 2.5, 'Math');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('bf94fe0f-dbc8-49bb-8386-3e20d02d594c', 'rqw-983', 'Web Services', 60, 3, 'Physics');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('14fe8a29-a0b3-4ffc-8b28-9d096f66e019', 'tjm-931', 'Waves', 45, 2, 'History');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('87c22a2c-9ce1-48ba-b1a5-00a4a2de6c86', 'gte-428', 'Waves', 90, 1.5, 'Math');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('41820fed-50ec-4885-9172-8d254514378f', 'ahw-194', 'Shakespeare''s Greatest Works', 60, 3, 'English');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('8a6050a1-2820-4b19-bb9e-e05a957eae57', 'vwn-705', 'Final Project 1', 90, 2.5, 'Physics');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('c59bc844-9cf6-4660-89e8-05a77e737f8b', 'bzi-691', 'Java 1', 90, 3, 'Physics');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('1b0e722d-68bd-420e-8efe-550a388e8040', 'how-677', 'Introduction to French Literature', 60, 3, 'Math');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('40de3871-264d-46fe-bcde-8c3dc805241f', 'pbf-907', 'Introduction to French Literature', 45, 1.5, 'French');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('9b637478-6e1a-444f-a577-eb7c0e4b1d28', 'nss-652', 'Web Services', 60, 1.5, 'Computer Science');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('f9983a05-39c1-4bcd-905d-9c3fdee6530e', 'xpo-310', 'Introduction to French Literature', 75, 2, 'Physics');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('8b55a393-2b05-43c0-b72f-54d4e4f8a9bd', 'vcv-241', 'Introduction to French Literature', 45, 2.5, 'Math');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('6f70c74c-db8d-4b3f-864e-2170f8b16860', 'jfz-514', 'Waves', 45, 1.5, 'French');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('c28a4507-8fa3-4018-820d-3bacf37c734c', 'cyn-020', 'Shakespeare''s Greatest Works', 90, 3, 'Math');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('534a2ca6-78ee-49fc-949c-f4d4191eb2c5', 'ebz-322', 'Java 1', 75, 1.5, 'Computer Science');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('acd03c37-1e2b-4fff-aff5-b69c9ac9c956', 'ytr-482', 'Shakespeare''s Greatest Works', 60, 2, 'History');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('633fa936-8cb6-48de-b5af-b49131b1372c', 'swf-092', 'Web Services', 90, 2.5, 'History');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('65642e77-5c85-4914-b532-becb191d77ef', 'qdf-731', 'Java 1', 75, 3, 'French');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('e53bcb28-3512-4881-9321-39e56bbec8ec', 'zvx-327', 'Web Services', 75, 2.5, 'Computer Science');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('47912538-b77d-4b52-9ac3-37a4b58ff928', 'jrk-645', 'Web Services', 45, 2.5, 'History');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('8b67ae4d-4cbf-4e76-8aa6-08f8db9d422d', 'iiw-724', 'Web Services', 90, 1.5, 'French');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('1128dd70-ffca-4be6-b685-48dd5b10a352', 'jow-395', 'Shakespeare''s Greatest Works', 90, 2, 'Physics');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('2b6ec805-e5b1-4d18-a157-f4c6089f6ca1', 'xqx-684', 'Shakespeare''s Greatest Works', 45, 1.5, 'Math');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('3c756913-b48c-4c72-97c4-2c9993e5827a', 'jsg-669', 'Java 1', 90, 2, 'Math');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('6aa40fab-c08c-4012-accd-2ae342d9e89c', 'ftp-986', 'Java 1', 90, 3, 'Computer Science');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('69b13830-30eb-47e6-bbb5-7e5ac5834e40', 'odu-603', 'Waves', 60, 1.5, 'French');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('0e18dcd9-8ffc-461e-8099-1674bdccbc0e', 'hfh-273', 'Web Services', 90, 2, 'French');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('84f26a80-496b-43de-87e4-185cec380aa9', 'iht-272', 'Waves', 75, 2, 'History');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('ded5d1e7-c6a8-4ced-8528-5777475daf37', 'nwg-226', 'Waves', 60, 1.5, 'French');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('4f164721-6c3c-4da0-aa4e-cc83f3007b92', 'kjf-090', 'Shakespeare''s Greatest Works', 60, 2.5, 'English');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('bb8a9fe1-fc4a-4e81-b7e1-03d322416c12', 'edn-070', 'Linear Algebra', 90, 2.5, 'Physics');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('05c70e83-f47e-473a-93b4-22a05fa48741', 'ilm-187', 'Java 1', 60, 1.5, 'Computer Science');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('e03c7d91-e06a-4349-a0d8-53e2054ca0b0', 'sty-418', 'Linear Algebra', 75, 2, 'Computer Science');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('66496bf0-7f42-4c27-8a55-a2fd139fbfba', 'xmu-936', 'Shakespeare''s Greatest Works', 60, 3, 'Physics');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('14182261-611d-4079-b602-dd6a3ea47c05', 'eie-410', 'Web Services', 60, 2.5, 'Physics');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('9d9b693c-37ac-4b58-a87a-99fde8ee7c38', 'llm-407', 'Web Services', 75, 2, 'History');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('d92c47c1-f9cc-43b9-bf46-bb190056e969', 'ueo-139', 'Waves', 90, 2.5, 'History');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('9b06c58c-8154-4460-9417-e5a0a2f62413', 'hnm-564', 'Final Project 1', 90, 3, 'Computer Science');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('bea8b932-e3c0-4d23-a462-5d1dfb78ce95', 'vut-661', 'Java 1', 75, 3, 'English');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('1a0b8ff5-b62e-4267-b4bd-56659699d34f', 'bxz-221', 'Linear Algebra', 45, 2, 'History');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('9d1ac7ab-4a53-4b68-afcb-679ccb80eafa', 'ffb-676', 'Java 1', 90, 2, 'Math');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('1e12980d-a388-4812-bc4a-4504a6dee7da', 'xno-315', 'Web Services', 90, 2, 'History');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('e1695617-dcde-40ca-88cb-4a1f048c3785', 'clp-310', 'Final Project 1', 45, 1.5, 'Physics');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('1616b54f-04b4-4516-8f1e-e65040425cf5', 'vdw-251', 'Java 1', 90, 2.5, 'Computer Science');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('8d6ba351-1ea3-4c02-8db1-651f88973e43', 'wpg-736', 'History of Ancient Babylonia', 75, 2.5, 'Computer Science');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('12e772ba-b2e6-4826-ae1d-6a10951baa31', 'sql-351', 'Linear Algebra', 45, 2.5, 'Math');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('aafc97e2-6437-473d-8e1f-4ec63e788bc5', 'lcj-883', 'Shakespeare''s Greatest Works', 45, 3, 'English');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('9e817789-3d63-418a-b8a0-886ee60f0be6', 'yqh-591', 'Web Services', 75, 1.5, 'Physics');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('31fba0b6-191d-42ff-8e66-672a7848553a', 'nzd-713', 'Final Project 1', 75, 3, 'English');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('2f69c237-7eb2-4db5-aaf7-5e5c21edbf54', 'scn-629', 'Linear Algebra', 45, 2.5, 'French');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('f2a2242c-1a30-4e86-bdd0-2e6b1d9c06d9', 'gey-681', 'Waves', 75, 3, 'Computer Science');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('f86c0e89-435d-46ee-a55e-83a67e8b9373', 'unp-791', 'Linear Algebra', 45, 2, 'Physics');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('73c223f5-2e83-4bbd-8d33-50390fc23881', 'xfv-205', 'Introduction to French Literature', 45, 2, 'English');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('7963bdc0-f147-4c0a-9bf8-61386247e4e8', 'fpt-419', 'Waves', 90, 2, 'Physics');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('633b7f48-a620-4755-aab9-80077889f84a', 'ftw-909', 'Waves', 75, 2, 'Math');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('b4c4526a-7b88-400c-af96-2d9bedc4e515', 'eku-311', 'Final Project 1', 60, 2.5, 'French');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('65a4b6d0-1eea-45d8-b4dc-561ee7a8dc31', 'cyx-656', 'Shakespeare''s Greatest Works', 90, 1.5, 'English');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('8317ab96-d129-44ac-ae2f-eb99acdd03a4', 'chh-799', 'Final Project 1', 60, 1.5, 'Physics');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('e00051fc-7397-4179-8cd3-2032c31b4b8f', 'pfu-017', 'History of Ancient Babylonia', 60, 2.5, 'French');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('10d123d7-29ae-4460-a4f9-998009f4ebdd', 'ipq-636', 'Introduction to French Literature', 90, 1.5, 'Math');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('1c90ad1f-7f40-4bb3-b68f-ad58aa8c6d7f', 'lzh-649', 'History of Ancient Babylonia', 60, 2, 'English');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('5dc27547-0fff-4b10-affe-4e7ceb7df087', 'wtp-787', 'Waves', 45, 2.5, 'History');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('b1c799e5-63cd-4e19-a4ed-b243271b6840', 'kzi-607', 'Shakespeare''s Greatest Works', 90, 2, 'English');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('1247b934-ba8e-4373-b5c3-d0cf84f65869', 'ajj-664', 'Waves', 90, 2.5, 'Math');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('f049ab83-75eb-4d7e-ad8e-407fad432b5f', 'stk-166', 'History of Ancient Babylonia', 90, 2, 'Math');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('c53968f7-ee44-44c2-9ba9-d0a157ef18b0', 'lhl-415', 'Introduction to French Literature', 45, 1.5, 'Math');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('4503a331-8d4b-4c83-ae18-a8f68d072c31', 'obs-088', 'Linear Algebra', 45, 2, 'Physics');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('190e1674-7505-422d-99bb-7d70ec6f162d', 'wim-607', 'Java 1', 75, 2.5, 'English');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('0642eb85-58da-4e7e-999a-1ee01c83e83f', 'cfk-369', 'Linear Algebra', 45, 2.5, 'Computer Science');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('a573f50f-bb0c-456a-a7b4-cca1d5fe4eb0', 'wvf-088', 'Java 1', 45, 2, 'French');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('8880380b-189c-4cdd-b66b-81e11186bfce', 'ieu-358', 'Waves', 45, 3, 'History');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('0c57b0df-916f-4390-95a7-514db0781033', 'bko-146', 'Web Services', 90, 3, 'History');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('a8c03fa7-b5b8-4c2c-b43c-a73334f39db6', 'ubc-922', 'Web Services', 90, 3, 'Computer Science');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('1fd608c5-19dc-4dd0-858d-9605bed15123', 'jxc-631', 'Shakespeare''s Greatest Works', 45, 3, 'Computer Science');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('828c52e5-d6ad-4242-8776-c3731543a17c', 'fqt-501', 'Introduction to French Literature', 75, 3, 'Math');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('64370c86-d12a-4fd7-a0a2-6b0b1229032c', 'fwz-847', 'Java 1', 45, 2.5, 'English');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('357c71e0-a4d1-448c-bb05-585c41b55c2e', 'szn-250', 'Java 1', 90, 1.5, 'French');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('8c5651c4-85e7-4580-b4b9-659d35011a06', 'kkd-442', 'History of Ancient Babylonia', 45, 2.5, 'French');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('88a46a3e-1ef3-42d2-b1f5-0a0ba805c8b6', 'flt-819', 'Shakespeare''s Greatest Works', 45, 3, 'Physics');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('9c959b3e-e93d-4b32-99b4-a24652c91430', 'sjd-857', 'Linear Algebra', 75, 2.5, 'English');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('96c9deb3-a7ec-402e-95b9-fc1bda9ab872', 'sre-650', 'Web Services', 45, 2, 'Math');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('bbb10cf9-cd6c-40b4-98bf-ee219eb51c87', 'qnd-691', 'Web Services', 90, 1.5, 'English');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('4bda14ab-b0f8-4954-82b2-cae1e547a553', 'mbk-796', 'Java 1', 75, 2, 'Math');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('0f4d33a1-4c7e-45de-8eb8-d59e5ae87797', 'gdj-348', 'Linear Algebra', 45, 2.5, 'History');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('76162f4b-4bd7-4997-9e3d-8366b75a9e74', 'xlv-039', 'Java 1', 90, 2.5, 'Physics');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('9c037376-8aa2-4caf-8237-8b5a7a8c028e', 'mru-782', 'Java 1', 60, 3, 'French');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('aa047eb7-e263-4039-839e-8128ba13554c', 'gyo-816', 'History of Ancient Babylonia', 75, 3, 'Computer Science');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('5cb7cf00-6524-454c-9e98-c20d75262589', 'rwa-119', 'Shakespeare''s Greatest Works', 75, 2, 'French');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('779e88fc-f74d-4498-86c1-d25a7ce9bf28', 'cro-406', 'Web Services', 60, 1.5, 'English');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('f791289a-16d4-46a2-9d09-3c8aa8e8cd91', 'ada-849', 'Web Services', 60, 2, 'Physics');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('59db38ae-3ad7-4e64-bbbd-d77f8865288f', 'fdn-616', 'Web Services', 60, 1.5, 'Math');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('0792f76d-61dc-45a0-a137-da91461df392', 'yfv-012', 'Waves', 75, 2.5, 'English');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('bdf4f148-0789-46b4-8410-c2ab8d8b63ef', 'wpf-495', 'History of Ancient Babylonia', 75, 2, 'Math');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('7f8c8d7f-d464-4562-8b29-a27dac313cde', 'xyo-794', 'Web Services', 60, 1.5, 'Computer Science');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('ca23865f-ac39-4d73-b991-ee4948596b93', 'tlt-015', 'Linear Algebra', 75, 3, 'French');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('75c678a3-bfb4-41ca-a100-e9b343808460', 'zuc-765', 'Java 1', 90, 1.5, 'Physics');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('dc937b9e-90db-4ab8-82a2-20ad641bfc7e', 'bqp-298', 'Shakespeare''s Greatest Works', 60, 3, 'Physics');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('3c2c4efe-e45b-4ba6-86d1-ba237a444a10', 'tzc-732', 'Waves', 75, 2.5, 'History');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('f383c077-ebf5-4ddd-9c9f-2b9c42748150', 'gml-976', 'Java 1', 75, 2.5, 'History');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('8e0485d2-4b25-4ed4-94d5-1e791e1a5f47', 'gij-160', 'Java 1', 45, 3, 'English');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('7dbd2ec4-52bf-4063-a84c-326200bbb9fe', 'dfg-338', 'Waves', 90, 3, 'Computer Science');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('ff3c30db-52c5-4263-8ee3-6386e15f26e1', 'bza-488', 'Web Services', 75, 3, 'Computer Science');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('0e569979-3ab4-4a33-b624-eac6d9d556e3', 'yvg-822', 'Linear Algebra', 75, 3, 'Computer Science');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('ff79edae-3255-41d1-807c-b07a99378f30', 'bfq-327', 'Introduction to French Literature', 90, 1.5, 'Physics');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('b272e17a-031f-4899-800c-9dddf7a392a8', 'kmk-016', 'Final Project 1', 45, 2.5, 'French');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('4e215d99-7929-4f19-b0a0-0cd4ceb2d025', 'aey-758', 'Linear Algebra', 60, 2.5, 'French');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('d53f8d4d-fa12-4349-85b9-612aaea83acf', 'juv-270', 'Linear Algebra', 90, 1.5, 'English');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('0c70553c-b706-45e8-b02c-ab70c2401358', 'jcz-028', 'Java 1', 90, 1.5, 'Computer Science');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('099896d4-862b-4cb3-965b-bc0df1dc4d52', 'bgj-137', 'Introduction to French Literature', 90, 2, 'Math');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('3fc26d94-1dec-4348-bf33-c5d18dadbb9c', 'fye-556', 'Java 1', 60, 2, 'Math');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('1569a6a0-9524-4c4e-94ac-37f02157c581', 'znd-762', 'Waves', 90, 3, 'Math');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('0f8b44bf-966c-41fa-9372-2f02b414338a', 'pcl-779', 'Java 1', 60, 2.5, 'French');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('33cbfacb-a0f3-465a-9548-8a4f350feb6f', 'xga-241', 'Shakespeare''s Greatest Works', 45, 2, 'Computer Science');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('0af8dd82-02a8-4d20-a753-8d1a86a235a0', 'hgd-491', 'Waves', 45, 2, 'Math');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('5aa9c5fe-5f5d-40c7-aabc-7bc5e37a02e3', 'tbf-464', 'History of Ancient Babylonia', 75, 1.5, 'Math');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('0119b7a3-029b-42fb-8f85-6fa391bf57a1', 'uow-898', 'Final Project 1', 75, 2.5, 'Math');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('85ff8cf8-8c26-4991-bce3-415c04413e8c', 'mgk-995', 'Waves', 45, 2, 'Physics');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('6121532e-df6a-4214-ae9d-029f6ef44ffb', 'hqk-435', 'Java 1', 90, 3, 'French');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('3feefa7b-e3be-4160-9e76-4c5f4caf90b3', 'qvh-945', 'Final Project 1', 60, 2.5, 'Math');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('c1de371c-5dd5-4fa4-a4a8-60bde7aa4a74', 'ies-351', 'Introduction to French Literature', 75, 2.5, 'English');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('8eaa8abe-c723-4709-a75c-b04fc26f3f82', 'njy-752', 'Introduction to French Literature', 60, 2.5, 'English');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('d22a97aa-8a57-495c-b9c6-a08221a1db72', 'pxa-603', 'Web Services', 75, 3, 'Math');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('bae85065-e60b-49ad-97b8-521b22d43b7b', 'yrl-391', 'History of Ancient Babylonia', 45, 2.5, 'History');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('8065d31b-10ea-430c-b70b-9a35a96cc74e', 'glp-618', 'Java 1', 75, 3, 'Computer Science');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('c7247340-b90a-4d19-a690-e3bd5ce95580', 'omh-838', 'Shakespeare''s Greatest Works', 60, 2.5, 'Math');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('90c8ce12-ea0d-4e4b-b29a-5ea4d1f70a3a', 'nli-603', 'Waves', 45, 3, 'French');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('359eeed0-c333-4d2a-a3a0-3d5cf1d42fdd', 'qqr-114', 'Linear Algebra', 75, 2, 'Math');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('54d69a6f-fbf6-4478-b9a6-ce582a5e5868', 'rez-571', 'Linear Algebra', 45, 3, 'English');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('c0d9c170-d81d-4eb3-ae4d-91b90c588bed', 'lho-982', 'Waves', 75, 2, 'Math');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('45ae24d8-4396-4dc7-a032-a7ddfddbba66', 'hzh-009', 'Web Services', 90, 2.5, 'Computer Science');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('17ea8d65-bd21-47c1-a63f-1fd7233e0468', 'ysf-365', 'Shakespeare''s Greatest Works', 45, 2, 'Computer Science');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('b9d0e598-2b2f-4c53-b94f-e86b5aa34b96', 'ldc-816', 'Java 1', 90, 2, 'Math');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('57df47e3-d1e6-430b-9f4a-f273ecc5651b', 'jcl-361', 'Java 1', 45, 3, 'Math');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('54382b6b-670a-4ba7-9591-8c03d9ad9c58', 'urn-452', 'Waves', 90, 2, 'English');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('21536bcb-3a02-4ba3-b52a-a0a7ded0d19b', 'nnu-373', 'Shakespeare''s Greatest Works', 45, 2.5, 'English');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('664c04c7-fbdb-4ae8-a741-031b80c8ca41', 'pal-039', 'Java 1', 90, 1.5, 'Math');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('9b912511-b1db-4160-8e77-9337ce105ff1', 'pjy-013', 'Java 1', 75, 2.5, 'Physics');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('91cf9913-c796-4e49-93e8-41fb1392d2cf', 'mcd-045', 'Final Project 1', 90, 2.5, 'History');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('c6df1603-8a66-4fc1-9111-6bd2c2dd405a', 'ntu-094', 'Web Services', 60, 1.5, 'Math');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('ef6b6bb1-faf6-4317-b153-3290f778aa0c', 'ysz-272', 'Shakespeare''s Greatest Works', 90, 2, 'Math');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('27da38c3-4fda-43c9-a855-4f42f48514de', 'wpk-223', 'Introduction to French Literature', 45, 1.5, 'French');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('d818e757-4292-4f0c-a111-46e42c8e660b', 'ovg-432', 'Final Project 1', 45, 2, 'English');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('0eceec89-c292-46ca-929f-ed8b5e4a7939', 'uqc-386', 'History of Ancient Babylonia', 60, 2, 'French');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('8fdf9f5c-6c71-4986-83e4-2df55edfd038', 'wgk-996', 'Waves', 45, 1.5, 'History');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('72bb830d-695a-4339-863b-be4425444bda', 'lbd-101', 'Linear Algebra', 60, 2.5, 'Physics');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('bad70f86-3623-4007-ab47-e477fb8faf43', 'vov-415', 'History of Ancient Babylonia', 60, 3, 'Computer Science');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('f03f705f-6f9a-4f4c-b5b9-af83874c6069', 'gva-590', 'Introduction to French Literature', 75, 2, 'Physics');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('80a4f192-16fa-459e-8708-06b7bcf5cb1e', 'bej-292', 'Shakespeare''s Greatest Works', 60, 2.5, 'History');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('cbac3569-c0e3-4dca-bbb0-6b21b922d81a', 'ied-197', 'Shakespeare''s Greatest Works', 60, 2, 'Physics');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('16758bf6-2630-4a7d-b2ab-0692f8dbc393', 'hly-759', 'History of Ancient Babylonia', 90, 2, 'History');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('781b461b-feab-47be-9991-7b4e03576302', 'xho-231', 'Introduction to French Literature', 45, 2.5, 'English');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('f331151e-2da4-483f-9ef7-f966ebe8f376', 'pzp-196', 'Waves', 90, 1.5, 'History');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('5f4c99eb-8190-46a5-8c71-82f47c10aa19', 'bxk-815', 'Java 1', 60, 3, 'Computer Science');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('54d51bf0-cfb5-41b9-bac1-20a80159f315', 'sva-220', 'History of Ancient Babylonia', 90, 2, 'History');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('23b40654-fb58-4ceb-8eef-94720bf0be6d', 'xuo-242', 'Waves', 90, 2, 'French');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('99197278-882b-46df-813c-45ef84066c17', 'akm-484', 'Final Project 1', 90, 2.5, 'Math');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('9fd5b9c2-d234-4ffb-919a-6e6094641abb', 'naw-939', 'Introduction to French Literature', 90, 2.5, 'English');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('5e92cdf0-4d41-4fe4-be31-ea4c8c9d8882', 'fve-174', 'Final Project 1', 75, 3, 'History');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('4164580f-6a43-461d-98b0-360eb6901210', 'gvq-661', 'Java 1', 45, 3, 'Computer Science');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('6160b917-a5b8-43d6-a26c-20ab67b784d1', 'ppd-498', 'Final Project 1', 90, 3, 'History');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('c4e8a42f-55a4-4c6f-95d9-4a1ed0c70d0a', 'ket-878', 'Introduction to French Literature', 90, 2, 'History');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('000f1c27-434c-46a3-b9cf-3f347495967c', 'irx-056', 'Java 1', 60, 1.5, 'French');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('6fa9fcef-63b3-46ca-a173-9aa47ca55bf4', 'lij-097', 'Shakespeare''s Greatest Works', 90, 1.5, 'Computer Science');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('d6bacdd2-0a27-492a-aa85-750741327cc2', 'urg-530', 'Web Services', 90, 2.5, 'French');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('44e148d4-372e-4a11-b708-1a348a223578', 'mvn-419', 'Java 1', 60, 3, 'Physics');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('602c0dad-f9fb-42cd-8ab7-2cdcbf38da27', 'pev-643', 'Linear Algebra', 45, 2, 'History');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('69ac4d7d-17e3-451e-b304-5732936c34a4', 'abj-924', 'Shakespeare''s Greatest Works', 45, 2.5, 'Computer Science');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('e27ac3cf-6a8e-4058-865d-e4a0fa4bb0a0', 'qxu-483', 'Shakespeare''s Greatest Works', 90, 1.5, 'Physics');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('9cba542b-bae4-4d45-aefb-acf139cf0fe1', 'mhd-736', 'Linear Algebra', 45, 1.5, 'History');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('1e107af8-55ed-4f94-bfdf-71ef9edbfe86', 'qxa-390', 'Web Services', 90, 2.5, 'Computer Science');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('7aca557c-4975-4904-aea0-68a971f76511', 'moj-306', 'Java 1', 60, 2, 'Computer Science');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('bb10e4c5-ffaa-40c2-bd65-4df3b8d8c7ba', 'lnr-759', 'Shakespeare''s Greatest Works', 75, 1.5, 'English');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('207f9865-841e-4f06-92a2-7725eb2e6398', 'dmj-976', 'Linear Algebra', 90, 3, 'Computer Science');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('fbec4dfd-d7cb-43dd-9000-ee0be7533b88', 'xff-423', 'Shakespeare''s Greatest Works', 90, 2.5, 'History');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('1201d853-3309-4689-814a-bf068fe5b722', 'mfm-267', 'Java 1', 45, 2.5, 'Physics');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('c3cb1a9e-be58-44f2-b0aa-3216bc77c9f1', 'kmx-650', 'Shakespeare''s Greatest Works', 60, 2, 'Physics');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('6cc4d015-8827-4bba-a32e-62a70ba23590', 'pgl-512', 'History of Ancient Babylonia', 75, 2, 'French');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('858922cd-fa3e-42ea-83ad-0b403f53d2e5', 'efh-629', 'Shakespeare''s Greatest Works', 60, 1.5, 'Computer Science');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('ac6262bc-79e1-411b-a679-63a247f7e3c4', 'qea-968', 'Waves', 90, 2.5, 'Physics');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('315eeaf2-2187-4d55-a096-5d78f9c4633f', 'yjw-420', 'Java 1', 90, 3, 'English');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('0d632fb5-b318-409f-93ce-f2caf08f596e', 'ebi-823', 'Final Project 1', 60, 3, 'Computer Science');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('1b6366a9-5109-4604-af92-4e0fb91cf043', 'jht-466', 'Java 1', 75, 1.5, 'History');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('f4ad25db-f13f-45aa-8de6-62e28e3d0720', 'xoj-531', 'History of Ancient Babylonia', 60, 1.5, 'English');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('dff21a68-e6e7-43d3-b6b9-1404192333dc', 'knb-215', 'Final Project 1', 60, 1.5, 'English');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('69868061-5942-4188-8bfa-24c2f3682a15', 'xgo-717', 'Final Project 1', 90, 3, 'French');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('2ad9a5aa-c31f-483c-89e9-74355a3f423c', 'ajv-287', 'Introduction to French Literature', 90, 1.5, 'Computer Science');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('89eb2cba-732e-47ad-a256-d09ec858fc90', 'uph-476', 'Final Project 1', 75, 2, 'Physics');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('ea83a125-dc01-464d-bb08-c1bb4d1e10b2', 'smq-885', 'History of Ancient Babylonia', 60, 2.5, 'Computer Science');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('5e8fd99d-e3dc-492c-8228-bbb9b5fe698a', 'yoq-570', 'Web Services', 45, 2, 'Math');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('084effbe-c05d-4b7f-b76f-b9c790fc611c', 'uwm-944', 'Introduction to French Literature', 75, 1.5, 'French');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('39cdebb5-ebb0-4240-9e01-7ee17288776b', 'chc-637', 'Introduction to French Literature', 60, 2.5, 'Math');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('4c88fe40-0add-470a-a39a-dd09825701a6', 'uls-393', 'Web Services', 60, 2.5, 'History');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('66bda034-4bd1-481d-9991-8a4062aad831', 'mne-214', 'Shakespeare''s Greatest Works', 90, 1.5, 'Math');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('bcfafee2-a8cd-41e1-8edb-920975ad39d8', 'hoz-597', 'Java 1', 90, 3, 'Computer Science');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('ce0142bf-7a80-4ca9-9455-3ca5498554ba', 'dvj-434', 'Shakespeare''s Greatest Works', 75, 2.5, 'French');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('eaba8bf9-a86d-4029-ab65-8c8763c20131', 'ixl-988', 'Waves', 60, 2, 'History');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('5c42977d-e73a-4f49-814e-1e9c22aa9c2f', 'ouc-500', 'History of Ancient Babylonia', 90, 3, 'French');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('4312c2e9-c0fa-4604-8686-49c5e5087a7f', 'hrz-371', 'Final Project 1', 90, 1.5, 'History');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('27b8eefa-a396-43dc-b6fc-f9a7195d971a', 'pnq-410', 'Linear Algebra', 60, 1.5, 'French');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('962edb54-ee54-479b-8dfc-2a82a53032c0', 'vko-395', 'Introduction to French Literature', 60, 2, 'Physics');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('064881f4-808f-4b88-af2b-c3ab7a73e81f', 'sqd-557', 'History of Ancient Babylonia', 90, 2.5, 'French');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('39f8d7ad-b298-4adb-9dea-687fc2477953', 'ads-540', 'Waves', 45, 3, 'French');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('1ff12c53-deb4-4e29-834b-fb5d0977f6fb', 'kug-748', 'Shakespeare''s Greatest Works', 90, 2, 'English');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('74f83e61-a731-41e9-967a-c02a00ad0043', 'hzk-770', 'Waves', 75, 1.5, 'French');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('0c7611a4-b8f3-4337-bac3-32f99da320b3', 'fiu-232', 'Web Services', 75, 2.5, 'French');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('c7e13967-cddf-40c6-9114-6e7ba9bc52b3', 'bvg-552', 'Linear Algebra', 60, 2, 'French');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('91b501d7-616b-4d4d-b8cc-7d6a12514290', 'esj-144', 'Introduction to French Literature', 60, 1.5, 'Physics');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('044db3dd-00d2-482a-8955-b587ae9b3363', 'yti-606', 'Web Services', 45, 2.5, 'History');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('d7f6167c-1248-4cf5-8220-f9e201b5268b', 'rvj-893', 'Linear Algebra', 60, 2.5, 'Computer Science');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('7dfdaf60-2cc2-4337-ad08-376278ec56fa', 'uee-436', 'Final Project 1', 75, 2, 'Computer Science');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('c9161cc3-5ac4-4551-a759-81aaef79b251', 'rso-162', 'Shakespeare''s Greatest Works', 75, 1.5, 'Math');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('8fcd22ca-1a08-43bc-92f6-64cf4bb9bf09', 'sqs-529', 'Java 1', 75, 2, 'Math');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('6913c3ea-1cd1-4b8e-b8aa-4766c731e1ed', 'peo-946', 'Web Services', 90, 1.5, 'French');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('46c99c1e-7727-4b3a-ad8d-9997c9a910b8', 'rlr-414', 'Final Project 1', 75, 2, 'Physics');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('c94c57b0-ce52-4e9e-b70a-af656e1bb9d1', 'edl-408', 'Introduction to French Literature', 75, 2, 'French');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('3e17b9cc-0e91-4d4f-b6f8-7c5952f3b4a1', 'mkr-229', 'Shakespeare''s Greatest Works', 60, 1.5, 'English');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('99cf67d2-b823-4075-8af5-5c701debb092', 'oxi-022', 'Java 1', 75, 2, 'History');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('d41ad8f9-70fe-46b9-b914-0816a7bd5c7c', 'shi-374', 'Web Services', 45, 2.5, 'French');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('25489156-e2e2-4914-8aa3-521487887344', 'tbb-823', 'Web Services', 45, 3, 'Computer Science');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('5635369e-c8c8-4ea3-8607-2a438ad9636f', 'nvd-375', 'Shakespeare''s Greatest Works', 75, 1.5, 'Physics');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('2d20d950-e8bb-471a-9189-378d09bb58d3', 'kmk-806', 'Linear Algebra', 90, 3, 'History');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('dd3a98f7-1681-4ed3-9c8b-dd2ddda57599', 'fnw-346', 'Final Project 1', 75, 1.5, 'Math');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('d09c65eb-41de-4812-80f3-d718dd17c3ff', 'emw-678', 'Java 1', 45, 2, 'History');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('ff08d9a0-06ad-4d19-a5da-8edc03bd04c2', 'nta-984', 'Linear Algebra', 45, 2, 'Math');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('45898de4-af8b-47c4-89ba-ab81b065447f', 'oja-594', 'Linear Algebra', 45, 1.5, 'Math');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('24e9229b-477d-4b23-bb42-034c84fb2550', 'thz-028', 'Web Services', 75, 2.5, 'Physics');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('89984fa0-ae7b-4717-aa1f-42d90c70312d', 'ahg-769', 'Java 1', 45, 2, 'English');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('355d4012-0acd-4c33-ad1b-704716d1d8a2', 'nym-884', 'Web Services', 90, 1.5, 'Math');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('5e751203-adb7-47b1-b6a4-5c25648ae744', 'xas-825', 'Java 1', 60, 2.5, 'Physics');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('95e3c944-d722-4894-a730-7841ff7c7c18', 'tka-512', 'History of Ancient Babylonia', 75, 2, 'Math');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('840df891-2d12-43ab-8297-f48a49542748', 'jkc-094', 'Java 1', 75, 3, 'Physics');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('e5630b24-a79c-4c81-9760-fe0336dd32b4', 'yzv-219', 'Linear Algebra', 45, 2.5, 'French');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('178a6aec-4f9f-4b52-a502-8f6b82e146bd', 'uam-788', 'History of Ancient Babylonia', 90, 2.5, 'History');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('8c4bb277-82c4-43ba-9a3b-e4cf352b88e6', 'drv-811', 'Web Services', 60, 2.5, 'Computer Science');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('b0dfe9f5-1d95-4ab2-91d3-4bfbff49a006', 'btk-479', 'History of Ancient Babylonia', 45, 3, 'Computer Science');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('a97304ea-b94f-44fa-b778-d4de886182e8', 'nrm-537', 'Shakespeare''s Greatest Works', 75, 2.5, 'English');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('09271835-5e16-4ea3-8a83-592e3c2ec7eb', 'rys-495', 'Java 1', 90, 1.5, 'Physics');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('2515f91f-40ea-48cd-92d5-4788ce9592e4', 'vdi-943', 'Web Services', 75, 3, 'French');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('e317f990-4cfe-48f4-b4c0-2f49b1ba0fac', 'pjs-758', 'Web Services', 75, 2.5, 'Math');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('0f4b506d-846c-43e4-8b4f-385e1276dfea', 'oso-253', 'Shakespeare''s Greatest Works', 60, 1.5, 'French');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('290e8015-a6e8-491a-a10b-3c21fdf16650', 'nnx-034', 'Waves', 90, 3, 'Math');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('f2274c98-67d2-41f2-9ff7-f7d1d2e72fcc', 'tcl-782', 'Linear Algebra', 75, 1.5, 'Math');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('d693c8d3-119b-41a0-8f61-0d7e39fb5001', 'hza-562', 'History of Ancient Babylonia', 60, 3, 'Physics');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('dcee1e01-65d0-4dd6-ac99-5b96b58de452', 'ewi-193', 'Web Services', 90, 3, 'Math');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('cf3fc173-b443-4684-8546-4f73d7c4b6d5', 'ibb-879', 'Shakespeare''s Greatest Works', 45, 2, 'English');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('cdcef31b-5e35-44dc-9d05-3dd4e04df7ec', 'dpo-722', 'Final Project 1', 75, 3, 'History');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('ae3ae8fe-d225-4059-b82a-421cf1af53d2', 'fxq-445', 'Linear Algebra', 60, 2.5, 'Computer Science');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('2e43ec35-8256-426e-9159-b0e6a37ed4c5', 'mak-534', 'Shakespeare''s Greatest Works', 45, 2.5, 'Math');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('99c1851b-6142-4eaa-a7f0-77299f68e83c', 'whc-775', 'Waves', 45, 2.5, 'Physics');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('333905e2-0953-4c23-8513-c05de2c5f0b5', 'quj-692', 'Java 1', 75, 3, 'French');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('d4c062b8-9a7d-44b6-b1ae-76f9df26e577', 'cwn-932', 'Introduction to French Literature', 45, 2.5, 'Physics');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('49667305-272b-4413-a216-1c3c7af07557', 'ihb-684', 'Shakespeare''s Greatest Works', 90, 1.5, 'History');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('44e3d701-1517-4a9d-ab0f-fdc2297e1479', 'xry-596', 'Introduction to French Literature', 90, 3, 'French');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('2b8a3363-dbfd-4154-84fb-6b8990c93bb9', 'hcr-368', 'Web Services', 45, 2.5, 'Physics');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('0afa0ffb-9ac4-4333-9f59-f1f79db1a4d1', 'gui-523', 'History of Ancient Babylonia', 90, 2.5, 'Physics');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('fcd29ff2-f8d6-4300-a111-6480710d1f3b', 'kje-328', 'Shakespeare''s Greatest Works', 90, 2, 'Math');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('669d1399-a634-4c9b-ad2d-cea3b5ccfe26', 'uby-361', 'History of Ancient Babylonia', 45, 2.5, 'Computer Science');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('dc135605-6542-477c-a59a-d598a989ab11', 'iwy-209', 'Introduction to French Literature', 90, 2, 'Math');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('2a567019-6f8a-47cd-9575-f368fb757cfe', 'erx-830', 'Linear Algebra', 45, 2, 'English');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('32c83803-c2d1-4d2f-9818-504ccd39d89b', 'pjy-114', 'Final Project 1', 90, 3, 'Computer Science');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('191e96a4-55e5-4aca-bf24-21e3c0a5406d', 'xyv-667', 'History of Ancient Babylonia', 45, 1.5, 'Physics');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('53875c5d-961a-4a73-bc0a-dbe2a6612d8b', 'dcv-618', 'Waves', 90, 1.5, 'English');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('27e77efc-8498-4eee-a32a-955ba7faad39', 'kyy-463', 'History of Ancient Babylonia', 60, 3, 'Math');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('57a7bc54-b6d1-4b48-83c6-baa6589c2858', 'jxb-657', 'Java 1', 75, 1.5, 'Math');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('dbeaa0a7-40b0-4d71-baff-70f48c67a7be', 'hnd-449', 'Web Services', 90, 2.5, 'French');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('4573a05b-265d-45a1-87e4-de0dee6f703a', 'igy-282', 'Shakespeare''s Greatest Works', 45, 3, 'English');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('d78bf6c7-0d0d-4b7d-9ad4-760eaf1df69c', 'niz-034', 'Web Services', 60, 1.5, 'English');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('4c6291a5-9944-48c1-b530-5a7647e5960c', 'xrz-687', 'Linear Algebra', 60, 1.5, 'French');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('ecf9cdc1-ce73-4bfe-9278-aaa06cd2fd5c', 'kod-803', 'Introduction to French Literature', 75, 2.5, 'Math');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('46f06001-7948-4517-acfd-f15c123133e8', 'hwk-708', 'Java 1', 45, 1.5, 'History');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('245f2997-10bd-481d-a25b-ec864ac4144d', 'qec-348', 'Web Services', 60, 1.5, 'Physics');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('627c5b3c-ff75-4eac-a4aa-c1e2f31d9a03', 'rqg-649', 'Waves', 75, 2, 'History');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('c0d66a43-91e8-4373-a97a-ddb8b4a4a138', 'bzi-780', 'Linear Algebra', 60, 2.5, 'English');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('e294c88e-d72e-401a-86a3-017d48cb7bb2', 'cjg-732', 'Waves', 60, 2, 'Physics');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('3e32691d-1a5e-4e5f-a10c-c43d1a4aeba0', 'tau-666', 'Waves', 75, 2, 'English');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('6394a978-028f-47b0-bb53-8c71531e262d', 'mhd-313', 'Introduction to French Literature', 45, 1.5, 'Physics');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('0eba4c57-c874-4dab-ae0d-92f6e54be421', 'mni-520', 'Final Project 1', 75, 2.5, 'Physics');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('a11ed7c7-8bdf-47bc-8e3f-322d9d97e36f', 'ibh-514', 'Web Services', 45, 2, 'English');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('fe6f6d11-4d2f-4df2-85e1-b0f7d06b4316', 'fmd-342', 'Introduction to French Literature', 75, 2.5, 'Math');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('54b6c1a1-2b57-4314-99ed-8cae06999ed0', 'lng-566', 'Final Project 1', 45, 2.5, 'French');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('5c53d083-403d-400b-a508-d5bc3da3afdd', 'srn-674', 'Linear Algebra', 60, 1.5, 'Math');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('6059a56a-9690-4206-9737-7c24c45a4fa4', 'vtv-105', 'Linear Algebra', 60, 3, 'English');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('3ce3a039-6901-411f-8321-3a6fca80b299', 'qtr-105', 'Linear Algebra', 60, 1.5, 'French');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('1bdbebee-c8e6-458e-97b3-169e8dc8bfcd', 'ock-041', 'Waves', 45, 2.5, 'Computer Science');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('2814436e-05ae-4763-9d34-efd0eba0b3a9', 'fqt-628', 'Linear Algebra', 45, 3, 'History');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('26f5862b-ebd3-4859-83dd-ce06f4872e03', 'yql-146', 'Web Services', 45, 2.5, 'Computer Science');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('374d04d3-e7b8-4e51-ab7e-064f2f8c7868', 'ywu-259', 'History of Ancient Babylonia', 60, 2, 'Physics');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('0c49cb17-32d7-4b80-95d6-54c1cbfc10e8', 'wfb-071', 'Waves', 60, 2, 'Computer Science');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('5ef52376-55d9-4aa5-83ca-8988a6d07631', 'lbw-987', 'Java 1', 45, 2.5, 'French');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('25ff7f0f-ab04-4c7e-bd1a-a3293824ed8c', 'ovn-313', 'Web Services', 90, 1.5, 'Math');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('f2f2af92-4a93-4656-9107-f82cac462c90', 'uow-369', 'Shakespeare''s Greatest Works', 90, 3, 'French');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('9ae5289a-5fc1-4946-bc45-e58e15aa53a6', 'zod-073', 'Web Services', 75, 1.5, 'English');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('130f1c37-9b6c-4128-8929-4ed01e03e732', 'zvo-066', 'History of Ancient Babylonia', 90, 2.5, 'Physics');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('bb35010f-f876-4e64-8cb4-28059f538c4a', 'hbw-784', 'Java 1', 90, 2, 'History');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('3308d61f-4351-4ce4-9fad-7f11781f6c13', 'ofa-186', 'Linear Algebra', 75, 2, 'English');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('6af634b9-3e92-409f-9633-d742affe00b2', 'myx-300', 'Web Services', 90, 2.5, 'English');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('9a36aa7a-9fb4-4c20-913a-a916f25e1bff', 'hjq-038', 'Introduction to French Literature', 45, 3, 'English');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('0118d56f-3292-428d-a93e-64ee3da23f7c', 'eqo-726', 'Linear Algebra', 60, 1.5, 'History');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('82780769-aade-4f0e-b064-d23eeb38a35e', 'mlf-945', 'Introduction to French Literature', 90, 1.5, 'History');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('9b78ae93-fcd8-4ec7-b0ea-a4aca7bc2012', 'kkc-279', 'Web Services', 60, 2.5, 'French');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('4714c39a-6460-4c82-b7a7-8d194196617f', 'qea-233', 'Shakespeare''s Greatest Works', 90, 2, 'Physics');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('2cb53852-69e0-4903-99f3-591b79016dd8', 'msf-724', 'Java 1', 90, 1.5, 'French');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('8e6b0151-b888-4dda-a5a2-f205f7fbb827', 'hnd-747', 'Final Project 1', 90, 3, 'History');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('2c147592-cf57-4247-a90f-244ae4d0be15', 'rvo-691', 'Linear Algebra', 90, 2, 'Physics');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('871c1c13-8204-411f-add0-238637920a4c', 'mff-576', 'Shakespeare''s Greatest Works', 75, 2, 'English');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('00c511b2-641f-48de-af34-b806173a13dc', 'rgv-334', 'Linear Algebra', 60, 3, 'History');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('eef14f20-bb33-4703-873a-7039ca1b4c29', 'onq-485', 'Final Project 1', 75, 3, 'Computer Science');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('ca8fbc48-dd16-4ead-8c75-46dfe5be09c6', 'msj-483', 'Shakespeare''s Greatest Works', 75, 2, 'French');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('34683286-59bd-4876-a550-883372ca542b', 'tcs-375', 'Linear Algebra', 90, 1.5, 'Computer Science');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('f55b734a-ab41-4ba0-94ad-223de095c0c5', 'kzl-025', 'Java 1', 60, 2.5, 'Physics');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('31bffec3-6389-4815-a785-d67a006a837f', 'iiu-171', 'Java 1', 90, 2, 'Physics');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('a9c6b330-9947-454d-bd74-bc3e82e55fcb', 'rne-942', 'Waves', 60, 3, 'French');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('ce19de46-a3d1-4401-b471-90139d6f562c', 'tpw-191', 'Linear Algebra', 60, 2.5, 'Math');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('4b17095c-5f72-4029-bf48-69b4adcfcb23', 'nia-963', 'Linear Algebra', 60, 2.5, 'Computer Science');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('2ce4e238-1363-40e9-b6d7-c147babb35d0', 'ecp-254', 'Web Services', 60, 3, 'Math');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('ab3f9ac8-fed8-433a-8da2-8bdfccb2add8', 'rwm-712', 'Web Services', 75, 1.5, 'English');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('19d5115f-d3db-4ce6-a27e-2eff5f923975', 'paz-336', 'Final Project 1', 90, 3, 'History');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('c820cfa3-d07f-4c6a-bc83-8ecf504825ef', 'dmd-095', 'Waves', 75, 2, 'Computer Science');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('ff77e923-6851-48b0-a1ce-e9b014f7393d', 'pjj-355', 'Waves', 75, 3, 'Math');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('9de69c11-a76b-49da-b1a9-054bfe375da2', 'zab-271', 'History of Ancient Babylonia', 45, 3, 'Computer Science');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('b2d7745b-44cf-435b-bddb-629e07af9273', 'ygt-223', 'Waves', 90, 3, 'History');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('222321c4-719f-4ba3-b231-bbe2ec0f74ed', 'atv-824', 'Linear Algebra', 75, 2, 'Computer Science');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('cd7f4800-1929-4260-8224-dd9c08f34b25', 'kiw-103', 'Introduction to French Literature', 90, 2.5, 'Physics');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('808f7806-b875-4407-bd50-12bf4b3652e1', 'ejp-809', 'History of Ancient Babylonia', 45, 2, 'History');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('165fefb5-5398-4d8b-960d-77616a432b07', 'fzt-171', 'Linear Algebra', 60, 2, 'Physics');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('82c16a8e-a05a-4ce6-b63d-aae2125a1ea2', 'wah-427', 'Introduction to French Literature', 90, 2, 'Computer Science');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('765e742b-317b-45cc-a8a4-e10b959dfee8', 'mqs-311', 'History of Ancient Babylonia', 75, 2.5, 'French');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('e3060cc1-e68c-493f-a098-008e28572527', 'fda-027', 'Web Services', 90, 1.5, 'Math');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('5b3d140b-bfb7-4d36-ad98-4ed05c2104b0', 'lqk-679', 'Web Services', 60, 3, 'English');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('d8e9b24c-044e-4fc1-8523-281339009cec', 'kqy-733', 'History of Ancient Babylonia', 45, 2, 'Computer Science');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('63fdde70-9042-42e2-9c3b-e7dd38227223', 'whl-031', 'Shakespeare''s Greatest Works', 75, 2.5, 'English');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('750963a2-4b62-4a93-ace7-16f81d37f2e6', 'xxg-543', 'Waves', 45, 2, 'Computer Science');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('bcd4d9bb-4a57-4405-a503-06b67ae372c9', 'pbq-203', 'Web Services', 90, 2, 'English');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('3ad23479-e663-42a8-8a43-287857eaeaca', 'xpb-805', 'Java 1', 75, 2.5, 'Math');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('ff177623-c6d3-406e-8525-f7d4e0069873', 'etw-313', 'Final Project 1', 45, 3, 'French');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('8dfa9600-679d-42e2-b9ff-e6db31965927', 'gby-314', 'Introduction to French Literature', 75, 3, 'Physics');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('066622ce-0306-43d8-85b7-3df8cb8e0552', 'qwl-209', 'Web Services', 45, 1.5, 'Math');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('79ae50ab-967c-4fb6-a4ed-eab6a4ad6244', 'off-605', 'History of Ancient Babylonia', 60, 2, 'Physics');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('8afe31e9-ea67-4fe5-a375-309f10d16b3a', 'wep-802', 'Linear Algebra', 90, 3, 'Math');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('78e9b9df-079e-446f-b5e7-eaa694ab3dce', 'exq-977', 'Final Project 1', 45, 1.5, 'Computer Science');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('f586e9e0-bfb6-4918-871f-75e484f07d89', 'ijq-936', 'Shakespeare''s Greatest Works', 60, 3, 'Math');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('8f0ea9b1-cc75-4ddb-9077-b60d4dd5f2a3', 'cvg-747', 'Introduction to French Literature', 75, 2.5, 'Computer Science');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('06c51b1c-c6e9-4f2d-91e8-f8f4a2f1a327', 'qwj-788', 'Web Services', 60, 3, 'Physics');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('e6188e12-6f59-4acd-a0df-1195d502908a', 'cen-136', 'Final Project 1', 90, 2, 'Math');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('87d83edc-e392-4588-94ea-d31d4db9c197', 'pwz-461', 'Web Services', 45, 3, 'Math');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('aadedfbd-4984-4562-beb1-96940ac81a05', 'tbg-358', 'Web Services', 75, 2, 'English');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('b2652862-a009-479c-82b0-e7ffb18d8c71', 'znq-206', 'History of Ancient Babylonia', 45, 1.5, 'Computer Science');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('160e4c9f-c37b-4118-a213-50189a02d55c', 'yij-350', 'Waves', 45, 2, 'History');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('67a4847f-eaf7-4034-b31e-4c87cfd92715', 'gxg-108', 'History of Ancient Babylonia', 75, 2.5, 'Math');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('3c593975-9035-4f7b-b092-e7c97e2902b7', 'mts-634', 'Final Project 1', 90, 2, 'Physics');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('955097f2-39d3-466c-8c93-61d6db938f68', 'cac-795', 'Linear Algebra', 60, 1.5, 'Computer Science');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('22c3152c-00cd-49e0-939a-f0064b5bbb28', 'zjb-550', 'Web Services', 45, 2.5, 'Computer Science');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('05bd6515-96dc-46c6-969e-e0a75719b4e6', 'vtx-586', 'History of Ancient Babylonia', 90, 1.5, 'Physics');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('ae940dbf-f6fb-48a4-98e0-de476ee604cd', 'kvz-734', 'Linear Algebra', 60, 2.5, 'History');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('ef8901ed-0dd0-4971-a075-1ce91b000a29', 'vdc-592', 'Final Project 1', 75, 1.5, 'Computer Science');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('5e22100e-112c-4f53-bd2f-4eefee63d73d', 'yik-614', 'Waves', 60, 1.5, 'English');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('a05de261-6c40-456e-9695-aff1919c0fe7', 'aka-873', 'History of Ancient Babylonia', 90, 2.5, 'Math');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('32553d86-b5f4-4e74-ac12-2d895aee249c', 'qfc-766', 'Web Services', 45, 1.5, 'Computer Science');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('5e9e0d7f-ae6c-4b03-9a29-9bbc3c89d570', 'oqb-093', 'Java 1', 45, 2.5, 'Math');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('f03987e0-8d58-4357-9300-ee41d7618431', 'voh-146', 'Introduction to French Literature', 75, 1.5, 'English');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('dcbe601b-c317-49b4-b180-3f04a453b96b', 'mpx-544', 'Shakespeare''s Greatest Works', 45, 3, 'Physics');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('eedf85cd-e17c-4268-afe1-03c392bd1518', 'cuo-846', 'History of Ancient Babylonia', 60, 1.5, 'Computer Science');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('869c8874-afd1-4463-bb08-ea5814132f73', 'mou-244', 'Web Services', 75, 1.5, 'Math');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('80b2a797-1232-4eee-b3e5-d5a59ad2ec7e', 'ubl-632', 'Introduction to French Literature', 60, 2, 'English');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('841240f7-fe9f-42a8-a711-690e8af8753c', 'qss-541', 'History of Ancient Babylonia', 45, 3, 'English');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('344b647c-4714-4985-b391-d82ad692a6d6', 'xcz-646', 'Java 1', 90, 3, 'English');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('dbfcc12f-894e-4169-b735-08faf92fdfc8', 'scn-403', 'Final Project 1', 60, 2.5, 'Physics');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('c42640c1-6337-43ef-a933-2448b5ea8955', 'tvv-516', 'Shakespeare''s Greatest Works', 45, 2.5, 'Physics');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('217d89f3-3edb-48fe-aea0-d62ed44b7e48', 'qfv-936', 'Waves', 45, 2, 'French');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('3bafb497-d411-49a6-a42c-d169641f5895', 'adq-251', 'Linear Algebra', 45, 3, 'English');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('9afe669c-da99-452f-980d-d49158f9bcec', 'jbr-678', 'Java 1', 45, 3, 'Computer Science');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('be203282-f16f-4709-a1a8-e66e5bb9218d', 'kxl-479', 'Introduction to French Literature', 60, 1.5, 'Computer Science');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('afec47e6-9165-412a-ac2f-f0323de97116', 'ban-999', 'Introduction to French Literature', 60, 2.5, 'History');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('f7c758dc-827a-44d5-8da5-f3460a7384c1', 'hxm-172', 'Final Project 1', 75, 2.5, 'History');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('39929f7f-a949-4ea5-975b-b0698f4c0627', 'nsi-338', 'Introduction to French Literature', 60, 2.5, 'Computer Science');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('31184ee1-2568-4bed-8a83-f699f20b9fe0', 'ajp-959', 'Web Services', 45, 1.5, 'Computer Science');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('a7a9ccec-c1cd-45f0-b586-42540a878325', 'fca-633', 'Linear Algebra', 90, 2.5, 'Physics');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('cd468331-faae-459f-b66d-bc5d03be373d', 'uit-355', 'History of Ancient Babylonia', 90, 3, 'English');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('1d4a4d0e-572e-4192-8e2d-3917cf4c35b1', 'zel-990', 'Web Services', 60, 3, 'Computer Science');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('ae71dc6b-4218-4c9b-b1e0-ffc92b1fd6ce', 'sru-648', 'Linear Algebra', 45, 2.5, 'Math');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('20bfbb80-a287-490e-88f5-b858d9462e79', 'ygq-109', 'Shakespeare''s Greatest Works', 90, 3, 'History');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('962856e6-c19c-4170-beaa-d746b068a39c', 'ukl-114', 'Linear Algebra', 90, 2.5, 'History');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('324e7f69-9ba2-42c6-9f83-0ea54f467725', 'hez-464', 'Linear Algebra', 75, 2.5, 'French');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('dd696928-1eba-448b-a789-89ca5c37ecfa', 'ssz-162', 'Introduction to French Literature', 90, 1.5, 'Computer Science');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('9def7496-d90d-4414-acbd-602b9f0e43c6', 'ynn-185', 'Linear Algebra', 90, 1.5, 'Computer Science');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('c4a08202-d977-4703-9040-39ed7baf16c2', 'cru-685', 'Linear Algebra', 75, 3, 'History');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('eb5cf254-f01a-4151-8799-30093a909119', 'nii-015', 'History of Ancient Babylonia', 60, 3, 'Physics');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('b2d52337-2139-4228-80a8-a8fda1c74d63', 'nru-455', 'Introduction to French Literature', 90, 2.5, 'French');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('7fd6128a-f997-4081-b4d3-915996663cf5', 'csz-318', 'Java 1', 90, 2.5, 'Physics');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('cb111b49-6215-4031-91e7-70c9927620f6', 'vow-611', 'Final Project 1', 60, 1.5, 'History');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('2482a0cf-cbeb-4557-b56c-abfbab231e69', 'fwa-224', 'Shakespeare''s Greatest Works', 45, 3, 'Computer Science');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('1a24b20b-04d1-455a-ac1b-2e14ac4fa715', 'lrs-802', 'Java 1', 75, 1.5, 'Physics');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('3a319580-31c3-41a5-935d-b8a7615e8167', 'szd-197', 'Shakespeare''s Greatest Works', 60, 3, 'History');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('59aaeeca-e26a-45ee-8c8a-b22cfdbeba3f', 'scl-276', 'Shakespeare''s Greatest Works', 45, 2, 'History');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('da170613-9c82-4bb1-912b-6262eab9cb26', 'nao-090', 'Linear Algebra', 75, 2, 'Math');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('71a81277-39b6-49d2-bdfc-97a58434b8bd', 'euy-596', 'Waves', 45, 1.5, 'French');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('752669eb-a78f-406d-8956-e59c935f1b73', 'ytb-640', 'Linear Algebra', 90, 2, 'French');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('06c5017f-f4bf-465f-9899-2d2793069134', 'zpt-090', 'Linear Algebra', 75, 3, 'Math');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('04fba75a-edcf-4092-9354-a8d572937575', 'fvf-865', 'Final Project 1', 60, 2.5, 'Computer Science');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('079e1c04-be82-4371-9d2e-2bd8b993d371', 'khs-517', 'Java 1', 75, 2.5, 'French');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('59995a06-8988-489a-80c9-4e204bf9bc2c', 'jwg-748', 'Final Project 1', 45, 2.5, 'Physics');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('3f1b7bea-7eec-4fd4-9236-62c87845254b', 'wwh-509', 'Java 1', 90, 2.5, 'English');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('19eb9c9d-dc19-40af-a8f9-15e09cbd17d5', 'dna-052', 'Waves', 45, 1.5, 'English');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('4327be15-4ba0-4173-88ec-a0e8d7486a74', 'rdg-438', 'Web Services', 75, 1.5, 'French');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('052484eb-92f1-473b-9b9c-3eda0f0858f0', 'ysq-283', 'History of Ancient Babylonia', 60, 2, 'Physics');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('6c96fec3-ca86-483c-9f99-e22bea297968', 'csk-444', 'Linear Algebra', 60, 2.5, 'Physics');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('b330889f-def4-49d3-8c81-25b3376fa0e6', 'wyg-004', 'Linear Algebra', 45, 2, 'History');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('5a883cf9-5bf8-42f0-93fc-05a680d714e0', 'yvw-875', 'Introduction to French Literature', 90, 2.5, 'Computer Science');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('3da58a98-f7f6-4d04-8685-d7055a8d92ef', 'htz-201', 'Waves', 75, 2.5, 'History');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('42750953-055c-4288-8f7b-cb9dadb3c835', 'gnk-108', 'Introduction to French Literature', 45, 1.5, 'English');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('cc89d6ae-7ffb-4c22-a07d-4adc39601629', 'yon-635', 'Shakespeare''s Greatest Works', 90, 2.5, 'English');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('64b5fb5e-345f-4cbf-92f2-5afbd549eae6', 'sqo-553', 'Shakespeare''s Greatest Works', 90, 2, 'French');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('92333bee-5327-41bd-b0c1-03a9d2127d05', 'uoo-700', 'Linear Algebra', 75, 1.5, 'Math');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('9a89a72c-ebd3-4b07-ab9f-b9604a0befa5', 'nim-085', 'Shakespeare''s Greatest Works', 75, 1.5, 'History');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('d69f2f3c-bb16-46f9-93af-94c664e017f1', 'gam-429', 'Web Services', 60, 2, 'French');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('d2306420-23f3-4cc8-8883-c2cf3d529fdf', 'wbp-687', 'Introduction to French Literature', 45, 2, 'French');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('3bf333c3-90b5-4db1-85f4-18b8cd10cf11', 'scj-161', 'Web Services', 60, 3, 'English');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('3afc7dd5-dae7-41b6-bfe6-c7d802b0b4b3', 'wzx-699', 'Waves', 90, 1.5, 'Physics');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('02609ecd-edf8-49fc-8e4c-aa3c343830b9', 'lkl-509', 'Waves', 45, 3, 'Math');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('80b18d05-87e0-4802-908a-6a832b8be3e2', 'smz-022', 'Introduction to French Literature', 60, 3, 'French');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('29deb649-12a0-4878-963a-2e6b47a36e47', 'tsb-030', 'Shakespeare''s Greatest Works', 45, 1.5, 'Math');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('4e18f619-a576-42ee-ba64-187dc897ff25', 'ueh-516', 'Shakespeare''s Greatest Works', 45, 2, 'English');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('fd60e874-91b4-405b-9ba3-eaae71cae2b9', 'rzv-279', 'Introduction to French Literature', 75, 2, 'Physics');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('0178b0c7-00ba-4a00-b801-4d7e02856eda', 'jvk-650', 'Introduction to French Literature', 90, 1.5, 'Math');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('7c457133-11c6-4b29-90b7-543e8c44ab69', 'npk-234', 'Waves', 45, 1.5, 'French');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('87e8bcbd-ed59-4bbd-99a5-1ba9c43e70f6', 'pwo-685', 'Shakespeare''s Greatest Works', 45, 1.5, 'Computer Science');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('36e54194-6d60-4f79-bae0-d11ae4c89f83', 'vof-755', 'History of Ancient Babylonia', 45, 2, 'History');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('2886f05f-4e61-416f-9078-82895489b14c', 'frq-722', 'Introduction to French Literature', 45, 2.5, 'Math');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('0055d191-8b8b-49b6-bd55-8ba51128044e', 'mbv-494', 'Waves', 60, 3, 'English');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('f6688fcc-7615-4dfc-9e46-6afa94525263', 'knl-479', 'Web Services', 75, 2.5, 'Computer Science');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('77e13604-7159-4ee6-8f82-07cd53cb8602', 'fzs-788', 'Linear Algebra', 90, 1.5, 'History');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('31fc91b7-50c7-465b-8414-ac1c788763ad', 'ikq-965', 'Final Project 1', 45, 2, 'Computer Science');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('e587887f-3ea8-4c59-ba65-5e91fdb78556', 'byl-717', 'Shakespeare''s Greatest Works', 90, 3, 'Computer Science');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('f7627ccc-0c61-4320-b21e-85744a4a7d6d', 'okq-948', 'History of Ancient Babylonia', 60, 2, 'Computer Science');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('f4496548-758f-44a3-b72d-48d40d4af334', 'htt-592', 'Java 1', 45, 2, 'Math');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('61ab3c5e-4ce6-4809-9fa1-300d0fef98d5', 'bvm-303', 'Linear Algebra', 60, 2.5, 'Math');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('f7c56176-5c7e-475e-89ab-76a68d9b495c', 'qhx-207', 'Web Services', 75, 1.5, 'History');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('3d21f6ad-15a8-4da0-890e-de6ee8c972ae', 'dgk-667', 'Web Services', 45, 2, 'English');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('307db5d2-aeb5-429d-a2b0-6468da0cc6f2', 'bjj-132', 'Final Project 1', 90, 2.5, 'Computer Science');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('10d9a2eb-2d80-42f3-9a36-b3dd5b53524f', 'qla-512', 'History of Ancient Babylonia', 45, 2.5, 'Math');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('378f7bc8-86e4-4a1a-bb0e-d89d3afde231', 'mvg-433', 'History of Ancient Babylonia', 60, 1.5, 'Physics');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('23c9c9a7-332f-46ff-a29e-a991e671d703', 'ezh-473', 'Web Services', 75, 3, 'English');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('04ec6264-c838-4cd1-8c1a-4b28d0777c23', 'itg-051', 'Web Services', 60, 2, 'History');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('b1abcec5-19f2-4907-8537-6513b501f349', 'iaq-094', 'Web Services', 75, 2, 'Math');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('3bc819ba-9b6b-4b06-94ea-4625ff64aa82', 'nsg-457', 'Shakespeare''s Greatest Works', 60, 1.5, 'French');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('6d67203d-2585-48ee-a545-2e00dcc37784', 'mvg-057', 'Final Project 1', 75, 2.5, 'French');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('16f1fa2f-ee06-45dd-ba8a-0b3390c4c512', 'alx-748', 'Introduction to French Literature', 75, 3, 'History');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('c19f5fb4-a257-4a5e-aa77-76cc1ae39495', 'sjh-207', 'Introduction to French Literature', 60, 1.5, 'French');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('699cd9f8-d081-4094-be4f-16b978e3d245', 'yol-752', 'Introduction to French Literature', 60, 1.5, 'French');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('a673acfe-23b7-4d68-b702-96af16d44a57', 'gqb-148', 'Final Project 1', 60, 3, 'English');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('4c34971c-b8cf-4580-a0b2-2f2b7bc7be27', 'qfo-293', 'Java 1', 90, 1.5, 'Physics');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('78d74a69-d87f-4044-9b3a-94a1fbe8f416', 'cli-746', 'Introduction to French Literature', 45, 1.5, 'Math');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('ee0d9088-f5c5-44e2-a36f-b9d566201414', 'plt-738', 'Waves', 90, 3, 'English');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('4878a69b-ee06-406e-8ee9-1cdf51a9ac83', 'izb-080', 'Linear Algebra', 60, 3, 'Physics');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('ce490d87-2231-4a80-9d34-12d9dc084146', 'ldu-928', 'Shakespeare''s Greatest Works', 90, 1.5, 'History');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('6439e61c-4719-4a56-b534-575e17b94e3c', 'laf-069', 'Linear Algebra', 60, 3, 'French');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('74ab7826-d6b1-4fa9-8929-658b4cbb4e24', 'lqr-048', 'Java 1', 45, 2.5, 'French');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('7d3f13ce-dbae-4e81-8e5b-2232b4c6bb40', 'mvu-270', 'Linear Algebra', 90, 2.5, 'Physics');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('91ec3666-3877-4150-9508-578a80fef223', 'jbs-372', 'Shakespeare''s Greatest Works', 60, 2.5, 'Math');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('7d5b6cb0-40c8-42e7-a63d-4f4124fd7cae', 'ixd-710', 'Linear Algebra', 60, 2.5, 'English');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('01ef9f54-cbe2-4071-b3ce-d3116b07d338', 'ace-680', 'Linear Algebra', 75, 1.5, 'History');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('7f4c9ce8-57ec-42e6-9a10-b356b8ffd408', 'vyn-961', 'Waves', 45, 1.5, 'Physics');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('a93e7050-ae04-489c-b87b-dca4fa893194', 'cug-203', 'Final Project 1', 45, 3, 'Math');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('c149c101-eeee-4e42-a7c0-2b0f922c726a', 'wbi-471', 'Final Project 1', 45, 3, 'Computer Science');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('6782ad6e-41f6-4135-9adf-23385245aa31', 'pac-559', 'Waves', 75, 1.5, 'Computer Science');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('afbca3c7-ecb1-4746-b6dd-d70cd233d572', 'bjk-125', 'Linear Algebra', 60, 3, 'Physics');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('54a11246-e923-4401-a92c-7354f6c1a842', 'xxu-983', 'History of Ancient Babylonia', 45, 2, 'English');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('2af4db41-0d2f-4afb-8b40-eec79d7f4dcc', 'yze-018', 'Shakespeare''s Greatest Works', 90, 2, 'History');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('44ae5ee4-83f0-4cde-8f4c-062afab75a98', 'clw-009', 'Final Project 1', 60, 1.5, 'Math');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('48af08bd-1d69-42ed-a2e1-840ae3ecabaf', 'dsb-882', 'Web Services', 75, 1.5, 'Math');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('c5c0ffe2-e092-4d98-84e2-9924d82c94c7', 'ahi-435', 'Waves', 90, 2.5, 'History');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('60952ce2-7462-49ff-99fd-df39a9e1542c', 'usw-962', 'Linear Algebra', 45, 2, 'English');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('8e2e02e1-358f-49a6-9be7-2fec5c5d72c7', 'cqi-276', 'Introduction to French Literature', 60, 2.5, 'Math');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('4d29824e-ddef-44da-99a7-36347a1073bd', 'jiy-344', 'Shakespeare''s Greatest Works', 75, 3, 'History');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('89fde076-8d7b-4b9e-80fd-fb50c806d181', 'ohv-261', 'Introduction to French Literature', 75, 1.5, 'English');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('c2996f5d-7385-4c5c-aaac-d8e618ea3d68', 'jxu-370', 'Java 1', 45, 3, 'Math');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('8a9338bf-5194-4e21-8986-4b441ebaf592', 'rvx-352', 'Final Project 1', 75, 3, 'Computer Science');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('2dd96993-f2e7-45a8-8c2b-79c37f3a9811', 'yud-347', 'Waves', 60, 3, 'Computer Science');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('e304caa6-499c-4697-9f7c-1f0740ff2998', 'bzc-379', 'Waves', 45, 3, 'English');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('74f9a27e-d27d-402e-a801-19186a57e11e', 'yng-456', 'History of Ancient Babylonia', 90, 2.5, 'English');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('7f842ec6-2c03-478c-9064-69af996c22b0', 'uct-839', 'Final Project 1', 75, 2, 'History');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('67e6546c-510a-4529-9b5b-d4b46ed5a927', 'otz-201', 'Shakespeare''s Greatest Works', 90, 3, 'English');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('573d9ade-1beb-4afc-b6bc-252da851d0e8', 'uft-086', 'Web Services', 60, 3, 'Physics');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('2c69e2d5-4cb3-4175-b0ac-ebf43ec862a7', 'cwe-311', 'Waves', 60, 1.5, 'French');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('7067487b-5d10-4bcb-bd77-ae58b4272806', 'xym-581', 'Waves', 60, 2.5, 'French');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('5324b687-e8fe-442c-9996-3c829df987d6', 'eii-334', 'Web Services', 60, 2, 'Physics');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('69f59693-921f-4e98-9927-764f1e098b79', 'rgz-564', 'Final Project 1', 90, 3, 'Physics');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('dfa89143-257c-4717-bf42-f7cf1ff6f611', 'ioe-556', 'Final Project 1', 75, 2.5, 'Physics');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('e2ef454c-7959-45fd-a523-2660a2654ac2', 'owi-868', 'Linear Algebra', 60, 2, 'Computer Science');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('1b542ce8-5aa5-4965-90c8-3c2871a02ebc', 'uda-946', 'Java 1', 75, 2.5, 'Physics');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('2afd8193-b5e4-4499-a6c5-be3668a0ec26', 'fuy-238', 'Web Services', 45, 2, 'Physics');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('7e7f5e81-6ecc-4492-9137-0f7940fd3907', 'iub-872', 'Shakespeare''s Greatest Works', 60, 2.5, 'Physics');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('c9350954-3787-4406-9db4-8dede9aab1f7', 'gwm-951', 'Introduction to French Literature', 60, 3, 'History');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('2a5283d8-2ddf-42be-ac87-1998b8561510', 'aaw-934', 'Java 1', 45, 1.5, 'French');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('03ba448d-a2a5-4fde-87cb-32213004ce08', 'yak-546', 'Introduction to French Literature', 90, 2.5, 'Math');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('23d8e82e-23ce-4f3a-99ce-fcfa0f7015ee', 'yys-411', 'Linear Algebra', 90, 2.5, 'Computer Science');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('b56a49a4-5cf4-4171-bbfa-b92c10a59c63', 'yys-024', 'Linear Algebra', 45, 1.5, 'History');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('2a6e3ca2-6aed-4e67-a40b-95657e53cc41', 'yyz-315', 'Java 1', 60, 2.5, 'Computer Science');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('eebdb192-78f4-429c-a29d-2d9c00162a9c', 'ofb-224', 'Java 1', 60, 1.5, 'Computer Science');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('b71d9eef-0231-4b47-ad7b-2f68b46f41ad', 'zng-050', 'Final Project 1', 75, 3, 'Physics');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('1ebbad9a-bf4b-4ab2-8326-1a1dacbea95c', 'vcb-715', 'Final Project 1', 75, 1.5, 'Computer Science');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('f7b950f1-ff23-4f06-84ad-a74724a3a961', 'btq-087', 'Linear Algebra', 75, 1.5, 'History');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('b7d4942c-f660-4125-977c-cf75da7fbaba', 'gta-805', 'Java 1', 75, 1.5, 'Computer Science');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('3307cfb7-c483-47e9-8c6c-fa0d3b0e9345', 'mcx-897', 'History of Ancient Babylonia', 45, 2.5, 'History');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('08e332ec-4630-41f3-b75d-f13dcb789948', 'hmb-551', 'Java 1', 75, 1.5, 'Math');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('cbf78394-fa39-48ad-a05c-15d86f8f6ead', 'xum-781', 'Web Services', 90, 1.5, 'Math');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('a119c4d0-39f8-4f82-94a2-9a73f8dab221', 'avf-511', 'Shakespeare''s Greatest Works', 75, 3, 'Computer Science');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('9aaee3a3-b3b5-4818-b666-25b2af2ce699', 'ylg-860', 'Final Project 1', 75, 2, 'Math');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('7342dc2f-a060-4722-934b-013d214b30bb', 'efz-042', 'Waves', 45, 2, 'History');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('d9c989c0-56c0-4cee-9eac-0c7fb1b2acac', 'bmd-197', 'Final Project 1', 45, 1.5, 'Math');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('c42cd710-98f3-4d2a-8ad1-d21d0b430c84', 'irr-786', 'Shakespeare''s Greatest Works', 90, 3, 'French');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('e7201d04-472c-49a0-8313-dbd9e59a5b56', 'utf-345', 'Web Services', 90, 3, 'History');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('00bc3b5f-4524-4818-8908-ae3f9c796c45', 'enc-412', 'Linear Algebra', 75, 2, 'English');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('5e6cb94d-710b-4943-ab81-b5bd78cb33d2', 'scm-758', 'Shakespeare''s Greatest Works', 75, 1.5, 'Computer Science');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('aefddc54-04d9-4d2c-8cbd-aaffa8fdf681', 'dxq-211', 'Web Services', 45, 3, 'Physics');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('e843dda9-aa0d-4903-9e11-81b5f6e8d1a9', 'zek-067', 'Web Services', 75, 2.5, 'Math');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('57d2f76b-92c0-4a97-9878-f912dc2f25ca', 'psp-942', 'Linear Algebra', 60, 2, 'History');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('6c59b295-3297-461d-bfad-6f5b00ffaeae', 'hbd-725', 'Web Services', 75, 1.5, 'Math');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('ea421e15-7535-4052-b1f3-890c38f53cb7', 'fid-056', 'Shakespeare''s Greatest Works', 60, 1.5, 'French');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('d82709a9-227f-4548-8e83-03a0b7a61a30', 'zwq-370', 'Introduction to French Literature', 75, 1.5, 'French');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('6666bdbd-70a6-48e4-a969-554841e7ae93', 'eqi-410', 'Shakespeare''s Greatest Works', 45, 2.5, 'French');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('a72118ac-8823-49bd-8c23-a2abe2795b6c', 'uwq-464', 'Shakespeare''s Greatest Works', 90, 3, 'Computer Science');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('214ded2b-9570-4407-a73a-f172e540fe29', 'syf-655', 'Java 1', 60, 2, 'History');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('bcc8e6df-41b8-46b7-83f6-52835d65392a', 'lgl-785', 'Linear Algebra', 75, 3, 'Math');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('9b2fa1cb-80b3-42b6-a2c9-ff247ff384b7', 'pcq-243', 'Shakespeare''s Greatest Works', 45, 2, 'Math');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('6989941e-ebc5-4820-87ae-f3a3b50c73af', 'igu-592', 'Final Project 1', 90, 2.5, 'French');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('06b97522-c62c-4823-ad36-465dbdd4aedf', 'rhh-567', 'Shakespeare''s Greatest Works', 45, 2.5, 'French');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('efe89d42-7b63-4fc3-91d6-3e50a32b7899', 'uqf-422', 'History of Ancient Babylonia', 90, 2.5, 'History');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('65c84f1f-6b97-4441-b907-84af8106ca1c', 'uqk-648', 'Final Project 1', 60, 2.5, 'Computer Science');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('1b5e9783-e222-4f10-a2be-5e50e3c9ebdf', 'vxa-088', 'Linear Algebra', 90, 1.5, 'French');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('7fa58bb6-bc00-4b25-a1dc-60fc00643737', 'uoq-296', 'Web Services', 60, 1.5, 'English');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('68a3c425-8d53-4636-9964-4490290c3289', 'wom-223', 'Web Services', 60, 2, 'History');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('32fa9d86-9291-4eb7-a910-d63cbd1424bc', 'nzw-286', 'Java 1', 90, 2.5, 'Math');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('24c27300-76bd-46f5-ab4c-da3123d577d1', 'qua-598', 'Introduction to French Literature', 60, 2.5, 'Computer Science');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('72d3e5a9-b544-41f5-ba99-3512bac95b24', 'ida-465', 'Introduction to French Literature', 90, 1.5, 'Physics');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('11a35c93-f74b-435f-a6a1-97ab685f1b16', 'pex-063', 'History of Ancient Babylonia', 45, 3, 'Physics');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('9783259d-0960-4bd4-a5e8-df0ba00e6dfb', 'hql-232', 'Waves', 45, 1.5, 'Computer Science');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('bb1db0ed-82d4-4e93-a13c-7924fb2ced9b', 'ccn-645', 'Introduction to French Literature', 75, 3, 'History');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('bce65c4a-e5cb-436d-a259-39eb1ac1255b', 'thy-104', 'Final Project 1', 45, 2.5, 'Computer Science');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('4244e110-5379-40c3-a6c4-33a24f80e0f5', 'wcx-601', 'History of Ancient Babylonia', 45, 2, 'French');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('49112209-6240-4226-a2b3-c449a1b94cfe', 'uex-097', 'Waves', 60, 3, 'French');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('613c8eaa-9f0a-4039-9b4e-3842060c15ff', 'gad-800', 'Linear Algebra', 60, 1.5, 'French');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('8341dd15-9a5e-49e3-ac3a-dcbc48f65740', 'bzb-703', 'Waves', 45, 3, 'French');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('57732be4-5e91-485c-9211-2416f3097b2f', 'irm-505', 'Java 1', 90, 2.5, 'Math');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('59f5504f-4090-4244-85a2-44185dafe3a6', 'xwd-685', 'Introduction to French Literature', 45, 3, 'History');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('14d6c38c-f7e9-4bde-80ca-b144c6c90482', 'cru-368', 'Java 1', 45, 3, 'French');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('71cc1b77-884c-40ad-9056-788f92dfeb24', 'ttv-479', 'Linear Algebra', 90, 1.5, 'Math');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('2ac2cc29-e5ae-49ad-aa21-a5b5d4088d0d', 'jaj-915', 'Shakespeare''s Greatest Works', 45, 2, 'French');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('b655769f-e21c-4993-adb3-ffe5797422c6', 'jms-215', 'Introduction to French Literature', 60, 1.5, 'History');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('60788b28-35b1-454d-aa8c-1b85c50cd28a', 'nzn-646', 'Waves', 75, 3, 'History');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('da25df7e-c8df-443c-8753-00a9f5281f58', 'jce-461', 'Linear Algebra', 90, 3, 'Math');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('12888b09-1ed3-4559-8b80-0df259b758f4', 'rza-517', 'Final Project 1', 75, 3, 'French');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('23615692-2214-4696-857a-b687c5938990', 'dxt-057', 'Linear Algebra', 75, 1.5, 'French');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('f80ecf3c-93a6-4ecb-9aff-d10e236598cf', 'ngj-556', 'Final Project 1', 90, 2.5, 'English');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('cdfa8ef5-1c13-4b62-b016-06e65e5ccde4', 'adg-945', 'Final Project 1', 75, 1.5, 'English');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('24c37e63-b34e-4d1a-b490-6b8fb516583a', 'wmh-442', 'Introduction to French Literature', 45, 2.5, 'Computer Science');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('a6c47d8a-456b-4acc-8d7f-8d297c23abaf', 'zlg-682', 'Introduction to French Literature', 60, 1.5, 'French');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('d660df8a-ed92-4ef1-9eb0-3f695174956d', 'fjy-185', 'History of Ancient Babylonia', 45, 3, 'French');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('3957d240-1432-4105-bd4c-e84fa492923b', 'rdn-491', 'Shakespeare''s Greatest Works', 90, 1.5, 'Computer Science');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('4ced3454-1f08-4273-926c-3fdf12efedc0', 'zfq-310', 'History of Ancient Babylonia', 45, 2, 'Physics');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('94b87df0-2f98-4b2c-90d0-5b70385c9907', 'tfc-308', 'Linear Algebra', 90, 2.5, 'French');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('63a3639c-1ee1-4186-a407-401eb231554b', 'fhq-496', 'Introduction to French Literature', 45, 2.5, 'Math');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('32584889-c202-45da-a056-a0032abbe717', 'gaq-435', 'Final Project 1', 75, 1.5, 'Computer Science');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('a30d7b7a-37a7-42cf-9c8e-4bb4a9b1007f', 'fzm-783', 'Final Project 1', 90, 2.5, 'English');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('35b6bff3-e9d8-47fa-a749-8a6071ad4327', 'muq-718', 'Introduction to French Literature', 45, 2.5, 'French');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('bd5a5e79-24b1-4cf5-a580-0dfb7bef0a4d', 'unu-948', 'Introduction to French Literature', 90, 1.5, 'English');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('c6c30bd9-288c-4ec7-8e9f-b8651d21137a', 'qso-855', 'Shakespeare''s Greatest Works', 45, 1.5, 'Computer Science');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('b590c306-79a2-4188-a80c-ff2c2c9ebd5a', 'jhh-930', 'Web Services', 45, 2.5, 'Computer Science');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('d217be2d-23b0-4802-a6c2-6ebb9fccb5d3', 'fqe-789', 'Introduction to French Literature', 90, 1.5, 'Math');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('9d5eda0e-a33f-4a94-abed-c4c29dc38c29', 'dxj-235', 'Waves', 60, 2, 'English');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('187dbb36-2081-49dc-bf73-9b635ca82b7c', 'ebb-123', 'History of Ancient Babylonia', 60, 1.5, 'Math');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('9f9831c1-92cd-42af-8168-67d18516a2f3', 'ikc-968', 'Web Services', 60, 3, 'French');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('4b2469cd-f597-4fcc-91c6-01580ee68638', 'ugx-481', 'Web Services', 75, 3, 'English');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('e6894582-0e78-40fe-8ef8-a4a3e8bc8b05', 'hxc-167', 'Final Project 1', 75, 3, 'Math');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('0862f451-6c6d-4c2c-8950-071d97c7dc4f', 'csv-879', 'Final Project 1', 75, 3, 'French');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('ecd44ee6-18c0-4229-a450-ff85635c0399', 'you-240', 'History of Ancient Babylonia', 45, 2, 'Physics');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('cdc37ee4-cea9-4ae2-a5fd-868ff34e4c31', 'tks-561', 'History of Ancient Babylonia', 90, 3, 'History');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('651bf3b7-c296-46bc-a0e3-1a9c10ea50a9', 'zol-125', 'Final Project 1', 90, 1.5, 'Math');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('ad40d8b0-f228-439f-9df6-8723e9640eb9', 'eqa-825', 'Shakespeare''s Greatest Works', 75, 2.5, 'English');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('e10b3dfd-8fff-44c6-ad27-7845e4460857', 'zvo-521', 'Final Project 1', 75, 2, 'Math');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('ba85f0a5-ec13-4b92-98e7-a16a3389a600', 'gmo-886', 'Linear Algebra', 90, 1.5, 'French');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('c2a28d2a-1373-4808-909f-aacb7afd77eb', 'wgb-058', 'Final Project 1', 75, 2.5, 'Math');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('8198e1e1-f022-4c67-9793-c3f456e4474f', 'ifh-863', 'Waves', 60, 1.5, 'English');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('22941e64-5966-417a-a752-09292ced640c', 'pwd-161', 'Introduction to French Literature', 90, 3, 'Math');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('186a1288-5d92-421d-8e52-5e7fa638930c', 'ocj-256', 'Java 1', 45, 2, 'History');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('f5b7feb4-4d7e-4f68-be58-07c353c858be', 'urv-912', 'Final Project 1', 90, 2.5, 'English');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('62adfa91-abc8-45dc-a1e1-1e88be4295db', 'sel-904', 'Linear Algebra', 90, 2.5, 'French');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('62226f00-d98d-4d0b-ad37-b8a0efc0218f', 'qqu-279', 'Shakespeare''s Greatest Works', 75, 2, 'History');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('074f22b6-4666-4b11-83ca-58bf1235eec8', 'elt-201', 'Web Services', 75, 2, 'Physics');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('a5239485-0300-4af2-a96a-7ac454133c4b', 'znw-699', 'Linear Algebra', 75, 2, 'English');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('18e18297-2998-4262-a535-f1339bdd27a5', 'duu-737', 'Shakespeare''s Greatest Works', 90, 3, 'English');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('c0a0e040-d0bd-494a-9c91-fda5786c800e', 'akc-888', 'Shakespeare''s Greatest Works', 75, 2, 'History');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('c39959e5-6b30-44df-9bf6-2bc3e26ea928', 'uzx-787', 'Final Project 1', 45, 1.5, 'English');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('51f2ca55-b880-46d4-8aaa-8499680cea71', 'ilw-475', 'Introduction to French Literature', 60, 2, 'History');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('90038b2f-52ae-44b5-ae4a-082fd40bb134', 'bwt-449', 'Final Project 1', 75, 3, 'French');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('759926b4-f9fa-4a9c-85bf-3ba1eef7c02a', 'lzd-197', 'Final Project 1', 60, 3, 'History');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('2d2940eb-81dc-408a-97fb-0e6d2af99fa6', 'nyb-657', 'Introduction to French Literature', 75, 2.5, 'Computer Science');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('fa8218bf-f463-42ba-b15f-a9268734b29b', 'ksw-572', 'Introduction to French Literature', 90, 3, 'Math');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('2a633e8b-e189-4a8b-b97d-763a72925075', 'tvg-100', 'Linear Algebra', 75, 3, 'Math');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('94226adf-811e-4268-b78e-5abaa7bfb034', 'mez-543', 'Linear Algebra', 60, 1.5, 'English');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('65e8c314-4ed8-45aa-ab77-05f06f6cad56', 'wml-883', 'Final Project 1', 45, 3, 'English');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('9025c59d-36ef-463f-a2c6-d1fcbc9c8c6d', 'tou-494', 'Linear Algebra', 75, 3, 'Physics');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('adbe978d-7bed-4a2d-9a61-7674b0dd124a', 'vtq-587', 'Web Services', 45, 2, 'Computer Science');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('eca3b0f3-dd16-4e86-a308-5938eb9642a8', 'mvr-661', 'Waves', 60, 3, 'Physics');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('97120b0a-ea49-495a-9a61-536031a5a824', 'nex-760', 'Introduction to French Literature', 75, 3, 'Physics');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('771b7d6a-2952-461d-aebb-8461c19b4e55', 'lwq-588', 'Waves', 45, 1.5, 'Computer Science');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('444f1d91-017a-440b-b01a-52b6816af84f', 'cns-862', 'Web Services', 75, 3, 'Physics');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('71673b06-d297-4a91-b9b8-b038277475b3', 'tem-680', 'History of Ancient Babylonia', 90, 2.5, 'History');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('b9b52039-615a-4085-a47f-90480cbb7e1d', 'xid-663', 'Linear Algebra', 90, 1.5, 'English');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('43a9a5f5-0cf8-481a-b975-60192f69b3e0', 'fhk-668', 'Web Services', 90, 2, 'Computer Science');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('76ddadc1-7d9e-4eb9-b3ef-cb515136bd4a', 'oue-075', 'Waves', 75, 1.5, 'Computer Science');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('7032c553-22ec-43a1-964d-c4bff3c7a9df', 'cmk-204', 'History of Ancient Babylonia', 60, 1.5, 'History');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('c6de911a-1a46-4a2c-82c9-ba616db21d3a', 'tlb-616', 'Final Project 1', 45, 3, 'History');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('f0411625-468c-497c-acf9-2a71256a0b92', 'vag-631', 'Final Project 1', 90, 2, 'Physics');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('0b9617b6-05f8-478e-ab9a-0f74881bfd45', 'qqr-780', 'History of Ancient Babylonia', 75, 3, 'Physics');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('d212ec3c-735e-4617-be3d-211791b0edbc', 'efh-710', 'Web Services', 90, 3, 'History');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('103e9317-f2eb-4fa8-bb4a-d8b99ffbc51f', 'ywy-485', 'Linear Algebra', 60, 2, 'French');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('bc4244c3-0978-4293-8a25-fbfdf1fe7dc1', 'ydk-186', 'Linear Algebra', 60, 1.5, 'French');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('e5a1a645-c9a2-43ec-884b-754b7e95daa6', 'lyo-370', 'Waves', 90, 1.5, 'French');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('721eef8a-42a4-48de-bbd6-234b67e8c779', 'gdm-809', 'Linear Algebra', 45, 1.5, 'French');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('397f243c-f658-42f6-b470-614f73e0c19d', 'rou-811', 'Web Services', 45, 3, 'Computer Science');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('7136e017-614d-4424-a15b-5adc93962c5c', 'snu-418', 'Web Services', 60, 2, 'French');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('0d6503f4-ed20-4612-b75b-5384d0875815', 'cyx-715', 'Waves', 90, 2.5, 'French');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('b6034517-01d7-4948-9ee9-88917e69f1fc', 'gxv-687', 'Web Services', 75, 2.5, 'Physics');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('7c1b76b9-7552-4bb1-9765-beedd1c7dfde', 'yct-129', 'Waves', 45, 1.5, 'Physics');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('d9a77c3d-1516-4efd-87f8-ff7f14e40df2', 'eja-019', 'Java 1', 45, 2, 'History');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('16ce691e-d0b8-4e0b-b959-e1d42f160a88', 'eec-588', 'Web Services', 45, 3, 'Math');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('a41155ac-1982-4f86-8890-50e3baf0a0a9', 'hsi-999', 'Introduction to French Literature', 45, 2, 'Math');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('1301e39f-6f92-43b5-8be1-9ee083d4c350', 'uuk-746', 'Final Project 1', 75, 2.5, 'English');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('89e424c4-50e3-4f5f-b0c8-6ec33af1acc2', 'dqk-832', 'Java 1', 60, 2, 'Math');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('afac4f75-d39e-4f37-bd87-9f3e33abed7e', 'ies-955', 'History of Ancient Babylonia', 90, 3, 'Computer Science');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('d466f59c-df2c-49ca-89f2-e7f78fa9112a', 'mei-176', 'Linear Algebra', 75, 2.5, 'Computer Science');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('2c801655-00db-4fa9-982e-4289e20f3a02', 'iry-239', 'History of Ancient Babylonia', 45, 2.5, 'Math');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('bffcee9f-0923-48a9-8cf6-bf63545d54b3', 'vuq-952', 'Waves', 60, 2, 'Physics');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('574fb716-c7ec-4b07-a34a-f6a5cc3a24cb', 'vre-755', 'Introduction to French Literature', 45, 1.5, 'Math');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('598b5f94-f69f-43a4-b0bc-a15bae3e3507', 'drv-949', 'Linear Algebra', 75, 2.5, 'History');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('40825e78-0d29-4b57-8b69-3a70d13a9b91', 'gnu-314', 'Final Project 1', 60, 1.5, 'English');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('b192a8dc-da31-4261-a9b4-87c86fb1e2eb', 'weq-630', 'History of Ancient Babylonia', 90, 2.5, 'History');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('94483284-cec0-4369-862e-e3857df9d569', 'kad-051', 'Web Services', 75, 3, 'English');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('51bc0d11-8225-45d5-9e6a-90884eeb127a', 'eqp-533', 'History of Ancient Babylonia', 75, 2.5, 'Physics');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('952df1b6-b822-44c0-b834-0aaba38d3359', 'zaa-568', 'Waves', 75, 2.5, 'Math');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('52ea2391-364c-4589-97a8-afd4999ad6bf', 'fpr-520', 'Web Services', 60, 2, 'Computer Science');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('bae964f4-2bc5-49fb-a9fe-2a81dcfc0cbf', 'ijy-729', 'Introduction to French Literature', 60, 1.5, 'Physics');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('f36d6505-81b6-4d23-845e-91e7dc55f927', 'ohb-228', 'Shakespeare''s Greatest Works', 45, 1.5, 'Physics');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('8d9ec776-e82e-48d0-925a-00883e59301b', 'eug-844', 'Introduction to French Literature', 90, 1.5, 'French');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('402a6f9e-7fa7-425b-b655-d5b8d7d6a90b', 'eyl-537', 'Shakespeare''s Greatest Works', 45, 2.5, 'Math');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('99e4e851-0220-4a9e-b0bc-dde02e5b42be', 'itx-563', 'Final Project 1', 90, 1.5, 'English');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('e29a05b5-eb18-4225-a26a-bdcf584a26d5', 'whn-603', 'Linear Algebra', 60, 2.5, 'Math');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('31fd9590-9cf4-47b4-ae6f-f80daeb3c06d', 'hcc-249', 'Final Project 1', 60, 2, 'History');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('a37d95c9-f214-4a4d-a8d5-66c18127a2b0', 'zuo-522', 'Java 1', 45, 2.5, 'English');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('2bf3ae0f-03ec-478e-b70d-634ce3b90270', 'jxs-661', 'Waves', 75, 2.5, 'French');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('d0b0b811-12f5-49fb-a71a-a204a6e0c61d', 'xme-193', 'Waves', 75, 1.5, 'French');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('0ca9b2cd-4f02-4481-b1d1-e2bbbadb4d6f', 'xbw-601', 'Waves', 75, 3, 'French');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('af3b5731-5d2f-477a-b07c-69f7e300d5f6', 'uul-790', 'Linear Algebra', 90, 2, 'History');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('eddfaf43-67e6-49c2-92bc-72228fd143ee', 'hgl-282', 'Final Project 1', 75, 2.5, 'History');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('136e88f6-a795-45fd-b0a8-b98a56ba4ddc', 'xvt-064', 'Final Project 1', 90, 1.5, 'Math');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('cfd8b2b5-05b4-4f6f-a8c0-1055fff1cf13', 'hhp-618', 'Linear Algebra', 75, 2.5, 'History');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('a14369e2-efb5-4c3b-9289-0cd7f92423f6', 'xpz-837', 'Waves', 45, 3, 'Physics');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('f06451c0-7a73-4712-be18-72ae552e4e23', 'ujj-341', 'Web Services', 45, 2.5, 'Physics');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('1264de5b-4b03-45ad-950f-6ed6c42d661b', 'rhv-759', 'Shakespeare''s Greatest Works', 45, 2, 'History');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('c8b1f949-8b99-464e-b3b2-7e0d7d0cf9d3', 'vnh-839', 'Web Services', 90, 3, 'English');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('b190b9f8-a2e1-4453-8690-257b97492b39', 'gfv-036', 'Java 1', 45, 3, 'Physics');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('fa2e8de9-3608-4060-9885-9f8fa09c6acf', 'ubp-208', 'Waves', 90, 1.5, 'French');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('d7495344-232e-4c6c-a51c-288e1ba817af', 'yml-283', 'Introduction to French Literature', 45, 2.5, 'English');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('5af80221-a200-420d-b7b8-0df121b9b96e', 'yro-350', 'Final Project 1', 75, 3, 'French');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('a2b8c287-35bf-4235-bdae-30b4a3da7603', 'jin-655', 'Java 1', 60, 3, 'English');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('2735b358-3426-42d2-b562-c23e64c07235', 'hyi-137', 'Introduction to French Literature', 75, 3, 'French');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('a6836652-aa86-430d-afa7-7eaf29561fe0', 'aij-168', 'Waves', 75, 1.5, 'Computer Science');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('e9db5f58-8f07-4936-8572-9b50a674993b', 'mmv-982', 'Web Services', 60, 2.5, 'Math');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('7aeac581-ba1e-4e62-8d7f-02201b3e025f', 'pcn-537', 'History of Ancient Babylonia', 90, 2.5, 'History');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('a8991028-44bc-4f22-834c-5b938fea2f55', 'acb-477', 'Introduction to French Literature', 90, 2.5, 'English');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('bd488628-35d6-44b1-a767-970abfe911cb', 'cvc-338', 'Shakespeare''s Greatest Works', 45, 2, 'English');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('e6eaa3bf-d2bc-437c-8cfc-dcfed252314e', 'aoa-330', 'Java 1', 90, 3, 'Computer Science');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('50f75589-2c75-4bba-96f5-35360fa78d2c', 'pbt-792', 'Java 1', 75, 2.5, 'Physics');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('400e958e-76af-45b1-aa28-00b36dcba498', 'gve-750', 'Shakespeare''s Greatest Works', 75, 2, 'Math');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('cccfdb57-0e5e-47ef-ac77-cb6fc97780fc', 'ebo-593', 'Final Project 1', 75, 2.5, 'French');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('4f4bed3c-d051-4577-8d2a-cd2090df60ba', 'pfk-209', 'History of Ancient Babylonia', 60, 1.5, 'History');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('b3d44012-a103-4630-921b-d5c11507dba4', 'bse-642', 'History of Ancient Babylonia', 75, 2, 'English');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('79e1aaf3-0f52-417f-90f6-d7d41516019e', 'iaa-619', 'History of Ancient Babylonia', 60, 2.5, 'Computer Science');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('c6ae8a34-80e5-4d47-a497-3ae227741471', 'uek-225', 'Final Project 1', 75, 1.5, 'Computer Science');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('1d2b5db7-a861-43a1-960f-f43410883f98', 'evh-117', 'Waves', 60, 2.5, 'English');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('ae35f134-3374-419c-8b76-1ac05c70d2dd', 'tnc-624', 'Web Services', 45, 2.5, 'Math');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('92f2604a-3de1-401a-988d-2de455626205', 'xry-596', 'Java 1', 60, 2, 'Physics');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('15cf62c5-0e8b-4caa-869a-3df00aa92dc5', 'pry-242', 'Web Services', 90, 2, 'English');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('eb74f330-c315-4da2-b406-5ae8e15b792c', 'lzn-322', 'Web Services', 75, 2.5, 'Computer Science');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('83b29831-ccaf-4022-b669-ead78e834c09', 'xub-385', 'History of Ancient Babylonia', 90, 2, 'Physics');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('6a6225e2-2d3d-4bd3-a259-e25075d5c9c5', 'rdu-912', 'Java 1', 45, 2, 'History');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('d79caad9-1b17-4e49-9a39-79911a0c1706', 'hns-907', 'Final Project 1', 75, 2, 'Math');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('5ac39ab3-4d2a-4085-933d-aa5a3e87ac75', 'mij-169', 'Introduction to French Literature', 60, 3, 'French');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('59ea2042-b45c-4ced-a8c5-a57e61a74f66', 'utq-769', 'Linear Algebra', 60, 2, 'Computer Science');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('11d9e0fa-0a56-4a9b-901c-c3852c44072a', 'oos-113', 'Waves', 90, 2, 'Computer Science');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('f06cee0e-ad28-4d22-9782-36a12bf1a256', 'wiu-252', 'History of Ancient Babylonia', 75, 1.5, 'English');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('9775dfbf-3130-4224-b32e-528ca596974e', 'pjl-507', 'Java 1', 90, 3, 'History');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('d277cdf9-a63c-43f4-9e87-76858d4af6ef', 'efp-788', 'Linear Algebra', 75, 3, 'Computer Science');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('e8cabfee-c594-4322-9ca3-1f433224e01d', 'kee-450', 'Final Project 1', 90, 2.5, 'English');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('8c67c2dc-98ea-428c-854a-7dda00a4e501', 'tsk-402', 'Waves', 60, 3, 'History');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('e3f5f73a-fe78-42c9-9ece-590c71fc480d', 'isj-708', 'History of Ancient Babylonia', 45, 1.5, 'English');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('e409e2e2-8ff8-4516-bc2f-42b33f7455e8', 'iks-208', 'Introduction to French Literature', 60, 1.5, 'Computer Science');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('f4a3781f-c710-4b8d-960e-93cf4c2ac846', 'znm-355', 'Web Services', 90, 2, 'Computer Science');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('3ba66767-6cd5-4c81-9e52-27852b02d469', 'zgl-187', 'Introduction to French Literature', 90, 2.5, 'English');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('5ebf7c34-c638-4152-bad1-73031215739b', 'lab-366', 'Waves', 45, 1.5, 'Physics');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('335d0318-a740-49cc-b172-800c76cbbbc1', 'gby-775', 'Java 1', 60, 2.5, 'Math');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('fb41ab26-8d4a-4715-9465-366865056f00', 'icv-606', 'Web Services', 60, 1.5, 'History');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('3f35ca7b-1ef5-4e21-a6c9-a51fd1d8ad87', 'pfr-166', 'Introduction to French Literature', 45, 2, 'French');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('c7f33e0b-4359-4262-817e-4bcc98d2670e', 'jue-664', 'Waves', 45, 2.5, 'Physics');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('5fbedf78-29a9-4fbf-a1ed-ac67c4190bd7', 'rta-245', 'Java 1', 90, 2.5, 'Physics');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('bc77167f-8082-4405-a182-7bbf7fb343a2', 'gkf-024', 'Final Project 1', 75, 3, 'Physics');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('c1c671e0-ba8f-415f-ac96-2aabe6681f7e', 'gfd-310', 'Final Project 1', 45, 2.5, 'Physics');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('ffb5918b-457e-477f-a853-66ba8eb5a3be', 'upd-812', 'Introduction to French Literature', 75, 3, 'Computer Science');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('bb09a910-b085-4177-9876-a1cb0f33140c', 'mhk-485', 'Shakespeare''s Greatest Works', 90, 2.5, 'French');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('467c0725-1d81-4c1f-acf1-6f997d2f614c', 'gaz-574', 'Web Services', 60, 2, 'French');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('eebc5d4a-af24-45a2-8504-acf3506d9568', 'hts-848', 'Web Services', 60, 3, 'History');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('367387bf-34f9-42e2-8ed5-b9b3baff5e27', 'dmh-330', 'Java 1', 60, 3, 'History');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('84945c27-9c16-42f9-9747-8e12e55c1985', 'dfg-056', 'Final Project 1', 90, 1.5, 'French');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('2e85923b-72dd-405e-aecd-91290a3ec8cc', 'ekd-725', 'Introduction to French Literature', 75, 2, 'Physics');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('8fe27c49-5584-4ae3-83e0-74971b64c013', 'zsu-088', 'History of Ancient Babylonia', 60, 1.5, 'French');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('d38a28bc-8ef1-487f-a654-ff303d5dd9d1', 'ilg-439', 'History of Ancient Babylonia', 75, 1.5, 'Computer Science');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('6c6f32ef-3c88-4005-8d75-acc4316b84ad', 'dgl-607', 'Web Services', 90, 2.5, 'English');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('00fa39a1-efd3-4fdb-8377-5f823477b420', 'wlx-852', 'Web Services', 90, 3, 'Math');
-insert into courses (course_id, course_number, course_name, num_hours, num_credits, department) values ('48a945c6-fb17-43fe-a5d4-b82d400193e5', 'rtu-298', 'Web Services', 75, 3, 'Math');
@@ -1,4 +1,13 @@
-DROP TABLE IF EXISTS courses;
+-- created once and kept across restarts, the catalog is seeded by CatalogSeeder and never wiped
+-- IF NOT EXISTS leaves an existing table as it is, so a change to this file bumps the version below and
+-- CourseSchemaVerifier.SCHEMA_VERSION, and an older database then fails the startup check instead of the first request
+CREATE TABLE IF NOT EXISTS schema_version (
+    id INTEGER,
+    version INTEGER NOT NULL,
+    PRIMARY KEY (id)
+);
+
+INSERT INTO schema_version (id, version) SELECT 1, 1 WHERE NOT EXISTS (SELECT 1 FROM schema_version WHERE id = 1);
 
 CREATE TABLE IF NOT EXISTS courses (
     id SERIAL,
@@ -8,5 +17,30 @@ CREATE TABLE IF NOT EXISTS courses (
     num_hours SMALLINT,
     num_credits DECIMAL(19,2),
     department VARCHAR(50),
+    -- bumped on every update, the course ETag
+    version INTEGER NOT NULL DEFAULT 0,
+    PRIMARY KEY (id)
+);
+
+-- every enrollment write looks a course up by course_id
+CREATE UNIQUE INDEX IF NOT EXISTS ix_courses_course_id ON courses (course_id);
+
+-- outbox, a row per course update or delete written in the same transaction, consumers poll it by id
+CREATE TABLE IF NOT EXISTS course_events (
+    id SERIAL,
+    course_id VARCHAR(36),
+    event_type VARCHAR(10),
+    course_number VARCHAR(7),
+    course_name VARCHAR(100),
+    occurred_at TIMESTAMP,
+    PRIMARY KEY (id)
+);
+
+-- one row, the checksum of the seed file the catalog was last seeded from, so a restart skips seeding
+CREATE TABLE IF NOT EXISTS catalog_seed (
+    id INTEGER,
+    checksum VARCHAR(64),
+    course_count INTEGER,
+    seeded_at TIMESTAMP,
     PRIMARY KEY (id)
-);
\ No newline at end of file
+);
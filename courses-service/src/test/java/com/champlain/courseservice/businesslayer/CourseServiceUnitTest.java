@@ -1,7 +1,11 @@
 package com.champlain.courseservice.businesslayer;
 
 import com.champlain.courseservice.dataaccesslayer.Course;
+import com.champlain.courseservice.dataaccesslayer.CourseEvent;
+import com.champlain.courseservice.dataaccesslayer.CourseEventRepository;
+import com.champlain.courseservice.dataaccesslayer.CourseEventType;
 import com.champlain.courseservice.dataaccesslayer.CourseRepository;
+import com.champlain.courseservice.presentationlayer.CoursePageResponseModel;
 import com.champlain.courseservice.presentationlayer.CourseRequestModel;
 import com.champlain.courseservice.presentationlayer.CourseResponseModel;
 import org.junit.jupiter.api.Test;
@@ -18,6 +22,8 @@ import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -28,6 +34,10 @@ class CourseServiceUnitTest {
 
     @Mock
     private CourseRepository courseRepository;
+
+    @Mock
+    private CourseEventRepository courseEventRepository;
+
     Course course1 = Course.builder()
             .id(1)
             .courseId(UUID.randomUUID().toString())
@@ -77,6 +87,43 @@ class CourseServiceUnitTest {
 
     }
 
+    @Test
+    public void whenGetCoursesPage_withMoreRows_thenReturnNextCursor() {
+        // arrange
+        when(courseRepository.findPageAfter(0, 3))
+                .thenReturn(Flux.just(course1, course2, course3));
+
+        // act
+        Mono<CoursePageResponseModel> result = courseService.getCoursesPage(0, 2);
+
+        // assert
+        StepVerifier
+                .create(result)
+                .expectNextMatches(page -> {
+                    assertEquals(2, page.getContent().size());
+                    assertEquals(course2.getCourseId(), page.getContent().get(1).getCourseId());
+                    assertEquals(course2.getId(), page.getNextCursor());
+                    return true;
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    public void whenGetCoursesPage_onLastPage_thenReturnNoCursor() {
+        // arrange
+        when(courseRepository.findPageAfter(1, 3))
+                .thenReturn(Flux.just(course2, course3));
+
+        // act
+        Mono<CoursePageResponseModel> result = courseService.getCoursesPage(1, 2);
+
+        // assert
+        StepVerifier
+                .create(result)
+                .expectNextMatches(page -> page.getContent().size() == 2 && page.getNextCursor() == null)
+                .verifyComplete();
+    }
+
     @Test
     public void whenGetCourseByCourseId_thenReturnCourseResponseModel() {
         // arrange
@@ -131,6 +178,9 @@ class CourseServiceUnitTest {
         when(courseRepository.save(any(Course.class)))
                 .thenReturn(Mono.just(course1));
 
+        when(courseEventRepository.save(any(CourseEvent.class)))
+                .thenAnswer(invocation -> Mono.just(invocation.getArgument(0)));
+
         CourseRequestModel newCourseRequestModel = new CourseRequestModel("cat-420", "Web Service", 45, 3.0, "computer science");
 
         // act
@@ -150,6 +200,34 @@ class CourseServiceUnitTest {
                     return true;
                 })
                 .verifyComplete();
+
+        verify(courseEventRepository).save(argThat(event -> event.getEventType() == CourseEventType.UPDATED
+                && event.getCourseName().equals(course1.getCourseName())));
+    }
+
+    @Test
+    public void whenUpdateCourse_thenSaveWithTheVersionThatWasRead() {
+        // arrange, the repository bumps the version and rejects the save if another update got there first
+        course1.setVersion(4);
+        when(courseRepository.findCourseByCourseId(course1.getCourseId()))
+                .thenReturn(Mono.just(course1));
+
+        when(courseRepository.save(any(Course.class)))
+                .thenAnswer(invocation -> Mono.just(invocation.getArgument(0)));
+
+        when(courseEventRepository.save(any(CourseEvent.class)))
+                .thenAnswer(invocation -> Mono.just(invocation.getArgument(0)));
+
+        CourseRequestModel newCourseRequestModel = new CourseRequestModel("cat-420", "Web Services 2", 45, 3.0, "computer science");
+
+        // act
+        StepVerifier
+                .create(courseService.updateCourseByCourseId(Mono.just(newCourseRequestModel), course1.getCourseId()))
+                .expectNextMatches(courseResponseModel -> courseResponseModel.getVersion() == 4)
+                .verifyComplete();
+
+        // assert
+        verify(courseRepository).save(argThat(course -> course.getId().equals(course1.getId()) && course.getVersion() == 4));
     }
 
     @Test
@@ -161,6 +239,9 @@ class CourseServiceUnitTest {
         when(courseRepository.delete(any(Course.class)))
                 .thenReturn(Mono.empty());
 
+        when(courseEventRepository.save(any(CourseEvent.class)))
+                .thenAnswer(invocation -> Mono.just(invocation.getArgument(0)));
+
         // act
         Mono<CourseResponseModel> result = courseService.deleteCourseByCourseId(course1.getCourseId());
 
@@ -169,6 +250,31 @@ class CourseServiceUnitTest {
                 .create(result)
                 .expectNextMatches(courseResponse -> courseResponse.getCourseId().equals(course1.getCourseId()))
                 .verifyComplete();
+
+        verify(courseEventRepository).save(argThat(event -> event.getEventType() == CourseEventType.DELETED
+                && event.getCourseId().equals(course1.getCourseId())));
+    }
+
+    @Test
+    public void whenGetCourseEventsAfter_thenReturnEventResponseModels() {
+        // arrange
+        CourseEvent courseEvent = CourseEvent.builder()
+                .id(7)
+                .courseId(course1.getCourseId())
+                .eventType(CourseEventType.UPDATED)
+                .courseNumber(course1.getCourseNumber())
+                .courseName(course1.getCourseName())
+                .build();
+        when(courseEventRepository.findEventsAfter(6, 100))
+                .thenReturn(Flux.just(courseEvent));
+
+        // act and assert
+        StepVerifier
+                .create(courseService.getCourseEventsAfter(6, 100))
+                .expectNextMatches(event -> event.getEventId() == 7
+                        && event.getEventType().equals("UPDATED")
+                        && event.getCourseId().equals(course1.getCourseId()))
+                .verifyComplete();
     }
 
 
@@ -0,0 +1,105 @@
+package com.champlain.courseservice.dataaccesslayer;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import reactor.test.StepVerifier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+class CatalogSeederIntegrationTest {
+
+    private static final long SEED_SIZE = 1000L;
+
+    @Autowired
+    private CatalogSeeder catalogSeeder;
+    @Autowired
+    private CourseRepository courseRepository;
+    @Autowired
+    private DatabaseClient databaseClient;
+
+    @Test
+    void whenCatalogAlreadySeeded_thenSkipSeeding() {
+        // act & assert, startup already seeded the catalog
+        StepVerifier
+                .create(catalogSeeder.seed())
+                .expectNext(0)
+                .verifyComplete();
+
+        StepVerifier
+                .create(courseRepository.count())
+                .expectNext(SEED_SIZE)
+                .verifyComplete();
+    }
+
+    @Test
+    void whenCoursesPresentWithoutMarker_thenLeaveThemAndRecordMarker() {
+        // arrange
+        StepVerifier
+                .create(databaseClient.sql("DELETE FROM catalog_seed").then())
+                .verifyComplete();
+
+        // act
+        StepVerifier
+                .create(catalogSeeder.seed())
+                .expectNext(0)
+                .verifyComplete();
+
+        // assert
+        StepVerifier
+                .create(courseRepository.count())
+                .expectNext(SEED_SIZE)
+                .verifyComplete();
+        StepVerifier
+                .create(databaseClient.sql("SELECT course_count FROM catalog_seed WHERE id = " + CatalogSeeder.MARKER_ID)
+                        .map(row -> row.get("course_count", Integer.class))
+                        .first())
+                .expectNext(0)
+                .verifyComplete();
+    }
+
+    @Test
+    void whenCatalogEmpty_thenLoadEveryCourse() {
+        // arrange
+        StepVerifier
+                .create(databaseClient.sql("DELETE FROM catalog_seed").then()
+                        .then(courseRepository.deleteAll()))
+                .verifyComplete();
+
+        // act
+        StepVerifier
+                .create(catalogSeeder.seed())
+                .expectNext((int) SEED_SIZE)
+                .verifyComplete();
+
+        // assert
+        StepVerifier
+                .create(courseRepository.findCourseByCourseId("d15b31e2-a583-49f7-921a-71f87e301bd6"))
+                .consumeNextWith(course -> {
+                    assertEquals("lse-942", course.getCourseNumber());
+                    assertEquals("Shakespeare's Greatest Works", course.getCourseName());
+                    assertEquals(90, course.getNumHours());
+                    assertEquals(3.0, course.getNumCredits());
+                })
+                .verifyComplete();
+        StepVerifier
+                .create(catalogSeeder.seed())
+                .expectNext(0)
+                .verifyComplete();
+    }
+
+    @Test
+    void whenSeedLineHasQuotedComma_thenKeepItInTheField() {
+        // act
+        String[] fields = CatalogSeeder.parseLine("id-1,abc-123,\"Data, Ethics and \"\"AI\"\"\",45,3,Computer Science");
+
+        // assert
+        assertArrayEquals(new String[]{"id-1", "abc-123", "Data, Ethics and \"AI\"", "45", "3", "Computer Science"}, fields);
+    }
+}
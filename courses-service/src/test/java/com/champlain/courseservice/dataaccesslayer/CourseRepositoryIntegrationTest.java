@@ -4,6 +4,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.data.r2dbc.DataR2dbcTest;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.test.context.ActiveProfiles;
 import reactor.test.StepVerifier;
 
@@ -67,5 +68,53 @@ class CourseRepositoryIntegrationTest {
                 .verifyComplete();
     }
 
+    @Test
+    void whenSaveCourseTwiceFromTheSameRead_thenBumpVersionOnceAndRejectTheStaleSave() {
+        // arrange
+        Course inserted = courseRepository.save(Course.builder()
+                .courseId(UUID.randomUUID().toString())
+                .courseNumber("cat-420")
+                .courseName("Web Services")
+                .numHours(45)
+                .numCredits(3.0)
+                .department("Computer Science")
+                .build()).block();
+        assertNotNull(inserted);
+        assertEquals(0, inserted.getVersion());
+
+        Course first = Course.builder().id(inserted.getId()).courseId(inserted.getCourseId())
+                .courseName("Web Services 2").version(0).build();
+        Course second = Course.builder().id(inserted.getId()).courseId(inserted.getCourseId())
+                .courseName("Web Services 3").version(0).build();
+
+        // act & assert
+        StepVerifier
+                .create(courseRepository.save(first))
+                .consumeNextWith(updated -> assertEquals(1, updated.getVersion()))
+                .verifyComplete();
 
+        StepVerifier
+                .create(courseRepository.save(second))
+                .expectError(OptimisticLockingFailureException.class)
+                .verify();
+    }
+
+    @Test
+    void whenCourseIsAdded_thenCatalogVersionChanges() {
+        // arrange
+        String before = courseRepository.findCatalogVersion().block();
+
+        // act
+        courseRepository.save(Course.builder()
+                .courseId(UUID.randomUUID().toString())
+                .courseNumber("cat-421")
+                .courseName("Web Services")
+                .build()).block();
+
+        // assert
+        StepVerifier
+                .create(courseRepository.findCatalogVersion())
+                .consumeNextWith(after -> assertNotEquals(before, after))
+                .verifyComplete();
+    }
 }
\ No newline at end of file
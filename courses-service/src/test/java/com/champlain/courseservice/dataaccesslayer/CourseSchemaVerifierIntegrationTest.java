@@ -0,0 +1,57 @@
+package com.champlain.courseservice.dataaccesslayer;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import reactor.test.StepVerifier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+class CourseSchemaVerifierIntegrationTest {
+
+    @Autowired
+    private CourseSchemaVerifier courseSchemaVerifier;
+    @Autowired
+    private DatabaseClient databaseClient;
+
+    @Test
+    void whenSchemaIsCurrent_thenStart() {
+        // act & assert, startup already ran the check once
+        assertDoesNotThrow(() -> courseSchemaVerifier.run(null));
+    }
+
+    @Test
+    void whenSchemaVersionIsOlder_thenRefuseToStart() {
+        // arrange
+        StepVerifier
+                .create(databaseClient.sql("UPDATE schema_version SET version = " + (CourseSchemaVerifier.SCHEMA_VERSION - 1)).then())
+                .verifyComplete();
+
+        // act
+        IllegalStateException exception = assertThrows(IllegalStateException.class, () -> courseSchemaVerifier.run(null));
+
+        // assert
+        assertTrue(exception.getMessage().contains("schema_version is " + (CourseSchemaVerifier.SCHEMA_VERSION - 1)));
+    }
+
+    @Test
+    void whenTableLacksAMappedColumn_thenRefuseToStart() {
+        // arrange, a courses table from before the ETag version column
+        StepVerifier
+                .create(databaseClient.sql("ALTER TABLE courses DROP COLUMN version").then())
+                .verifyComplete();
+
+        // act
+        IllegalStateException exception = assertThrows(IllegalStateException.class, () -> courseSchemaVerifier.run(null));
+
+        // assert
+        assertTrue(exception.getMessage().contains("courses ("));
+        assertFalse(exception.getMessage().contains("course_events"));
+    }
+}
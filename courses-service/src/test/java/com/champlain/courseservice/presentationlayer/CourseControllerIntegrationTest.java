@@ -6,6 +6,8 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.reactive.AutoConfigureWebTestClient;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.test.annotation.DirtiesContext;
 import org.springframework.test.context.ActiveProfiles;
@@ -13,6 +15,9 @@ import org.springframework.test.web.reactive.server.WebTestClient;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 @SpringBootTest
@@ -114,6 +119,110 @@ class CourseControllerIntegrationTest {
                 });
     }
 
+    @Test
+    public void whenGetCourseByCourseIdAcceptingSmile_thenReturnCourseAsSmile() {
+        String courseId = "275c1138-0190-426e-94d4-4aaeb838acac";
+        MediaType smile = new MediaType("application", "x-jackson-smile");
+
+        webTestClient
+                .get()
+                .uri("/api/v1/courses/" + courseId)
+                .accept(smile, MediaType.APPLICATION_JSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentType(smile)
+                .expectHeader().value("ETag", eTag -> assertTrue(eTag.startsWith("W/\""), "Smile and JSON share a weak ETag"))
+                .expectBody(CourseResponseModel.class)
+                .value(courseResponseModel -> assertEquals(courseId, courseResponseModel.getCourseId()));
+    }
+
+    @Test
+    public void whenGetCoursesByBatch_thenReturnOnlyExistingCourses() {
+        CourseBatchRequestModel courseBatchRequestModel = CourseBatchRequestModel.builder()
+                .courseIds(List.of("275c1138-0190-426e-94d4-4aaeb838acac",
+                        "9a29fff7-564a-4cc9-8fe1-36f6ca9bc223",
+                        "275c1138-0190-426e-94d4-4aaeb838a000"))
+                .build();
+
+        webTestClient
+                .post()
+                .uri("/api/v1/courses/batch")
+                .accept(MediaType.APPLICATION_JSON)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(courseBatchRequestModel)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentType(MediaType.APPLICATION_JSON)
+                .expectBodyList(CourseResponseModel.class)
+                .value(courseResponseModels -> {
+                    assertEquals(2, courseResponseModels.size());
+                    assertTrue(courseResponseModels.stream().anyMatch(c -> c.getCourseId().equals("275c1138-0190-426e-94d4-4aaeb838acac")));
+                    assertTrue(courseResponseModels.stream().anyMatch(c -> c.getCourseId().equals("9a29fff7-564a-4cc9-8fe1-36f6ca9bc223")));
+                    //each course's validator, to revalidate it later with a conditional GET
+                    assertTrue(courseResponseModels.stream().allMatch(c -> c.getVersion() != null));
+                });
+    }
+
+    @Test
+    public void whenGetCoursesPage_thenFollowingNextCursorReturnsEveryCourseOnce() {
+        List<CourseResponseModel> allCourses = new ArrayList<>();
+        Integer after = 0;
+        int pages = 0;
+
+        do {
+            CoursePageResponseModel page = webTestClient
+                    .get()
+                    .uri("/api/v1/courses?after={after}&limit={limit}", after, 400)
+                    .accept(MediaType.APPLICATION_JSON)
+                    .exchange()
+                    .expectStatus().isOk()
+                    .expectHeader().contentType(MediaType.APPLICATION_JSON)
+                    .expectBody(CoursePageResponseModel.class)
+                    .returnResult()
+                    .getResponseBody();
+
+            assertNotNull(page);
+            assertTrue(page.getContent().size() <= 400);
+            allCourses.addAll(page.getContent());
+            after = page.getNextCursor();
+            pages++;
+        } while (after != null);
+
+        assertEquals(3, pages);
+        assertEquals(dbSize, allCourses.size());
+        assertEquals(dbSize, allCourses.stream().map(CourseResponseModel::getCourseId).distinct().count());
+    }
+
+    @Test
+    public void whenGetCoursesPage_thenReturnNextLinkHeader() {
+        webTestClient
+                .get()
+                .uri("/api/v1/courses?limit=10")
+                .accept(MediaType.APPLICATION_JSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().value(HttpHeaders.LINK, link -> {
+                    assertTrue(link.contains("after=10"));
+                    assertTrue(link.contains("limit=10"));
+                    assertTrue(link.endsWith("rel=\"next\""));
+                })
+                .expectBody(CoursePageResponseModel.class)
+                .value(page -> {
+                    assertEquals(10, page.getContent().size());
+                    assertEquals(10, page.getNextCursor());
+                });
+    }
+
+    @Test
+    public void whenGetCoursesPageWithInvalidLimit_thenReturnUnprocessableEntity() {
+        webTestClient
+                .get()
+                .uri("/api/v1/courses?limit=0")
+                .accept(MediaType.APPLICATION_JSON)
+                .exchange()
+                .expectStatus().isEqualTo(HttpStatus.UNPROCESSABLE_ENTITY);
+    }
+
     @Test
     public void whenGetCourseByNotFoundCourseId_thenReturnNotFoundException() {
         String NON_EXISTING_COURSEID = "275c1138-0190-426e-94d4-4aaeb838a000";
@@ -230,4 +339,57 @@ class CourseControllerIntegrationTest {
                 .jsonPath("$.message").isEqualTo("Course id not found: " + NON_EXISTING_COURSEID);
 
     }
-}
\ No newline at end of file
+
+    @Test
+    public void whenUpdateThenDeleteCourse_thenReturnBothEventsInOrder() {
+        String courseId = "275c1138-0190-426e-94d4-4aaeb838acac";
+
+        CourseRequestModel courseRequestModel = CourseRequestModel.builder()
+                .courseNumber("fak-001")
+                .courseName("Java 2")
+                .numHours(75)
+                .numCredits(1.5)
+                .department("Physics")
+                .build();
+
+        webTestClient.put()
+                .uri("/api/v1/courses/{courseId}", courseId)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(courseRequestModel)
+                .exchange()
+                .expectStatus().isOk();
+        webTestClient.delete()
+                .uri("/api/v1/courses/{courseId}", courseId)
+                .exchange()
+                .expectStatus().isOk();
+
+        webTestClient
+                .get()
+                .uri("/api/v1/courses/events?after=0")
+                .accept(MediaType.APPLICATION_JSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBodyList(CourseEventResponseModel.class)
+                .value(events -> {
+                    assertEquals(2, events.size());
+                    assertEquals("UPDATED", events.get(0).getEventType());
+                    assertEquals("Java 2", events.get(0).getCourseName());
+                    assertEquals("fak-001", events.get(0).getCourseNumber());
+                    assertEquals("DELETED", events.get(1).getEventType());
+                    assertEquals(courseId, events.get(1).getCourseId());
+                    assertTrue(events.get(0).getEventId() < events.get(1).getEventId());
+                });
+    }
+
+    @Test
+    public void whenGetCourseEventsAfterLastEvent_thenReturnNoEvents() {
+        webTestClient
+                .get()
+                .uri("/api/v1/courses/events?after=0")
+                .accept(MediaType.APPLICATION_JSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBodyList(CourseEventResponseModel.class)
+                .hasSize(0);
+    }
+}
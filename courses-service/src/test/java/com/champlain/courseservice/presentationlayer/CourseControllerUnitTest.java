@@ -47,6 +47,17 @@ class CourseControllerUnitTest {
             .department("Computer Science")
             .build();
 
+    //what the service hands back, the version is in the body and the ETag
+    CourseResponseModel versionedCourseResponseModel = CourseResponseModel.builder()
+            .courseId(courseId)
+            .courseNumber("N52-LA")
+            .courseName("final project 1")
+            .numHours(45)
+            .numCredits(3.0)
+            .department("Computer Science")
+            .version(3)
+            .build();
+
     @Test
     public void whenAddCourse_thenReturnCourseResponseModel() {
         // arrange
@@ -81,6 +92,7 @@ class CourseControllerUnitTest {
     @Test
     public void whenGetAllCourse_thenReturnAllCourses() {
         // arrange
+        when(courseService.getCatalogVersion()).thenReturn(Mono.just("12-4"));
         when(courseService.getAllCourses()).thenReturn(Flux.just(courseResponseModel));
 
         // act
@@ -91,16 +103,35 @@ class CourseControllerUnitTest {
                 .exchange()
                 .expectStatus().isOk()
                 .expectHeader().valueEquals("Content-Type", "text/event-stream;charset=UTF-8")
+                .expectHeader().valueEquals("ETag", "W/\"12-4-r1\"")
+                .expectHeader().valueEquals("Vary", "Accept")
                 .expectBodyList(CourseResponseModel.class)
                 .contains(courseResponseModel);
 
         verify(courseService, times(1)).getAllCourses();
     }
 
+    @Test
+    public void whenGetAllCourses_withCurrentETag_thenReturnNotModifiedWithoutReadingCourses() {
+        // arrange
+        when(courseService.getCatalogVersion()).thenReturn(Mono.just("12-4"));
+        when(courseService.getAllCourses()).thenReturn(Flux.error(new IllegalStateException("catalog should not be read")));
+
+        // act
+        webTestClient
+                .get()
+                .uri("/api/v1/courses")
+                .accept(MediaType.TEXT_EVENT_STREAM)
+                .header("If-None-Match", "W/\"12-4-r1\"")
+                .exchange()
+                .expectStatus().isNotModified()
+                .expectBody().isEmpty();
+    }
+
     @Test
     public void whenGetCourseByCourseId_thenReturnCourseResponseModel() {
         // arrange
-        when(courseService.getCourseByCourseId(courseId)).thenReturn(Mono.just(courseResponseModel));
+        when(courseService.getCourseByCourseId(courseId)).thenReturn(Mono.just(versionedCourseResponseModel));
 
         // act
         webTestClient
@@ -110,12 +141,69 @@ class CourseControllerUnitTest {
                 .exchange()
                 .expectStatus().isOk()
                 .expectHeader().contentType(MediaType.APPLICATION_JSON)
+                .expectHeader().valueEquals("ETag", "W/\"3-r1\"")
+                .expectHeader().valueEquals("Cache-Control", "max-age=60")
+                .expectHeader().valueEquals("Vary", "Accept")
                 .expectBody(CourseResponseModel.class)
-                .isEqualTo(courseResponseModel);
+                .isEqualTo(versionedCourseResponseModel);
 
         verify(courseService, times(1)).getCourseByCourseId(courseId);
     }
 
+    @Test
+    public void whenGetCourseByCourseId_withCurrentETag_thenReturnNotModified() {
+        // arrange
+        when(courseService.getCourseByCourseId(courseId)).thenReturn(Mono.just(versionedCourseResponseModel));
+
+        // act
+        webTestClient
+                .get()
+                .uri("/api/v1/courses/" + courseId)
+                .accept(MediaType.APPLICATION_JSON)
+                .header("If-None-Match", "W/\"3-r1\"")
+                .exchange()
+                .expectStatus().isNotModified()
+                .expectHeader().valueEquals("ETag", "W/\"3-r1\"")
+                .expectHeader().valueEquals("Vary", "Accept")
+                .expectBody().isEmpty();
+    }
+
+    @Test
+    public void whenGetCourseByCourseId_withETagFromAnOlderRepresentation_thenReturnCourse() {
+        // arrange
+        when(courseService.getCourseByCourseId(courseId)).thenReturn(Mono.just(versionedCourseResponseModel));
+
+        // act, same course version but the tag a deploy without the representation marker handed out
+        webTestClient
+                .get()
+                .uri("/api/v1/courses/" + courseId)
+                .accept(MediaType.APPLICATION_JSON)
+                .header("If-None-Match", "\"3\"")
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().valueEquals("ETag", "W/\"3-r1\"")
+                .expectBody(CourseResponseModel.class)
+                .isEqualTo(versionedCourseResponseModel);
+    }
+
+    @Test
+    public void whenGetCourseByCourseId_withStaleETag_thenReturnCourse() {
+        // arrange
+        when(courseService.getCourseByCourseId(courseId)).thenReturn(Mono.just(versionedCourseResponseModel));
+
+        // act
+        webTestClient
+                .get()
+                .uri("/api/v1/courses/" + courseId)
+                .accept(MediaType.APPLICATION_JSON)
+                .header("If-None-Match", "W/\"2-r1\"")
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().valueEquals("ETag", "W/\"3-r1\"")
+                .expectBody(CourseResponseModel.class)
+                .value(crm -> assertEquals(courseResponseModel.getCourseId(), crm.getCourseId()));
+    }
+
     @Test
     public void whenUpdateCourseByCourseId_thenReturnCourseResponseModel() {
         // arrange
@@ -0,0 +1,74 @@
+package com.champlain.enrollmentsservice.datamapperlayer;
+
+import com.champlain.enrollmentsservice.dataaccesslayer.Enrollment;
+import com.champlain.enrollmentsservice.dataaccesslayer.Semester;
+import com.champlain.enrollmentsservice.presentationlayer.enrollments.EnrollmentResponseModel;
+import org.mapstruct.factory.Mappers;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.beans.BeanUtils;
+import reactor.core.publisher.Flux;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/*
+   Old BeanUtils copy vs the generated mapper over a large findAll-style stream, scores are per enrollment.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class EnrollmentResponseMapperBenchmark {
+
+    private static final int ROWS = 10_000;
+
+    private final EnrollmentResponseMapper enrollmentResponseMapper = Mappers.getMapper(EnrollmentResponseMapper.class);
+    private List<Enrollment> enrollments;
+
+    @Setup
+    public void setUp() {
+        enrollments = new ArrayList<>(ROWS);
+        for (int i = 0; i < ROWS; i++) {
+            enrollments.add(Enrollment.builder()
+                    .id(Integer.toHexString(i))
+                    .enrollmentId(UUID.randomUUID().toString())
+                    .enrollmentYear(2021)
+                    .semester(Semester.values()[i % Semester.values().length])
+                    .studentId(UUID.randomUUID().toString())
+                    .studentFirstName("Christine")
+                    .studentLastName("Gerard")
+                    .courseId(UUID.randomUUID().toString())
+                    .courseNumber("trs-075")
+                    .courseName("Web Services")
+                    .build());
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public EnrollmentResponseModel beanUtilsStream() {
+        return Flux.fromIterable(enrollments)
+                .map(enrollment -> {
+                    EnrollmentResponseModel enrollmentResponseModel = new EnrollmentResponseModel();
+                    BeanUtils.copyProperties(enrollment, enrollmentResponseModel);
+                    return enrollmentResponseModel;
+                })
+                .blockLast();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public EnrollmentResponseModel mapStructStream() {
+        return Flux.fromIterable(enrollments)
+                .map(enrollmentResponseMapper::entityToResponseModel)
+                .blockLast();
+    }
+}
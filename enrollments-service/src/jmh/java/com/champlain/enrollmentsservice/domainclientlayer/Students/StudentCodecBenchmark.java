@@ -0,0 +1,123 @@
+package com.champlain.enrollmentsservice.domainclientlayer.Students;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.codec.Decoder;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.json.Jackson2JsonDecoder;
+import org.springframework.http.codec.json.Jackson2SmileDecoder;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import reactor.core.publisher.Flux;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/*
+   The getAllStudents stream (1000 students, the fields enrollments asks for) as NDJSON vs Smile, each plain and
+   gzipped. The bytes on the wire are printed at setup, the score is the client side cost per student: inflate
+   when gzipped, then Spring's decoder over 8KB buffers the way WebClient gets them off the socket.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class StudentCodecBenchmark {
+
+    private static final int STUDENTS = 1000;
+    private static final int CHUNK_SIZE = 8192;
+    private static final ResolvableType STUDENT_TYPE = ResolvableType.forClass(StudentResponseModel.class);
+
+    @Param({"ndjson", "smile"})
+    public String format;
+
+    @Param({"false", "true"})
+    public boolean gzip;
+
+    private byte[] wire;
+    private Decoder<Object> decoder;
+    private MediaType mediaType;
+
+    @Setup
+    public void setUp() throws IOException {
+        boolean smile = "smile".equals(format);
+        ObjectMapper objectMapper = smile
+                ? Jackson2ObjectMapperBuilder.smile().build()
+                : Jackson2ObjectMapperBuilder.json().build();
+        ObjectWriter studentWriter = objectMapper.writerFor(StudentResponseModel.class);
+
+        //written the way students-service streams them: values back to back, one per line for NDJSON
+        ByteArrayOutputStream body = new ByteArrayOutputStream();
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(body)) {
+            if (!smile) {
+                generator.setRootValueSeparator(null);
+            }
+            for (int i = 0; i < STUDENTS; i++) {
+                studentWriter.writeValue(generator, StudentResponseModel.builder()
+                        .studentId(UUID.randomUUID().toString())
+                        .firstName("Christine" + i)
+                        .lastName("Gerard" + i)
+                        .build());
+                if (!smile) {
+                    generator.writeRaw('\n');
+                }
+            }
+        }
+
+        wire = gzip ? gzip(body.toByteArray()) : body.toByteArray();
+
+        if (smile) {
+            decoder = new Jackson2SmileDecoder();
+            mediaType = new MediaType("application", "stream+x-jackson-smile");
+        } else {
+            decoder = new Jackson2JsonDecoder();
+            mediaType = MediaType.APPLICATION_NDJSON;
+        }
+
+        System.out.printf("%n%s gzip=%s: %d bytes on the wire, %d per student%n", format, gzip, wire.length, wire.length / STUDENTS);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(STUDENTS)
+    public Object decode() throws IOException {
+        byte[] body = gzip ? gunzip(wire) : wire;
+
+        Flux<DataBuffer> chunks = Flux.range(0, (body.length + CHUNK_SIZE - 1) / CHUNK_SIZE)
+                .map(chunk -> DefaultDataBufferFactory.sharedInstance.wrap(ByteBuffer.wrap(body, chunk * CHUNK_SIZE,
+                        Math.min(CHUNK_SIZE, body.length - chunk * CHUNK_SIZE)).slice()));
+
+        return decoder.decode(chunks, STUDENT_TYPE, mediaType, null).blockLast();
+    }
+
+    private static byte[] gzip(byte[] bytes) throws IOException {
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+        try (GZIPOutputStream out = new GZIPOutputStream(compressed)) {
+            out.write(bytes);
+        }
+        return compressed.toByteArray();
+    }
+
+    private static byte[] gunzip(byte[] bytes) throws IOException {
+        try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(bytes))) {
+            return in.readAllBytes();
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package com.champlain.enrollmentsservice.utils;
+
+import com.champlain.enrollmentsservice.businesslayer.enrollments.RequestContext;
+import com.champlain.enrollmentsservice.dataaccesslayer.Enrollment;
+import com.champlain.enrollmentsservice.dataaccesslayer.Semester;
+import com.champlain.enrollmentsservice.domainclientlayer.Courses.CourseResponseModel;
+import com.champlain.enrollmentsservice.domainclientlayer.Students.StudentResponseModel;
+import com.champlain.enrollmentsservice.presentationlayer.enrollments.EnrollmentRequestModel;
+import com.champlain.enrollmentsservice.presentationlayer.enrollments.EnrollmentResponseModel;
+import com.champlain.enrollmentsservice.utils.exceptions.EntityModelUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/*
+   Per-request CPU and allocation cost of the enrollment write/read path, run with -prof gc (see jmh block in build.gradle).
+   Each benchmark returns its result so the JIT can't drop the work.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class EntityModelUtilBenchmark {
+
+    private Enrollment enrollment;
+    private EnrollmentRequestModel enrollmentRequestModel;
+    private StudentResponseModel studentResponseModel;
+    private CourseResponseModel courseResponseModel;
+    private RequestContext requestContext;
+
+    @Setup
+    public void setUp() {
+        enrollment = Enrollment.builder()
+                .id("652f1e0b8a1c4b2d9e7f0a13")
+                .enrollmentId("06a7d573-bcab-4db3-956f-773324b92a80")
+                .enrollmentYear(2021)
+                .semester(Semester.FALL)
+                .studentId("c3540a89-cb47-4c96-888e-ff96708db4d8")
+                .studentFirstName("Christine")
+                .studentLastName("Gerard")
+                .courseId("9a29fff7-564a-4cc9-8fe1-36f6ca9bc223")
+                .courseNumber("trs-075")
+                .courseName("Web Services")
+                .build();
+
+        enrollmentRequestModel = EnrollmentRequestModel.builder()
+                .enrollmentYear(2021)
+                .semester(Semester.FALL)
+                .studentId("c3540a89-cb47-4c96-888e-ff96708db4d8")
+                .courseId("9a29fff7-564a-4cc9-8fe1-36f6ca9bc223")
+                .build();
+
+        studentResponseModel = StudentResponseModel.builder()
+                .studentId("c3540a89-cb47-4c96-888e-ff96708db4d8")
+                .firstName("Christine")
+                .lastName("Gerard")
+                .program("Computer Science")
+                .build();
+
+        courseResponseModel = CourseResponseModel.builder()
+                .courseId("9a29fff7-564a-4cc9-8fe1-36f6ca9bc223")
+                .courseNumber("trs-075")
+                .courseName("Web Services")
+                .build();
+
+        requestContext = new RequestContext(enrollmentRequestModel, null, studentResponseModel, courseResponseModel);
+    }
+
+    @Benchmark
+    public EnrollmentResponseModel toEnrollmentResponseModel() {
+        return EntityModelUtil.toEnrollmentResponseModel(enrollment);
+    }
+
+    @Benchmark
+    public Enrollment toEnrollmentEntity() {
+        return EntityModelUtil.toEnrollmentEntity(requestContext);
+    }
+
+    @Benchmark
+    public String generateUUIDString() {
+        return EntityModelUtil.generateUUIDString();
+    }
+
+    //what addEnrollment does once both lookups are back: build the context, then the entity
+    @Benchmark
+    public Enrollment requestContextAssembly() {
+        RequestContext rc = new RequestContext(enrollmentRequestModel);
+        rc.setStudentResponseModel(studentResponseModel);
+        rc.setCourseResponseModel(courseResponseModel);
+        return EntityModelUtil.toEnrollmentEntity(rc);
+    }
+}
@@ -0,0 +1,293 @@
+package com.champlain.enrollmentsservice.loadtest;
+
+import com.champlain.enrollmentsservice.EnrollmentsServiceApplication;
+import org.mockserver.configuration.ConfigurationProperties;
+import org.mockserver.integration.ClientAndServer;
+import org.mockserver.model.MediaType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.convert.DurationStyle;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadInfo;
+import java.lang.management.ThreadMXBean;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.mockserver.model.HttpRequest.request;
+import static org.mockserver.model.HttpResponse.response;
+
+/*
+   Drives each student fetch strategy of the enrollments StudentController at several concurrency levels and writes
+   build/reports/loadtest/student-fetch.md (and .csv). Run with ./gradlew :enrollments-service:loadTest, see the
+   loadTest task in build.gradle for the -P options.
+
+   enrollments-service runs in this JVM (so its threads can be counted) against a MockServer stand-in for
+   students-service that adds the configured latency to every call. Each of the concurrency clients sends
+   requests-per-client requests back to back and every response body is read fully before it counts.
+ */
+public class StudentFetchLoadTest {
+
+    private static final List<String> ALL_STRATEGIES =
+            List.of("syncloop", "syncparallel", "syncbatch", "async", "asyncparallel", "asyncbounded", "asyncbatch");
+
+    //thread name prefix -> pool, anything else the app starts is counted under other
+    private static final Map<String, String> THREAD_POOLS = new LinkedHashMap<>();
+    static {
+        THREAD_POOLS.put("reactor-http-", "event loop");
+        THREAD_POOLS.put("parallel-", "parallel");
+        THREAD_POOLS.put("boundedElastic-", "boundedElastic");
+        THREAD_POOLS.put("blocking-client-", "blocking-client");
+        THREAD_POOLS.put("ForkJoinPool.commonPool-", "commonPool");
+    }
+    //the harness' own threads (clients, JDK HttpClient, MockServer) are left out of the counts
+    private static final List<String> HARNESS_THREADS = List.of("loadtest-", "HttpClient-", "MockServer-", "nioEventLoopGroup-");
+
+    public static void main(String[] args) {
+        //MockServer's threads aren't daemons, so always exit explicitly
+        try {
+            loadTest();
+            System.exit(0);
+        } catch (Throwable e) {
+            e.printStackTrace();
+            System.exit(1);
+        }
+    }
+
+    private static void loadTest() throws Exception {
+        Duration latency = DurationStyle.detectAndParse(System.getProperty("loadtest.latency", "5ms"));
+        List<Integer> concurrencyLevels = Arrays.stream(System.getProperty("loadtest.concurrency", "1,4,16").split(","))
+                .map(String::trim).map(Integer::valueOf).toList();
+        int requestsPerClient = Integer.parseInt(System.getProperty("loadtest.requestsPerClient", "2"));
+        int warmupRequests = Integer.parseInt(System.getProperty("loadtest.warmupRequests", "3"));
+        List<String> strategies = Arrays.stream(System.getProperty("loadtest.strategies", String.join(",", ALL_STRATEGIES)).split(","))
+                .map(String::trim).toList();
+        Path reportDir = Path.of(System.getProperty("loadtest.reportDir", "build/reports/loadtest"));
+
+        ClientAndServer studentsService = startStudentsServiceStandIn(latency);
+        ConfigurableApplicationContext enrollmentsService = new SpringApplicationBuilder(EnrollmentsServiceApplication.class)
+                .logStartupInfo(false)
+                .properties(
+                        "server.port=0",
+                        "app.students-service.host=localhost",
+                        "app.students-service.port=" + studentsService.getPort(),
+                        "app.courses-service.host=localhost",
+                        "app.courses-service.port=" + studentsService.getPort(),
+                        //same pool as the test and docker profiles
+                        "app.students-service.pool.max-connections=256",
+                        //the student endpoints never touch Mongo, so don't need one running for startup
+                        "spring.data.mongodb.auto-index-creation=false",
+                        "logging.level.root=WARN",
+                        "logging.level.com.champlain=WARN")
+                .run();
+
+        List<Result> results = new ArrayList<>();
+        try {
+            String baseUrl = "http://localhost:" + enrollmentsService.getEnvironment().getProperty("local.server.port") + "/api/v1/students/";
+            HttpClient httpClient = HttpClient.newBuilder()
+                    .executor(Executors.newCachedThreadPool(named("loadtest-http-")))
+                    .build();
+
+            for (String strategy : strategies) {
+                //unmeasured calls first, a cold strategy runs 2-3x slower until the JIT has caught up
+                for (int i = 0; i < warmupRequests; i++) {
+                    send(httpClient, baseUrl + strategy);
+                }
+                for (int concurrency : concurrencyLevels) {
+                    Result result = run(httpClient, baseUrl + strategy, strategy, concurrency, requestsPerClient);
+                    System.out.println(result.toLine());
+                    results.add(result);
+                }
+            }
+        } finally {
+            enrollmentsService.close();
+            studentsService.stop();
+        }
+
+        writeReport(reportDir, latency, requestsPerClient, results);
+    }
+
+    private static ClientAndServer startStudentsServiceStandIn(Duration latency) {
+        //MockServer logs and keeps every request by default, which costs more than the calls being measured
+        ConfigurationProperties.logLevel("WARN");
+        ConfigurationProperties.disableLogging(true);
+        ConfigurationProperties.maxLogEntries(1);
+
+        ClientAndServer studentsService = ClientAndServer.startClientAndServer(0);
+        String student = "{\"studentId\":\"c3540a89-cb47-4c96-888e-ff96708db4d8\",\"firstName\":\"Christine\",\"lastName\":\"Gerard\",\"program\":\"Computer Science\",\"stuff\":\"stuff\"}";
+
+        studentsService
+                .when(request().withMethod("GET").withPath("/api/v1/students/row/.*"))
+                .respond(response()
+                        .withStatusCode(200)
+                        .withContentType(MediaType.APPLICATION_JSON)
+                        .withDelay(TimeUnit.MILLISECONDS, latency.toMillis())
+                        .withBody(student));
+        //batch-size (100) students per batch call, the body doesn't need to match the requested row ids
+        studentsService
+                .when(request().withMethod("POST").withPath("/api/v1/students/batch"))
+                .respond(response()
+                        .withStatusCode(200)
+                        .withContentType(MediaType.APPLICATION_JSON)
+                        .withDelay(TimeUnit.MILLISECONDS, latency.toMillis())
+                        .withBody(IntStream.range(0, 100).mapToObj(i -> student).collect(Collectors.joining(",", "[", "]"))));
+        return studentsService;
+    }
+
+    private static Result run(HttpClient httpClient, String url, String strategy, int concurrency, int requestsPerClient) throws InterruptedException {
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        Map<String, Integer> peakThreads = new ConcurrentHashMap<>();
+        ScheduledExecutorService sampler = Executors.newSingleThreadScheduledExecutor(named("loadtest-sampler-"));
+        sampler.scheduleAtFixedRate(() -> sampleThreads(threads, peakThreads), 0, 20, TimeUnit.MILLISECONDS);
+
+        List<Long> latencies = Collections.synchronizedList(new ArrayList<>());
+        AtomicInteger errors = new AtomicInteger();
+        CountDownLatch done = new CountDownLatch(concurrency);
+        long start = System.nanoTime();
+
+        ThreadFactory clients = named("loadtest-client-");
+        for (int client = 0; client < concurrency; client++) {
+            clients.newThread(() -> {
+                for (int i = 0; i < requestsPerClient; i++) {
+                    long requestStart = System.nanoTime();
+                    if (send(httpClient, url)) {
+                        latencies.add(System.nanoTime() - requestStart);
+                    } else {
+                        errors.incrementAndGet();
+                    }
+                }
+                done.countDown();
+            }).start();
+        }
+        done.await();
+
+        double elapsedSeconds = (System.nanoTime() - start) / 1e9;
+        sampler.shutdownNow();
+        return new Result(strategy, concurrency, latencies.size(), errors.get(), elapsedSeconds, sorted(latencies), new LinkedHashMap<>(peakThreads));
+    }
+
+    private static boolean send(HttpClient httpClient, String url) {
+        try {
+            HttpResponse<byte[]> response = httpClient.send(HttpRequest.newBuilder(URI.create(url)).GET().build(),
+                    HttpResponse.BodyHandlers.ofByteArray());
+            return response.statusCode() == 200;
+        } catch (IOException e) {
+            return false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private static void sampleThreads(ThreadMXBean threads, Map<String, Integer> peakThreads) {
+        Map<String, Integer> current = new LinkedHashMap<>();
+        for (ThreadInfo info : threads.getThreadInfo(threads.getAllThreadIds())) {
+            if (info == null || HARNESS_THREADS.stream().anyMatch(info.getThreadName()::startsWith)) {
+                continue;
+            }
+            String pool = THREAD_POOLS.entrySet().stream()
+                    .filter(entry -> info.getThreadName().startsWith(entry.getKey()))
+                    .map(Map.Entry::getValue)
+                    .findFirst()
+                    .orElse("other");
+            current.merge(pool, 1, Integer::sum);
+            current.merge("total", 1, Integer::sum);
+        }
+        current.forEach((pool, count) -> peakThreads.merge(pool, count, Math::max));
+    }
+
+    private static long[] sorted(List<Long> latencies) {
+        long[] sorted = latencies.stream().mapToLong(Long::longValue).toArray();
+        Arrays.sort(sorted);
+        return sorted;
+    }
+
+    private static ThreadFactory named(String prefix) {
+        AtomicInteger count = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    private static void writeReport(Path reportDir, Duration latency, int requestsPerClient, List<Result> results) throws IOException {
+        Files.createDirectories(reportDir);
+        List<String> pools = new ArrayList<>(THREAD_POOLS.values());
+        pools.add("other");
+
+        try (PrintWriter md = new PrintWriter(Files.newBufferedWriter(reportDir.resolve("student-fetch.md")));
+             PrintWriter csv = new PrintWriter(Files.newBufferedWriter(reportDir.resolve("student-fetch.csv")))) {
+            md.printf("# Student fetch strategies%n%n");
+            md.printf("%s, %d CPUs, students-service stand-in latency %d ms per call, %d requests per client, 1000 students per request.%n",
+                    LocalDateTime.now().withNano(0), Runtime.getRuntime().availableProcessors(), latency.toMillis(), requestsPerClient);
+            md.printf("Latencies are per request (all 1000 students), thread counts are peaks sampled every 20 ms in the enrollments-service JVM.%n%n");
+            md.printf("| strategy | clients | requests | errors | req/s | students/s | p50 ms | p95 ms | p99 ms | threads | %s |%n",
+                    String.join(" | ", pools));
+            md.printf("|---|---:|---:|---:|---:|---:|---:|---:|---:|---:|%s%n", "---:|".repeat(pools.size()));
+
+            csv.printf("strategy,clients,requests,errors,requests_per_second,students_per_second,p50_ms,p95_ms,p99_ms,threads,%s%n",
+                    pools.stream().map(pool -> pool.replace(' ', '_')).collect(Collectors.joining(",")));
+
+            for (Result result : results) {
+                String poolCounts = pools.stream().map(pool -> String.valueOf(result.peakThreads().getOrDefault(pool, 0)))
+                        .collect(Collectors.joining(" | "));
+                md.printf("| %s | %d | %d | %d | %.1f | %.0f | %.0f | %.0f | %.0f | %d | %s |%n",
+                        result.strategy(), result.concurrency(), result.requests(), result.errors(), result.requestsPerSecond(),
+                        result.requestsPerSecond() * 1000, result.percentileMillis(50), result.percentileMillis(95), result.percentileMillis(99),
+                        result.peakThreads().getOrDefault("total", 0), poolCounts);
+                csv.printf("%s,%d,%d,%d,%.2f,%.0f,%.1f,%.1f,%.1f,%d,%s%n",
+                        result.strategy(), result.concurrency(), result.requests(), result.errors(), result.requestsPerSecond(),
+                        result.requestsPerSecond() * 1000, result.percentileMillis(50), result.percentileMillis(95), result.percentileMillis(99),
+                        result.peakThreads().getOrDefault("total", 0), poolCounts.replace(" | ", ","));
+            }
+        }
+        System.out.println("Load test report written to " + reportDir.resolve("student-fetch.md").toAbsolutePath());
+    }
+
+    private record Result(String strategy, int concurrency, int requests, int errors, double elapsedSeconds,
+                          long[] sortedLatencies, Map<String, Integer> peakThreads) {
+
+        double requestsPerSecond() {
+            return requests / elapsedSeconds;
+        }
+
+        //nearest rank
+        double percentileMillis(int percentile) {
+            if (sortedLatencies.length == 0) {
+                return 0;
+            }
+            int rank = (int) Math.ceil(percentile / 100.0 * sortedLatencies.length);
+            return sortedLatencies[Math.max(rank, 1) - 1] / 1e6;
+        }
+
+        String toLine() {
+            return String.format("%-13s clients=%-4d req/s=%7.2f p50=%7.0fms p95=%7.0fms p99=%7.0fms errors=%d threads=%s",
+                    strategy, concurrency, requestsPerSecond(), percentileMillis(50), percentileMillis(95), percentileMillis(99),
+                    errors, peakThreads);
+        }
+    }
+}
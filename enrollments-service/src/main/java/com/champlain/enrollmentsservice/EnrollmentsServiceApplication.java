@@ -1,9 +1,14 @@
 package com.champlain.enrollmentsservice;
 
+import io.micrometer.observation.ObservationRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.context.annotation.Bean;
 import org.springframework.web.client.RestTemplate;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
 
 @SpringBootApplication
 public class EnrollmentsServiceApplication {
@@ -12,10 +17,22 @@ public class EnrollmentsServiceApplication {
 		SpringApplication.run(EnrollmentsServiceApplication.class, args);
 	}
 
+	//observed so the blocking calls show up in http.client.requests like the WebClient ones
+	//(Boot only auto-configures a RestTemplateBuilder for servlet apps)
 	@Bean
-	RestTemplate restTemplate()
+	RestTemplate restTemplate(ObjectProvider<ObservationRegistry> observationRegistry)
 	{
-		return new RestTemplate();
+		RestTemplate restTemplate = new RestTemplate();
+		restTemplate.setObservationRegistry(observationRegistry.getIfAvailable(() -> ObservationRegistry.NOOP));
+		return restTemplate;
+	}
+
+	//blocking client calls (RestTemplate) run here, never on the reactor-http-epoll threads
+	@Bean(destroyMethod = "dispose")
+	Scheduler blockingClientScheduler(@Value("${app.blocking-client.max-threads:10}") int maxThreads,
+									  @Value("${app.blocking-client.max-queued-tasks:1000}") int maxQueuedTasks)
+	{
+		return Schedulers.newBoundedElastic(maxThreads, maxQueuedTasks, "blocking-client");
 	}
 
 }
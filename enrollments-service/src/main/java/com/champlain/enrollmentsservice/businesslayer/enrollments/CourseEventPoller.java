@@ -0,0 +1,101 @@
+package com.champlain.enrollmentsservice.businesslayer.enrollments;
+
+import com.champlain.enrollmentsservice.dataaccesslayer.CourseEventCursor;
+import com.champlain.enrollmentsservice.dataaccesslayer.CourseEventCursorRepository;
+import com.champlain.enrollmentsservice.dataaccesslayer.EnrollmentRepository;
+import com.champlain.enrollmentsservice.domainclientlayer.Courses.CourseClient;
+import com.champlain.enrollmentsservice.domainclientlayer.Courses.CourseEventResponseModel;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+
+/*
+   Keeps the course fields copied onto enrollments (courseNumber, courseName) in line with courses-service.
+   courses-service writes an event for every course update and delete in the same transaction as the change,
+   this polls them in order, patches every enrollment of a changed course with one updateMany, drops the course
+   from the CourseClient cache and only then moves the cursor, so an event is applied at least once.
+   Reapplying one just sets the same fields again.
+
+   Deleted courses leave their enrollments as they were, with the last known course fields.
+ */
+@Component
+@Slf4j
+@ConditionalOnProperty(name = "app.course-events.enabled", havingValue = "true")
+public class CourseEventPoller implements ApplicationRunner, DisposableBean {
+
+    static final String CURSOR_ID = "courses-service";
+
+    private final CourseClient courseClient;
+    private final EnrollmentRepository enrollmentRepository;
+    private final CourseEventCursorRepository courseEventCursorRepository;
+    private final Duration pollInterval;
+    private final int batchSize;
+
+    private Disposable polling;
+
+    public CourseEventPoller(CourseClient courseClient, EnrollmentRepository enrollmentRepository,
+                             CourseEventCursorRepository courseEventCursorRepository,
+                             @Value("${app.course-events.poll-interval:5s}") Duration pollInterval,
+                             @Value("${app.course-events.batch-size:100}") int batchSize) {
+        this.courseClient = courseClient;
+        this.enrollmentRepository = enrollmentRepository;
+        this.courseEventCursorRepository = courseEventCursorRepository;
+        this.pollInterval = pollInterval;
+        this.batchSize = batchSize;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        //a full batch means there are more events waiting, so keep polling until caught up
+        //a poll that runs past the interval skips the ticks it missed instead of queueing them up
+        polling = Flux.interval(Duration.ZERO, pollInterval)
+                .onBackpressureDrop()
+                .flatMap(tick -> poll()
+                        .expand(applied -> applied == batchSize ? poll() : Mono.empty())
+                        .onErrorResume(e -> {
+                            log.warn("Polling course events failed, retrying in {}: {}", pollInterval, e.toString());
+                            return Mono.empty();
+                        }), 1)
+                .subscribe();
+    }
+
+    //applies the next batch of events, returns how many there were
+    public Mono<Integer> poll() {
+        return courseEventCursorRepository.findById(CURSOR_ID)
+                .defaultIfEmpty(CourseEventCursor.builder().id(CURSOR_ID).lastEventId(0).build())
+                .flatMap(cursor -> courseClient.getCourseEventsAfter(cursor.getLastEventId(), batchSize)
+                        .concatMap(event -> apply(event).thenReturn(event))
+                        .reduce(0, (applied, event) -> {
+                            cursor.setLastEventId(event.getEventId());
+                            return applied + 1;
+                        })
+                        .flatMap(applied -> applied == 0
+                                ? Mono.just(0)
+                                : courseEventCursorRepository.save(cursor).thenReturn(applied)));
+    }
+
+    private Mono<Long> apply(CourseEventResponseModel event) {
+        courseClient.invalidateCourse(event.getCourseId());
+        if (!"UPDATED".equals(event.getEventType())) {
+            return Mono.just(0L);
+        }
+        return enrollmentRepository.updateCourseFieldsByCourseId(event.getCourseId(), event.getCourseNumber(), event.getCourseName())
+                .doOnNext(updated -> log.debug("Course {} changed, updated {} enrollments", event.getCourseId(), updated));
+    }
+
+    @Override
+    public void destroy() {
+        if (polling != null) {
+            polling.dispose();
+        }
+    }
+}
@@ -0,0 +1,10 @@
+package com.champlain.enrollmentsservice.businesslayer.enrollments;
+
+import com.champlain.enrollmentsservice.presentationlayer.enrollments.EnrollmentBulkResultModel;
+import com.champlain.enrollmentsservice.presentationlayer.enrollments.EnrollmentRequestModel;
+import reactor.core.publisher.Flux;
+
+public interface EnrollmentBulkService {
+
+    Flux<EnrollmentBulkResultModel> addEnrollments(Flux<EnrollmentRequestModel> enrollmentRequestModels);
+}
@@ -0,0 +1,195 @@
+package com.champlain.enrollmentsservice.businesslayer.enrollments;
+
+import com.champlain.enrollmentsservice.dataaccesslayer.Enrollment;
+import com.champlain.enrollmentsservice.dataaccesslayer.EnrollmentRepository;
+import com.champlain.enrollmentsservice.domainclientlayer.Courses.CourseResponseModel;
+import com.champlain.enrollmentsservice.domainclientlayer.Students.StudentResponseModel;
+import com.champlain.enrollmentsservice.presentationlayer.enrollments.EnrollmentBulkResultModel;
+import com.champlain.enrollmentsservice.presentationlayer.enrollments.EnrollmentBulkStatus;
+import com.champlain.enrollmentsservice.presentationlayer.enrollments.EnrollmentRequestModel;
+import com.champlain.enrollmentsservice.utils.exceptions.EntityModelUtil;
+import com.mongodb.MongoBulkWriteException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/*
+   Imports an NDJSON upload chunk by chunk: every chunk costs one student batch call, one course batch call
+   and one Mongo insert, and the next chunk is only pulled from the request body once the previous one is written.
+   A bad line is reported back with its line number, it never fails the rest of the upload.
+   chunk-size is capped at the 1000 ids the students and courses batch endpoints accept per call.
+ */
+@Service
+@Slf4j
+public class EnrollmentBulkServiceImpl implements EnrollmentBulkService {
+
+    static final int MAX_BATCH_SIZE = 1000;
+
+    private final EnrollmentRepository enrollmentRepository;
+    private final EnrollmentLookupLoader enrollmentLookupLoader;
+    private final int chunkSize;
+
+    public EnrollmentBulkServiceImpl(EnrollmentRepository enrollmentRepository, EnrollmentLookupLoader enrollmentLookupLoader,
+                                     @Value("${app.bulk-import.chunk-size:500}") int chunkSize) {
+        if (chunkSize < 1 || chunkSize > MAX_BATCH_SIZE) {
+            throw new IllegalArgumentException("app.bulk-import.chunk-size must be between 1 and " + MAX_BATCH_SIZE + ": " + chunkSize);
+        }
+        this.enrollmentRepository = enrollmentRepository;
+        this.enrollmentLookupLoader = enrollmentLookupLoader;
+        this.chunkSize = chunkSize;
+    }
+
+    @Override
+    public Flux<EnrollmentBulkResultModel> addEnrollments(Flux<EnrollmentRequestModel> enrollmentRequestModels) {
+        return enrollmentRequestModels
+                .index((index, model) -> new BulkLine(index + 1, model))
+                .buffer(chunkSize)
+                // prefetch of 1 so at most one chunk is waiting while another is being written
+                .concatMap(this::importChunk, 1);
+    }
+
+    private Flux<EnrollmentBulkResultModel> importChunk(List<BulkLine> chunk) {
+        Set<String> studentIds = new LinkedHashSet<>();
+        Set<String> courseIds = new LinkedHashSet<>();
+        chunk.forEach(line -> {
+            if (isValidId(line.model().getStudentId())) {
+                studentIds.add(line.model().getStudentId());
+            }
+            if (isValidId(line.model().getCourseId())) {
+                courseIds.add(line.model().getCourseId());
+            }
+        });
+
+        return Mono.zip(enrollmentLookupLoader.loadStudents(studentIds), enrollmentLookupLoader.loadCourses(courseIds))
+                .flatMapMany(found -> writeChunk(chunk, found.getT1(), found.getT2()))
+                .onErrorResume(e -> {
+                    log.warn("Bulk import chunk starting at line {} failed: {}", chunk.get(0).line(), e.getMessage());
+                    return Flux.fromIterable(chunk)
+                            .map(line -> rejected(line, "Chunk could not be imported: " + e.getMessage()));
+                });
+    }
+
+    private Flux<EnrollmentBulkResultModel> writeChunk(List<BulkLine> chunk,
+                                                       Map<String, StudentResponseModel> students,
+                                                       Map<String, CourseResponseModel> courses) {
+        List<EnrollmentBulkResultModel> results = new ArrayList<>(chunk.size());
+        List<Integer> acceptedPositions = new ArrayList<>();
+        List<Enrollment> accepted = new ArrayList<>();
+
+        for (BulkLine line : chunk) {
+            String problem = validate(line.model(), students, courses);
+            if (problem != null) {
+                results.add(rejected(line, problem));
+                continue;
+            }
+            RequestContext rc = new RequestContext(line.model(), null,
+                    students.get(line.model().getStudentId()), courses.get(line.model().getCourseId()));
+            acceptedPositions.add(results.size());
+            accepted.add(EntityModelUtil.toEnrollmentEntity(rc));
+            results.add(null);
+        }
+
+        if (accepted.isEmpty()) {
+            return Flux.fromIterable(results);
+        }
+
+        // unordered, so a failed document (e.g. a duplicate enrollmentId) doesn't keep the rest of the chunk out
+        return enrollmentRepository.insertUnordered(accepted)
+                .then(Mono.fromCallable(() -> {
+                    for (int i = 0; i < accepted.size(); i++) {
+                        int position = acceptedPositions.get(i);
+                        results.set(position, created(chunk.get(position), accepted.get(i)));
+                    }
+                    return results;
+                }))
+                .onErrorResume(e -> bulkWriteException(e) != null, e -> {
+                    MongoBulkWriteException bulkWriteException = bulkWriteException(e);
+                    Map<Integer, String> failed = new HashMap<>();
+                    bulkWriteException.getWriteErrors().forEach(error -> failed.put(error.getIndex(), error.getMessage()));
+                    Set<Integer> inserted = new HashSet<>();
+                    if (bulkWriteException.getWriteResult().wasAcknowledged()) {
+                        bulkWriteException.getWriteResult().getInserts().forEach(insert -> inserted.add(insert.getIndex()));
+                    }
+                    log.warn("Bulk import chunk starting at line {}: {} of {} enrollments written", chunk.get(0).line(),
+                            inserted.size(), accepted.size());
+
+                    for (int i = 0; i < accepted.size(); i++) {
+                        int position = acceptedPositions.get(i);
+                        BulkLine line = chunk.get(position);
+                        if (failed.containsKey(i)) {
+                            results.set(position, rejected(line, "Enrollment could not be written: " + failed.get(i)));
+                        } else if (inserted.contains(i)) {
+                            results.set(position, created(line, accepted.get(i)));
+                        } else {
+                            results.set(position, rejected(line, "Enrollment write not confirmed: " + bulkWriteException.getMessage()));
+                        }
+                    }
+                    return Mono.just(results);
+                })
+                .flatMapIterable(written -> written);
+    }
+
+    //Spring's exception translation keeps the driver exception as the cause
+    private static MongoBulkWriteException bulkWriteException(Throwable e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof MongoBulkWriteException bulkWriteException) {
+                return bulkWriteException;
+            }
+        }
+        return null;
+    }
+
+    private String validate(EnrollmentRequestModel model,
+                            Map<String, StudentResponseModel> students,
+                            Map<String, CourseResponseModel> courses) {
+        if (!isValidId(model.getStudentId())) {
+            return "StudentId invalid: " + model.getStudentId();
+        }
+        if (!isValidId(model.getCourseId())) {
+            return "CourseId invalid: " + model.getCourseId();
+        }
+        if (!students.containsKey(model.getStudentId())) {
+            return "StudentId not found: " + model.getStudentId();
+        }
+        if (!courses.containsKey(model.getCourseId())) {
+            return "CourseId not found: " + model.getCourseId();
+        }
+        if (model.getEnrollmentYear() == null || model.getSemester() == null) {
+            return "Enrollment year and semester are required";
+        }
+        return null;
+    }
+
+    private static boolean isValidId(String id) {
+        return id != null && id.length() == 36;
+    }
+
+    private static EnrollmentBulkResultModel created(BulkLine line, Enrollment enrollment) {
+        return EnrollmentBulkResultModel.builder()
+                .line(line.line())
+                .status(EnrollmentBulkStatus.CREATED)
+                .enrollment(EntityModelUtil.toEnrollmentResponseModel(enrollment))
+                .build();
+    }
+
+    private static EnrollmentBulkResultModel rejected(BulkLine line, String message) {
+        return EnrollmentBulkResultModel.builder()
+                .line(line.line())
+                .status(EnrollmentBulkStatus.REJECTED)
+                .message(message)
+                .build();
+    }
+
+    private record BulkLine(long line, EnrollmentRequestModel model) {
+    }
+}
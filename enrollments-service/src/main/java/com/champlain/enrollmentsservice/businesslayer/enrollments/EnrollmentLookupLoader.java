@@ -0,0 +1,98 @@
+package com.champlain.enrollmentsservice.businesslayer.enrollments;
+
+import com.champlain.enrollmentsservice.domainclientlayer.Courses.CourseClient;
+import com.champlain.enrollmentsservice.domainclientlayer.Courses.CourseResponseModel;
+import com.champlain.enrollmentsservice.domainclientlayer.Students.StudentClientAsynchronous;
+import com.champlain.enrollmentsservice.domainclientlayer.Students.StudentResponseModel;
+import com.champlain.enrollmentsservice.utils.BatchLoader;
+import com.champlain.enrollmentsservice.utils.exceptions.InvalidInputException;
+import com.champlain.enrollmentsservice.utils.exceptions.NotFoundException;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Map;
+
+//sits between the enrollment service and the domain clients so concurrent enrollments share their lookups
+@Component
+public class EnrollmentLookupLoader implements DisposableBean {
+
+    private final StudentClientAsynchronous studentClient;
+    private final CourseClient courseClient;
+
+    private final BatchLoader<String, StudentResponseModel> studentLoader;
+    private final BatchLoader<String, CourseResponseModel> courseLoader;
+
+    //per dependency, so a slow courses-service can't hold an enrollment longer than its own budget
+    private final Duration studentTimeout;
+    private final Duration courseTimeout;
+
+    public EnrollmentLookupLoader(StudentClientAsynchronous studentClient, CourseClient courseClient, MeterRegistry meterRegistry,
+                                  @Value("${app.lookup-batching.window:5ms}") Duration window,
+                                  @Value("${app.lookup-batching.max-batch-size:100}") int maxBatchSize,
+                                  @Value("${app.students-service.timeout:2s}") Duration studentTimeout,
+                                  @Value("${app.courses-service.timeout:2s}") Duration courseTimeout) {
+        this.studentClient = studentClient;
+        this.courseClient = courseClient;
+        this.studentTimeout = studentTimeout;
+        this.courseTimeout = courseTimeout;
+        this.studentLoader = new BatchLoader<>("students", maxBatchSize, window,
+                studentClient::getStudentsByStudentIds,
+                StudentResponseModel::getStudentId,
+                studentId -> new NotFoundException("StudentId not found: " + studentId),
+                meterRegistry);
+        this.courseLoader = new BatchLoader<>("courses", maxBatchSize, window,
+                courseClient::getCoursesByCourseIds,
+                CourseResponseModel::getCourseId,
+                courseId -> new NotFoundException("CourseId not found: " + courseId),
+                meterRegistry);
+    }
+
+    public Mono<StudentResponseModel> loadStudent(String studentId) {
+        // reject bad ids here, otherwise one bad id would fail the whole batch it lands in
+        if (studentId == null || studentId.length() != 36) {
+            return Mono.error(new InvalidInputException("StudentId invalid: " + studentId));
+        }
+        return studentLoader.load(studentId)
+                .timeout(studentTimeout);
+    }
+
+    public Mono<CourseResponseModel> loadCourse(String courseId) {
+        if (courseId == null || courseId.length() != 36) {
+            return Mono.error(new InvalidInputException("CourseId invalid: " + courseId));
+        }
+        return courseLoader.load(courseId)
+                .timeout(courseTimeout);
+    }
+
+    //bulk callers already have their ids grouped, so they go straight to the batch endpoints
+    public Mono<Map<String, StudentResponseModel>> loadStudents(Collection<String> studentIds) {
+        if (studentIds.isEmpty()) {
+            return Mono.just(Map.of());
+        }
+        return studentClient.getStudentsByStudentIds(new ArrayList<>(studentIds))
+                .collectMap(StudentResponseModel::getStudentId)
+                .timeout(studentTimeout);
+    }
+
+    public Mono<Map<String, CourseResponseModel>> loadCourses(Collection<String> courseIds) {
+        if (courseIds.isEmpty()) {
+            return Mono.just(Map.of());
+        }
+        return courseClient.getCoursesByCourseIds(new ArrayList<>(courseIds))
+                .collectMap(CourseResponseModel::getCourseId)
+                .timeout(courseTimeout);
+    }
+
+    //stops both pipelines, lookups still waiting fail instead of hanging until their timeout
+    @Override
+    public void destroy() {
+        studentLoader.dispose();
+        courseLoader.dispose();
+    }
+}
@@ -1,7 +1,10 @@
 package com.champlain.enrollmentsservice.businesslayer.enrollments;
 
+import com.champlain.enrollmentsservice.dataaccesslayer.Semester;
 import com.champlain.enrollmentsservice.presentationlayer.enrollments.EnrollmentRequestModel;
 import com.champlain.enrollmentsservice.presentationlayer.enrollments.EnrollmentResponseModel;
+import com.champlain.enrollmentsservice.presentationlayer.enrollments.EnrollmentRosterResponseModel;
+import com.champlain.enrollmentsservice.presentationlayer.enrollments.EnrollmentTimetableResponseModel;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
@@ -9,6 +12,8 @@ public interface EnrollmentService {
 
     Flux<EnrollmentResponseModel> getAllEnrollments();
     Mono<EnrollmentResponseModel> getEnrollmentByEnrollmentId(String enrollmentId);
+    Flux<EnrollmentTimetableResponseModel> getEnrollmentsByStudentId(String studentId);
+    Flux<EnrollmentRosterResponseModel> getEnrollmentsByCourseIdAndTerm(String courseId, Integer enrollmentYear, Semester semester);
     Mono<EnrollmentResponseModel> addEnrollment(Mono<EnrollmentRequestModel> enrollmentRequestModel);
     Mono<EnrollmentResponseModel> updateEnrollmentByEnrollmentId(Mono<EnrollmentRequestModel> enrollmentRequestModel, String enrollmentId);
     Mono<EnrollmentResponseModel> deleteEnrollmentByEnrollmentId(String enrollmentId);
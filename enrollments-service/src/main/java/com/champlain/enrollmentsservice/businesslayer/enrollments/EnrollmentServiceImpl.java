@@ -1,10 +1,13 @@
 package com.champlain.enrollmentsservice.businesslayer.enrollments;
 
 import com.champlain.enrollmentsservice.dataaccesslayer.EnrollmentRepository;
-import com.champlain.enrollmentsservice.domainclientlayer.Courses.CourseClient;
-import com.champlain.enrollmentsservice.domainclientlayer.Students.StudentClientAsynchronous;
+import com.champlain.enrollmentsservice.dataaccesslayer.Semester;
+import com.champlain.enrollmentsservice.domainclientlayer.Courses.CourseResponseModel;
+import com.champlain.enrollmentsservice.domainclientlayer.Students.StudentResponseModel;
 import com.champlain.enrollmentsservice.presentationlayer.enrollments.EnrollmentRequestModel;
 import com.champlain.enrollmentsservice.presentationlayer.enrollments.EnrollmentResponseModel;
+import com.champlain.enrollmentsservice.presentationlayer.enrollments.EnrollmentRosterResponseModel;
+import com.champlain.enrollmentsservice.presentationlayer.enrollments.EnrollmentTimetableResponseModel;
 import com.champlain.enrollmentsservice.utils.exceptions.EntityModelUtil;
 import com.champlain.enrollmentsservice.utils.exceptions.NotFoundException;
 import lombok.extern.slf4j.Slf4j;
@@ -17,13 +20,11 @@ import reactor.core.publisher.Mono;
 public class EnrollmentServiceImpl implements EnrollmentService {
 
     private final EnrollmentRepository enrollmentRepository;
-    private final CourseClient courseClient;
-    private final StudentClientAsynchronous studentClient;
+    private final EnrollmentLookupLoader enrollmentLookupLoader;
 
-    public EnrollmentServiceImpl(EnrollmentRepository enrollmentRepository, CourseClient courseClient, StudentClientAsynchronous studentClient) {
+    public EnrollmentServiceImpl(EnrollmentRepository enrollmentRepository, EnrollmentLookupLoader enrollmentLookupLoader) {
         this.enrollmentRepository = enrollmentRepository;
-        this.courseClient = courseClient;
-        this.studentClient = studentClient;
+        this.enrollmentLookupLoader = enrollmentLookupLoader;
     }
 
     @Override
@@ -40,12 +41,23 @@ public class EnrollmentServiceImpl implements EnrollmentService {
                 .map(EntityModelUtil::toEnrollmentResponseModel);
     }
 
+    @Override
+    public Flux<EnrollmentTimetableResponseModel> getEnrollmentsByStudentId(String studentId) {
+        return enrollmentRepository.findAllByStudentId(studentId)
+                .map(EntityModelUtil::toEnrollmentTimetableResponseModel);
+    }
+
+    @Override
+    public Flux<EnrollmentRosterResponseModel> getEnrollmentsByCourseIdAndTerm(String courseId, Integer enrollmentYear, Semester semester) {
+        return enrollmentRepository.findAllByCourseIdAndEnrollmentYearAndSemester(courseId, enrollmentYear, semester)
+                .map(EntityModelUtil::toEnrollmentRosterResponseModel);
+    }
+
     @Override
     public Mono<EnrollmentResponseModel> addEnrollment(Mono<EnrollmentRequestModel> enrollmentRequestModel) {
         return enrollmentRequestModel
                 .map(RequestContext::new)
-                .flatMap(this::studentRequestResponse)
-                .flatMap(this::courseRequestResponse)
+                .flatMap(this::studentAndCourseRequestResponse)
                 .map(EntityModelUtil::toEnrollmentEntity)
                 .flatMap(enrollmentRepository::save)
                 .map(EntityModelUtil::toEnrollmentResponseModel);
@@ -57,8 +69,7 @@ public class EnrollmentServiceImpl implements EnrollmentService {
                 .switchIfEmpty(Mono.defer(() -> Mono.error(new NotFoundException("Enrollment id not found: " + enrollmentId))))
                 .flatMap(found -> enrollmentRequestModel
                         .map(RequestContext::new)
-                        .flatMap(this::studentRequestResponse)
-                        .flatMap(this::courseRequestResponse)
+                        .flatMap(this::studentAndCourseRequestResponse)
                         .map(EntityModelUtil::toEnrollmentEntity)
                         .doOnNext(e -> e.setCourseId(found.getCourseId()))
                         .doOnNext(e -> e.setId(found.getId()))
@@ -76,17 +87,24 @@ public class EnrollmentServiceImpl implements EnrollmentService {
                 .map(EntityModelUtil::toEnrollmentResponseModel);
     }
 
-    private Mono<RequestContext> studentRequestResponse(RequestContext rc) {
-        return studentClient
-                .getStudentByStudentId(rc.getEnrollmentRequestModel().getStudentId())
-                .doOnNext(rc::setStudentResponseModel)
-                .thenReturn(rc);
-    }
+    /*
+       The student and course lookups don't depend on each other, so they run at the same time
+       and the enrollment waits for the slower one instead of the sum of both.
+       When both fail the student error wins, whichever answers first. So a student failure fails the enrollment
+       straight away and cancels the course lookup, but a course failure waits for the student lookup
+       (at most its own deadline) and only goes out if the student was found.
+     */
+    private Mono<RequestContext> studentAndCourseRequestResponse(RequestContext rc) {
+        Mono<StudentResponseModel> student = enrollmentLookupLoader.loadStudent(rc.getEnrollmentRequestModel().getStudentId())
+                .cache();
+        Mono<CourseResponseModel> course = enrollmentLookupLoader.loadCourse(rc.getEnrollmentRequestModel().getCourseId())
+                .onErrorResume(courseError -> student.then(Mono.error(courseError)));
 
-    private Mono<RequestContext> courseRequestResponse(RequestContext rc) {
-        return courseClient
-                .getCourseByCourseId(rc.getEnrollmentRequestModel().getCourseId())
-                .doOnNext(rc::setCourseResponseModel)
-                .thenReturn(rc);
+        return Mono.zip(student, course)
+                .map(results -> {
+                    rc.setStudentResponseModel(results.getT1());
+                    rc.setCourseResponseModel(results.getT2());
+                    return rc;
+                });
     }
 }
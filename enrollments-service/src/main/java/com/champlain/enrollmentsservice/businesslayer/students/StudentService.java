@@ -9,11 +9,14 @@ import java.util.List;
 
 public interface StudentService {
     Flux<StudentResponseModel> getAllStudents();
-    List<StudentResponseModel> get1000StudentsSyncLoop();
-    List<StudentResponseModel> get1000StudentsSyncParallel();
+    Mono<List<StudentResponseModel>> get1000StudentsSyncLoop();
+    Mono<List<StudentResponseModel>> get1000StudentsSyncParallel();
+    Mono<List<StudentResponseModel>> get1000StudentsSyncBatched();
     Flux<StudentResponseModel> get1000StudentsAsync();
     Flux<StudentResponseModel> get1000StudentsAsyncParallel();
     Flux<StudentResponseModel> get1000StudentsAsyncBounded();
+    Flux<StudentResponseModel> get1000StudentsAsyncBatched();
+    Flux<StudentResponseModel> getStudentsByRowRange(int from, int to, int concurrency, boolean ordered);
     Mono<StudentResponseModel> getStudentByStudentId(String studentId);
 
 }
@@ -7,6 +7,7 @@ import com.champlain.enrollmentsservice.domainclientlayer.Students.StudentRespon
 import org.springframework.stereotype.Service;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
 
 import java.util.List;
 
@@ -15,10 +16,13 @@ public class StudentServiceImpl implements StudentService {
 
     private final StudentClientSynchronous studentClientSynchronous;
     private final StudentClientAsynchronous studentClientAsynchronous;
+    private final Scheduler blockingClientScheduler;
 
-    public StudentServiceImpl(StudentClientSynchronous studentClientSynchronous, StudentClientAsynchronous studentClientAsynchronous) {
+    public StudentServiceImpl(StudentClientSynchronous studentClientSynchronous, StudentClientAsynchronous studentClientAsynchronous,
+                              Scheduler blockingClientScheduler) {
         this.studentClientSynchronous = studentClientSynchronous;
         this.studentClientAsynchronous = studentClientAsynchronous;
+        this.blockingClientScheduler = blockingClientScheduler;
     }
 
     @Override
@@ -26,15 +30,23 @@ public class StudentServiceImpl implements StudentService {
         return studentClientAsynchronous.getAllStudents();
     }
 
-    //synchronous
+    //synchronous, the blocking RestTemplate work is moved off the event loop onto the blocking-client scheduler
     @Override
-    public List<StudentResponseModel> get1000StudentsSyncLoop() {
-        return studentClientSynchronous.get1000StudentsLoop();
+    public Mono<List<StudentResponseModel>> get1000StudentsSyncLoop() {
+        return Mono.fromCallable(studentClientSynchronous::get1000StudentsLoop)
+                .subscribeOn(blockingClientScheduler);
     }
 
     @Override
-    public List<StudentResponseModel> get1000StudentsSyncParallel() {
-        return studentClientSynchronous.get1000StudentsSyncParallel();
+    public Mono<List<StudentResponseModel>> get1000StudentsSyncParallel() {
+        return Mono.fromCallable(studentClientSynchronous::get1000StudentsSyncParallel)
+                .subscribeOn(blockingClientScheduler);
+    }
+
+    @Override
+    public Mono<List<StudentResponseModel>> get1000StudentsSyncBatched() {
+        return Mono.fromCallable(studentClientSynchronous::get1000StudentsSyncBatched)
+                .subscribeOn(blockingClientScheduler);
     }
 
     //asynchronous
@@ -53,6 +65,16 @@ public class StudentServiceImpl implements StudentService {
         return studentClientAsynchronous.get1000StudentsAsyncBounded();
     }
 
+    @Override
+    public Flux<StudentResponseModel> get1000StudentsAsyncBatched() {
+        return studentClientAsynchronous.get1000StudentsAsyncBatched();
+    }
+
+    @Override
+    public Flux<StudentResponseModel> getStudentsByRowRange(int from, int to, int concurrency, boolean ordered) {
+        return studentClientAsynchronous.getStudentsByRowRange(from, to, concurrency, ordered);
+    }
+
     @Override
     public Mono<StudentResponseModel> getStudentByStudentId(String studentId) {
         return studentClientAsynchronous.getStudentByStudentId(studentId);
@@ -0,0 +1,21 @@
+package com.champlain.enrollmentsservice.dataaccesslayer;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+//how far the course events have been applied, so a restart carries on from there instead of from the start
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Document
+public class CourseEventCursor {
+
+    @Id
+    private String id;
+    private Integer lastEventId;
+}
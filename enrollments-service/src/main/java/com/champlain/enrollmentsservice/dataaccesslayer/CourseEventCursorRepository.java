@@ -0,0 +1,6 @@
+package com.champlain.enrollmentsservice.dataaccesslayer;
+
+import org.springframework.data.mongodb.repository.ReactiveMongoRepository;
+
+public interface CourseEventCursorRepository extends ReactiveMongoRepository<CourseEventCursor, String> {
+}
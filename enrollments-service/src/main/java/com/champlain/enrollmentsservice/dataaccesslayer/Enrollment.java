@@ -5,15 +5,26 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.CompoundIndexes;
+import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.mapping.Document;
 
 @Data
 @Builder
 @AllArgsConstructor
 @NoArgsConstructor
+@Document
+//studentId / courseId alone are served by the prefix of these, so no single-field index for them
+@CompoundIndexes({
+        @CompoundIndex(name = "student_year_semester", def = "{'studentId': 1, 'enrollmentYear': 1, 'semester': 1}"),
+        @CompoundIndex(name = "course_year_semester", def = "{'courseId': 1, 'enrollmentYear': 1, 'semester': 1}")
+})
 public class Enrollment {
 
     @Id
     private String id;
+    @Indexed(unique = true)
     private String enrollmentId;
     private Integer enrollmentYear;
     private Semester semester;
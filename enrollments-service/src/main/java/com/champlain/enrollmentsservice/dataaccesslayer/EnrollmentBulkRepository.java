@@ -0,0 +1,13 @@
+package com.champlain.enrollmentsservice.dataaccesslayer;
+
+import com.mongodb.bulk.BulkWriteResult;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+public interface EnrollmentBulkRepository {
+
+    //one unordered bulk write, a document that fails doesn't stop the ones after it from being written.
+    //on a partial failure the error carries a MongoBulkWriteException with the inserted and failed indexes
+    Mono<BulkWriteResult> insertUnordered(List<Enrollment> enrollments);
+}
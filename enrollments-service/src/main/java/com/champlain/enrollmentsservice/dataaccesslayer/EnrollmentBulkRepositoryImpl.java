@@ -0,0 +1,25 @@
+package com.champlain.enrollmentsservice.dataaccesslayer;
+
+import com.mongodb.bulk.BulkWriteResult;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+//picked up by EnrollmentRepository as a fragment, Spring Data only does ordered inserts
+public class EnrollmentBulkRepositoryImpl implements EnrollmentBulkRepository {
+
+    private final ReactiveMongoTemplate mongoTemplate;
+
+    public EnrollmentBulkRepositoryImpl(ReactiveMongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    @Override
+    public Mono<BulkWriteResult> insertUnordered(List<Enrollment> enrollments) {
+        return mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Enrollment.class)
+                .insert(enrollments)
+                .execute();
+    }
+}
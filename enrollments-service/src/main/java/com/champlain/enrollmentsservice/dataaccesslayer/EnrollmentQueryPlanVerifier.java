@@ -0,0 +1,77 @@
+package com.champlain.enrollmentsservice.dataaccesslayer;
+
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.index.MongoPersistentEntityIndexResolver;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/*
+   Startup self-check: explains every hot enrollment lookup and refuses to start if one of them is a COLLSCAN.
+   Auto index creation runs asynchronously on the reactive driver, so the indexes declared on Enrollment
+   are ensured here first, otherwise the check could run before they exist.
+ */
+@Component
+@Slf4j
+@ConditionalOnProperty(name = "app.query-plan-check.enabled", havingValue = "true")
+public class EnrollmentQueryPlanVerifier implements ApplicationRunner {
+
+    private static final String SAMPLE_ID = "00000000-0000-0000-0000-000000000000";
+
+    private static final Map<String, Document> HOT_QUERIES = new LinkedHashMap<>();
+
+    static {
+        HOT_QUERIES.put("enrollmentId", new Document("enrollmentId", SAMPLE_ID));
+        HOT_QUERIES.put("studentId", new Document("studentId", SAMPLE_ID));
+        HOT_QUERIES.put("courseId/enrollmentYear/semester", new Document("courseId", SAMPLE_ID)
+                .append("enrollmentYear", 2024)
+                .append("semester", Semester.FALL.name()));
+    }
+
+    private final ReactiveMongoTemplate mongoTemplate;
+
+    public EnrollmentQueryPlanVerifier(ReactiveMongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        String collection = mongoTemplate.getCollectionName(Enrollment.class);
+
+        List<String> collectionScans = ensureIndexes()
+                .thenMany(Flux.fromIterable(HOT_QUERIES.entrySet()))
+                .concatMap(query -> explain(collection, query.getValue())
+                        .doOnNext(plan -> log.info("Query plan for lookup by {}: {}", query.getKey(), plan.toJson()))
+                        .filter(plan -> plan.toJson().contains("\"COLLSCAN\""))
+                        .map(plan -> query.getKey()))
+                .collectList()
+                .block();
+
+        if (collectionScans != null && !collectionScans.isEmpty()) {
+            throw new IllegalStateException("Hot enrollment lookups fall back to a COLLSCAN: " + collectionScans);
+        }
+    }
+
+    private Mono<Void> ensureIndexes() {
+        MongoPersistentEntityIndexResolver resolver = new MongoPersistentEntityIndexResolver(mongoTemplate.getConverter().getMappingContext());
+        return Flux.fromIterable(resolver.resolveIndexFor(Enrollment.class))
+                .concatMap(index -> mongoTemplate.indexOps(Enrollment.class).ensureIndex(index))
+                .then();
+    }
+
+    private Mono<Document> explain(String collection, Document filter) {
+        Document command = new Document("explain", new Document("find", collection).append("filter", filter))
+                .append("verbosity", "queryPlanner");
+        return mongoTemplate.executeCommand(command)
+                .map(result -> result.get("queryPlanner", Document.class).get("winningPlan", Document.class));
+    }
+}
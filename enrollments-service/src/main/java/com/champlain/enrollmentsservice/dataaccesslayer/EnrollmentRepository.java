@@ -1,9 +1,27 @@
 package com.champlain.enrollmentsservice.dataaccesslayer;
 
+import org.springframework.data.mongodb.repository.Query;
 import org.springframework.data.mongodb.repository.ReactiveMongoRepository;
+import org.springframework.data.mongodb.repository.Update;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
-public interface EnrollmentRepository extends ReactiveMongoRepository<Enrollment, String>{
+public interface EnrollmentRepository extends ReactiveMongoRepository<Enrollment, String>, EnrollmentBulkRepository {
 
     Mono<Enrollment> findEnrollmentByEnrollmentId(String enrollmentId);
+
+    //a student's timetable, only the course side of each enrollment is read (student_year_semester index)
+    @Query(value = "{ 'studentId': ?0 }",
+            fields = "{ 'enrollmentId': 1, 'enrollmentYear': 1, 'semester': 1, 'studentId': 1, 'courseId': 1, 'courseNumber': 1, 'courseName': 1 }")
+    Flux<Enrollment> findAllByStudentId(String studentId);
+
+    //a course roster for one term, only the student side of each enrollment is read (course_year_semester index)
+    @Query(value = "{ 'courseId': ?0, 'enrollmentYear': ?1, 'semester': ?2 }",
+            fields = "{ 'enrollmentId': 1, 'enrollmentYear': 1, 'semester': 1, 'courseId': 1, 'studentId': 1, 'studentFirstName': 1, 'studentLastName': 1 }")
+    Flux<Enrollment> findAllByCourseIdAndEnrollmentYearAndSemester(String courseId, Integer enrollmentYear, Semester semester);
+
+    //one updateMany for every enrollment in a course when the course is renamed (prefix of the course_year_semester index)
+    @Query("{ 'courseId': ?0 }")
+    @Update("{ '$set': { 'courseNumber': ?1, 'courseName': ?2 } }")
+    Mono<Long> updateCourseFieldsByCourseId(String courseId, String courseNumber, String courseName);
 }
@@ -0,0 +1,21 @@
+package com.champlain.enrollmentsservice.datamapperlayer;
+
+import com.champlain.enrollmentsservice.dataaccesslayer.Enrollment;
+import com.champlain.enrollmentsservice.presentationlayer.enrollments.EnrollmentResponseModel;
+import com.champlain.enrollmentsservice.presentationlayer.enrollments.EnrollmentRosterResponseModel;
+import com.champlain.enrollmentsservice.presentationlayer.enrollments.EnrollmentTimetableResponseModel;
+import org.mapstruct.Mapper;
+
+import java.util.List;
+
+@Mapper
+public interface EnrollmentResponseMapper {
+
+    EnrollmentResponseModel entityToResponseModel(Enrollment enrollment);
+
+    List<EnrollmentResponseModel> entityListToResponseModelList(List<Enrollment> enrollments);
+
+    EnrollmentTimetableResponseModel entityToTimetableResponseModel(Enrollment enrollment);
+
+    EnrollmentRosterResponseModel entityToRosterResponseModel(Enrollment enrollment);
+}
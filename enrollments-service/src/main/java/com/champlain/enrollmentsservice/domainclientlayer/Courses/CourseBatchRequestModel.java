@@ -0,0 +1,17 @@
+package com.champlain.enrollmentsservice.domainclientlayer.Courses;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CourseBatchRequestModel {
+
+    private List<String> courseIds;
+}
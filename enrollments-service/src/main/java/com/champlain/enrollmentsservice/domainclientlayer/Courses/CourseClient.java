@@ -1,34 +1,147 @@
 package com.champlain.enrollmentsservice.domainclientlayer.Courses;
 
+import com.champlain.enrollmentsservice.domainclientlayer.DownstreamResilience;
+import com.champlain.enrollmentsservice.domainclientlayer.DownstreamWebClientFactory;
 import com.champlain.enrollmentsservice.utils.HttpErrorInfo;
 import com.champlain.enrollmentsservice.utils.exceptions.InvalidInputException;
 import com.champlain.enrollmentsservice.utils.exceptions.NotFoundException;
+import com.champlain.enrollmentsservice.utils.exceptions.ServiceUnavailableException;
+import com.github.benmanes.caffeine.cache.AsyncCacheLoader;
+import com.github.benmanes.caffeine.cache.AsyncLoadingCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.WebClient;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import org.springframework.http.HttpStatusCode;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
 @Service
 public class CourseClient {
 
     private final WebClient webClient;
     private final String courseClientServiceBaseURL;
+    private final DownstreamResilience downstreamResilience;
+
+    /*
+       Course catalog data almost never changes, so lookups go through an in-process async cache.
+       Concurrent misses for the same courseId share one request (Caffeine only loads a key once at a time)
+       and 404s are cached too, for a shorter time, so a bad courseId doesn't hammer courses-service.
+
+       Each course keeps the ETag it came with. Once it is older than revalidate-after the next read still gets
+       the cached course while a conditional GET goes out in the background, a 304 keeps it for another ttl
+       without sending the body again. ttl only runs out when revalidation keeps failing.
+       Courses that came in a batch have no ETag header, their validator is built from the version in the body.
+     */
+    private final AsyncLoadingCache<String, CachedCourse> courseCache;
+
+    //must match CourseController.REPRESENTATION in courses-service, or batch-loaded courses never get a 304
+    private static final String COURSES_REPRESENTATION = "r1";
+
+    private final Counter notModified;
+    private final Counter modified;
 
     public CourseClient(@Value("${app.courses-service.host}") String coursesServiceHost,
-                         @Value("${app.courses-service.port}") String coursesServicePort) {
+                         @Value("${app.courses-service.port}") String coursesServicePort,
+                         @Value("${app.courses-service.cache.maximum-size:10000}") long cacheMaximumSize,
+                         @Value("${app.courses-service.cache.ttl:10m}") Duration cacheTtl,
+                         @Value("${app.courses-service.cache.negative-ttl:30s}") Duration cacheNegativeTtl,
+                         @Value("${app.courses-service.cache.revalidate-after:1m}") Duration cacheRevalidateAfter,
+                         MeterRegistry meterRegistry,
+                         DownstreamWebClientFactory downstreamWebClientFactory,
+                         DownstreamResilience downstreamResilience) {
         courseClientServiceBaseURL = "http://" + coursesServiceHost + ":" + coursesServicePort + "/api/v1/courses";
 
-        this.webClient = WebClient.builder()
-                .baseUrl(courseClientServiceBaseURL)
-                .build();
+        this.webClient = downstreamWebClientFactory.create("courses-service", courseClientServiceBaseURL);
+        this.downstreamResilience = downstreamResilience;
+
+        this.courseCache = Caffeine.newBuilder()
+                .maximumSize(cacheMaximumSize)
+                .expireAfter(new CachedCourseExpiry(cacheTtl, cacheNegativeTtl))
+                .refreshAfterWrite(cacheRevalidateAfter)
+                .recordStats()
+                .buildAsync(new CourseCacheLoader());
+
+        // publishes cache.gets (hit/miss), cache.evictions, cache.size... tagged cache=courses on /actuator/metrics
+        CaffeineCacheMetrics.monitor(meterRegistry, courseCache, "courses");
+
+        this.notModified = revalidations(meterRegistry, "not_modified");
+        this.modified = revalidations(meterRegistry, "modified");
+    }
+
+    private static Counter revalidations(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("courses.cache.revalidations")
+                .description("Conditional GETs for cached courses, by whether the course had changed")
+                .tag("result", result)
+                .register(meterRegistry);
     }
 
     public Mono<CourseResponseModel> getCourseByCourseId(String courseId) {
-        return webClient.get()
+        // suppress cancel so one cancelled caller doesn't cancel the load other callers are waiting on
+        return Mono.fromFuture(() -> courseCache.get(courseId), true)
+                .flatMap(cached -> cached.course() == null
+                        ? Mono.error(new NotFoundException("CourseId not found: " + courseId))
+                        : Mono.just(cached.course()));
+    }
+
+    //Gets many courses in one call, courses that don't exist are missing from the result
+    public Flux<CourseResponseModel> getCoursesByCourseIds(List<String> courseIds) {
+        // cached courses are served locally, only the misses go out, as one batch
+        return Mono.fromFuture(() -> courseCache.getAll(courseIds), true)
+                .flatMapIterable(Map::values)
+                .filter(cached -> cached.course() != null)
+                .map(CachedCourse::course);
+    }
+
+    //course updates and deletes after the given event id, oldest first
+    public Flux<CourseEventResponseModel> getCourseEventsAfter(Integer after, int limit) {
+        return downstreamResilience.read("courses-service", webClient.get()
+                .uri(uriBuilder -> uriBuilder.path("/events")
+                        .queryParam("after", after)
+                        .queryParam("limit", limit)
+                        .build())
+                .retrieve()
+                .onStatus(HttpStatusCode::isError,
+                        error -> switch (error.statusCode().value()) {
+                            case 422 -> Mono.error(new InvalidInputException("Course events request invalid, after: " + after));
+                            case 500, 502, 503, 504 -> Mono.error(new ServiceUnavailableException("courses-service unavailable: " + error.statusCode().value()));
+                            default -> Mono.error(new IllegalArgumentException("Something went wrong"));
+                        })
+                .bodyToFlux(CourseEventResponseModel.class));
+    }
+
+    public void invalidateCourse(String courseId) {
+        courseCache.synchronous().invalidate(courseId);
+    }
+
+    public void invalidateAllCourses() {
+        courseCache.synchronous().invalidateAll();
+    }
+
+    //with an eTag this is a conditional GET, a 304 comes back as a response without a body
+    private Mono<ResponseEntity<CourseResponseModel>> fetchCourseByCourseId(String courseId, String eTag) {
+        return downstreamResilience.read("courses-service", webClient.get()
                 .uri("/{courseId}", courseId)
+                .headers(headers -> {
+                    if (eTag != null) {
+                        headers.setIfNoneMatch(eTag);
+                    }
+                })
                 .retrieve()
 //                .onStatus(HttpStatusCode::isError, httpErrorInfo ->
 //                        httpErrorInfo.bodyToMono(HttpErrorInfo.class)
@@ -46,11 +159,107 @@ public class CourseClient {
 //                )
                 .onStatus(HttpStatusCode::isError,
                         error -> switch (error.statusCode().value()) {
-                            case 404 -> Mono.error(new NotFoundException("StudentId not found: " + courseId));
-                            case 422 -> Mono.error(new InvalidInputException("StudentId invalid: " + courseId));
+                            case 404 -> Mono.error(new NotFoundException("CourseId not found: " + courseId));
+                            case 422 -> Mono.error(new InvalidInputException("CourseId invalid: " + courseId));
+                            case 500, 502, 503, 504 -> Mono.error(new ServiceUnavailableException("courses-service unavailable: " + error.statusCode().value()));
+                            default -> Mono.error(new IllegalArgumentException("Something went wrong"));
+                        })
+                .toEntity(CourseResponseModel.class));
+    }
+
+    private Flux<CourseResponseModel> fetchCoursesByCourseIds(List<String> courseIds) {
+        return downstreamResilience.read("courses-service", webClient.post()
+                .uri("/batch")
+                .bodyValue(CourseBatchRequestModel.builder()
+                        .courseIds(courseIds)
+                        .build())
+                .retrieve()
+                .onStatus(HttpStatusCode::isError,
+                        error -> switch (error.statusCode().value()) {
+                            case 422 -> Mono.error(new InvalidInputException("Course batch invalid"));
+                            case 500, 502, 503, 504 -> Mono.error(new ServiceUnavailableException("courses-service unavailable: " + error.statusCode().value()));
                             default -> Mono.error(new IllegalArgumentException("Something went wrong"));
                         })
-                .bodyToMono(CourseResponseModel.class);
+                .bodyToFlux(CourseResponseModel.class));
+    }
+
+    //the same weak ETag courses-service sends with GET /{courseId}
+    private static String eTag(CourseResponseModel course) {
+        return course.getVersion() == null ? null : "W/\"" + course.getVersion() + "-" + COURSES_REPRESENTATION + "\"";
+    }
+
+    //a null course is a cached 404, eTag is null for 404s and for courses that came without a version
+    private record CachedCourse(CourseResponseModel course, String eTag) {
     }
 
+    private class CourseCacheLoader implements AsyncCacheLoader<String, CachedCourse> {
+
+        @Override
+        public CompletableFuture<CachedCourse> asyncLoad(String courseId, Executor executor) {
+            return fetchCourseByCourseId(courseId, null)
+                    .map(response -> new CachedCourse(response.getBody(), response.getHeaders().getETag()))
+                    .onErrorResume(NotFoundException.class, e -> Mono.just(new CachedCourse(null, null)))
+                    .toFuture();
+        }
+
+        @Override
+        public CompletableFuture<CachedCourse> asyncReload(String courseId, CachedCourse cached, Executor executor) {
+            if (cached.eTag() == null) {
+                return asyncLoad(courseId, executor);
+            }
+            return fetchCourseByCourseId(courseId, cached.eTag())
+                    .map(response -> {
+                        if (response.getStatusCode() == HttpStatus.NOT_MODIFIED) {
+                            notModified.increment();
+                            //a new instance, so Caffeine counts it as an update and starts a new ttl
+                            return new CachedCourse(cached.course(), cached.eTag());
+                        }
+                        modified.increment();
+                        return new CachedCourse(response.getBody(), response.getHeaders().getETag());
+                    })
+                    .onErrorResume(NotFoundException.class, e -> Mono.just(new CachedCourse(null, null)))
+                    .toFuture();
+        }
+
+        @Override
+        public CompletableFuture<Map<String, CachedCourse>> asyncLoadAll(Set<? extends String> courseIds, Executor executor) {
+            return fetchCoursesByCourseIds(new ArrayList<>(courseIds))
+                    .collectMap(CourseResponseModel::getCourseId)
+                    .map(found -> {
+                        Map<String, CachedCourse> loaded = new HashMap<>();
+                        courseIds.forEach(courseId -> {
+                            CourseResponseModel course = found.get(courseId);
+                            loaded.put(courseId, new CachedCourse(course, course == null ? null : eTag(course)));
+                        });
+                        return loaded;
+                    })
+                    .toFuture();
+        }
+    }
+
+    private static class CachedCourseExpiry implements Expiry<String, CachedCourse> {
+
+        private final long ttlNanos;
+        private final long negativeTtlNanos;
+
+        CachedCourseExpiry(Duration ttl, Duration negativeTtl) {
+            this.ttlNanos = ttl.toNanos();
+            this.negativeTtlNanos = negativeTtl.toNanos();
+        }
+
+        @Override
+        public long expireAfterCreate(String courseId, CachedCourse cached, long currentTime) {
+            return cached.course() == null ? negativeTtlNanos : ttlNanos;
+        }
+
+        @Override
+        public long expireAfterUpdate(String courseId, CachedCourse cached, long currentTime, long currentDuration) {
+            return expireAfterCreate(courseId, cached, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String courseId, CachedCourse cached, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
 }
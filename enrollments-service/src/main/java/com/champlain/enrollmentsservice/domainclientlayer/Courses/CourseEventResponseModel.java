@@ -0,0 +1,23 @@
+package com.champlain.enrollmentsservice.domainclientlayer.Courses;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CourseEventResponseModel {
+
+    private Integer eventId;
+    private String courseId;
+    //UPDATED or DELETED
+    private String eventType;
+    private String courseNumber;
+    private String courseName;
+    private LocalDateTime occurredAt;
+}
@@ -17,4 +17,5 @@ public class CourseResponseModel {
     private Integer numHours;
     private Double numCredits;
     private String department;
+    private Integer version;
 }
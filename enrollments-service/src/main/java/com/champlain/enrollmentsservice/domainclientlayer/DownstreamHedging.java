@@ -0,0 +1,186 @@
+package com.champlain.enrollmentsservice.domainclientlayer;
+
+import io.micrometer.core.instrument.Clock;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/*
+   Hedged requests for idempotent lookups. If the first call hasn't answered after the hedge delay a second,
+   identical call is sent, whichever answers first wins and the other is cancelled. Only the first call's error
+   ends the race, a failed hedge just leaves the first call to finish. Opt-in per downstream,
+   read from app.<downstream>.hedging.* in application.yml:
+
+     enabled       off by default
+     percentile    the hedge delay is this percentile of the downstream's recent latency (0.95)
+     min-delay     never hedge sooner than this, also the delay until there is latency to go on
+     budget-ratio  hedges allowed per call, 0.1 lets at most 10% extra calls through over time
+     budget-burst  hedges that can be spent at once before the budget has to refill
+
+   The budget is what keeps hedging from doubling the load on a downstream that's slow for everyone. Once a
+   downstream is slow across the board every call wants a hedge, the budget runs dry and calls go out once.
+   Per downstream (tag downstream=...) on /actuator/metrics:
+
+     downstream.hedge.latency   latency of first calls that answered, its percentile is the hedge delay. A first call
+                                cancelled because the hedge won is left out, its time is only how long it was given
+     downstream.hedge.calls     hedgeable calls
+     downstream.hedge.sent      hedges sent, sent / calls is the hedge rate
+     downstream.hedge.won       hedges that answered first, won / sent is the win rate
+     downstream.hedge.denied    hedges the budget didn't allow
+ */
+@Component
+@Slf4j
+public class DownstreamHedging {
+
+    private final Environment environment;
+    private final MeterRegistry meterRegistry;
+    private final Clock clock;
+    private final Map<String, HedgePolicy> policies = new ConcurrentHashMap<>();
+
+    public DownstreamHedging(Environment environment, MeterRegistry meterRegistry) {
+        this.environment = environment;
+        this.meterRegistry = meterRegistry;
+        this.clock = meterRegistry.config().clock();
+    }
+
+    //call is subscribed once, or twice when hedged, so it must be safe to repeat
+    public <T> Mono<T> hedge(String downstream, Supplier<Mono<T>> call) {
+        HedgePolicy policy = policies.computeIfAbsent(downstream, this::buildPolicy);
+        if (!policy.enabled) {
+            return call.get();
+        }
+
+        return Mono.defer(() -> {
+            policy.calls.increment();
+            policy.deposit();
+            long startNanos = clock.monotonicTime();
+
+            Mono<T> first = call.get()
+                    .doFinally(signalType -> {
+                        if (signalType != SignalType.CANCEL) {
+                            policy.latency.record(clock.monotonicTime() - startNanos, TimeUnit.NANOSECONDS);
+                        }
+                    });
+
+            Mono<T> hedge = Mono.delay(policy.delay())
+                    .flatMap(tick -> {
+                        if (!policy.withdraw()) {
+                            policy.denied.increment();
+                            return Mono.never();
+                        }
+                        policy.sent.increment();
+                        //a hedge that fails (bulkhead full, breaker open, a quick 5xx) drops out of the race,
+                        //the first call is still the one that decides
+                        return call.get()
+                                .doOnNext(won -> policy.won.increment())
+                                .onErrorResume(e -> {
+                                    log.debug("Hedge to {} failed, waiting on the first call: {}", downstream, e.toString());
+                                    return Mono.never();
+                                });
+                    });
+
+            //the first signal wins, the first call's error included, so a 404 doesn't wait for the hedge
+            return Mono.firstWithSignal(first, hedge);
+        });
+    }
+
+    private HedgePolicy buildPolicy(String downstream) {
+        String prefix = "app." + downstream + ".hedging.";
+
+        HedgePolicy policy = new HedgePolicy(downstream,
+                environment.getProperty(prefix + "enabled", Boolean.class, false),
+                environment.getProperty(prefix + "percentile", Double.class, 0.95),
+                environment.getProperty(prefix + "min-delay", Duration.class, Duration.ofMillis(10)),
+                environment.getProperty(prefix + "budget-ratio", Double.class, 0.1),
+                environment.getProperty(prefix + "budget-burst", Integer.class, 10));
+        log.info("Hedging for {}: enabled {}, delay at the {} percentile, budget {} per call", downstream,
+                policy.enabled, policy.percentile, policy.budgetRatio);
+        return policy;
+    }
+
+    private final class HedgePolicy {
+
+        //budget tokens are kept in thousandths so the per-call deposit can be fractional
+        private static final long TOKEN = 1000;
+
+        private final boolean enabled;
+        private final double percentile;
+        private final Duration minDelay;
+        private final double budgetRatio;
+        private final long maxTokens;
+        private final long depositPerCall;
+        private final AtomicLong tokens;
+
+        private final Timer latency;
+        private final Counter calls;
+        private final Counter sent;
+        private final Counter won;
+        private final Counter denied;
+
+        private HedgePolicy(String downstream, boolean enabled, double percentile, Duration minDelay,
+                            double budgetRatio, int budgetBurst) {
+            this.enabled = enabled;
+            this.percentile = percentile;
+            this.minDelay = minDelay;
+            this.budgetRatio = budgetRatio;
+            this.maxTokens = budgetBurst * TOKEN;
+            this.depositPerCall = Math.round(budgetRatio * TOKEN);
+            this.tokens = new AtomicLong(maxTokens);
+
+            this.latency = Timer.builder("downstream.hedge.latency")
+                    .description("Latency of the first call to the downstream that answered, before any hedge")
+                    .tag("downstream", downstream)
+                    .publishPercentiles(percentile)
+                    .register(meterRegistry);
+            this.calls = counter("downstream.hedge.calls", "Hedgeable calls to the downstream", downstream);
+            this.sent = counter("downstream.hedge.sent", "Hedges sent to the downstream", downstream);
+            this.won = counter("downstream.hedge.won", "Hedges that answered before the first call", downstream);
+            this.denied = counter("downstream.hedge.denied", "Hedges not sent because the budget was spent", downstream);
+        }
+
+        private Counter counter(String name, String description, String downstream) {
+            return Counter.builder(name)
+                    .description(description)
+                    .tag("downstream", downstream)
+                    .register(meterRegistry);
+        }
+
+        private Duration delay() {
+            for (ValueAtPercentile value : latency.takeSnapshot().percentileValues()) {
+                long nanos = (long) value.value(TimeUnit.NANOSECONDS);
+                if (nanos > minDelay.toNanos()) {
+                    return Duration.ofNanos(nanos);
+                }
+            }
+            return minDelay;
+        }
+
+        private void deposit() {
+            tokens.accumulateAndGet(depositPerCall, (current, deposit) -> Math.min(maxTokens, current + deposit));
+        }
+
+        private boolean withdraw() {
+            long current;
+            do {
+                current = tokens.get();
+                if (current < TOKEN) {
+                    return false;
+                }
+            } while (!tokens.compareAndSet(current, current - TOKEN));
+            return true;
+        }
+    }
+}
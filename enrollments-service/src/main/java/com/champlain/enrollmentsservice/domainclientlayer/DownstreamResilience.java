@@ -0,0 +1,109 @@
+package com.champlain.enrollmentsservice.domainclientlayer;
+
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.reactor.bulkhead.operator.BulkheadOperator;
+import io.github.resilience4j.reactor.circuitbreaker.operator.CircuitBreakerOperator;
+import io.github.resilience4j.reactor.retry.RetryOperator;
+import io.github.resilience4j.reactor.timelimiter.TimeLimiterOperator;
+import io.github.resilience4j.retry.RetryRegistry;
+import io.github.resilience4j.timelimiter.TimeLimiterRegistry;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/*
+   Wraps every call to a downstream service, per downstream name (students-service, courses-service), configured
+   under resilience4j.* in application.yml:
+
+     bulkhead         caps the calls in flight to that service, extra calls fail right away instead of queueing
+     time limiter     cuts off one attempt, the breaker records the timeout and the retry tries again
+     circuit breaker  once enough calls fail or are slow, fails fast for a while instead of calling a sick service
+     retry            exponential backoff with jitter, outside the breaker so each attempt counts
+
+   The overall deadline is the caller's: an enrollment lookup gives up after app.<downstream>.timeout (2s).
+   The retries have to fit inside it or the last ones never run, so enrollment lookups go through lookup(),
+   with their own <downstream>-lookup breaker and time limiter, worst case
+   3 attempts x 500ms (time limiter) + 75ms + 150ms (backoff with jitter) = 1.725s, plus the 5ms batching window.
+   The other students-service reads (the 1000-row fan-outs) have no such deadline and wait on a pooled
+   connection first, so they are bounded by pending-acquire-timeout and read-timeout (5s), their time limiter
+   is only a backstop behind those. Their slow calls and timeouts never open the breaker the lookups go through.
+
+   Every downstream call is a read (GETs and the /batch lookups, which are POSTs only to carry the ids),
+   so they are all safe to retry. Anything that changes data downstream must not go through read().
+   A Flux is only retried until its first element, after that a retry would send the caller the same elements again.
+
+   Streams that last as long as the data they carry (the whole student listing) go through readStream() instead:
+   same bulkhead and retry, but their own <downstream>-stream breaker and time limiter, so their duration never
+   counts as slow calls against the breaker that guards the point reads. On a Flux the time limiter bounds the wait
+   for each element, not the whole stream.
+
+   Which errors are retried or count as failures is set in application.yml, 404s and 422s are neither.
+   State, calls and retries are on /actuator/circuitbreakers, /actuator/retries, /actuator/bulkheads, /actuator/timelimiters,
+   /actuator/health and as resilience4j.* meters on /actuator/metrics.
+ */
+@Component
+public class DownstreamResilience {
+
+    static final String STREAM_SUFFIX = "-stream";
+    static final String LOOKUP_SUFFIX = "-lookup";
+
+    private final CircuitBreakerRegistry circuitBreakerRegistry;
+    private final RetryRegistry retryRegistry;
+    private final BulkheadRegistry bulkheadRegistry;
+    private final TimeLimiterRegistry timeLimiterRegistry;
+
+    public DownstreamResilience(CircuitBreakerRegistry circuitBreakerRegistry, RetryRegistry retryRegistry,
+                                BulkheadRegistry bulkheadRegistry, TimeLimiterRegistry timeLimiterRegistry) {
+        this.circuitBreakerRegistry = circuitBreakerRegistry;
+        this.retryRegistry = retryRegistry;
+        this.bulkheadRegistry = bulkheadRegistry;
+        this.timeLimiterRegistry = timeLimiterRegistry;
+    }
+
+    public <T> Mono<T> read(String downstream, Mono<T> call) {
+        return call
+                .transformDeferred(BulkheadOperator.of(bulkheadRegistry.bulkhead(downstream)))
+                .transformDeferred(TimeLimiterOperator.of(timeLimiterRegistry.timeLimiter(downstream)))
+                .transformDeferred(CircuitBreakerOperator.of(circuitBreakerRegistry.circuitBreaker(downstream)))
+                .transformDeferred(RetryOperator.of(retryRegistry.retry(downstream)));
+    }
+
+    public <T> Flux<T> read(String downstream, Flux<T> call) {
+        return read(downstream, downstream, call);
+    }
+
+    //a read on the enrollment lookup path, held to the lookup deadline
+    public <T> Flux<T> lookup(String downstream, Flux<T> call) {
+        return read(downstream, downstream + LOOKUP_SUFFIX, call);
+    }
+
+    public <T> Flux<T> readStream(String downstream, Flux<T> call) {
+        return read(downstream, downstream + STREAM_SUFFIX, call);
+    }
+
+    //instance names the breaker and time limiter, the bulkhead and retry are always the downstream's
+    private <T> Flux<T> read(String downstream, String instance, Flux<T> call) {
+        return Flux.defer(() -> {
+            AtomicBoolean emitted = new AtomicBoolean();
+            return call
+                    .transformDeferred(BulkheadOperator.of(bulkheadRegistry.bulkhead(downstream)))
+                    .transformDeferred(TimeLimiterOperator.of(timeLimiterRegistry.timeLimiter(instance)))
+                    .transformDeferred(CircuitBreakerOperator.of(circuitBreakerRegistry.circuitBreaker(instance)))
+                    .doOnNext(element -> emitted.set(true))
+                    //not in retry-exceptions, so the retry lets it through, then the original error goes on to the caller
+                    .onErrorMap(e -> emitted.get(), AfterFirstElementException::new)
+                    .transformDeferred(RetryOperator.of(retryRegistry.retry(downstream)))
+                    .onErrorMap(AfterFirstElementException.class, Throwable::getCause);
+        });
+    }
+
+    private static final class AfterFirstElementException extends RuntimeException {
+
+        private AfterFirstElementException(Throwable cause) {
+            super(cause.getMessage(), cause, false, false);
+        }
+    }
+}
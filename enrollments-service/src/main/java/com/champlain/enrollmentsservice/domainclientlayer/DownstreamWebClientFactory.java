@@ -0,0 +1,98 @@
+package com.champlain.enrollmentsservice.domainclientlayer;
+
+import io.netty.channel.ChannelOption;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.core.env.Environment;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.HttpProtocol;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/*
+   One Reactor Netty connection pool per downstream service, shared by every WebClient built for it, instead of the
+   default pool WebClient.builder() gives each client. Everything is read from app.<downstream>.* in application.yml:
+
+     pool.max-connections / pool.pending-acquire-max-count / pool.pending-acquire-timeout
+     pool.max-idle-time / pool.max-life-time / pool.evict-in-background
+     connect-timeout / read-timeout / http2 / compress
+
+   Pools publish reactor.netty.connection.provider.* (active, idle, pending, total connections) tagged with the
+   downstream name on /actuator/metrics, which is what to watch when sizing them for the 1000-student fan-outs.
+
+   Every client asks for Smile first and JSON second, so a downstream that knows Smile answers in it and one that
+   doesn't (or an endpoint that doesn't) still answers in JSON. Both decode to the same models.
+ */
+@Component
+@Slf4j
+public class DownstreamWebClientFactory implements DisposableBean {
+
+    public static final MediaType APPLICATION_SMILE = new MediaType("application", "x-jackson-smile");
+    public static final MediaType APPLICATION_STREAM_SMILE = new MediaType("application", "stream+x-jackson-smile");
+
+    private final Environment environment;
+    private final WebClient.Builder webClientBuilder;
+    private final Map<String, ConnectionProvider> connectionProviders = new ConcurrentHashMap<>();
+
+    public DownstreamWebClientFactory(Environment environment, WebClient.Builder webClientBuilder) {
+        this.environment = environment;
+        this.webClientBuilder = webClientBuilder;
+    }
+
+    public WebClient create(String downstream, String baseUrl) {
+        String prefix = "app." + downstream + ".";
+
+        HttpClient httpClient = HttpClient.create(connectionProviders.computeIfAbsent(downstream, this::buildConnectionProvider))
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS,
+                        (int) environment.getProperty(prefix + "connect-timeout", Duration.class, Duration.ofSeconds(2)).toMillis())
+                .responseTimeout(environment.getProperty(prefix + "read-timeout", Duration.class, Duration.ofSeconds(5)));
+
+        //h2c only helps if the downstream has server.http2.enabled, otherwise the upgrade falls back to HTTP/1.1
+        if (environment.getProperty(prefix + "http2", Boolean.class, false)) {
+            httpClient = httpClient.protocol(HttpProtocol.H2C, HttpProtocol.HTTP11);
+        }
+
+        //sends Accept-Encoding: gzip and inflates what comes back, the downstream still decides by its own size threshold
+        if (environment.getProperty(prefix + "compress", Boolean.class, false)) {
+            httpClient = httpClient.compress(true);
+        }
+
+        //clone so the shared Boot builder (codecs, observations) isn't modified
+        return webClientBuilder.clone()
+                .baseUrl(baseUrl)
+                .defaultHeaders(headers -> headers.setAccept(List.of(APPLICATION_SMILE, MediaType.APPLICATION_JSON)))
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .build();
+    }
+
+    private ConnectionProvider buildConnectionProvider(String downstream) {
+        String prefix = "app." + downstream + ".pool.";
+
+        int maxConnections = environment.getProperty(prefix + "max-connections", Integer.class, 100);
+        int pendingAcquireMaxCount = environment.getProperty(prefix + "pending-acquire-max-count", Integer.class, 1000);
+        log.info("Connection pool for {}: {} connections, {} pending acquires", downstream, maxConnections, pendingAcquireMaxCount);
+
+        return ConnectionProvider.builder(downstream)
+                .maxConnections(maxConnections)
+                .pendingAcquireMaxCount(pendingAcquireMaxCount)
+                .pendingAcquireTimeout(environment.getProperty(prefix + "pending-acquire-timeout", Duration.class, Duration.ofSeconds(5)))
+                .maxIdleTime(environment.getProperty(prefix + "max-idle-time", Duration.class, Duration.ofSeconds(30)))
+                .maxLifeTime(environment.getProperty(prefix + "max-life-time", Duration.class, Duration.ofMinutes(5)))
+                .evictInBackground(environment.getProperty(prefix + "evict-in-background", Duration.class, Duration.ofSeconds(30)))
+                .metrics(true)
+                .build();
+    }
+
+    @Override
+    public void destroy() {
+        connectionProviders.values().forEach(ConnectionProvider::dispose);
+    }
+}
@@ -0,0 +1,18 @@
+package com.champlain.enrollmentsservice.domainclientlayer.Students;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class StudentBatchRequestModel {
+
+    private List<String> studentIds;
+    private List<Integer> rowIds;
+}
@@ -1,10 +1,15 @@
 package com.champlain.enrollmentsservice.domainclientlayer.Students;
 
+import com.champlain.enrollmentsservice.domainclientlayer.DownstreamHedging;
+import com.champlain.enrollmentsservice.domainclientlayer.DownstreamResilience;
+import com.champlain.enrollmentsservice.domainclientlayer.DownstreamWebClientFactory;
 import com.champlain.enrollmentsservice.utils.exceptions.InvalidInputException;
 import com.champlain.enrollmentsservice.utils.exceptions.NotFoundException;
+import com.champlain.enrollmentsservice.utils.exceptions.ServiceUnavailableException;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatusCode;
+import org.springframework.http.MediaType;
 import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.WebClient;
 import reactor.core.publisher.Flux;
@@ -24,27 +29,44 @@ public class StudentClientAsynchronous {
 
     private final String studentClientServiceBaseURL;
 
+    private final int batchSize;
+
+    private final DownstreamResilience downstreamResilience;
+
+    private final DownstreamHedging downstreamHedging;
+
     private final List<Integer> range = IntStream.rangeClosed(1, 1000)
             .boxed()
             .toList();
 
     public StudentClientAsynchronous(@Value("${app.students-service.host}") String studentsServiceHost,
-                                     @Value("${app.students-service.port}") String studentsServicePort) {
+                                     @Value("${app.students-service.port}") String studentsServicePort,
+                                     @Value("${app.students-service.batch-size:100}") int batchSize,
+                                     DownstreamWebClientFactory downstreamWebClientFactory,
+                                     DownstreamResilience downstreamResilience,
+                                     DownstreamHedging downstreamHedging) {
+        this.batchSize = batchSize;
+        this.downstreamResilience = downstreamResilience;
+        this.downstreamHedging = downstreamHedging;
         studentClientServiceBaseURL = "http://" + studentsServiceHost + ":" + studentsServicePort + "/api/v1/students";
 
-        this.webClient = WebClient.builder()
-                .baseUrl(studentClientServiceBaseURL)
-                .build();
+        this.webClient = downstreamWebClientFactory.create("students-service", studentClientServiceBaseURL);
     }
 
+    //hedged when app.students-service.hedging.enabled, a slow students-service query gets a second chance
     public Mono<StudentResponseModel> getStudentByStudentId(String studentId) {
-        return webClient.get()
+        return downstreamHedging.hedge("students-service", () -> fetchStudentByStudentId(studentId));
+    }
+
+    private Mono<StudentResponseModel> fetchStudentByStudentId(String studentId) {
+        return downstreamResilience.read("students-service", webClient.get()
                 .uri(studentClientServiceBaseURL + "/{studentId}", studentId)
                 .retrieve()
                 .onStatus(HttpStatusCode::isError,
                         error -> switch (error.statusCode().value()) {
                             case 404 -> Mono.error(new NotFoundException("StudentId not found: " + studentId));
                             case 422 -> Mono.error(new InvalidInputException("StudentId invalid: " + studentId));
+                            case 500, 502, 503, 504 -> Mono.error(new ServiceUnavailableException("students-service unavailable: " + error.statusCode().value()));
                             default -> Mono.error(new IllegalArgumentException("Something went wrong"));
                         })
 //                .onStatus(HttpStatusCode::is4xxClientError, error -> {
@@ -58,7 +80,7 @@ public class StudentClientAsynchronous {
 //                        return Mono.error(new InvalidInputException("StudentId invalid: " + studentId));
 //                    return Mono.error(new IllegalArgumentException("Something went wrong"));
 //                })
-                .bodyToMono(StudentResponseModel.class);
+                .bodyToMono(StudentResponseModel.class));
     }
 
     /*
@@ -73,12 +95,20 @@ public class StudentClientAsynchronous {
      */
 
 
+    //asks for a stream of students (Smile, else one JSON per line) so each is decoded as it arrives,
+    //not after the whole array is buffered. Takes as long as the table is big, so it has its own breaker
     public Flux<StudentResponseModel> getAllStudents() {
-        return this.webClient
+        return downstreamResilience.readStream("students-service", this.webClient
             .get()
             .uri(studentClientServiceBaseURL)
+            .accept(DownstreamWebClientFactory.APPLICATION_STREAM_SMILE, MediaType.APPLICATION_NDJSON)
                 .retrieve()
-            .bodyToFlux(StudentResponseModel.class);
+                .onStatus(HttpStatusCode::isError,
+                        error -> switch (error.statusCode().value()) {
+                            case 500, 502, 503, 504 -> Mono.error(new ServiceUnavailableException("students-service unavailable: " + error.statusCode().value()));
+                            default -> Mono.error(new IllegalArgumentException("Something went wrong"));
+                        })
+            .bodyToFlux(StudentResponseModel.class));
     }
 
     //Gets students by databaseRowId
@@ -86,12 +116,48 @@ public class StudentClientAsynchronous {
    //log.debug(String.format("Calling getStudentAsync(%d)", id));
 
 
-        return webClient.get()
+        return downstreamResilience.read("students-service", webClient.get()
                 .uri(studentClientServiceBaseURL + "/row/{id}", id)
                 .retrieve()
-                .bodyToMono(StudentResponseModel.class);
+                .onStatus(HttpStatusCode::isError,
+                        error -> switch (error.statusCode().value()) {
+                            case 404 -> Mono.error(new NotFoundException("Student row not found: " + id));
+                            case 500, 502, 503, 504 -> Mono.error(new ServiceUnavailableException("students-service unavailable: " + error.statusCode().value()));
+                            default -> Mono.error(new IllegalArgumentException("Something went wrong"));
+                        })
+                .bodyToMono(StudentResponseModel.class));
+
+    }
+
+    //Gets many students in one call, students that don't exist are missing from the result
+    //enriches enrollments, so only the fields enrolling shows are asked for
+    //the enrollment lookups, so it is held to their deadline (students-service-lookup)
+    public Flux<StudentResponseModel> getStudentsByStudentIds(List<String> studentIds) {
+        return downstreamResilience.lookup("students-service", getStudentsByBatch(StudentBatchRequestModel.builder()
+                .studentIds(studentIds)
+                .build(), studentClientServiceBaseURL + "/batch?fields=" + StudentResponseModel.ENRICHMENT_FIELDS));
+    }
+
+    public Flux<StudentResponseModel> getStudentsByRowIds(List<Integer> rowIds) {
+        return downstreamResilience.read("students-service", getStudentsByBatch(StudentBatchRequestModel.builder()
+                .rowIds(rowIds)
+                .build(), studentClientServiceBaseURL + "/batch"));
+    }
 
+    private Flux<StudentResponseModel> getStudentsByBatch(StudentBatchRequestModel studentBatchRequestModel, String uri) {
+        return webClient.post()
+                .uri(uri)
+                .bodyValue(studentBatchRequestModel)
+                .retrieve()
+                .onStatus(HttpStatusCode::isError,
+                        error -> switch (error.statusCode().value()) {
+                            case 422 -> Mono.error(new InvalidInputException("Student batch invalid"));
+                            case 500, 502, 503, 504 -> Mono.error(new ServiceUnavailableException("students-service unavailable: " + error.statusCode().value()));
+                            default -> Mono.error(new IllegalArgumentException("Something went wrong"));
+                        })
+                .bodyToFlux(StudentResponseModel.class);
     }
+
     public Flux<StudentResponseModel> get1000StudentsAsync() {
 
         /* We invoke flatMap to run the getUser method we created previously.
@@ -167,4 +233,29 @@ enrollments-service  | 2024-08-13T19:27:24.622Z  INFO 1 --- [enrollments-service
                 .doOnNext(s -> log.info("Current thread running " + currentThread()))
                 .subscribeOn(Schedulers.boundedElastic());
     }
+
+    /* Any row range with the fan-out tunable instead of the fixed 1000 rows at flatMap's default 256 in flight.
+       ordered uses flatMapSequential, which still runs concurrency calls at once but buffers early arrivals
+       so students come out in row order.
+     */
+    public Flux<StudentResponseModel> getStudentsByRowRange(int from, int to, int concurrency, boolean ordered) {
+        Flux<Integer> rowIds = Flux.range(from, to - from + 1);
+
+        return ordered
+                ? rowIds.flatMapSequential(this::getStudent, concurrency)
+                : rowIds.flatMap(this::getStudent, concurrency);
+    }
+
+    public Flux<StudentResponseModel> get1000StudentsAsyncBatched() {
+
+        /* Same 1000 students, but chunked into batch-size row ids per call,
+           so with the default of 100 this is 10 requests and 10 IN queries instead of 1000 of each.
+           flatMapSequential keeps the chunks in row order while still fetching them concurrently.
+         */
+
+        return Flux.fromIterable(range)
+                .buffer(batchSize)
+                .flatMapSequential(this::getStudentsByRowIds)
+                .doOnNext(s -> log.info("Current thread running " + currentThread()));
+    }
 }
@@ -1,12 +1,18 @@
 package com.champlain.enrollmentsservice.domainclientlayer.Students;
 
+import com.champlain.enrollmentsservice.domainclientlayer.DownstreamWebClientFactory;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.RestTemplate;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.stream.IntStream;
 
@@ -21,6 +27,10 @@ public class StudentClientSynchronous {
     private final RestTemplate restTemplate;
     private final ObjectMapper mapper;
     private final String studentClientServiceBaseURL;
+    private final int batchSize;
+
+    //RestTemplate would list every type its converters read, JSON first, so ask for Smile explicitly
+    private final HttpHeaders acceptHeaders = new HttpHeaders();
 
     private final List<Integer> range = IntStream.rangeClosed(1, 1000)
             .boxed()
@@ -29,17 +39,20 @@ public class StudentClientSynchronous {
 
     public StudentClientSynchronous(RestTemplate restTemplate, ObjectMapper mapper,
                                 @Value("${app.students-service.host}") String studentsServiceHost,
-                                @Value("${app.students-service.port}") String studentsServicePort) {
+                                @Value("${app.students-service.port}") String studentsServicePort,
+                                @Value("${app.students-service.batch-size:100}") int batchSize) {
         this.restTemplate = restTemplate;
+        this.batchSize = batchSize;
         this.mapper = mapper;
         studentClientServiceBaseURL = "http://" + studentsServiceHost + ":" + studentsServicePort + "/api/v1/students";
+        acceptHeaders.setAccept(List.of(DownstreamWebClientFactory.APPLICATION_SMILE, MediaType.APPLICATION_JSON));
     }
 
     public StudentResponseModel getStudentSync(int id) {
 
-        //gets student by the database row id
-        return restTemplate.getForObject(studentClientServiceBaseURL + "/row/" + id,
-                StudentResponseModel.class);
+        //gets student by the database row id, templated so http.client.requests gets one uri tag instead of 1000
+        return restTemplate.exchange(studentClientServiceBaseURL + "/row/{id}", HttpMethod.GET,
+                new HttpEntity<>(acceptHeaders), StudentResponseModel.class, id).getBody();
     }
 
     public List<StudentResponseModel> get1000StudentsLoop() {
@@ -87,4 +100,25 @@ enrollments-service  | 2024-08-13T19:46:23.562Z  INFO 1 --- [enrollments-service
                 .toList();
     }
 
+    public List<StudentResponseModel> get1000StudentsSyncBatched() {
+
+        //one blocking call per batch-size chunk of row ids instead of one per student
+        List<StudentResponseModel> studentResponseModels = new ArrayList<>();
+
+        for (int from = 0; from < range.size(); from += batchSize) {
+            List<Integer> rowIds = range.subList(from, Math.min(from + batchSize, range.size()));
+
+            log.info("Current thread running " + currentThread());
+            StudentResponseModel[] students = restTemplate.exchange(studentClientServiceBaseURL + "/batch",
+                    HttpMethod.POST, new HttpEntity<>(StudentBatchRequestModel.builder().rowIds(rowIds).build(), acceptHeaders),
+                    StudentResponseModel[].class).getBody();
+
+            if (students != null) {
+                studentResponseModels.addAll(Arrays.asList(students));
+            }
+        }
+
+        return studentResponseModels;
+    }
+
 }
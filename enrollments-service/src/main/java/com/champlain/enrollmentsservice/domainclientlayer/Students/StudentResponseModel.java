@@ -1,16 +1,23 @@
 package com.champlain.enrollmentsservice.domainclientlayer.Students;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+//students-service only sends the fields asked for, the rest stay null and out of our own responses
+@JsonInclude(JsonInclude.Include.NON_NULL)
 @Data
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
 public class StudentResponseModel {
 
+    //what enrolling needs of a student, sent as ?fields= on the enrichment lookups so students-service never selects
+    //the stuff column there. The /api/v1/students endpoints pass the whole student through and don't send it
+    public static final String ENRICHMENT_FIELDS = "studentId,firstName,lastName";
+
     private String studentId;
     private String firstName;
     private String lastName;
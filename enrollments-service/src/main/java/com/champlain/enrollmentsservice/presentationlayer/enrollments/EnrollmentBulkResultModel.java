@@ -0,0 +1,18 @@
+package com.champlain.enrollmentsservice.presentationlayer.enrollments;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class EnrollmentBulkResultModel {
+
+    private Long line;
+    private EnrollmentBulkStatus status;
+    private String message;
+    private EnrollmentResponseModel enrollment;
+}
@@ -0,0 +1,6 @@
+package com.champlain.enrollmentsservice.presentationlayer.enrollments;
+
+public enum EnrollmentBulkStatus {
+    CREATED,
+    REJECTED
+}
@@ -1,6 +1,8 @@
 package com.champlain.enrollmentsservice.presentationlayer.enrollments;
 
+import com.champlain.enrollmentsservice.businesslayer.enrollments.EnrollmentBulkService;
 import com.champlain.enrollmentsservice.businesslayer.enrollments.EnrollmentService;
+import com.champlain.enrollmentsservice.dataaccesslayer.Semester;
 import com.champlain.enrollmentsservice.utils.exceptions.InvalidInputException;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
@@ -16,14 +18,35 @@ import reactor.core.publisher.Mono;
 public class EnrollmentController {
 
     private final EnrollmentService enrollmentService;
+    private final EnrollmentBulkService enrollmentBulkService;
 
-    public EnrollmentController(EnrollmentService enrollmentService) {
+    public EnrollmentController(EnrollmentService enrollmentService, EnrollmentBulkService enrollmentBulkService) {
         this.enrollmentService = enrollmentService;
+        this.enrollmentBulkService = enrollmentBulkService;
     }
 
-    @GetMapping(value="", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    //studentId and courseId are separate queries, a request with both matches none of these and gets a 400
+    @GetMapping(value="", params = {"!studentId", "!courseId"}, produces = MediaType.TEXT_EVENT_STREAM_VALUE)
     public Flux<EnrollmentResponseModel> getAllEnrollments() { return enrollmentService.getAllEnrollments(); }
 
+    @GetMapping(value = "", params = {"studentId", "!courseId"}, produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.TEXT_EVENT_STREAM_VALUE})
+    public Flux<EnrollmentTimetableResponseModel> getEnrollmentsByStudentId(@RequestParam String studentId) {
+        return Mono.just(studentId)
+                .filter(id -> id.length() == 36)
+                .switchIfEmpty(Mono.error(new InvalidInputException("Provided Student Id is invalid: " + studentId)))
+                .flatMapMany(enrollmentService::getEnrollmentsByStudentId);
+    }
+
+    @GetMapping(value = "", params = {"courseId", "!studentId"}, produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.TEXT_EVENT_STREAM_VALUE})
+    public Flux<EnrollmentRosterResponseModel> getEnrollmentsByCourseIdAndTerm(@RequestParam String courseId,
+                                                                               @RequestParam Integer year,
+                                                                               @RequestParam Semester semester) {
+        return Mono.just(courseId)
+                .filter(id -> id.length() == 36)
+                .switchIfEmpty(Mono.error(new InvalidInputException("Provided Course Id is invalid: " + courseId)))
+                .flatMapMany(id -> enrollmentService.getEnrollmentsByCourseIdAndTerm(id, year, semester));
+    }
+
     @GetMapping(value = "/{enrollmentId}", produces = MediaType.APPLICATION_JSON_VALUE)
     public Mono<ResponseEntity<EnrollmentResponseModel>> getEnrollmentByEnrollmentId(@PathVariable String enrollmentId) {
         return Mono.just(enrollmentId)
@@ -40,6 +63,12 @@ public class EnrollmentController {
                 .defaultIfEmpty(ResponseEntity.badRequest().build());
     }
 
+    //one enrollment per line in, one result per line out, in the same order
+    @PostMapping(value = "/bulk", consumes = MediaType.APPLICATION_NDJSON_VALUE, produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<EnrollmentBulkResultModel> addEnrollmentsInBulk(@RequestBody Flux<EnrollmentRequestModel> enrollmentRequestModels) {
+        return enrollmentBulkService.addEnrollments(enrollmentRequestModels);
+    }
+
     @PutMapping(value = "/{enrollmentId}", consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
     public Mono<ResponseEntity<EnrollmentResponseModel>> updateEnrollmentByEnrollmentId(@RequestBody Mono<EnrollmentRequestModel> enrollmentRequestModel, @PathVariable String enrollmentId) {
         return Mono.just(enrollmentId)
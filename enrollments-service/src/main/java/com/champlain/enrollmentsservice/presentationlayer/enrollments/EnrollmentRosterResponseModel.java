@@ -0,0 +1,23 @@
+package com.champlain.enrollmentsservice.presentationlayer.enrollments;
+
+import com.champlain.enrollmentsservice.dataaccesslayer.Semester;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+//one line of a course roster, only the student side of the enrollment is read
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class EnrollmentRosterResponseModel {
+
+    private String enrollmentId;
+    private Integer enrollmentYear;
+    private Semester semester;
+    private String courseId;
+    private String studentId;
+    private String studentFirstName;
+    private String studentLastName;
+}
@@ -0,0 +1,23 @@
+package com.champlain.enrollmentsservice.presentationlayer.enrollments;
+
+import com.champlain.enrollmentsservice.dataaccesslayer.Semester;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+//one line of a student's timetable, only the course side of the enrollment is read
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class EnrollmentTimetableResponseModel {
+
+    private String enrollmentId;
+    private Integer enrollmentYear;
+    private Semester semester;
+    private String studentId;
+    private String courseId;
+    private String courseNumber;
+    private String courseName;
+}
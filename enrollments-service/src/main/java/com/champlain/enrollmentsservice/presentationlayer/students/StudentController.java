@@ -2,28 +2,39 @@ package com.champlain.enrollmentsservice.presentationlayer.students;
 
 import com.champlain.enrollmentsservice.businesslayer.students.StudentService;
 import com.champlain.enrollmentsservice.domainclientlayer.Students.StudentResponseModel;
+import com.champlain.enrollmentsservice.utils.FanOutMetrics;
+import com.champlain.enrollmentsservice.utils.exceptions.InvalidInputException;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
-import java.time.LocalTime;
 import java.util.List;
 
 @RestController
 @Slf4j
 @RequestMapping("api/v1/students")
 public class StudentController {
+    private static final int MAX_RANGE_SIZE = 10000;
 
     private final StudentService studentService;
+    private final FanOutMetrics fanOutMetrics;
 
-    public StudentController(StudentService studentService) {
+    //calls past the students-service pool size only wait for a connection, so more concurrency buys nothing
+    private final int maxConcurrency;
+
+    public StudentController(StudentService studentService, FanOutMetrics fanOutMetrics,
+                             @Value("${app.students-service.pool.max-connections:256}") int maxConcurrency) {
         this.studentService = studentService;
+        this.fanOutMetrics = fanOutMetrics;
+        this.maxConcurrency = maxConcurrency;
     }
 
     //@GetMapping(value = "", produces = MediaType.APPLICATION_JSON_VALUE)
@@ -34,45 +45,60 @@ public class StudentController {
 
 
     @GetMapping(value = "/syncloop", produces = MediaType.APPLICATION_JSON_VALUE)
-    public ResponseEntity<List<StudentResponseModel>>get1000StudentsSync() {
-
-        LocalTime start = LocalTime.now();
-        List<StudentResponseModel> students = studentService.get1000StudentsSyncLoop();
-        log.debug("Time taken to get 1000 students with syncloop: \t{}", LocalTime.now().minusNanos(start.toNanoOfDay()).toNanoOfDay());
-
-        return ResponseEntity.ok().body(students);
+    public Mono<ResponseEntity<List<StudentResponseModel>>> get1000StudentsSync() {
+        return fanOutMetrics.time("syncloop", studentService.get1000StudentsSyncLoop())
+                .map(students -> ResponseEntity.ok().body(students));
     }
 
     @GetMapping(value = "/syncparallel", produces = MediaType.APPLICATION_JSON_VALUE)
-    public ResponseEntity<List<StudentResponseModel>> get1000StudentsSyncParallel() {
-        LocalTime start = LocalTime.now();
-        List<StudentResponseModel> students = studentService.get1000StudentsSyncParallel();
-        log.debug("Time taken to get 1000 students with syncparallel: \t{}", LocalTime.now().minusNanos(start.toNanoOfDay()).toNanoOfDay());
-        return ResponseEntity.ok().body(students);
+    public Mono<ResponseEntity<List<StudentResponseModel>>> get1000StudentsSyncParallel() {
+        return fanOutMetrics.time("syncparallel", studentService.get1000StudentsSyncParallel())
+                .map(students -> ResponseEntity.ok().body(students));
+    }
+
+    @GetMapping(value = "/syncbatch", produces = MediaType.APPLICATION_JSON_VALUE)
+    public Mono<ResponseEntity<List<StudentResponseModel>>> get1000StudentsSyncBatched() {
+        return fanOutMetrics.time("syncbatch", studentService.get1000StudentsSyncBatched())
+                .map(students -> ResponseEntity.ok().body(students));
     }
 
     @GetMapping(value = "/async", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
     public Flux<StudentResponseModel> get1000StudentsAsync() {
-        LocalTime start = LocalTime.now();
-        Flux<StudentResponseModel> students = studentService.get1000StudentsAsync();
-        log.debug("Time taken to get 1000 students with async: \t\t{}", LocalTime.now().minusNanos(start.toNanoOfDay()).toNanoOfDay());
-        return students;
+        return fanOutMetrics.time("async", studentService.get1000StudentsAsync());
     }
 
     @GetMapping(value = "/asyncparallel", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
     public Flux<StudentResponseModel> get1000StudentsAsyncParallel() {
-        LocalTime start = LocalTime.now();
-        Flux<StudentResponseModel> students = studentService.get1000StudentsAsyncParallel();
-        log.debug("Time taken to get 1000 students with asyncparallel: \t{}", LocalTime.now().minusNanos(start.toNanoOfDay()).toNanoOfDay());
-        return students;
+        return fanOutMetrics.time("asyncparallel", studentService.get1000StudentsAsyncParallel());
     }
 
     @GetMapping(value = "/asyncbounded", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
     public Flux<StudentResponseModel> get1000StudentsAsyncBounded() {
-        LocalTime start = LocalTime.now();
-        Flux<StudentResponseModel> students = studentService.get1000StudentsAsyncBounded();
-        log.debug("Time taken to get 1000 students with asyncbounded: \t{}", LocalTime.now().minusNanos(start.toNanoOfDay()).toNanoOfDay());
-        return students;
+        return fanOutMetrics.time("asyncbounded", studentService.get1000StudentsAsyncBounded());
+    }
+
+    @GetMapping(value = "/asyncbatch", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public Flux<StudentResponseModel> get1000StudentsAsyncBatched() {
+        return fanOutMetrics.time("asyncbatch", studentService.get1000StudentsAsyncBatched());
+    }
+
+    //e.g. /range?from=1&to=1000&concurrency=64&ordered=true to find the fan-out sweet spot without a rebuild
+    //concurrency defaults to, and can't go past, app.students-service.pool.max-connections (256, like /async)
+    @GetMapping(value = "/range", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public Flux<StudentResponseModel> getStudentsByRowRange(@RequestParam(defaultValue = "1") int from,
+                                                            @RequestParam(defaultValue = "1000") int to,
+                                                            @RequestParam(required = false) Integer concurrency,
+                                                            @RequestParam(defaultValue = "false") boolean ordered) {
+        if (from < 1 || to < from || to - from + 1 > MAX_RANGE_SIZE) {
+            return Flux.error(new InvalidInputException("Provided row range is invalid, from must be >= 1 and to within " + MAX_RANGE_SIZE + " rows of from"));
+        }
+        if (concurrency == null) {
+            concurrency = maxConcurrency;
+        }
+        if (concurrency < 1 || concurrency > maxConcurrency) {
+            return Flux.error(new InvalidInputException("Provided concurrency is invalid, it must be between 1 and " + maxConcurrency));
+        }
+        return fanOutMetrics.time("range", studentService.getStudentsByRowRange(from, to, concurrency, ordered));
     }
 
     @GetMapping(value = "/{studentId}", produces = MediaType.APPLICATION_JSON_VALUE)
@@ -0,0 +1,170 @@
+package com.champlain.enrollmentsservice.utils;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/*
+   Collects single-key lookups that arrive within a short window (or until maxBatchSize keys are waiting)
+   and sends them downstream as one batched call.
+
+   Identical keys share one in-flight Mono, so 50 concurrent enrollments in the same course
+   cost one course lookup instead of 50.
+
+   Closed batches queue up in front of dispatch when the downstream is slower than the window, so a burst
+   can't overflow bufferTimeout and kill the pipeline for every later lookup.
+
+   Keys are handed to the pipeline by one caller at a time: the first caller drains the queue, any caller that
+   arrives meanwhile just leaves its key there. No caller waits or spins, they are usually event-loop threads.
+ */
+@Slf4j
+public class BatchLoader<K, V> {
+
+    private final String name;
+    private final Function<List<K>, Flux<V>> batchFunction;
+    private final Function<V, K> keyExtractor;
+    private final Function<K, Throwable> missingKeyError;
+
+    private final Map<K, Sinks.One<V>> inFlight = new ConcurrentHashMap<>();
+    //only touched from drain(), which is serialized by wip
+    private final Sinks.Many<K> pendingKeys = Sinks.unsafe().many().unicast().onBackpressureBuffer();
+    private final Queue<K> queuedKeys = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger wip = new AtomicInteger();
+
+    private final Counter requestedKeys;
+    private final Counter savedCalls;
+    private final DistributionSummary batchSize;
+
+    private final Disposable pipeline;
+    private volatile boolean disposed;
+
+    public BatchLoader(String name, int maxBatchSize, Duration window,
+                       Function<List<K>, Flux<V>> batchFunction,
+                       Function<V, K> keyExtractor,
+                       Function<K, Throwable> missingKeyError,
+                       MeterRegistry meterRegistry) {
+        this.name = name;
+        this.batchFunction = batchFunction;
+        this.keyExtractor = keyExtractor;
+        this.missingKeyError = missingKeyError;
+
+        this.requestedKeys = Counter.builder("enrollments.lookup.requests")
+                .description("Single-key lookups requested from the batch loader")
+                .tag("loader", name)
+                .register(meterRegistry);
+        this.savedCalls = Counter.builder("enrollments.lookup.calls.saved")
+                .description("Downstream calls avoided by deduplication and batching")
+                .tag("loader", name)
+                .register(meterRegistry);
+        this.batchSize = DistributionSummary.builder("enrollments.lookup.batch.size")
+                .description("Number of distinct keys sent per batched call")
+                .tag("loader", name)
+                .register(meterRegistry);
+
+        this.pipeline = pendingKeys.asFlux()
+                .bufferTimeout(maxBatchSize, window)
+                .onBackpressureBuffer()
+                .flatMap(this::dispatch)
+                .subscribe(
+                        ignored -> { },
+                        e -> log.error("Loader {} pipeline terminated", name, e));
+    }
+
+    public Mono<V> load(K key) {
+        return Mono.defer(() -> {
+            if (disposed) {
+                return Mono.error(shutDown());
+            }
+            requestedKeys.increment();
+
+            Sinks.One<V> sink = Sinks.one();
+            Sinks.One<V> existing = inFlight.putIfAbsent(key, sink);
+
+            // someone already asked for this key and hasn't got an answer yet, share it
+            if (existing != null) {
+                savedCalls.increment();
+                return existing.asMono();
+            }
+
+            queuedKeys.offer(key);
+            drain();
+            return sink.asMono();
+        });
+    }
+
+    private void drain() {
+        // someone else is draining, they pick up our key before they stop
+        if (wip.getAndIncrement() != 0) {
+            return;
+        }
+        int missed = 1;
+        do {
+            K key;
+            while ((key = queuedKeys.poll()) != null) {
+                if (pendingKeys.tryEmitNext(key).isFailure()) {
+                    fail(key, shutDown());
+                }
+            }
+            missed = wip.addAndGet(-missed);
+        } while (missed != 0);
+    }
+
+    private Mono<Void> dispatch(List<K> keys) {
+        batchSize.record(keys.size());
+        savedCalls.increment(keys.size() - 1);
+        log.debug("Loader {} dispatching batch of {} keys", name, keys.size());
+
+        return Flux.defer(() -> batchFunction.apply(keys))
+                .collectMap(keyExtractor)
+                .doOnNext(found -> keys.forEach(key -> complete(key, found.get(key))))
+                .onErrorResume(e -> {
+                    keys.forEach(key -> fail(key, e));
+                    return Mono.empty();
+                })
+                .then();
+    }
+
+    private void complete(K key, V value) {
+        Sinks.One<V> sink = inFlight.remove(key);
+        if (sink == null) {
+            return;
+        }
+        if (value == null) {
+            sink.tryEmitError(missingKeyError.apply(key));
+        } else {
+            sink.tryEmitValue(value);
+        }
+    }
+
+    private void fail(K key, Throwable e) {
+        Sinks.One<V> sink = inFlight.remove(key);
+        if (sink != null) {
+            sink.tryEmitError(e);
+        }
+    }
+
+    //stops dispatching and fails every lookup still waiting for an answer
+    public void dispose() {
+        disposed = true;
+        pipeline.dispose();
+        inFlight.keySet().forEach(key -> fail(key, shutDown()));
+    }
+
+    private IllegalStateException shutDown() {
+        return new IllegalStateException("Loader " + name + " is shut down");
+    }
+}
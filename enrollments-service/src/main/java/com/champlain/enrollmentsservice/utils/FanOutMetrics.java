@@ -0,0 +1,115 @@
+package com.champlain.enrollmentsservice.utils;
+
+import io.micrometer.core.instrument.Clock;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.LongTaskTimer;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/*
+   Times a fan-out endpoint from subscription to completion, not just while its Flux is being assembled.
+   Per endpoint (tag endpoint=...) on /actuator/metrics:
+
+     students.fanout.duration       total run time, tagged with outcome (ON_COMPLETE, ON_ERROR, CANCEL)
+     students.fanout.first.element  time until the first student comes back
+     students.fanout.active         long task timer, fan-outs still running and for how long
+     students.fanout.throughput     students per second over the whole run
+
+   Per downstream call latency is http.client.requests, which both the WebClient and RestTemplate record.
+ */
+@Component
+public class FanOutMetrics {
+
+    private final MeterRegistry meterRegistry;
+    private final Clock clock;
+
+    public FanOutMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        this.clock = meterRegistry.config().clock();
+    }
+
+    public <T> Flux<T> time(String endpoint, Flux<T> fanOut) {
+        return Flux.defer(() -> {
+            Run run = start(endpoint);
+            return fanOut
+                    .doOnNext(element -> run.element(1))
+                    .doFinally(run::finish);
+        });
+    }
+
+    //the sync endpoints hand back the whole list at once, so first element and completion are the same moment
+    public <C extends Collection<?>> Mono<C> time(String endpoint, Mono<C> fanOut) {
+        return Mono.defer(() -> {
+            Run run = start(endpoint);
+            return fanOut
+                    .doOnNext(elements -> run.element(elements.size()))
+                    .doFinally(run::finish);
+        });
+    }
+
+    private Run start(String endpoint) {
+        return new Run(endpoint, clock.monotonicTime(), LongTaskTimer.builder("students.fanout.active")
+                .description("Student fan-outs currently running")
+                .tag("endpoint", endpoint)
+                .register(meterRegistry)
+                .start());
+    }
+
+    private final class Run {
+
+        private final String endpoint;
+        private final long startNanos;
+        private final LongTaskTimer.Sample active;
+        private final AtomicBoolean firstSeen = new AtomicBoolean();
+        private final AtomicLong elements = new AtomicLong();
+
+        private Run(String endpoint, long startNanos, LongTaskTimer.Sample active) {
+            this.endpoint = endpoint;
+            this.startNanos = startNanos;
+            this.active = active;
+        }
+
+        private void element(long count) {
+            if (firstSeen.compareAndSet(false, true)) {
+                Timer.builder("students.fanout.first.element")
+                        .description("Time from subscription to the first student")
+                        .tag("endpoint", endpoint)
+                        .publishPercentileHistogram()
+                        .register(meterRegistry)
+                        .record(clock.monotonicTime() - startNanos, TimeUnit.NANOSECONDS);
+            }
+            elements.addAndGet(count);
+        }
+
+        private void finish(SignalType signalType) {
+            active.stop();
+            long elapsedNanos = clock.monotonicTime() - startNanos;
+
+            Timer.builder("students.fanout.duration")
+                    .description("Time from subscription to completion of the fan-out")
+                    .tag("endpoint", endpoint)
+                    .tag("outcome", signalType.name())
+                    .publishPercentileHistogram()
+                    .register(meterRegistry)
+                    .record(elapsedNanos, TimeUnit.NANOSECONDS);
+
+            if (elapsedNanos > 0) {
+                DistributionSummary.builder("students.fanout.throughput")
+                        .description("Students returned per second by the fan-out")
+                        .baseUnit("students/s")
+                        .tag("endpoint", endpoint)
+                        .register(meterRegistry)
+                        .record(elements.get() * (double) TimeUnit.SECONDS.toNanos(1) / elapsedNanos);
+            }
+        }
+    }
+}
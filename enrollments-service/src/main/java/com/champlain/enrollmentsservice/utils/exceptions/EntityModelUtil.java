@@ -2,13 +2,19 @@ package com.champlain.enrollmentsservice.utils.exceptions;
 
 import com.champlain.enrollmentsservice.businesslayer.enrollments.RequestContext;
 import com.champlain.enrollmentsservice.dataaccesslayer.Enrollment;
+import com.champlain.enrollmentsservice.datamapperlayer.EnrollmentResponseMapper;
 import com.champlain.enrollmentsservice.presentationlayer.enrollments.EnrollmentResponseModel;
-import org.springframework.beans.BeanUtils;
+import com.champlain.enrollmentsservice.presentationlayer.enrollments.EnrollmentRosterResponseModel;
+import com.champlain.enrollmentsservice.presentationlayer.enrollments.EnrollmentTimetableResponseModel;
+import org.mapstruct.factory.Mappers;
 
 import java.util.UUID;
 
 public class EntityModelUtil {
 
+    //MapStruct implementation from datamapperlayer, every findAll row goes through it
+    private static final EnrollmentResponseMapper enrollmentResponseMapper = Mappers.getMapper(EnrollmentResponseMapper.class);
+
     public static Enrollment toEnrollmentEntity(RequestContext rc) {
         return Enrollment.builder()
                 .enrollmentId(generateUUIDString())
@@ -24,9 +30,15 @@ public class EntityModelUtil {
     }
 
     public static EnrollmentResponseModel toEnrollmentResponseModel(Enrollment enrollment) {
-        EnrollmentResponseModel enrollmentResponseModel = new EnrollmentResponseModel();
-        BeanUtils.copyProperties(enrollment, enrollmentResponseModel);
-        return enrollmentResponseModel;
+        return enrollmentResponseMapper.entityToResponseModel(enrollment);
+    }
+
+    public static EnrollmentTimetableResponseModel toEnrollmentTimetableResponseModel(Enrollment enrollment) {
+        return enrollmentResponseMapper.entityToTimetableResponseModel(enrollment);
+    }
+
+    public static EnrollmentRosterResponseModel toEnrollmentRosterResponseModel(Enrollment enrollment) {
+        return enrollmentResponseMapper.entityToRosterResponseModel(enrollment);
     }
 
     public static String generateUUIDString() {
@@ -0,0 +1,12 @@
+package com.champlain.enrollmentsservice.utils.exceptions;
+
+public class ServiceUnavailableException extends RuntimeException{
+
+    public ServiceUnavailableException() {}
+
+    public ServiceUnavailableException(String message) { super(message); }
+
+    public ServiceUnavailableException(Throwable cause) { super(cause); }
+
+    public ServiceUnavailableException(String message, Throwable cause) { super(message, cause); }
+}
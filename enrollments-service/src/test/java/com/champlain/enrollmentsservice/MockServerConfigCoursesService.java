@@ -3,6 +3,7 @@ package com.champlain.enrollmentsservice;
 import com.champlain.enrollmentsservice.domainclientlayer.Courses.CourseResponseModel;
 import org.mockserver.client.MockServerClient;
 import org.mockserver.integration.ClientAndServer;
+import org.mockserver.matchers.MatchType;
 
 import static org.mockserver.model.HttpRequest.request;
 import static org.mockserver.model.HttpResponse.response;
@@ -45,6 +46,21 @@ public class MockServerConfigCoursesService {
 
     }
 
+    public void registerGetCoursesByBatchEndpoint() {
+        mockServerClient
+                .when(
+                        request()
+                                .withMethod("POST")
+                                .withPath("/api/v1/courses/batch")
+                                .withBody(json("{\"courseIds\":[\"9a29fff7-564a-4cc9-8fe1-36f6ca9bc223\"]}", MatchType.ONLY_MATCHING_FIELDS))
+                )
+                .respond(
+                        response()
+                                .withStatusCode(200)
+                                .withHeader("Content-Type", "application/json")
+                                .withBody("[{\"courseId\":\"9a29fff7-564a-4cc9-8fe1-36f6ca9bc223\",\"courseNumber\":\"trs-075\",\"courseName\":\"Web Services\",\"numHours\":45,\"numCredits\":3.0,\"department\":\"Computer Science\"}]"));
+    }
+
     public void stopServer() {
         if (this.clientAndServer != null)
             this.clientAndServer.stop();
@@ -4,6 +4,7 @@ import com.champlain.enrollmentsservice.domainclientlayer.Courses.CourseResponse
 import com.champlain.enrollmentsservice.domainclientlayer.Students.StudentResponseModel;
 import org.mockserver.client.MockServerClient;
 import org.mockserver.integration.ClientAndServer;
+import org.mockserver.matchers.MatchType;
 import org.mockserver.model.HttpStatusCode;
 import org.mockserver.model.MediaType;
 import org.springframework.http.HttpStatus;
@@ -68,4 +69,35 @@ public class MockServerConfigStudentsService {
                                 .withStatusCode(HttpStatus.NOT_FOUND.value())
                 );
     }
+
+    public void registerGetStudentsByBatchEndpoint() {
+        mockServerClient
+                .when(
+                        request()
+                                .withMethod("POST")
+                                .withPath("/api/v1/students/batch")
+                                .withBody(json("{\"studentIds\":[\"c3540a89-cb47-4c96-888e-ff96708db4d8\"]}", MatchType.ONLY_MATCHING_FIELDS))
+                )
+                .respond(
+                        response()
+                                .withStatusCode(200)
+                                .withHeader("Content-Type", MediaType.APPLICATION_JSON_UTF_8.toString())
+                                .withBody(json("[{\"studentId\":\"c3540a89-cb47-4c96-888e-ff96708db4d8\",\"firstName\":\"Christine\",\"lastName\":\"Gerard\",\"program\":\"Computer Science\",\"stuff\":\"stuff\"}]", MediaType.APPLICATION_JSON))
+                );
+
+        //unknown students are simply missing from a batch response
+        mockServerClient
+                .when(
+                        request()
+                                .withMethod("POST")
+                                .withPath("/api/v1/students/batch")
+                                .withBody(json("{\"studentIds\":[\"" + NON_EXISTING_STUDENTID + "\"]}", MatchType.ONLY_MATCHING_FIELDS))
+                )
+                .respond(
+                        response()
+                                .withStatusCode(200)
+                                .withHeader("Content-Type", MediaType.APPLICATION_JSON_UTF_8.toString())
+                                .withBody(json("[]", MediaType.APPLICATION_JSON))
+                );
+    }
 }
\ No newline at end of file
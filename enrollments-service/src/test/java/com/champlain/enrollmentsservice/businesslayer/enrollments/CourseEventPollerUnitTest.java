@@ -0,0 +1,111 @@
+package com.champlain.enrollmentsservice.businesslayer.enrollments;
+
+import com.champlain.enrollmentsservice.dataaccesslayer.CourseEventCursor;
+import com.champlain.enrollmentsservice.dataaccesslayer.CourseEventCursorRepository;
+import com.champlain.enrollmentsservice.dataaccesslayer.EnrollmentRepository;
+import com.champlain.enrollmentsservice.domainclientlayer.Courses.CourseClient;
+import com.champlain.enrollmentsservice.domainclientlayer.Courses.CourseEventResponseModel;
+import com.champlain.enrollmentsservice.utils.exceptions.ServiceUnavailableException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CourseEventPollerUnitTest {
+
+    private CourseEventPoller courseEventPoller;
+
+    @Mock
+    private CourseClient courseClient;
+
+    @Mock
+    private EnrollmentRepository enrollmentRepository;
+
+    @Mock
+    private CourseEventCursorRepository courseEventCursorRepository;
+
+    private final String courseId = "9a29fff7-564a-4cc9-8fe1-36f6ca9bc223";
+    private final String deletedCourseId = "5a8b09ff-05ee-43dd-abdf-6a3ec3833edd";
+
+    @BeforeEach
+    void setUp() {
+        courseEventPoller = new CourseEventPoller(courseClient, enrollmentRepository, courseEventCursorRepository,
+                Duration.ofSeconds(5), 100);
+    }
+
+    @Test
+    public void whenCourseEventsAfterCursor_thenPatchEnrollmentsAndMoveCursor() {
+        // Arrange
+        when(courseEventCursorRepository.findById(CourseEventPoller.CURSOR_ID))
+                .thenReturn(Mono.just(CourseEventCursor.builder().id(CourseEventPoller.CURSOR_ID).lastEventId(4).build()));
+        when(courseClient.getCourseEventsAfter(4, 100)).thenReturn(Flux.just(
+                event(5, courseId, "UPDATED", "trs-076", "Web Services 2"),
+                event(6, deletedCourseId, "DELETED", "jcb-348", "Linear Algebra")));
+        when(enrollmentRepository.updateCourseFieldsByCourseId(courseId, "trs-076", "Web Services 2")).thenReturn(Mono.just(12L));
+        when(courseEventCursorRepository.save(any(CourseEventCursor.class))).thenAnswer(invocation -> Mono.just(invocation.getArgument(0)));
+
+        // Act & Assert
+        StepVerifier.create(courseEventPoller.poll())
+                .expectNext(2)
+                .verifyComplete();
+
+        verify(enrollmentRepository).updateCourseFieldsByCourseId(courseId, "trs-076", "Web Services 2");
+        verify(enrollmentRepository, never()).updateCourseFieldsByCourseId(eq(deletedCourseId), anyString(), anyString());
+        verify(courseClient).invalidateCourse(courseId);
+        verify(courseClient).invalidateCourse(deletedCourseId);
+        verify(courseEventCursorRepository).save(argThat(cursor -> cursor.getLastEventId() == 6));
+    }
+
+    @Test
+    public void whenNoCursorYet_thenStartFromTheFirstEvent() {
+        // Arrange
+        when(courseEventCursorRepository.findById(CourseEventPoller.CURSOR_ID)).thenReturn(Mono.empty());
+        when(courseClient.getCourseEventsAfter(0, 100)).thenReturn(Flux.empty());
+
+        // Act & Assert
+        StepVerifier.create(courseEventPoller.poll())
+                .expectNext(0)
+                .verifyComplete();
+
+        verify(courseEventCursorRepository, never()).save(any());
+    }
+
+    @Test
+    public void whenPatchFails_thenCursorStaysForTheNextPoll() {
+        // Arrange
+        when(courseEventCursorRepository.findById(CourseEventPoller.CURSOR_ID)).thenReturn(Mono.empty());
+        when(courseClient.getCourseEventsAfter(0, 100)).thenReturn(Flux.just(
+                event(1, courseId, "UPDATED", "trs-076", "Web Services 2")));
+        when(enrollmentRepository.updateCourseFieldsByCourseId(courseId, "trs-076", "Web Services 2"))
+                .thenReturn(Mono.error(new ServiceUnavailableException("mongodb unavailable")));
+
+        // Act & Assert
+        StepVerifier.create(courseEventPoller.poll())
+                .expectError(ServiceUnavailableException.class)
+                .verify();
+
+        verify(courseEventCursorRepository, never()).save(any());
+    }
+
+    private CourseEventResponseModel event(int eventId, String courseId, String eventType, String courseNumber, String courseName) {
+        return CourseEventResponseModel.builder()
+                .eventId(eventId)
+                .courseId(courseId)
+                .eventType(eventType)
+                .courseNumber(courseNumber)
+                .courseName(courseName)
+                .build();
+    }
+}
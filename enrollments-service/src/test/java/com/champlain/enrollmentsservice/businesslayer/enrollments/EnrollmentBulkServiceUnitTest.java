@@ -0,0 +1,170 @@
+package com.champlain.enrollmentsservice.businesslayer.enrollments;
+
+import com.champlain.enrollmentsservice.dataaccesslayer.EnrollmentRepository;
+import com.champlain.enrollmentsservice.dataaccesslayer.Semester;
+import com.champlain.enrollmentsservice.domainclientlayer.Courses.CourseResponseModel;
+import com.champlain.enrollmentsservice.domainclientlayer.Students.StudentResponseModel;
+import com.champlain.enrollmentsservice.presentationlayer.enrollments.EnrollmentBulkStatus;
+import com.champlain.enrollmentsservice.presentationlayer.enrollments.EnrollmentRequestModel;
+import com.mongodb.MongoBulkWriteException;
+import com.mongodb.ServerAddress;
+import com.mongodb.bulk.BulkWriteError;
+import com.mongodb.bulk.BulkWriteInsert;
+import com.mongodb.bulk.BulkWriteResult;
+import org.bson.BsonDocument;
+import org.bson.BsonString;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DuplicateKeyException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class EnrollmentBulkServiceUnitTest {
+
+    private EnrollmentBulkServiceImpl enrollmentBulkService;
+
+    @Mock
+    private EnrollmentRepository enrollmentRepository;
+
+    @Mock
+    private EnrollmentLookupLoader enrollmentLookupLoader;
+
+    private final String studentId = "c3540a89-cb47-4c96-888e-ff96708db4d8";
+    private final String courseId = "9a29fff7-564a-4cc9-8fe1-36f6ca9bc223";
+    private final String missingCourseId = "5a8b09ff-05ee-43dd-abdf-6a3ec3833edd";
+
+    private final StudentResponseModel studentResponseModel = StudentResponseModel.builder()
+            .studentId(studentId)
+            .firstName("Christine")
+            .lastName("Gerard")
+            .program("Computer Science")
+            .build();
+
+    private final CourseResponseModel courseResponseModel = CourseResponseModel.builder()
+            .courseId(courseId)
+            .courseNumber("trs-075")
+            .courseName("Web Services")
+            .build();
+
+    @BeforeEach
+    void setUp() {
+        enrollmentBulkService = new EnrollmentBulkServiceImpl(enrollmentRepository, enrollmentLookupLoader, 2);
+    }
+
+    @Test
+    public void whenAddEnrollments_thenEachChunkIsLookedUpAndInsertedOnce() {
+        // Arrange
+        when(enrollmentLookupLoader.loadStudents(any())).thenReturn(Mono.just(Map.of(studentId, studentResponseModel)));
+        when(enrollmentLookupLoader.loadCourses(any())).thenReturn(Mono.just(Map.of(courseId, courseResponseModel)));
+        when(enrollmentRepository.insertUnordered(anyList())).thenReturn(Mono.just(BulkWriteResult.unacknowledged()));
+
+        // Act & Assert
+        StepVerifier.create(enrollmentBulkService.addEnrollments(Flux.just(
+                        request(studentId, courseId),
+                        request(studentId, courseId),
+                        request(studentId, courseId))))
+                .expectNextMatches(result -> result.getLine() == 1 && result.getStatus() == EnrollmentBulkStatus.CREATED
+                        && result.getEnrollment().getCourseName().equals("Web Services"))
+                .expectNextMatches(result -> result.getLine() == 2 && result.getStatus() == EnrollmentBulkStatus.CREATED)
+                .expectNextMatches(result -> result.getLine() == 3 && result.getStatus() == EnrollmentBulkStatus.CREATED)
+                .verifyComplete();
+
+        // chunk size is 2, so 3 lines make 2 chunks
+        verify(enrollmentLookupLoader, times(2)).loadStudents(any());
+        verify(enrollmentLookupLoader, times(2)).loadCourses(any());
+        verify(enrollmentRepository, times(2)).insertUnordered(anyList());
+    }
+
+    @Test
+    public void whenAddEnrollments_withBadLines_thenRejectOnlyThoseLines() {
+        // Arrange
+        when(enrollmentLookupLoader.loadStudents(any())).thenReturn(Mono.just(Map.of(studentId, studentResponseModel)));
+        when(enrollmentLookupLoader.loadCourses(any())).thenReturn(Mono.just(Map.of(courseId, courseResponseModel)));
+        when(enrollmentRepository.insertUnordered(anyList())).thenReturn(Mono.just(BulkWriteResult.unacknowledged()));
+
+        // Act & Assert
+        StepVerifier.create(enrollmentBulkService.addEnrollments(Flux.just(
+                        request("bad-id", courseId),
+                        request(studentId, courseId),
+                        request(studentId, missingCourseId))))
+                .expectNextMatches(result -> result.getLine() == 1 && result.getStatus() == EnrollmentBulkStatus.REJECTED
+                        && result.getMessage().equals("StudentId invalid: bad-id"))
+                .expectNextMatches(result -> result.getLine() == 2 && result.getStatus() == EnrollmentBulkStatus.CREATED)
+                .expectNextMatches(result -> result.getLine() == 3 && result.getStatus() == EnrollmentBulkStatus.REJECTED
+                        && result.getMessage().equals("CourseId not found: " + missingCourseId))
+                .verifyComplete();
+
+        // the last chunk has nothing valid in it, so it is never written
+        verify(enrollmentRepository, times(1)).insertUnordered(anyList());
+    }
+
+    @Test
+    public void whenAddEnrollments_withLookupFailing_thenRejectThatChunk() {
+        // Arrange
+        when(enrollmentLookupLoader.loadStudents(any())).thenReturn(Mono.error(new IllegalArgumentException("Something went wrong")));
+        when(enrollmentLookupLoader.loadCourses(any())).thenReturn(Mono.just(Map.of(courseId, courseResponseModel)));
+
+        // Act & Assert
+        StepVerifier.create(enrollmentBulkService.addEnrollments(Flux.just(request(studentId, courseId))))
+                .expectNextMatches(result -> result.getStatus() == EnrollmentBulkStatus.REJECTED
+                        && result.getMessage().contains("Something went wrong"))
+                .verifyComplete();
+
+        verify(enrollmentRepository, never()).insertUnordered(anyList());
+    }
+
+    @Test
+    public void whenAddEnrollments_withPartialInsertFailure_thenRejectOnlyTheFailedLines() {
+        // Arrange, the second document of the chunk is a duplicate, the first and third were written
+        enrollmentBulkService = new EnrollmentBulkServiceImpl(enrollmentRepository, enrollmentLookupLoader, 3);
+        when(enrollmentLookupLoader.loadStudents(any())).thenReturn(Mono.just(Map.of(studentId, studentResponseModel)));
+        when(enrollmentLookupLoader.loadCourses(any())).thenReturn(Mono.just(Map.of(courseId, courseResponseModel)));
+        MongoBulkWriteException bulkWriteException = new MongoBulkWriteException(
+                BulkWriteResult.acknowledged(2, 0, 0, 0, List.of(),
+                        List.of(new BulkWriteInsert(0, new BsonString("a")), new BulkWriteInsert(2, new BsonString("c")))),
+                List.of(new BulkWriteError(11000, "E11000 duplicate key error", new BsonDocument(), 1)),
+                null, new ServerAddress(), Set.of());
+        when(enrollmentRepository.insertUnordered(anyList()))
+                .thenReturn(Mono.error(new DuplicateKeyException(bulkWriteException.getMessage(), bulkWriteException)));
+
+        // Act & Assert
+        StepVerifier.create(enrollmentBulkService.addEnrollments(Flux.just(
+                        request(studentId, courseId),
+                        request(studentId, courseId),
+                        request(studentId, courseId))))
+                .expectNextMatches(result -> result.getLine() == 1 && result.getStatus() == EnrollmentBulkStatus.CREATED)
+                .expectNextMatches(result -> result.getLine() == 2 && result.getStatus() == EnrollmentBulkStatus.REJECTED
+                        && result.getMessage().contains("E11000 duplicate key error"))
+                .expectNextMatches(result -> result.getLine() == 3 && result.getStatus() == EnrollmentBulkStatus.CREATED)
+                .verifyComplete();
+    }
+
+    @Test
+    public void whenChunkSizeAboveMaxBatchSize_thenRefuseToStart() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new EnrollmentBulkServiceImpl(enrollmentRepository, enrollmentLookupLoader, EnrollmentBulkServiceImpl.MAX_BATCH_SIZE + 1));
+    }
+
+    private EnrollmentRequestModel request(String studentId, String courseId) {
+        return EnrollmentRequestModel.builder()
+                .enrollmentYear(2023)
+                .semester(Semester.FALL)
+                .studentId(studentId)
+                .courseId(courseId)
+                .build();
+    }
+}
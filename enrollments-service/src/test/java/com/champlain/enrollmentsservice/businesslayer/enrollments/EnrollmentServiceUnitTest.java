@@ -3,9 +3,12 @@ package com.champlain.enrollmentsservice.businesslayer.enrollments;
 import com.champlain.enrollmentsservice.dataaccesslayer.Enrollment;
 import com.champlain.enrollmentsservice.dataaccesslayer.EnrollmentRepository;
 import com.champlain.enrollmentsservice.dataaccesslayer.Semester;
+import com.champlain.enrollmentsservice.domainclientlayer.Courses.CourseResponseModel;
+import com.champlain.enrollmentsservice.domainclientlayer.Students.StudentResponseModel;
 
 import com.champlain.enrollmentsservice.presentationlayer.enrollments.EnrollmentRequestModel;
 import com.champlain.enrollmentsservice.presentationlayer.enrollments.EnrollmentResponseModel;
+import com.champlain.enrollmentsservice.utils.exceptions.InvalidInputException;
 import com.champlain.enrollmentsservice.utils.exceptions.NotFoundException;
 
 import org.junit.jupiter.api.Test;
@@ -17,6 +20,10 @@ import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.when;
 @ExtendWith(MockitoExtension.class)
 class EnrollmentServiceUnitTest {
@@ -27,6 +34,9 @@ class EnrollmentServiceUnitTest {
     @Mock
     private EnrollmentRepository enrollmentRepository;
 
+    @Mock
+    private EnrollmentLookupLoader enrollmentLookupLoader;
+
     private final Enrollment enrollment1 = Enrollment.builder()
             .enrollmentId("06a7d573-bcab-4db3-956f-773324b92a80")
             .enrollmentYear(2021)
@@ -51,6 +61,19 @@ class EnrollmentServiceUnitTest {
             .courseName("Shakespeare's Greatest Works")
             .build();
 
+    private final StudentResponseModel studentResponseModel = StudentResponseModel.builder()
+            .studentId("c3540a89-cb47-4c96-888e-ff96708db4d8")
+            .firstName("Christine")
+            .lastName("Gerard")
+            .program("Computer Science")
+            .build();
+
+    private final CourseResponseModel courseResponseModel = CourseResponseModel.builder()
+            .courseId("9a29fff7-564a-4cc9-8fe1-36f6ca9bc223")
+            .courseNumber("trs-075")
+            .courseName("Web Services")
+            .build();
+
     //UUID for non-existent enrollment
     private final String nonExistentEnrollmentId = "5a8b09ff-05ee-43dd-abdf-6a3ec3833edd";
 
@@ -71,6 +94,31 @@ class EnrollmentServiceUnitTest {
                 .verifyComplete();
     }
 
+    @Test
+    public void whenGetEnrollmentsByStudentId_thenReturnStudentEnrollments() {
+        // Arrange
+        when(enrollmentRepository.findAllByStudentId(enrollment1.getStudentId())).thenReturn(Flux.just(enrollment1, enrollment2));
+
+        // Act & Assert
+        StepVerifier.create(enrollmentService.getEnrollmentsByStudentId(enrollment1.getStudentId()))
+                .expectNextMatches(e -> e.getEnrollmentId().equals(enrollment1.getEnrollmentId()))
+                .expectNextMatches(e -> e.getEnrollmentId().equals(enrollment2.getEnrollmentId()))
+                .verifyComplete();
+    }
+
+    @Test
+    public void whenGetEnrollmentsByCourseIdAndTerm_thenReturnCourseRoster() {
+        // Arrange
+        when(enrollmentRepository.findAllByCourseIdAndEnrollmentYearAndSemester(enrollment1.getCourseId(), 2021, Semester.FALL))
+                .thenReturn(Flux.just(enrollment1));
+
+        // Act & Assert
+        StepVerifier.create(enrollmentService.getEnrollmentsByCourseIdAndTerm(enrollment1.getCourseId(), 2021, Semester.FALL))
+                .expectNextMatches(e -> e.getEnrollmentId().equals(enrollment1.getEnrollmentId())
+                        && e.getStudentLastName().equals("Gerard"))
+                .verifyComplete();
+    }
+
     @Test
     public void whenGetEnrollmentById_thenReturnEnrollmentAsMono() {
         // Arrange
@@ -155,5 +203,140 @@ class EnrollmentServiceUnitTest {
                 .verify();
     }
 
+    @Test
+    public void whenAddEnrollment_thenStudentAndCourseAreLookedUpConcurrently() {
+        // Arrange
+        EnrollmentRequestModel enrollmentRequestModel = EnrollmentRequestModel.builder()
+                .enrollmentYear(2021)
+                .semester(Semester.FALL)
+                .studentId(enrollment1.getStudentId())
+                .courseId(enrollment1.getCourseId())
+                .build();
+
+        when(enrollmentLookupLoader.loadStudent(enrollment1.getStudentId()))
+                .thenAnswer(invocation -> Mono.delay(Duration.ofMillis(200)).thenReturn(studentResponseModel));
+        when(enrollmentLookupLoader.loadCourse(enrollment1.getCourseId()))
+                .thenAnswer(invocation -> Mono.delay(Duration.ofMillis(200)).thenReturn(courseResponseModel));
+        when(enrollmentRepository.save(any(Enrollment.class)))
+                .thenAnswer(invocation -> Mono.just(invocation.getArgument(0)));
+
+        // Act & Assert - both 200ms lookups finish together, sequential lookups would need 400ms
+        StepVerifier
+                .withVirtualTime(() -> enrollmentService.addEnrollment(Mono.just(enrollmentRequestModel)))
+                .expectSubscription()
+                .thenAwait(Duration.ofMillis(200))
+                .consumeNextWith(enrollmentResponseModel -> {
+                    assertNotNull(enrollmentResponseModel.getEnrollmentId());
+                    assertEquals(studentResponseModel.getFirstName(), enrollmentResponseModel.getStudentFirstName());
+                    assertEquals(courseResponseModel.getCourseName(), enrollmentResponseModel.getCourseName());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    public void whenAddEnrollment_withStudentLookupFailingFirst_thenFailWithoutWaitingForCourse() {
+        // Arrange
+        EnrollmentRequestModel enrollmentRequestModel = EnrollmentRequestModel.builder()
+                .enrollmentYear(2021)
+                .semester(Semester.FALL)
+                .studentId(enrollment1.getStudentId())
+                .courseId(enrollment1.getCourseId())
+                .build();
+
+        when(enrollmentLookupLoader.loadStudent(enrollment1.getStudentId()))
+                .thenAnswer(invocation -> Mono.delay(Duration.ofMillis(50))
+                        .then(Mono.error(new NotFoundException("StudentId not found: " + enrollment1.getStudentId()))));
+        when(enrollmentLookupLoader.loadCourse(enrollment1.getCourseId()))
+                .thenAnswer(invocation -> Mono.delay(Duration.ofSeconds(2)).thenReturn(courseResponseModel));
+
+        // Act & Assert - the student error comes back after 50ms, not after the 2s course lookup
+        StepVerifier
+                .withVirtualTime(() -> enrollmentService.addEnrollment(Mono.just(enrollmentRequestModel)))
+                .expectSubscription()
+                .thenAwait(Duration.ofMillis(50))
+                .expectErrorMatches(throwable -> throwable instanceof NotFoundException &&
+                        throwable.getMessage().equals("StudentId not found: " + enrollment1.getStudentId()))
+                .verify(Duration.ofSeconds(1));
+    }
+
+    @Test
+    public void whenAddEnrollment_withOnlyCourseLookupFailing_thenReturnCourseErrorOnceStudentIsFound() {
+        // Arrange
+        EnrollmentRequestModel enrollmentRequestModel = EnrollmentRequestModel.builder()
+                .enrollmentYear(2021)
+                .semester(Semester.FALL)
+                .studentId(enrollment1.getStudentId())
+                .courseId(enrollment1.getCourseId())
+                .build();
+
+        when(enrollmentLookupLoader.loadStudent(enrollment1.getStudentId()))
+                .thenAnswer(invocation -> Mono.delay(Duration.ofMillis(200)).thenReturn(studentResponseModel));
+        when(enrollmentLookupLoader.loadCourse(enrollment1.getCourseId()))
+                .thenAnswer(invocation -> Mono.delay(Duration.ofMillis(50))
+                        .then(Mono.error(new NotFoundException("CourseId not found: " + enrollment1.getCourseId()))));
+
+        // Act & Assert - the course error waits for the student lookup, it might have failed too
+        StepVerifier
+                .withVirtualTime(() -> enrollmentService.addEnrollment(Mono.just(enrollmentRequestModel)))
+                .expectSubscription()
+                .thenAwait(Duration.ofMillis(50))
+                .expectNoEvent(Duration.ofMillis(149))
+                .thenAwait(Duration.ofMillis(1))
+                .expectErrorMatches(throwable -> throwable instanceof NotFoundException &&
+                        throwable.getMessage().equals("CourseId not found: " + enrollment1.getCourseId()))
+                .verify(Duration.ofSeconds(1));
+    }
+
+    @Test
+    public void whenAddEnrollment_withCourseLookupFailingBeforeStudentLookup_thenReturnStudentError() {
+        // Arrange
+        EnrollmentRequestModel enrollmentRequestModel = EnrollmentRequestModel.builder()
+                .enrollmentYear(2021)
+                .semester(Semester.FALL)
+                .studentId(enrollment1.getStudentId())
+                .courseId(enrollment1.getCourseId())
+                .build();
+
+        when(enrollmentLookupLoader.loadStudent(enrollment1.getStudentId()))
+                .thenAnswer(invocation -> Mono.delay(Duration.ofMillis(200))
+                        .then(Mono.error(new NotFoundException("StudentId not found: " + enrollment1.getStudentId()))));
+        when(enrollmentLookupLoader.loadCourse(enrollment1.getCourseId()))
+                .thenAnswer(invocation -> Mono.delay(Duration.ofMillis(50))
+                        .then(Mono.error(new NotFoundException("CourseId not found: " + enrollment1.getCourseId()))));
+
+        // Act & Assert - both downstreams answer 404 from separate batches, the student error still wins
+        StepVerifier
+                .withVirtualTime(() -> enrollmentService.addEnrollment(Mono.just(enrollmentRequestModel)))
+                .expectSubscription()
+                .thenAwait(Duration.ofMillis(200))
+                .expectErrorMatches(throwable -> throwable instanceof NotFoundException &&
+                        throwable.getMessage().equals("StudentId not found: " + enrollment1.getStudentId()))
+                .verify(Duration.ofSeconds(1));
+    }
+
+    @Test
+    public void whenAddEnrollment_withStudentAndCourseLookupsFailingTogether_thenReturnStudentError() {
+        // Arrange
+        EnrollmentRequestModel enrollmentRequestModel = EnrollmentRequestModel.builder()
+                .enrollmentYear(2021)
+                .semester(Semester.FALL)
+                .studentId(enrollment1.getStudentId())
+                .courseId(enrollment1.getCourseId())
+                .build();
+
+        when(enrollmentLookupLoader.loadStudent(enrollment1.getStudentId()))
+                .thenReturn(Mono.error(new InvalidInputException("StudentId invalid: " + enrollment1.getStudentId())));
+        when(enrollmentLookupLoader.loadCourse(enrollment1.getCourseId()))
+                .thenReturn(Mono.error(new InvalidInputException("CourseId invalid: " + enrollment1.getCourseId())));
+
+        // Act
+        Mono<EnrollmentResponseModel> result = enrollmentService.addEnrollment(Mono.just(enrollmentRequestModel));
 
-}
\ No newline at end of file
+        // Assert
+        StepVerifier
+                .create(result)
+                .expectErrorMatches(throwable -> throwable instanceof InvalidInputException &&
+                        throwable.getMessage().equals("StudentId invalid: " + enrollment1.getStudentId()))
+                .verify();
+    }
+}
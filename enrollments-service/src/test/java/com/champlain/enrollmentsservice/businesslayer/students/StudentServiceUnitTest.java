@@ -0,0 +1,92 @@
+package com.champlain.enrollmentsservice.businesslayer.students;
+
+import com.champlain.enrollmentsservice.domainclientlayer.Students.StudentClientAsynchronous;
+import com.champlain.enrollmentsservice.domainclientlayer.Students.StudentClientSynchronous;
+import com.champlain.enrollmentsservice.domainclientlayer.Students.StudentResponseModel;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+import reactor.test.StepVerifier;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class StudentServiceUnitTest {
+
+    @Mock
+    private StudentClientSynchronous studentClientSynchronous;
+
+    @Mock
+    private StudentClientAsynchronous studentClientAsynchronous;
+
+    private Scheduler blockingClientScheduler;
+    private StudentServiceImpl studentService;
+
+    private final StudentResponseModel student = StudentResponseModel.builder()
+            .studentId("c3540a89-cb47-4c96-888e-ff96708db4d8")
+            .firstName("Christine")
+            .lastName("Gerard")
+            .program("Computer Science")
+            .build();
+
+    @BeforeEach
+    void setUp() {
+        blockingClientScheduler = Schedulers.newBoundedElastic(2, 10, "blocking-client");
+        studentService = new StudentServiceImpl(studentClientSynchronous, studentClientAsynchronous, blockingClientScheduler);
+    }
+
+    @AfterEach
+    void tearDown() {
+        blockingClientScheduler.dispose();
+    }
+
+    @Test
+    void whenGet1000StudentsSyncLoop_fromEventLoopThread_thenBlockingCallRunsOnBlockingClientScheduler() {
+        //arrange, the client blocks like RestTemplate does
+        AtomicReference<String> clientThread = new AtomicReference<>();
+        when(studentClientSynchronous.get1000StudentsLoop()).thenAnswer(invocation -> {
+            clientThread.set(Thread.currentThread().getName());
+            Thread.sleep(10);
+            return List.of(student);
+        });
+
+        //act, subscribed from a non-blocking thread the way a WebFlux handler is (fails under blockHoundTest if it blocks there)
+        Mono<List<StudentResponseModel>> result = Mono.defer(() -> studentService.get1000StudentsSyncLoop())
+                .subscribeOn(Schedulers.parallel());
+
+        //assert
+        StepVerifier
+                .create(result)
+                .expectNext(List.of(student))
+                .verifyComplete();
+        assertTrue(clientThread.get().startsWith("blocking-client"));
+    }
+
+    @Test
+    void whenGet1000StudentsSyncBatched_thenCallIsDeferredUntilSubscribed() {
+        //arrange
+        when(studentClientSynchronous.get1000StudentsSyncBatched()).thenReturn(List.of(student));
+
+        //act
+        Mono<List<StudentResponseModel>> result = studentService.get1000StudentsSyncBatched();
+
+        //assert
+        verify(studentClientSynchronous, never()).get1000StudentsSyncBatched();
+        StepVerifier
+                .create(result)
+                .expectNextMatches(students -> students.size() == 1 && students.get(0).getStudentId().equals(student.getStudentId()))
+                .verifyComplete();
+    }
+}
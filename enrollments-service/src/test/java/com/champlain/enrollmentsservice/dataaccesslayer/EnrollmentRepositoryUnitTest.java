@@ -7,6 +7,8 @@ import org.springframework.boot.test.autoconfigure.data.mongo.DataMongoTest;
 import org.springframework.test.context.ActiveProfiles;
 import reactor.test.StepVerifier;
 
+import java.util.List;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 @DataMongoTest
@@ -86,4 +88,82 @@ class EnrollmentRepositoryUnitTest {
                 .verifyComplete();
     }
 
-}
\ No newline at end of file
+    @Test
+    void whenFindAllByCourseIdAndEnrollmentYearAndSemester_thenReturnOnlyRosterFields() {
+        // arrange
+        StepVerifier
+                .create(enrollmentRepository.save(enrollment1))
+                .expectNextCount(1)
+                .verifyComplete();
+
+        // act & assert
+        StepVerifier
+                .create(enrollmentRepository.findAllByCourseIdAndEnrollmentYearAndSemester(enrollment1.getCourseId(), 2021, Semester.FALL))
+                .consumeNextWith(foundEnrollment -> {
+                    assertEquals(enrollment1.getEnrollmentId(), foundEnrollment.getEnrollmentId());
+                    assertEquals(enrollment1.getStudentLastName(), foundEnrollment.getStudentLastName());
+                    assertNull(foundEnrollment.getCourseName());
+                })
+                .verifyComplete();
+
+        StepVerifier
+                .create(enrollmentRepository.findAllByCourseIdAndEnrollmentYearAndSemester(enrollment1.getCourseId(), 2021, Semester.WINTER))
+                .expectNextCount(0)
+                .verifyComplete();
+    }
+
+    @Test
+    void whenFindAllByStudentId_thenReturnOnlyTimetableFields() {
+        // arrange
+        StepVerifier
+                .create(enrollmentRepository.save(enrollment1))
+                .expectNextCount(1)
+                .verifyComplete();
+
+        // act & assert
+        StepVerifier
+                .create(enrollmentRepository.findAllByStudentId(enrollment1.getStudentId()))
+                .consumeNextWith(foundEnrollment -> {
+                    assertEquals(enrollment1.getEnrollmentId(), foundEnrollment.getEnrollmentId());
+                    assertEquals(enrollment1.getCourseName(), foundEnrollment.getCourseName());
+                    assertNull(foundEnrollment.getStudentFirstName());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    void whenUpdateCourseFieldsByCourseId_thenPatchEveryEnrollmentOfTheCourse() {
+        // arrange
+        Enrollment enrollment2 = Enrollment.builder()
+                .enrollmentId("06a7d573-bcab-4db3-956f-773324b92a82")
+                .enrollmentYear(2022)
+                .semester(Semester.FALL)
+                .studentId(enrollment1.getStudentId())
+                .studentFirstName(enrollment1.getStudentFirstName())
+                .studentLastName(enrollment1.getStudentLastName())
+                .courseId(enrollment1.getCourseId())
+                .courseNumber(enrollment1.getCourseNumber())
+                .courseName(enrollment1.getCourseName())
+                .build();
+        StepVerifier
+                .create(enrollmentRepository.saveAll(List.of(enrollment1, enrollment2)))
+                .expectNextCount(2)
+                .verifyComplete();
+
+        // act
+        StepVerifier
+                .create(enrollmentRepository.updateCourseFieldsByCourseId(enrollment1.getCourseId(), "trs-076", "Web Services 2"))
+                .expectNext(2L)
+                .verifyComplete();
+
+        // assert
+        StepVerifier
+                .create(enrollmentRepository.findAll()
+                        .filter(foundEnrollment -> foundEnrollment.getCourseNumber().equals("trs-076")
+                                && foundEnrollment.getCourseName().equals("Web Services 2")
+                                && foundEnrollment.getStudentFirstName().equals("Christine"))
+                        .count())
+                .expectNext(2L)
+                .verifyComplete();
+    }
+}
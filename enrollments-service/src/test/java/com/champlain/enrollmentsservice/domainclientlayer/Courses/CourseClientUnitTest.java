@@ -0,0 +1,348 @@
+package com.champlain.enrollmentsservice.domainclientlayer.Courses;
+
+import com.champlain.enrollmentsservice.domainclientlayer.DownstreamResilience;
+import com.champlain.enrollmentsservice.domainclientlayer.DownstreamWebClientFactory;
+import com.champlain.enrollmentsservice.utils.exceptions.NotFoundException;
+import com.champlain.enrollmentsservice.utils.exceptions.ServiceUnavailableException;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.retry.RetryConfig;
+import io.github.resilience4j.retry.RetryRegistry;
+import io.github.resilience4j.timelimiter.TimeLimiterConfig;
+import io.github.resilience4j.timelimiter.TimeLimiterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.*;
+import org.mockserver.client.MockServerClient;
+import org.mockserver.integration.ClientAndServer;
+import org.mockserver.matchers.Times;
+import org.mockserver.model.HttpResponse;
+import org.springframework.boot.convert.ApplicationConversionService;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockserver.model.HttpRequest.request;
+import static org.mockserver.model.HttpResponse.response;
+import static org.mockserver.verify.VerificationTimes.exactly;
+
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class CourseClientUnitTest {
+
+    private static final Integer MOCK_SERVER_PORT = 7013;
+
+    private final String courseId = "9a29fff7-564a-4cc9-8fe1-36f6ca9bc223";
+    private final String nonExistingCourseId = "9a29fff7-564a-4cc9-8fe1-36f6ca9bc000";
+    private final String unavailableCourseId = "9a29fff7-564a-4cc9-8fe1-36f6ca9bc503";
+    private final String revalidatedCourseId = "9a29fff7-564a-4cc9-8fe1-36f6ca9bc304";
+
+    private ClientAndServer clientAndServer;
+    private MockServerClient mockServerClient;
+    private SimpleMeterRegistry meterRegistry;
+    private CourseClient courseClient;
+
+    @BeforeAll
+    public void startServer() {
+        clientAndServer = ClientAndServer.startClientAndServer(MOCK_SERVER_PORT);
+        mockServerClient = new MockServerClient("localhost", MOCK_SERVER_PORT);
+    }
+
+    @AfterAll
+    public void stopServer() {
+        clientAndServer.stop();
+    }
+
+    @BeforeEach
+    public void setup() {
+        mockServerClient.reset();
+        mockServerClient
+                .when(request().withMethod("GET").withPath("/api/v1/courses/" + courseId))
+                .respond(response()
+                        .withStatusCode(200)
+                        .withHeader("Content-Type", "application/json")
+                        .withDelay(TimeUnit.MILLISECONDS, 50)
+                        .withBody("{\"courseId\":\"" + courseId + "\",\"courseNumber\":\"trs-075\",\"courseName\":\"Web Services\",\"numHours\":45,\"numCredits\":3.0,\"department\":\"Computer Science\"}"));
+        mockServerClient
+                .when(request().withMethod("GET").withPath("/api/v1/courses/" + nonExistingCourseId))
+                .respond(response().withStatusCode(404));
+        mockServerClient
+                .when(request().withMethod("GET").withPath("/api/v1/courses/" + unavailableCourseId))
+                .respond(response().withStatusCode(503));
+
+        meterRegistry = new SimpleMeterRegistry();
+        courseClient = courseClient(new MockEnvironment());
+    }
+
+    private CourseClient courseClient(MockEnvironment environment) {
+        return courseClient(environment, Duration.ofMinutes(1));
+    }
+
+    private CourseClient courseClient(MockEnvironment environment, Duration revalidateAfter) {
+        //Boot's conversion service, so durations like 20ms bind the way they do from application.yml
+        environment.setConversionService(new ApplicationConversionService());
+        return new CourseClient("localhost", MOCK_SERVER_PORT.toString(),
+                100, Duration.ofMinutes(10), Duration.ofSeconds(30), revalidateAfter, meterRegistry,
+                new DownstreamWebClientFactory(environment, WebClient.builder()),
+                downstreamResilience());
+    }
+
+    //same retry rules as application.yml, with shorter waits
+    private DownstreamResilience downstreamResilience() {
+        return new DownstreamResilience(CircuitBreakerRegistry.ofDefaults(),
+                RetryRegistry.of(RetryConfig.custom()
+                        .maxAttempts(3)
+                        .waitDuration(Duration.ofMillis(10))
+                        .retryExceptions(ServiceUnavailableException.class, WebClientRequestException.class)
+                        .build()),
+                BulkheadRegistry.ofDefaults(), TimeLimiterRegistry.of(TimeLimiterConfig.custom().timeoutDuration(Duration.ofSeconds(5)).build()));
+    }
+
+    @Test
+    public void whenConcurrentGetsForSameCourse_thenOnlyOneRequestIsSent() {
+        // act
+        StepVerifier
+                .create(Flux.range(0, 10).flatMap(i -> courseClient.getCourseByCourseId(courseId)))
+                .expectNextCount(10)
+                .verifyComplete();
+
+        StepVerifier
+                .create(courseClient.getCourseByCourseId(courseId))
+                .consumeNextWith(course -> assertEquals("Web Services", course.getCourseName()))
+                .verifyComplete();
+
+        // assert
+        mockServerClient.verify(request().withMethod("GET").withPath("/api/v1/courses/" + courseId), exactly(1));
+        assertEquals(10.0, meterRegistry.get("cache.gets").tag("result", "hit").functionCounter().count());
+    }
+
+    @Test
+    public void whenCourseNotFound_thenCacheTheNotFound() {
+        for (int i = 0; i < 2; i++) {
+            StepVerifier
+                    .create(courseClient.getCourseByCourseId(nonExistingCourseId))
+                    .expectErrorMatches(throwable -> throwable instanceof NotFoundException &&
+                            throwable.getMessage().equals("CourseId not found: " + nonExistingCourseId))
+                    .verify();
+        }
+
+        mockServerClient.verify(request().withMethod("GET").withPath("/api/v1/courses/" + nonExistingCourseId), exactly(1));
+    }
+
+    @Test
+    public void whenInvalidateCourse_thenNextGetGoesToCoursesService() {
+        StepVerifier.create(courseClient.getCourseByCourseId(courseId)).expectNextCount(1).verifyComplete();
+
+        courseClient.invalidateCourse(courseId);
+
+        StepVerifier.create(courseClient.getCourseByCourseId(courseId)).expectNextCount(1).verifyComplete();
+
+        mockServerClient.verify(request().withMethod("GET").withPath("/api/v1/courses/" + courseId), exactly(2));
+    }
+
+    @Test
+    public void whenGetCoursesByCourseIds_withCachedCourse_thenOnlyFetchMisses() {
+        StepVerifier.create(courseClient.getCourseByCourseId(courseId)).expectNextCount(1).verifyComplete();
+
+        mockServerClient
+                .when(request().withMethod("POST").withPath("/api/v1/courses/batch"))
+                .respond(response()
+                        .withStatusCode(200)
+                        .withHeader("Content-Type", "application/json")
+                        .withBody("[]"));
+
+        StepVerifier
+                .create(courseClient.getCoursesByCourseIds(List.of(courseId, nonExistingCourseId)))
+                .consumeNextWith(course -> assertEquals(courseId, course.getCourseId()))
+                .verifyComplete();
+
+        mockServerClient.verify(request().withMethod("POST").withPath("/api/v1/courses/batch")
+                .withBody("{\"courseIds\":[\"" + nonExistingCourseId + "\"]}"), exactly(1));
+    }
+
+    @Test
+    public void whenCoursesServiceIsSlowerThanReadTimeout_thenFailTheLookup() {
+        // arrange, the course response is delayed 50ms
+        CourseClient impatientCourseClient = courseClient(new MockEnvironment()
+                .withProperty("app.courses-service.read-timeout", "20ms"));
+
+        // act and assert
+        StepVerifier
+                .create(impatientCourseClient.getCourseByCourseId(courseId))
+                .expectError()
+                .verify(Duration.ofSeconds(5));
+    }
+
+    @Test
+    public void whenCoursesServiceFailsOnce_thenRetryAndReturnTheCourse() {
+        // arrange
+        String flakyCourseId = "9a29fff7-564a-4cc9-8fe1-36f6ca9bc111";
+        mockServerClient
+                .when(request().withMethod("GET").withPath("/api/v1/courses/" + flakyCourseId), Times.once())
+                .respond(response().withStatusCode(503));
+        mockServerClient
+                .when(request().withMethod("GET").withPath("/api/v1/courses/" + flakyCourseId))
+                .respond(response()
+                        .withStatusCode(200)
+                        .withHeader("Content-Type", "application/json")
+                        .withBody("{\"courseId\":\"" + flakyCourseId + "\",\"courseName\":\"Web Services\"}"));
+
+        // act
+        StepVerifier
+                .create(courseClient.getCourseByCourseId(flakyCourseId))
+                .consumeNextWith(course -> assertEquals(flakyCourseId, course.getCourseId()))
+                .verifyComplete();
+
+        // assert
+        mockServerClient.verify(request().withMethod("GET").withPath("/api/v1/courses/" + flakyCourseId), exactly(2));
+    }
+
+    @Test
+    public void whenCoursesServiceKeepsFailing_thenGiveUpAfterMaxAttempts() {
+        // act
+        StepVerifier
+                .create(courseClient.getCourseByCourseId(unavailableCourseId))
+                .expectErrorMatches(throwable -> throwable instanceof ServiceUnavailableException &&
+                        throwable.getMessage().equals("courses-service unavailable: 503"))
+                .verify(Duration.ofSeconds(5));
+
+        // assert
+        mockServerClient.verify(request().withMethod("GET").withPath("/api/v1/courses/" + unavailableCourseId), exactly(3));
+    }
+
+    @Test
+    public void whenGetCourseEventsAfter_thenReturnEventsFromCoursesService() {
+        // arrange
+        mockServerClient
+                .when(request().withMethod("GET").withPath("/api/v1/courses/events")
+                        .withQueryStringParameter("after", "4")
+                        .withQueryStringParameter("limit", "100"))
+                .respond(response()
+                        .withStatusCode(200)
+                        .withHeader("Content-Type", "application/json")
+                        .withBody("[{\"eventId\":5,\"courseId\":\"" + courseId + "\",\"eventType\":\"UPDATED\",\"courseNumber\":\"trs-076\",\"courseName\":\"Web Services 2\"}]"));
+
+        // act and assert
+        StepVerifier
+                .create(courseClient.getCourseEventsAfter(4, 100))
+                .consumeNextWith(event -> {
+                    assertEquals(5, event.getEventId());
+                    assertEquals("UPDATED", event.getEventType());
+                    assertEquals("Web Services 2", event.getCourseName());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    public void whenCachedCourseIsDueForRevalidation_thenSendItsETagAndKeepItOnNotModified() throws InterruptedException {
+        // arrange
+        String path = "/api/v1/courses/" + revalidatedCourseId;
+        mockServerClient
+                .when(request().withMethod("GET").withPath(path).withHeader("If-None-Match", "\"3\""))
+                .respond(response().withStatusCode(304).withHeader("ETag", "\"3\""));
+        mockServerClient
+                .when(request().withMethod("GET").withPath(path))
+                .respond(courseResponse("\"3\"", "Web Services"));
+        CourseClient revalidatingClient = courseClient(new MockEnvironment(), Duration.ofMillis(100));
+
+        StepVerifier.create(revalidatingClient.getCourseByCourseId(revalidatedCourseId)).expectNextCount(1).verifyComplete();
+        Thread.sleep(150);
+
+        // act, a read past revalidate-after still comes from the cache and sends the revalidation
+        StepVerifier
+                .create(revalidatingClient.getCourseByCourseId(revalidatedCourseId))
+                .consumeNextWith(course -> assertEquals("Web Services", course.getCourseName()))
+                .verifyComplete();
+
+        // assert
+        awaitRevalidations("not_modified", 1.0);
+        mockServerClient.verify(request().withMethod("GET").withPath(path).withHeader("If-None-Match", "\"3\""), exactly(1));
+        StepVerifier
+                .create(revalidatingClient.getCourseByCourseId(revalidatedCourseId))
+                .consumeNextWith(course -> assertEquals("Web Services", course.getCourseName()))
+                .verifyComplete();
+    }
+
+    @Test
+    public void whenCachedCourseChanged_thenRevalidationReplacesIt() throws InterruptedException {
+        // arrange
+        String path = "/api/v1/courses/" + revalidatedCourseId;
+        mockServerClient
+                .when(request().withMethod("GET").withPath(path).withHeader("If-None-Match", "\"3\""))
+                .respond(courseResponse("\"4\"", "Web Services 2"));
+        mockServerClient
+                .when(request().withMethod("GET").withPath(path))
+                .respond(courseResponse("\"3\"", "Web Services"));
+        CourseClient revalidatingClient = courseClient(new MockEnvironment(), Duration.ofMillis(100));
+
+        StepVerifier.create(revalidatingClient.getCourseByCourseId(revalidatedCourseId)).expectNextCount(1).verifyComplete();
+        Thread.sleep(150);
+
+        // act
+        StepVerifier.create(revalidatingClient.getCourseByCourseId(revalidatedCourseId)).expectNextCount(1).verifyComplete();
+        awaitRevalidations("modified", 1.0);
+
+        // assert, the counter ticks just before Caffeine swaps in the reloaded course
+        String courseName = null;
+        for (int i = 0; i < 40 && !"Web Services 2".equals(courseName); i++) {
+            Thread.sleep(50);
+            courseName = revalidatingClient.getCourseByCourseId(revalidatedCourseId).block().getCourseName();
+        }
+        assertEquals("Web Services 2", courseName);
+    }
+
+    @Test
+    public void whenBatchLoadedCourseIsDueForRevalidation_thenSendETagFromItsVersionAndKeepItOnNotModified() throws InterruptedException {
+        // arrange, the batch has no ETag header, only the version in the body
+        String path = "/api/v1/courses/" + revalidatedCourseId;
+        mockServerClient
+                .when(request().withMethod("POST").withPath("/api/v1/courses/batch"))
+                .respond(response()
+                        .withStatusCode(200)
+                        .withHeader("Content-Type", "application/json")
+                        .withBody("[{\"courseId\":\"" + revalidatedCourseId + "\",\"courseName\":\"Web Services\",\"version\":3}]"));
+        mockServerClient
+                .when(request().withMethod("GET").withPath(path).withHeader("If-None-Match", "W/\"3-r1\""))
+                .respond(response().withStatusCode(304).withHeader("ETag", "W/\"3-r1\""));
+        CourseClient revalidatingClient = courseClient(new MockEnvironment(), Duration.ofMillis(100));
+
+        StepVerifier.create(revalidatingClient.getCoursesByCourseIds(List.of(revalidatedCourseId))).expectNextCount(1).verifyComplete();
+        Thread.sleep(150);
+
+        // act
+        StepVerifier.create(revalidatingClient.getCourseByCourseId(revalidatedCourseId)).expectNextCount(1).verifyComplete();
+
+        // assert
+        awaitRevalidations("not_modified", 1.0);
+        mockServerClient.verify(request().withMethod("GET").withPath(path), exactly(1));
+        StepVerifier
+                .create(revalidatingClient.getCourseByCourseId(revalidatedCourseId))
+                .consumeNextWith(course -> assertEquals("Web Services", course.getCourseName()))
+                .verifyComplete();
+    }
+
+    private HttpResponse courseResponse(String eTag, String courseName) {
+        return response()
+                .withStatusCode(200)
+                .withHeader("Content-Type", "application/json")
+                .withHeader("ETag", eTag)
+                .withBody("{\"courseId\":\"" + revalidatedCourseId + "\",\"courseNumber\":\"trs-075\",\"courseName\":\"" + courseName + "\",\"numHours\":45,\"numCredits\":3.0,\"department\":\"Computer Science\"}");
+    }
+
+    //revalidation runs in the background after the read that triggered it
+    private void awaitRevalidations(String result, double expected) throws InterruptedException {
+        for (int i = 0; i < 40 && revalidations(result) < expected; i++) {
+            Thread.sleep(50);
+        }
+        assertEquals(expected, revalidations(result));
+    }
+
+    private double revalidations(String result) {
+        return meterRegistry.get("courses.cache.revalidations").tag("result", result).counter().count();
+    }
+}
@@ -0,0 +1,161 @@
+package com.champlain.enrollmentsservice.domainclientlayer;
+
+import com.champlain.enrollmentsservice.utils.exceptions.NotFoundException;
+import com.champlain.enrollmentsservice.utils.exceptions.ServiceUnavailableException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.convert.ApplicationConversionService;
+import org.springframework.mock.env.MockEnvironment;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DownstreamHedgingUnitTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private AtomicInteger calls;
+    private AtomicBoolean slowCallCancelled;
+
+    //the first call takes a second, every call after it answers right away
+    private final Supplier<Mono<String>> slowThenFast = () -> calls.incrementAndGet() == 1
+            ? Mono.delay(Duration.ofSeconds(1)).thenReturn("slow").doOnCancel(() -> slowCallCancelled.set(true))
+            : Mono.just("fast");
+
+    @BeforeEach
+    public void setup() {
+        meterRegistry = new SimpleMeterRegistry();
+        calls = new AtomicInteger();
+        slowCallCancelled = new AtomicBoolean();
+    }
+
+    private DownstreamHedging downstreamHedging(MockEnvironment environment) {
+        //Boot's conversion service, so durations like 20ms bind the way they do from application.yml
+        environment.setConversionService(new ApplicationConversionService());
+        return new DownstreamHedging(environment
+                .withProperty("app.students-service.hedging.min-delay", "20ms"), meterRegistry);
+    }
+
+    @Test
+    public void whenHedgingDisabled_thenCallOnlyOnce() {
+        //arrange
+        DownstreamHedging downstreamHedging = downstreamHedging(new MockEnvironment());
+
+        //act
+        StepVerifier
+                .create(downstreamHedging.hedge("students-service", slowThenFast))
+                .expectNext("slow")
+                .verifyComplete();
+
+        //assert
+        assertEquals(1, calls.get());
+    }
+
+    @Test
+    public void whenFirstCallIsSlow_thenHedgeWinsAndFirstCallIsCancelled() {
+        //arrange
+        DownstreamHedging downstreamHedging = downstreamHedging(new MockEnvironment()
+                .withProperty("app.students-service.hedging.enabled", "true"));
+
+        //act
+        StepVerifier
+                .create(downstreamHedging.hedge("students-service", slowThenFast))
+                .expectNext("fast")
+                .verifyComplete();
+
+        //assert
+        assertEquals(2, calls.get());
+        assertTrue(slowCallCancelled.get());
+        assertEquals(1.0, meterRegistry.get("downstream.hedge.sent").counter().count());
+        assertEquals(1.0, meterRegistry.get("downstream.hedge.won").counter().count());
+        //the cancelled first call never answered, it says nothing about the downstream's latency
+        assertEquals(0, meterRegistry.get("downstream.hedge.latency").timer().count());
+    }
+
+    @Test
+    public void whenFirstCallAnswers_thenRecordItsLatency() {
+        //arrange
+        DownstreamHedging downstreamHedging = downstreamHedging(new MockEnvironment()
+                .withProperty("app.students-service.hedging.enabled", "true"));
+
+        //act
+        StepVerifier
+                .create(downstreamHedging.hedge("students-service", () -> Mono.just("fast")))
+                .expectNext("fast")
+                .verifyComplete();
+
+        //assert
+        assertEquals(1, meterRegistry.get("downstream.hedge.latency").timer().count());
+    }
+
+    @Test
+    public void whenFirstCallFailsFast_thenDoNotWaitForTheHedge() {
+        //arrange
+        DownstreamHedging downstreamHedging = downstreamHedging(new MockEnvironment()
+                .withProperty("app.students-service.hedging.enabled", "true"));
+
+        //act
+        StepVerifier
+                .create(downstreamHedging.hedge("students-service", () -> {
+                    calls.incrementAndGet();
+                    return Mono.<String>error(new NotFoundException("StudentId not found: 1"));
+                }))
+                .expectError(NotFoundException.class)
+                .verify();
+
+        //assert
+        assertEquals(1, calls.get());
+        assertEquals(0.0, meterRegistry.get("downstream.hedge.sent").counter().count());
+    }
+
+    @Test
+    public void whenHedgeFailsFast_thenFirstCallStillAnswers() {
+        //arrange
+        DownstreamHedging downstreamHedging = downstreamHedging(new MockEnvironment()
+                .withProperty("app.students-service.hedging.enabled", "true"));
+        Supplier<Mono<String>> slowThenFailing = () -> calls.incrementAndGet() == 1
+                ? Mono.delay(Duration.ofMillis(200)).thenReturn("slow").doOnCancel(() -> slowCallCancelled.set(true))
+                : Mono.error(new ServiceUnavailableException("students-service unavailable: 503"));
+
+        //act
+        StepVerifier
+                .create(downstreamHedging.hedge("students-service", slowThenFailing))
+                .expectNext("slow")
+                .verifyComplete();
+
+        //assert
+        assertEquals(2, calls.get());
+        assertFalse(slowCallCancelled.get());
+        assertEquals(1.0, meterRegistry.get("downstream.hedge.sent").counter().count());
+        assertEquals(0.0, meterRegistry.get("downstream.hedge.won").counter().count());
+    }
+
+    @Test
+    public void whenBudgetIsSpent_thenDoNotHedge() {
+        //arrange, room for one hedge and nothing earned back
+        DownstreamHedging downstreamHedging = downstreamHedging(new MockEnvironment()
+                .withProperty("app.students-service.hedging.enabled", "true")
+                .withProperty("app.students-service.hedging.budget-burst", "1")
+                .withProperty("app.students-service.hedging.budget-ratio", "0"));
+        //each call slower than the last, so the second lookup outlasts the p95 of the first and wants a hedge
+        Supplier<Mono<String>> alwaysSlow = () -> Mono.delay(Duration.ofMillis(100L * calls.incrementAndGet()))
+                .thenReturn("slow");
+
+        //act
+        StepVerifier.create(downstreamHedging.hedge("students-service", alwaysSlow)).expectNext("slow").verifyComplete();
+        StepVerifier.create(downstreamHedging.hedge("students-service", alwaysSlow)).expectNext("slow").verifyComplete();
+
+        //assert
+        assertEquals(3, calls.get());
+        assertEquals(1.0, meterRegistry.get("downstream.hedge.sent").counter().count());
+        assertEquals(1.0, meterRegistry.get("downstream.hedge.denied").counter().count());
+    }
+}
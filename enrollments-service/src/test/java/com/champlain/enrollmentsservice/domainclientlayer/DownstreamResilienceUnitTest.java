@@ -0,0 +1,247 @@
+package com.champlain.enrollmentsservice.domainclientlayer;
+
+import com.champlain.enrollmentsservice.utils.exceptions.NotFoundException;
+import com.champlain.enrollmentsservice.utils.exceptions.ServiceUnavailableException;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.retry.RetryConfig;
+import io.github.resilience4j.retry.RetryRegistry;
+import io.github.resilience4j.timelimiter.TimeLimiterConfig;
+import io.github.resilience4j.timelimiter.TimeLimiterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class DownstreamResilienceUnitTest {
+
+    private CircuitBreakerRegistry circuitBreakerRegistry;
+    private DownstreamResilience downstreamResilience;
+    private AtomicInteger attempts;
+
+    @BeforeEach
+    public void setup() {
+        //same rules as application.yml, with a tiny window and short waits
+        circuitBreakerRegistry = CircuitBreakerRegistry.of(CircuitBreakerConfig.custom()
+                .slidingWindowSize(4)
+                .minimumNumberOfCalls(4)
+                .failureRateThreshold(50)
+                .waitDurationInOpenState(Duration.ofMinutes(1))
+                .recordExceptions(ServiceUnavailableException.class, TimeoutException.class)
+                .ignoreExceptions(NotFoundException.class)
+                .build());
+        downstreamResilience = new DownstreamResilience(circuitBreakerRegistry,
+                RetryRegistry.of(RetryConfig.custom()
+                        .maxAttempts(3)
+                        .waitDuration(Duration.ofMillis(10))
+                        .retryExceptions(ServiceUnavailableException.class, TimeoutException.class)
+                        .build()),
+                BulkheadRegistry.of(BulkheadConfig.custom()
+                        .maxConcurrentCalls(1)
+                        .maxWaitDuration(Duration.ZERO)
+                        .build()),
+                TimeLimiterRegistry.of(TimeLimiterConfig.custom()
+                        .timeoutDuration(Duration.ofMillis(200))
+                        .build()));
+        attempts = new AtomicInteger();
+    }
+
+    @Test
+    public void whenCallFailsOnceWithRetryableError_thenRetryAndSucceed() {
+        //arrange
+        Mono<String> call = Mono.defer(() -> attempts.incrementAndGet() == 1
+                ? Mono.error(new ServiceUnavailableException("students-service unavailable: 503"))
+                : Mono.just("student"));
+
+        //act
+        StepVerifier
+                .create(downstreamResilience.read("students-service", call))
+                .expectNext("student")
+                .verifyComplete();
+
+        //assert
+        assertEquals(2, attempts.get());
+    }
+
+    @Test
+    public void whenAttemptHangs_thenTimeItOutAndRetry() {
+        //arrange, the first attempt never answers
+        Mono<String> call = Mono.defer(() -> attempts.incrementAndGet() == 1
+                ? Mono.never()
+                : Mono.just("student"));
+
+        //act, well inside the caller's deadline instead of waiting on the first attempt
+        StepVerifier
+                .create(downstreamResilience.read("students-service", call))
+                .expectNext("student")
+                .expectComplete()
+                .verify(Duration.ofSeconds(1));
+
+        //assert
+        assertEquals(2, attempts.get());
+        assertEquals(1, circuitBreakerRegistry.circuitBreaker("students-service").getMetrics().getNumberOfFailedCalls());
+    }
+
+    @Test
+    public void whenCallFailsWithNotFound_thenDoNotRetry() {
+        //arrange
+        Flux<String> call = Flux.defer(() -> {
+            attempts.incrementAndGet();
+            return Flux.error(new NotFoundException("StudentId not found: 1"));
+        });
+
+        //act
+        StepVerifier
+                .create(downstreamResilience.read("students-service", call))
+                .expectError(NotFoundException.class)
+                .verify();
+
+        //assert
+        assertEquals(1, attempts.get());
+        assertEquals(0, circuitBreakerRegistry.circuitBreaker("students-service").getMetrics().getNumberOfFailedCalls());
+    }
+
+    @Test
+    public void whenFluxFailsBeforeFirstElement_thenRetryIt() {
+        //arrange
+        Flux<String> call = Flux.defer(() -> attempts.incrementAndGet() == 1
+                ? Flux.error(new ServiceUnavailableException("students-service unavailable: 503"))
+                : Flux.just("student-1", "student-2"));
+
+        //act
+        StepVerifier
+                .create(downstreamResilience.read("students-service", call))
+                .expectNext("student-1", "student-2")
+                .verifyComplete();
+
+        //assert
+        assertEquals(2, attempts.get());
+    }
+
+    @Test
+    public void whenFluxFailsAfterFirstElement_thenDoNotRetryAndDoNotRepeatElements() {
+        //arrange, the stream breaks half way through
+        Flux<String> call = Flux.defer(() -> {
+            attempts.incrementAndGet();
+            return Flux.just("student-1", "student-2")
+                    .concatWith(Flux.error(new ServiceUnavailableException("students-service unavailable: 503")));
+        });
+
+        //act
+        StepVerifier
+                .create(downstreamResilience.read("students-service", call))
+                .expectNext("student-1", "student-2")
+                .expectErrorMatches(e -> e instanceof ServiceUnavailableException
+                        && e.getMessage().equals("students-service unavailable: 503"))
+                .verify();
+
+        //assert
+        assertEquals(1, attempts.get());
+    }
+
+    @Test
+    public void whenDownstreamKeepsFailing_thenOpenTheBreakerAndFailFast() {
+        //arrange
+        Mono<String> call = Mono.defer(() -> {
+            attempts.incrementAndGet();
+            return Mono.error(new ServiceUnavailableException("students-service unavailable: 503"));
+        });
+
+        //act, 3 attempts then 1 more fills the window of 4
+        StepVerifier.create(downstreamResilience.read("students-service", call))
+                .expectError(ServiceUnavailableException.class)
+                .verify();
+        StepVerifier.create(downstreamResilience.read("students-service", call))
+                .expectError(CallNotPermittedException.class)
+                .verify();
+        StepVerifier.create(downstreamResilience.read("students-service", call))
+                .expectError(CallNotPermittedException.class)
+                .verify();
+
+        //assert
+        assertEquals(CircuitBreaker.State.OPEN, circuitBreakerRegistry.circuitBreaker("students-service").getState());
+        assertEquals(4, attempts.get());
+    }
+
+    @Test
+    public void whenStreamsKeepFailing_thenOnlyTheStreamBreakerOpens() {
+        //arrange
+        Flux<String> stream = Flux.defer(() -> {
+            attempts.incrementAndGet();
+            return Flux.error(new ServiceUnavailableException("students-service unavailable: 503"));
+        });
+
+        //act, 3 attempts then 1 more fills the window of 4
+        StepVerifier.create(downstreamResilience.readStream("students-service", stream))
+                .expectError(ServiceUnavailableException.class)
+                .verify();
+        StepVerifier.create(downstreamResilience.readStream("students-service", stream))
+                .expectError(CallNotPermittedException.class)
+                .verify();
+
+        //assert, point reads still go through
+        assertEquals(CircuitBreaker.State.OPEN, circuitBreakerRegistry.circuitBreaker("students-service-stream").getState());
+        assertEquals(CircuitBreaker.State.CLOSED, circuitBreakerRegistry.circuitBreaker("students-service").getState());
+        StepVerifier
+                .create(downstreamResilience.read("students-service", Mono.just("student")))
+                .expectNext("student")
+                .verifyComplete();
+    }
+
+    @Test
+    public void whenFanOutReadsKeepTimingOut_thenTheLookupBreakerStaysClosed() {
+        //arrange, every fan-out read hangs past its time limiter
+        Flux<String> fanOut = Flux.defer(() -> {
+            attempts.incrementAndGet();
+            return Flux.never();
+        });
+
+        //act, 3 attempts then 1 more fills the window of 4
+        StepVerifier.create(downstreamResilience.read("students-service", fanOut))
+                .expectError(TimeoutException.class)
+                .verify(Duration.ofSeconds(2));
+        StepVerifier.create(downstreamResilience.read("students-service", fanOut))
+                .expectError(CallNotPermittedException.class)
+                .verify(Duration.ofSeconds(1));
+
+        //assert, enrollment lookups still go through
+        assertEquals(CircuitBreaker.State.OPEN, circuitBreakerRegistry.circuitBreaker("students-service").getState());
+        assertEquals(CircuitBreaker.State.CLOSED, circuitBreakerRegistry.circuitBreaker("students-service-lookup").getState());
+        StepVerifier
+                .create(downstreamResilience.lookup("students-service", Flux.just("student")))
+                .expectNext("student")
+                .verifyComplete();
+    }
+
+    @Test
+    public void whenBulkheadIsFull_thenRejectRightAway() {
+        //arrange, one call in flight fills the bulkhead
+        Disposable inFlight = downstreamResilience.read("courses-service", Mono.never()).subscribe();
+
+        //act and assert
+        StepVerifier
+                .create(downstreamResilience.read("courses-service", Mono.just("course")))
+                .expectError(BulkheadFullException.class)
+                .verify(Duration.ofSeconds(1));
+
+        inFlight.dispose();
+
+        StepVerifier
+                .create(downstreamResilience.read("courses-service", Mono.just("course")))
+                .expectNext("course")
+                .verifyComplete();
+    }
+}
@@ -0,0 +1,204 @@
+package com.champlain.enrollmentsservice.domainclientlayer.Students;
+
+import com.champlain.enrollmentsservice.domainclientlayer.DownstreamHedging;
+import com.champlain.enrollmentsservice.domainclientlayer.DownstreamResilience;
+import com.champlain.enrollmentsservice.domainclientlayer.DownstreamWebClientFactory;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.retry.RetryRegistry;
+import io.github.resilience4j.timelimiter.TimeLimiterConfig;
+import io.github.resilience4j.timelimiter.TimeLimiterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.*;
+import org.mockserver.client.MockServerClient;
+import org.mockserver.integration.ClientAndServer;
+import org.mockserver.matchers.MatchType;
+import org.mockserver.model.HttpRequest;
+import org.mockserver.verify.VerificationTimes;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockserver.model.HttpRequest.request;
+import static org.mockserver.model.HttpResponse.response;
+import static org.mockserver.model.JsonBody.json;
+
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class StudentClientAsynchronousUnitTest {
+
+    private static final Integer MOCK_SERVER_PORT = 7012;
+
+    private ClientAndServer clientAndServer;
+    private MockServerClient mockServerClient;
+    private StudentClientAsynchronous studentClientAsynchronous;
+
+    @BeforeAll
+    public void startServer() {
+        clientAndServer = ClientAndServer.startClientAndServer(MOCK_SERVER_PORT);
+        mockServerClient = new MockServerClient("localhost", MOCK_SERVER_PORT);
+    }
+
+    @AfterAll
+    public void stopServer() {
+        clientAndServer.stop();
+    }
+
+    @BeforeEach
+    public void setup() {
+        mockServerClient.reset();
+        //row 1 is the slowest, so it finishes last unless ordering is asked for
+        for (int row = 1; row <= 3; row++) {
+            mockServerClient
+                    .when(request().withMethod("GET").withPath("/api/v1/students/row/" + row))
+                    .respond(response()
+                            .withStatusCode(200)
+                            .withHeader("Content-Type", "application/json")
+                            .withDelay(TimeUnit.MILLISECONDS, (4 - row) * 100L)
+                            .withBody("{\"studentId\":\"student-" + row + "\",\"firstName\":\"Christine\",\"lastName\":\"Gerard\",\"program\":\"Computer Science\"}"));
+        }
+
+        studentClientAsynchronous = new StudentClientAsynchronous("localhost", MOCK_SERVER_PORT.toString(), 100,
+                new DownstreamWebClientFactory(new MockEnvironment(), WebClient.builder()),
+                new DownstreamResilience(CircuitBreakerRegistry.ofDefaults(), RetryRegistry.ofDefaults(),
+                        BulkheadRegistry.ofDefaults(), TimeLimiterRegistry.of(TimeLimiterConfig.custom().timeoutDuration(Duration.ofSeconds(5)).build())),
+                new DownstreamHedging(new MockEnvironment(), new SimpleMeterRegistry()));
+    }
+
+    @Test
+    public void whenGetStudentsByRowRange_ordered_thenReturnInRowOrder() {
+        StepVerifier
+                .create(studentClientAsynchronous.getStudentsByRowRange(1, 3, 3, true))
+                .expectNextMatches(student -> student.getStudentId().equals("student-1"))
+                .expectNextMatches(student -> student.getStudentId().equals("student-2"))
+                .expectNextMatches(student -> student.getStudentId().equals("student-3"))
+                .verifyComplete();
+    }
+
+    @Test
+    public void whenGetStudentsByRowRange_unordered_thenReturnInCompletionOrder() {
+        StepVerifier
+                .create(studentClientAsynchronous.getStudentsByRowRange(1, 3, 3, false))
+                .expectNextMatches(student -> student.getStudentId().equals("student-3"))
+                .expectNextMatches(student -> student.getStudentId().equals("student-2"))
+                .expectNextMatches(student -> student.getStudentId().equals("student-1"))
+                .verifyComplete();
+    }
+
+    @Test
+    public void whenGetStudentsByRowRange_withConcurrencyOfOne_thenCallsRunOneAtATime() {
+        StepVerifier
+                .create(studentClientAsynchronous.getStudentsByRowRange(1, 3, 1, false))
+                .expectNextMatches(student -> student.getStudentId().equals("student-1"))
+                .expectNextMatches(student -> student.getStudentId().equals("student-2"))
+                .expectNextMatches(student -> student.getStudentId().equals("student-3"))
+                .verifyComplete();
+    }
+
+    @Test
+    public void whenGetStudent_thenAskForTheWholeStudent() {
+        //act
+        StepVerifier
+                .create(studentClientAsynchronous.getStudent(1))
+                .expectNextMatches(student -> student.getProgram().equals("Computer Science"))
+                .verifyComplete();
+
+        //assert
+        HttpRequest[] sent = mockServerClient.retrieveRecordedRequests(request().withPath("/api/v1/students/row/1"));
+        assertEquals(1, sent.length);
+        assertTrue(sent[0].getQueryStringParameterList().isEmpty());
+    }
+
+    @Test
+    public void whenGetStudentsByStudentIds_thenAskOnlyForTheFieldsEnrollmentsUse() {
+        //arrange
+        mockServerClient
+                .when(request().withMethod("POST").withPath("/api/v1/students/batch"))
+                .respond(response()
+                        .withStatusCode(200)
+                        .withHeader("Content-Type", "application/json")
+                        .withBody("[{\"studentId\":\"student-1\",\"firstName\":\"Christine\",\"lastName\":\"Gerard\"}]"));
+
+        //act
+        StepVerifier
+                .create(studentClientAsynchronous.getStudentsByStudentIds(List.of("student-1")))
+                .expectNextMatches(student -> student.getStudentId().equals("student-1"))
+                .verifyComplete();
+
+        //assert
+        mockServerClient.verify(request()
+                .withMethod("POST")
+                .withPath("/api/v1/students/batch")
+                .withQueryStringParameter("fields", StudentResponseModel.ENRICHMENT_FIELDS));
+    }
+
+    @Test
+    public void whenStudentsServiceAnswersInSmile_thenDecodeIt() throws Exception {
+        //arrange
+        byte[] smileBody = new ObjectMapper(new SmileFactory()).writeValueAsBytes(StudentResponseModel.builder()
+                .studentId("student-4")
+                .firstName("Christine")
+                .lastName("Gerard")
+                .build());
+        mockServerClient
+                .when(request().withMethod("GET").withPath("/api/v1/students/row/4"))
+                .respond(response()
+                        .withStatusCode(200)
+                        .withHeader("Content-Type", "application/x-jackson-smile")
+                        .withBody(smileBody));
+
+        //act
+        StepVerifier
+                .create(studentClientAsynchronous.getStudent(4))
+                .expectNextMatches(student -> student.getStudentId().equals("student-4")
+                        && student.getLastName().equals("Gerard"))
+                .verifyComplete();
+
+        //assert
+        mockServerClient.verify(request()
+                .withMethod("GET")
+                .withPath("/api/v1/students/row/4")
+                .withHeader("Accept", "application/x-jackson-smile, application/json"));
+    }
+
+    @Test
+    public void whenGet1000StudentsAsyncBatched_thenOneBatchCallPerChunkInRowOrder() {
+        //arrange, each chunk answers with the student of its first row
+        for (int first = 1; first <= 1000; first += 100) {
+            mockServerClient
+                    .when(request().withMethod("POST").withPath("/api/v1/students/batch")
+                            .withBody(json(rowIdsBody(first, first + 99), MatchType.ONLY_MATCHING_FIELDS)))
+                    .respond(response()
+                            .withStatusCode(200)
+                            .withHeader("Content-Type", "application/json")
+                            //the first chunk is the slowest, it still comes back first
+                            .withDelay(TimeUnit.MILLISECONDS, first == 1 ? 200 : 0)
+                            .withBody("[{\"studentId\":\"student-" + first + "\",\"firstName\":\"Christine\",\"lastName\":\"Gerard\"}]"));
+        }
+
+        //act
+        StepVerifier
+                .create(studentClientAsynchronous.get1000StudentsAsyncBatched().map(StudentResponseModel::getStudentId))
+                .expectNext("student-1", "student-101", "student-201", "student-301", "student-401",
+                        "student-501", "student-601", "student-701", "student-801", "student-901")
+                .verifyComplete();
+
+        //assert
+        mockServerClient.verify(request().withMethod("POST").withPath("/api/v1/students/batch"), VerificationTimes.exactly(10));
+    }
+
+    static String rowIdsBody(int from, int to) {
+        return IntStream.rangeClosed(from, to)
+                .mapToObj(String::valueOf)
+                .collect(Collectors.joining(",", "{\"rowIds\":[", "]}"));
+    }
+}
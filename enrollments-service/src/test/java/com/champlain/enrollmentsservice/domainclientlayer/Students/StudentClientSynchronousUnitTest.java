@@ -0,0 +1,68 @@
+package com.champlain.enrollmentsservice.domainclientlayer.Students;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.*;
+import org.mockserver.client.MockServerClient;
+import org.mockserver.integration.ClientAndServer;
+import org.mockserver.matchers.MatchType;
+import org.mockserver.verify.VerificationTimes;
+import org.springframework.web.client.RestTemplate;
+
+import java.util.List;
+
+import static com.champlain.enrollmentsservice.domainclientlayer.Students.StudentClientAsynchronousUnitTest.rowIdsBody;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockserver.model.HttpRequest.request;
+import static org.mockserver.model.HttpResponse.response;
+import static org.mockserver.model.JsonBody.json;
+
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class StudentClientSynchronousUnitTest {
+
+    private static final Integer MOCK_SERVER_PORT = 7014;
+
+    private ClientAndServer clientAndServer;
+    private MockServerClient mockServerClient;
+    private StudentClientSynchronous studentClientSynchronous;
+
+    @BeforeAll
+    public void startServer() {
+        clientAndServer = ClientAndServer.startClientAndServer(MOCK_SERVER_PORT);
+        mockServerClient = new MockServerClient("localhost", MOCK_SERVER_PORT);
+    }
+
+    @AfterAll
+    public void stopServer() {
+        clientAndServer.stop();
+    }
+
+    @BeforeEach
+    public void setup() {
+        mockServerClient.reset();
+        studentClientSynchronous = new StudentClientSynchronous(new RestTemplate(), new ObjectMapper(),
+                "localhost", MOCK_SERVER_PORT.toString(), 100);
+    }
+
+    @Test
+    public void whenGet1000StudentsSyncBatched_thenOneBatchCallPerChunkInRowOrder() {
+        //arrange, each chunk answers with the student of its first row
+        for (int first = 1; first <= 1000; first += 100) {
+            mockServerClient
+                    .when(request().withMethod("POST").withPath("/api/v1/students/batch")
+                            .withBody(json(rowIdsBody(first, first + 99), MatchType.ONLY_MATCHING_FIELDS)))
+                    .respond(response()
+                            .withStatusCode(200)
+                            .withHeader("Content-Type", "application/json")
+                            .withBody("[{\"studentId\":\"student-" + first + "\",\"firstName\":\"Christine\",\"lastName\":\"Gerard\"}]"));
+        }
+
+        //act
+        List<StudentResponseModel> students = studentClientSynchronous.get1000StudentsSyncBatched();
+
+        //assert
+        assertEquals(List.of("student-1", "student-101", "student-201", "student-301", "student-401",
+                        "student-501", "student-601", "student-701", "student-801", "student-901"),
+                students.stream().map(StudentResponseModel::getStudentId).toList());
+        mockServerClient.verify(request().withMethod("POST").withPath("/api/v1/students/batch"), VerificationTimes.exactly(10));
+    }
+}
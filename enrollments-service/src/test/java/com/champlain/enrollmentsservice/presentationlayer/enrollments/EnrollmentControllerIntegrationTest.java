@@ -100,9 +100,11 @@ class EnrollmentControllerIntegrationTest {
     public void startServers() {
         mockServerConfigStudentsService = new MockServerConfigStudentsService();
         mockServerConfigStudentsService.registerGetStudent1ByStudentIdEndpoint();
+        mockServerConfigStudentsService.registerGetStudentsByBatchEndpoint();
 
         mockServerConfigCoursesService = new MockServerConfigCoursesService();
         mockServerConfigCoursesService.registerGetCourse1ByCourseIdEndpoint();
+        mockServerConfigCoursesService.registerGetCoursesByBatchEndpoint();
     }
 
     @AfterAll
@@ -1,5 +1,6 @@
 package com.champlain.enrollmentsservice.presentationlayer.enrollments;
 
+import com.champlain.enrollmentsservice.businesslayer.enrollments.EnrollmentBulkService;
 import com.champlain.enrollmentsservice.businesslayer.enrollments.EnrollmentService;
 import com.champlain.enrollmentsservice.dataaccesslayer.Semester;
 import com.champlain.enrollmentsservice.utils.exceptions.NotFoundException;
@@ -23,6 +24,9 @@ class EnrollmentControllerUnitTest {
     @MockBean
     private EnrollmentService enrollmentService;
 
+    @MockBean
+    private EnrollmentBulkService enrollmentBulkService;
+
     @Autowired
     private WebTestClient webTestClient;
 
@@ -228,4 +232,174 @@ class EnrollmentControllerUnitTest {
         verify(enrollmentService, times(1)).deleteEnrollmentByEnrollmentId(enrollmentId);
     }
 
-}
\ No newline at end of file
+    @Test
+    public void whenAddEnrollmentsInBulk_thenStreamOneResultPerLine() {
+        // Arrange
+        EnrollmentRequestModel validLine = EnrollmentRequestModel.builder()
+                .enrollmentYear(2023)
+                .semester(Semester.FALL)
+                .studentId("c3540a89-cb47-4c96-888e-ff96708db4d8")
+                .courseId("9a29fff7-564a-4cc9-8fe1-36f6ca9bc223")
+                .build();
+        EnrollmentRequestModel invalidLine = EnrollmentRequestModel.builder()
+                .enrollmentYear(2023)
+                .semester(Semester.FALL)
+                .studentId("bad-id")
+                .courseId("9a29fff7-564a-4cc9-8fe1-36f6ca9bc223")
+                .build();
+
+        EnrollmentBulkResultModel created = EnrollmentBulkResultModel.builder()
+                .line(1L)
+                .status(EnrollmentBulkStatus.CREATED)
+                .enrollment(EnrollmentResponseModel.builder()
+                        .enrollmentId(UUID.randomUUID().toString())
+                        .enrollmentYear(2023)
+                        .semester(Semester.FALL)
+                        .studentId("c3540a89-cb47-4c96-888e-ff96708db4d8")
+                        .courseId("9a29fff7-564a-4cc9-8fe1-36f6ca9bc223")
+                        .build())
+                .build();
+        EnrollmentBulkResultModel rejected = EnrollmentBulkResultModel.builder()
+                .line(2L)
+                .status(EnrollmentBulkStatus.REJECTED)
+                .message("StudentId invalid: bad-id")
+                .build();
+
+        when(enrollmentBulkService.addEnrollments(any(Flux.class))).thenReturn(Flux.just(created, rejected));
+
+        // Act & Assert
+        webTestClient
+                .post()
+                .uri("/api/v1/enrollment/bulk")
+                .accept(MediaType.APPLICATION_NDJSON)
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(Flux.just(validLine, invalidLine), EnrollmentRequestModel.class)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON)
+                .expectBodyList(EnrollmentBulkResultModel.class)
+                .hasSize(2)
+                .contains(created, rejected);
+
+        verify(enrollmentBulkService, times(1)).addEnrollments(any(Flux.class));
+    }
+
+    @Test
+    public void whenGetEnrollmentById_withNullFields_thenStillSendTheirKeys() {
+        // Arrange
+        String enrollmentId = UUID.randomUUID().toString();
+        EnrollmentResponseModel enrollmentResponseModel = EnrollmentResponseModel.builder()
+                .enrollmentId(enrollmentId)
+                .enrollmentYear(2021)
+                .semester(Semester.FALL)
+                .build();
+
+        when(enrollmentService.getEnrollmentByEnrollmentId(enrollmentId)).thenReturn(Mono.just(enrollmentResponseModel));
+
+        // Act & Assert - the enrollment contract keeps every key, only the timetable and roster are trimmed
+        webTestClient
+                .get()
+                .uri("/api/v1/enrollment/{enrollmentId}", enrollmentId)
+                .accept(MediaType.APPLICATION_JSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(String.class)
+                .value(body -> {
+                    assertTrue(body.contains("\"studentId\":null"));
+                    assertTrue(body.contains("\"courseName\":null"));
+                });
+    }
+
+    @Test
+    public void whenGetEnrollmentsByStudentId_thenReturnStudentTimetable() {
+        // Arrange
+        String studentId = "c3540a89-cb47-4c96-888e-ff96708db4d8";
+        EnrollmentTimetableResponseModel timetableResponseModel = EnrollmentTimetableResponseModel.builder()
+                .enrollmentId(UUID.randomUUID().toString())
+                .enrollmentYear(2021)
+                .semester(Semester.FALL)
+                .studentId(studentId)
+                .courseId("9a29fff7-564a-4cc9-8fe1-36f6ca9bc223")
+                .courseNumber("trs-075")
+                .courseName("Web Services")
+                .build();
+
+        when(enrollmentService.getEnrollmentsByStudentId(studentId)).thenReturn(Flux.just(timetableResponseModel));
+
+        // Act & Assert
+        webTestClient
+                .get()
+                .uri("/api/v1/enrollment?studentId={studentId}", studentId)
+                .accept(MediaType.APPLICATION_JSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentType(MediaType.APPLICATION_JSON)
+                .expectBodyList(EnrollmentTimetableResponseModel.class)
+                .hasSize(1)
+                .contains(timetableResponseModel);
+
+        verify(enrollmentService, times(1)).getEnrollmentsByStudentId(studentId);
+        verify(enrollmentService, never()).getAllEnrollments();
+    }
+
+    @Test
+    public void whenGetEnrollmentsByStudentId_withInvalidStudentId_thenReturnUnprocessableEntity() {
+        // Act & Assert
+        webTestClient
+                .get()
+                .uri("/api/v1/enrollment?studentId={studentId}", "invalid-id")
+                .accept(MediaType.APPLICATION_JSON)
+                .exchange()
+                .expectStatus().isEqualTo(422);
+
+        verify(enrollmentService, never()).getEnrollmentsByStudentId(any());
+    }
+
+    @Test
+    public void whenGetEnrollmentsByCourseIdAndTerm_thenReturnCourseRoster() {
+        // Arrange
+        String courseId = "9a29fff7-564a-4cc9-8fe1-36f6ca9bc223";
+        EnrollmentRosterResponseModel rosterResponseModel = EnrollmentRosterResponseModel.builder()
+                .enrollmentId(UUID.randomUUID().toString())
+                .enrollmentYear(2021)
+                .semester(Semester.FALL)
+                .studentId("c3540a89-cb47-4c96-888e-ff96708db4d8")
+                .studentFirstName("Christine")
+                .studentLastName("Gerard")
+                .courseId(courseId)
+                .build();
+
+        when(enrollmentService.getEnrollmentsByCourseIdAndTerm(courseId, 2021, Semester.FALL)).thenReturn(Flux.just(rosterResponseModel));
+
+        // Act & Assert
+        webTestClient
+                .get()
+                .uri("/api/v1/enrollment?courseId={courseId}&year={year}&semester={semester}", courseId, 2021, "FALL")
+                .accept(MediaType.APPLICATION_JSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBodyList(EnrollmentRosterResponseModel.class)
+                .hasSize(1)
+                .contains(rosterResponseModel);
+
+        verify(enrollmentService, times(1)).getEnrollmentsByCourseIdAndTerm(courseId, 2021, Semester.FALL);
+    }
+
+    @Test
+    public void whenGetEnrollments_withStudentIdAndCourseId_thenReturnBadRequest() {
+        // Act & Assert
+        for (MediaType mediaType : new MediaType[]{MediaType.APPLICATION_JSON, MediaType.TEXT_EVENT_STREAM}) {
+            webTestClient
+                    .get()
+                    .uri("/api/v1/enrollment?studentId={studentId}&courseId={courseId}&year={year}&semester={semester}",
+                            "c3540a89-cb47-4c96-888e-ff96708db4d8", "9a29fff7-564a-4cc9-8fe1-36f6ca9bc223", 2021, "FALL")
+                    .accept(mediaType)
+                    .exchange()
+                    .expectStatus().isBadRequest();
+        }
+
+        verify(enrollmentService, never()).getEnrollmentsByStudentId(any());
+        verify(enrollmentService, never()).getEnrollmentsByCourseIdAndTerm(any(), any(), any());
+        verify(enrollmentService, never()).getAllEnrollments();
+    }
+}
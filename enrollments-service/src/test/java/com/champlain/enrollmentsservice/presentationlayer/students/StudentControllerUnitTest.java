@@ -0,0 +1,71 @@
+package com.champlain.enrollmentsservice.presentationlayer.students;
+
+import com.champlain.enrollmentsservice.businesslayer.students.StudentService;
+import com.champlain.enrollmentsservice.domainclientlayer.Students.StudentResponseModel;
+import com.champlain.enrollmentsservice.utils.FanOutMetrics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.WebFluxTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Flux;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@WebFluxTest(controllers = StudentController.class)
+class StudentControllerUnitTest {
+    @MockBean
+    private StudentService studentService;
+
+    @MockBean
+    private FanOutMetrics fanOutMetrics;
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @BeforeEach
+    public void setup() {
+        when(fanOutMetrics.time(anyString(), any(Flux.class))).thenAnswer(invocation -> invocation.getArgument(1));
+    }
+
+    @Test
+    public void whenGetStudentsByRowRange_withoutConcurrency_thenUseThePoolSize() {
+        // Arrange
+        StudentResponseModel studentResponseModel = StudentResponseModel.builder()
+                .studentId("c3540a89-cb47-4c96-888e-ff96708db4d8")
+                .firstName("Christine")
+                .lastName("Gerard")
+                .build();
+
+        when(studentService.getStudentsByRowRange(1, 10, 256, false)).thenReturn(Flux.just(studentResponseModel));
+
+        // Act & Assert
+        webTestClient
+                .get()
+                .uri("/api/v1/students/range?from={from}&to={to}", 1, 10)
+                .accept(MediaType.TEXT_EVENT_STREAM)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBodyList(StudentResponseModel.class)
+                .hasSize(1)
+                .contains(studentResponseModel);
+
+        verify(studentService, times(1)).getStudentsByRowRange(1, 10, 256, false);
+    }
+
+    @Test
+    public void whenGetStudentsByRowRange_withConcurrencyPastThePoolSize_thenReturnUnprocessableEntity() {
+        // Act & Assert
+        webTestClient
+                .get()
+                .uri("/api/v1/students/range?from={from}&to={to}&concurrency={concurrency}", 1, 10, 257)
+                .accept(MediaType.TEXT_EVENT_STREAM)
+                .exchange()
+                .expectStatus().isEqualTo(422);
+
+        verify(studentService, never()).getStudentsByRowRange(anyInt(), anyInt(), anyInt(), anyBoolean());
+    }
+}
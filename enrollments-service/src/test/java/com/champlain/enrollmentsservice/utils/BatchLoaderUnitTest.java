@@ -0,0 +1,126 @@
+package com.champlain.enrollmentsservice.utils;
+
+import com.champlain.enrollmentsservice.utils.exceptions.NotFoundException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BatchLoaderUnitTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private final List<List<String>> batches = new CopyOnWriteArrayList<>();
+
+    private final BatchLoader<String, String> batchLoader = new BatchLoader<>("test", 100, Duration.ofMillis(20),
+            keys -> {
+                batches.add(keys);
+                return Flux.fromIterable(keys)
+                        .filter(key -> !key.startsWith("missing"));
+            },
+            value -> value,
+            key -> new NotFoundException("Key not found: " + key),
+            meterRegistry);
+
+    @Test
+    public void whenLoadingKeysWithinOneWindow_thenSendOneDedupedBatch() {
+        // act
+        Mono<List<String>> result = Flux.just("a", "b", "a", "c", "a")
+                .flatMap(batchLoader::load)
+                .collectList();
+
+        // assert
+        StepVerifier
+                .create(result)
+                .consumeNextWith(values -> assertEquals(5, values.size()))
+                .verifyComplete();
+
+        assertEquals(1, batches.size());
+        assertEquals(List.of("a", "b", "c"), batches.get(0));
+        assertEquals(4.0, meterRegistry.get("enrollments.lookup.calls.saved").counter().count());
+    }
+
+    @Test
+    public void whenKeyIsMissingFromBatchResponse_thenThrowNotFoundException() {
+        StepVerifier
+                .create(batchLoader.load("missing-1"))
+                .expectErrorMatches(throwable -> throwable instanceof NotFoundException &&
+                        throwable.getMessage().equals("Key not found: missing-1"))
+                .verify();
+    }
+
+    @Test
+    public void whenMoreSlowBatchesThanDispatchRunsAtOnce_thenEveryLoadAndLaterLoadsComplete() {
+        // arrange, one key per batch and 100ms per batch, far more batches than flatMap keeps in flight
+        BatchLoader<String, String> slowLoader = new BatchLoader<>("slow", 1, Duration.ofMillis(1),
+                keys -> Mono.delay(Duration.ofMillis(100)).thenMany(Flux.fromIterable(keys)),
+                value -> value,
+                key -> new NotFoundException("Key not found: " + key),
+                meterRegistry);
+
+        // act
+        Mono<Long> overload = Flux.range(0, 1000)
+                .flatMap(i -> slowLoader.load("key-" + i), 1000)
+                .count();
+
+        // assert
+        StepVerifier
+                .create(overload)
+                .expectNext(1000L)
+                .verifyComplete();
+        StepVerifier
+                .create(slowLoader.load("later"))
+                .expectNext("later")
+                .expectComplete()
+                .verify(Duration.ofSeconds(2));
+        slowLoader.dispose();
+    }
+
+    @Test
+    public void whenLoadingFromManyThreadsAtOnce_thenEveryLoadCompletes() {
+        // act, distinct keys from every parallel thread race to hand their key to the pipeline
+        Mono<Long> loads = Flux.range(0, 1000)
+                .parallel()
+                .runOn(Schedulers.parallel())
+                .flatMap(i -> batchLoader.load("key-" + i))
+                .sequential()
+                .count();
+
+        // assert
+        StepVerifier
+                .create(loads)
+                .expectNext(1000L)
+                .expectComplete()
+                .verify(Duration.ofSeconds(5));
+    }
+
+    @Test
+    public void whenDisposed_thenFailWaitingLoads() {
+        // arrange, a downstream that never answers
+        BatchLoader<String, String> hangingLoader = new BatchLoader<>("hanging", 100, Duration.ofMillis(1),
+                keys -> Flux.never(),
+                value -> value,
+                key -> new NotFoundException("Key not found: " + key),
+                meterRegistry);
+
+        // act & assert
+        StepVerifier
+                .create(hangingLoader.load("a"))
+                .then(hangingLoader::dispose)
+                .expectErrorMatches(throwable -> throwable instanceof IllegalStateException &&
+                        throwable.getMessage().equals("Loader hanging is shut down"))
+                .verify(Duration.ofSeconds(2));
+        StepVerifier
+                .create(hangingLoader.load("b"))
+                .expectError(IllegalStateException.class)
+                .verify(Duration.ofSeconds(2));
+    }
+}
@@ -0,0 +1,77 @@
+package com.champlain.enrollmentsservice.utils;
+
+import io.micrometer.core.instrument.MockClock;
+import io.micrometer.core.instrument.simple.SimpleConfig;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class FanOutMetricsUnitTest {
+
+    private MockClock clock;
+    private SimpleMeterRegistry meterRegistry;
+    private FanOutMetrics fanOutMetrics;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MockClock();
+        meterRegistry = new SimpleMeterRegistry(SimpleConfig.DEFAULT, clock);
+        fanOutMetrics = new FanOutMetrics(meterRegistry);
+    }
+
+    @Test
+    void whenFluxCompletes_thenRecordDurationFirstElementAndThroughputFromSubscription() {
+        //arrange, 100ms between assembly and subscription must not be counted
+        Flux<Integer> fanOut = fanOutMetrics.time("async", Flux.range(1, 4)
+                .doOnNext(i -> clock.add(Duration.ofMillis(250))));
+        clock.add(Duration.ofMillis(100));
+
+        //act
+        StepVerifier.create(fanOut).expectNextCount(4).verifyComplete();
+
+        //assert
+        assertEquals(1000.0, meterRegistry.get("students.fanout.duration").tag("endpoint", "async").tag("outcome", "ON_COMPLETE")
+                .timer().totalTime(TimeUnit.MILLISECONDS));
+        assertEquals(250.0, meterRegistry.get("students.fanout.first.element").tag("endpoint", "async")
+                .timer().totalTime(TimeUnit.MILLISECONDS));
+        assertEquals(4.0, meterRegistry.get("students.fanout.throughput").tag("endpoint", "async")
+                .summary().totalAmount());
+        assertEquals(0, meterRegistry.get("students.fanout.active").tag("endpoint", "async")
+                .longTaskTimer().activeTasks());
+    }
+
+    @Test
+    void whenFluxFails_thenRecordDurationWithErrorOutcome() {
+        Flux<Integer> fanOut = fanOutMetrics.time("asyncbatch", Flux.<Integer>error(new IllegalStateException())
+                .delaySubscription(Mono.fromRunnable(() -> clock.add(Duration.ofMillis(40)))));
+
+        StepVerifier.create(fanOut).verifyError(IllegalStateException.class);
+
+        assertEquals(40.0, meterRegistry.get("students.fanout.duration").tag("endpoint", "asyncbatch").tag("outcome", "ON_ERROR")
+                .timer().totalTime(TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    void whenMonoOfListCompletes_thenCountEveryElement() {
+        Mono<List<Integer>> fanOut = fanOutMetrics.time("syncbatch", Mono.fromCallable(() -> {
+            clock.add(Duration.ofMillis(500));
+            return List.of(1, 2, 3, 4, 5);
+        }));
+
+        StepVerifier.create(fanOut).expectNextCount(1).verifyComplete();
+
+        assertEquals(500.0, meterRegistry.get("students.fanout.duration").tag("endpoint", "syncbatch")
+                .timer().totalTime(TimeUnit.MILLISECONDS));
+        assertEquals(10.0, meterRegistry.get("students.fanout.throughput").tag("endpoint", "syncbatch")
+                .summary().totalAmount());
+    }
+}
@@ -2,6 +2,9 @@ package com.champlain.studentsservice;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.web.embedded.netty.NettyReactiveWebServerFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Profile;
 
 @SpringBootApplication
 public class StudentsServiceApplication {
@@ -10,4 +13,11 @@ public class StudentsServiceApplication {
 		SpringApplication.run(StudentsServiceApplication.class, args);
 	}
 
+	//Tomcat stays on the classpath for the servlet stack, without this WebFlux would run on Tomcat instead of Netty
+	@Bean
+	@Profile("reactive")
+	public NettyReactiveWebServerFactory nettyReactiveWebServerFactory() {
+		return new NettyReactiveWebServerFactory();
+	}
+
 }
@@ -0,0 +1,15 @@
+package com.champlain.studentsservice.businesslayer;
+
+import com.champlain.studentsservice.presentationlayer.StudentBatchRequestModel;
+import com.champlain.studentsservice.presentationlayer.StudentFields;
+import com.champlain.studentsservice.presentationlayer.StudentResponseModel;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+public interface ReactiveStudentService {
+
+    Flux<StudentResponseModel> getStudents(StudentFields fields);
+    Mono<StudentResponseModel> getStudentByRowId(Integer id, StudentFields fields);
+    Mono<StudentResponseModel> getStudentByStudentId(String studentId, StudentFields fields);
+    Flux<StudentResponseModel> getStudentsByBatch(StudentBatchRequestModel studentBatchRequestModel, StudentFields fields);
+}
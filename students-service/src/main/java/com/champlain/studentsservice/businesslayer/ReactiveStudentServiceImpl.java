@@ -0,0 +1,94 @@
+package com.champlain.studentsservice.businesslayer;
+
+import com.champlain.studentsservice.dataaccesslayer.ReactiveStudent;
+import com.champlain.studentsservice.dataaccesslayer.ReactiveStudentRepository;
+import com.champlain.studentsservice.dataaccesslayer.StudentSummary;
+import com.champlain.studentsservice.datamapperlayer.StudentResponseMapper;
+import com.champlain.studentsservice.presentationlayer.StudentBatchRequestModel;
+import com.champlain.studentsservice.presentationlayer.StudentFields;
+import com.champlain.studentsservice.presentationlayer.StudentResponseModel;
+import com.champlain.studentsservice.utils.exceptions.NotFoundException;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Comparator;
+
+@Service
+@Profile("reactive")
+public class ReactiveStudentServiceImpl implements ReactiveStudentService {
+
+    private final StudentResponseMapper studentResponseMapper;
+    private final ReactiveStudentRepository reactiveStudentRepository;
+
+    public ReactiveStudentServiceImpl(StudentResponseMapper studentResponseMapper, ReactiveStudentRepository reactiveStudentRepository) {
+        this.studentResponseMapper = studentResponseMapper;
+        this.reactiveStudentRepository = reactiveStudentRepository;
+    }
+
+    @Override
+    public Flux<StudentResponseModel> getStudents(StudentFields fields) {
+        Flux<StudentResponseModel> students = fields.includesStuff()
+                ? reactiveStudentRepository.findAll().map(studentResponseMapper::reactiveEntityToResponseModel)
+                : reactiveStudentRepository.findAllSummaries().map(studentResponseMapper::summaryToResponseModel);
+        return students.map(fields::apply);
+    }
+
+    @Override
+    public Mono<StudentResponseModel> getStudentByRowId(Integer id, StudentFields fields) {
+        Mono<StudentResponseModel> student = fields.includesStuff()
+                ? reactiveStudentRepository.findById(id).map(studentResponseMapper::reactiveEntityToResponseModel)
+                : reactiveStudentRepository.findSummaryById(id).map(studentResponseMapper::summaryToResponseModel);
+        return student
+                .switchIfEmpty(Mono.defer(() -> Mono.error(new NotFoundException("No student at rowId: " + id))))
+                .map(fields::apply);
+    }
+
+    @Override
+    public Mono<StudentResponseModel> getStudentByStudentId(String studentId, StudentFields fields) {
+        Mono<StudentResponseModel> student = fields.includesStuff()
+                ? reactiveStudentRepository.findStudentByStudentId(studentId).map(studentResponseMapper::reactiveEntityToResponseModel)
+                : reactiveStudentRepository.findSummaryByStudentId(studentId).map(studentResponseMapper::summaryToResponseModel);
+        return student
+                .switchIfEmpty(Mono.defer(() -> Mono.error(new NotFoundException("Unknown studentId: " + studentId))))
+                .map(fields::apply);
+    }
+
+    @Override
+    public Flux<StudentResponseModel> getStudentsByBatch(StudentBatchRequestModel studentBatchRequestModel, StudentFields fields) {
+        if (!fields.includesStuff()) {
+            return getStudentSummariesByBatch(studentBatchRequestModel, fields);
+        }
+
+        Flux<ReactiveStudent> byRowIds = studentBatchRequestModel.getRowIds() == null || studentBatchRequestModel.getRowIds().isEmpty()
+                ? Flux.empty()
+                : reactiveStudentRepository.findAllById(studentBatchRequestModel.getRowIds());
+        Flux<ReactiveStudent> byStudentIds = studentBatchRequestModel.getStudentIds() == null || studentBatchRequestModel.getStudentIds().isEmpty()
+                ? Flux.empty()
+                : reactiveStudentRepository.findAllByStudentIdIn(studentBatchRequestModel.getStudentIds());
+
+        //same ordering as the JPA implementation, callers line results up by position
+        //a student asked for by both rowId and studentId comes back once
+        return Flux.concat(byRowIds, byStudentIds)
+                .distinct(ReactiveStudent::getStudentId)
+                .sort(Comparator.comparing(ReactiveStudent::getId))
+                .map(studentResponseMapper::reactiveEntityToResponseModel)
+                .map(fields::apply);
+    }
+
+    //same lookups and ordering as getStudentsByBatch, without selecting stuff
+    private Flux<StudentResponseModel> getStudentSummariesByBatch(StudentBatchRequestModel studentBatchRequestModel, StudentFields fields) {
+        Flux<StudentSummary> byRowIds = studentBatchRequestModel.getRowIds() == null || studentBatchRequestModel.getRowIds().isEmpty()
+                ? Flux.empty()
+                : reactiveStudentRepository.findSummariesByIdIn(studentBatchRequestModel.getRowIds());
+        Flux<StudentSummary> byStudentIds = studentBatchRequestModel.getStudentIds() == null || studentBatchRequestModel.getStudentIds().isEmpty()
+                ? Flux.empty()
+                : reactiveStudentRepository.findSummariesByStudentIdIn(studentBatchRequestModel.getStudentIds());
+
+        return Flux.concat(byRowIds, byStudentIds)
+                .distinct(StudentSummary::getStudentId)
+                .sort(Comparator.comparing(StudentSummary::getId))
+                .map(student -> fields.apply(studentResponseMapper.summaryToResponseModel(student)));
+    }
+}
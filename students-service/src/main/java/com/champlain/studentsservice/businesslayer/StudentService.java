@@ -1,12 +1,17 @@
 package com.champlain.studentsservice.businesslayer;
 
+import com.champlain.studentsservice.presentationlayer.StudentBatchRequestModel;
+import com.champlain.studentsservice.presentationlayer.StudentFields;
 import com.champlain.studentsservice.presentationlayer.StudentResponseModel;
 
 import java.util.List;
+import java.util.function.Consumer;
 
 public interface StudentService {
 
-    List<StudentResponseModel> getStudents();
-    StudentResponseModel getStudentByRowId(Integer id);
-    StudentResponseModel getStudentByStudentId(String studentId);
+    //hands every student to the consumer one at a time, in row order, without holding them all in memory
+    void streamStudents(StudentFields fields, Consumer<StudentResponseModel> consumer);
+    StudentResponseModel getStudentByRowId(Integer id, StudentFields fields);
+    StudentResponseModel getStudentByStudentId(String studentId, StudentFields fields);
+    List<StudentResponseModel> getStudentsByBatch(StudentBatchRequestModel studentBatchRequestModel, StudentFields fields);
 }
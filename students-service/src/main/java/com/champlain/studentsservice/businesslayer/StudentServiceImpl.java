@@ -1,49 +1,152 @@
 package com.champlain.studentsservice.businesslayer;
 
+import com.champlain.studentsservice.dataaccesslayer.JdbcConcurrencyLimiter;
 import com.champlain.studentsservice.dataaccesslayer.Student;
 import com.champlain.studentsservice.dataaccesslayer.StudentRepository;
+import com.champlain.studentsservice.dataaccesslayer.StudentSummary;
 import com.champlain.studentsservice.datamapperlayer.StudentResponseMapper;
+import com.champlain.studentsservice.presentationlayer.StudentBatchRequestModel;
+import com.champlain.studentsservice.presentationlayer.StudentFields;
 import com.champlain.studentsservice.presentationlayer.StudentResponseModel;
 import com.champlain.studentsservice.utils.exceptions.NotFoundException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
 
 @Service
+@Profile("!reactive")
 public class StudentServiceImpl implements StudentService{
 
     private final StudentResponseMapper studentResponseMapper;
     private final StudentRepository studentRepository;
+    private final JdbcConcurrencyLimiter jdbcConcurrencyLimiter;
+    private final TransactionTemplate readOnlyTransaction;
+    private final int pageSize;
 
-    public StudentServiceImpl(StudentResponseMapper studentResponseMapper, StudentRepository studentRepository) {
+    public StudentServiceImpl(StudentResponseMapper studentResponseMapper, StudentRepository studentRepository,
+                              JdbcConcurrencyLimiter jdbcConcurrencyLimiter, PlatformTransactionManager transactionManager,
+                              @Value("${app.student-listing.page-size:500}") int pageSize) {
+        if (pageSize < 1) {
+            throw new IllegalArgumentException("app.student-listing.page-size must be at least 1");
+        }
         this.studentResponseMapper = studentResponseMapper;
         this.studentRepository = studentRepository;
+        this.jdbcConcurrencyLimiter = jdbcConcurrencyLimiter;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.pageSize = pageSize;
     }
 
     @Override
-    public List<StudentResponseModel> getStudents() {
-        return studentResponseMapper.entityListToResponseModelList(studentRepository.findAll());
+    public void streamStudents(StudentFields fields, Consumer<StudentResponseModel> consumer) {
+        //keyset pages, each read under its own limiter permit and transaction and only written out once both are
+        //released, so a client reading the listing slowly never holds a connection the single lookups need
+        int afterId = 0;
+        StudentPage page;
+        do {
+            int pageAfter = afterId;
+            page = jdbcConcurrencyLimiter.call(() -> readOnlyTransaction.execute(status -> readPage(fields, pageAfter)));
+            page.students().forEach(consumer);
+            afterId = page.lastId();
+        } while (page.students().size() == pageSize);
+    }
+
+    private StudentPage readPage(StudentFields fields, int afterId) {
+        if (!fields.includesStuff()) {
+            List<StudentSummary> students = studentRepository.findSummaryPageAfter(afterId, Limit.of(pageSize));
+            return new StudentPage(students.stream()
+                    .map(student -> fields.apply(studentResponseMapper.summaryToResponseModel(student)))
+                    .toList(),
+                    students.isEmpty() ? afterId : students.get(students.size() - 1).getId());
+        }
+        List<Student> students = studentRepository.findPageAfter(afterId, Limit.of(pageSize));
+        return new StudentPage(students.stream()
+                .map(student -> fields.apply(studentResponseMapper.entityToResponseModel(student)))
+                .toList(),
+                students.isEmpty() ? afterId : students.get(students.size() - 1).getId());
+    }
+
+    private record StudentPage(List<StudentResponseModel> students, int lastId) {
     }
 
     @Override
-    public StudentResponseModel getStudentByRowId(Integer id) {
-        Student foundStudent = studentRepository.findById(id).orElse(null);
+    public StudentResponseModel getStudentByRowId(Integer id, StudentFields fields) {
+        StudentResponseModel foundStudent = fields.includesStuff()
+                ? jdbcConcurrencyLimiter.call(() -> studentRepository.findById(id)).map(studentResponseMapper::entityToResponseModel).orElse(null)
+                : jdbcConcurrencyLimiter.call(() -> studentRepository.findSummaryById(id)).map(studentResponseMapper::summaryToResponseModel).orElse(null);
 
         if (foundStudent == null) {
             throw new NotFoundException("No student at rowId: " + id);
         }
 
-        return studentResponseMapper.entityToResponseModel(foundStudent);
+        return fields.apply(foundStudent);
     }
 
     @Override
-    public StudentResponseModel getStudentByStudentId(String studentId) {
-        Student foundStudent = studentRepository.findStudentByStudentIdentifier_StudentId(studentId);
+    public StudentResponseModel getStudentByStudentId(String studentId, StudentFields fields) {
+        StudentResponseModel foundStudent = fields.includesStuff()
+                ? studentResponseMapper.entityToResponseModel(jdbcConcurrencyLimiter.call(() -> studentRepository.findStudentByStudentIdentifier_StudentId(studentId)))
+                : jdbcConcurrencyLimiter.call(() -> studentRepository.findSummaryByStudentId(studentId)).map(studentResponseMapper::summaryToResponseModel).orElse(null);
 
         if (foundStudent == null) {
             throw new NotFoundException("Unknown studentId: " + studentId);
         }
 
-        return studentResponseMapper.entityToResponseModel(foundStudent);
+        return fields.apply(foundStudent);
+    }
+
+    @Override
+    public List<StudentResponseModel> getStudentsByBatch(StudentBatchRequestModel studentBatchRequestModel, StudentFields fields) {
+        if (!fields.includesStuff()) {
+            return getStudentSummariesByBatch(studentBatchRequestModel, fields);
+        }
+
+        List<Student> foundStudents = new ArrayList<>();
+
+        //one query per id list instead of one query per id
+        if (studentBatchRequestModel.getRowIds() != null && !studentBatchRequestModel.getRowIds().isEmpty()) {
+            foundStudents.addAll(jdbcConcurrencyLimiter.call(() -> studentRepository.findAllById(studentBatchRequestModel.getRowIds())));
+        }
+        if (studentBatchRequestModel.getStudentIds() != null && !studentBatchRequestModel.getStudentIds().isEmpty()) {
+            foundStudents.addAll(jdbcConcurrencyLimiter.call(() -> studentRepository.findAllByStudentIdentifier_StudentIdIn(studentBatchRequestModel.getStudentIds())));
+        }
+
+        //ids that don't exist are simply missing from the result, callers decide what that means
+        //a student asked for by both rowId and studentId comes back once
+        Set<String> seen = new HashSet<>();
+        foundStudents.removeIf(student -> !seen.add(student.getStudentIdentifier().getStudentId()));
+        foundStudents.sort(Comparator.comparing(Student::getId));
+        return studentResponseMapper.entityListToResponseModelList(foundStudents).stream()
+                .map(fields::apply)
+                .toList();
+    }
+
+    //same lookups and ordering as getStudentsByBatch, without selecting stuff
+    private List<StudentResponseModel> getStudentSummariesByBatch(StudentBatchRequestModel studentBatchRequestModel, StudentFields fields) {
+        List<StudentSummary> foundStudents = new ArrayList<>();
+
+        if (studentBatchRequestModel.getRowIds() != null && !studentBatchRequestModel.getRowIds().isEmpty()) {
+            foundStudents.addAll(jdbcConcurrencyLimiter.call(() -> studentRepository.findSummariesByIdIn(studentBatchRequestModel.getRowIds())));
+        }
+        if (studentBatchRequestModel.getStudentIds() != null && !studentBatchRequestModel.getStudentIds().isEmpty()) {
+            foundStudents.addAll(jdbcConcurrencyLimiter.call(() -> studentRepository.findSummariesByStudentIdIn(studentBatchRequestModel.getStudentIds())));
+        }
+
+        Set<String> seen = new HashSet<>();
+        foundStudents.removeIf(student -> !seen.add(student.getStudentId()));
+        foundStudents.sort(Comparator.comparing(StudentSummary::getId));
+        return foundStudents.stream()
+                .map(student -> fields.apply(studentResponseMapper.summaryToResponseModel(student)))
+                .toList();
     }
 }
@@ -0,0 +1,50 @@
+package com.champlain.studentsservice.dataaccesslayer;
+
+import com.champlain.studentsservice.utils.exceptions.ServiceUnavailableException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/*
+   With virtual threads every request gets its own thread, so nothing upstream caps how many of them reach Hikari
+   at once and the extras pile up in getConnection until connectionTimeout. This keeps at most pool-size repository
+   calls in flight, queues the rest fairly, and gives up with a 503 after acquire-timeout instead.
+ */
+@Component
+@Profile("!reactive")
+@Slf4j
+public class JdbcConcurrencyLimiter {
+
+    private final Semaphore permits;
+    private final Duration acquireTimeout;
+
+    public JdbcConcurrencyLimiter(@Value("${app.jdbc-limiter.max-concurrent:${spring.datasource.hikari.maximum-pool-size:10}}") int maxConcurrent,
+                                  @Value("${app.jdbc-limiter.acquire-timeout:5s}") Duration acquireTimeout) {
+        this.permits = new Semaphore(maxConcurrent, true);
+        this.acquireTimeout = acquireTimeout;
+        log.info("JDBC concurrency limited to {} calls, acquire timeout {}", maxConcurrent, acquireTimeout);
+    }
+
+    public <T> T call(Supplier<T> repositoryCall) {
+        try {
+            if (!permits.tryAcquire(acquireTimeout.toMillis(), TimeUnit.MILLISECONDS)) {
+                throw new ServiceUnavailableException("No database connection available within " + acquireTimeout);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ServiceUnavailableException("Interrupted while waiting for a database connection", e);
+        }
+
+        try {
+            return repositoryCall.get();
+        } finally {
+            permits.release();
+        }
+    }
+}
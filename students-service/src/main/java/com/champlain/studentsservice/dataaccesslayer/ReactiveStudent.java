@@ -0,0 +1,25 @@
+package com.champlain.studentsservice.dataaccesslayer;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Table;
+
+//same students table as Student, read through R2DBC when the reactive profile is on
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "students")
+public class ReactiveStudent {
+
+    @Id
+    private Integer id;
+    private String studentId;
+    private String firstName;
+    private String lastName;
+    private String program;
+    private String stuff;
+}
@@ -0,0 +1,34 @@
+package com.champlain.studentsservice.dataaccesslayer;
+
+import org.springframework.data.r2dbc.repository.Query;
+import org.springframework.data.r2dbc.repository.R2dbcRepository;
+import org.springframework.data.repository.query.Param;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Collection;
+
+public interface ReactiveStudentRepository extends R2dbcRepository<ReactiveStudent, Integer> {
+
+    //every column but stuff, for reads that don't ask for it
+    String SUMMARY = "SELECT id, student_id, first_name, last_name, program FROM students ";
+
+    Mono<ReactiveStudent> findStudentByStudentId(String studentId);
+
+    Flux<ReactiveStudent> findAllByStudentIdIn(Collection<String> studentIds);
+
+    @Query(SUMMARY + "ORDER BY id")
+    Flux<StudentSummary> findAllSummaries();
+
+    @Query(SUMMARY + "WHERE id = :id")
+    Mono<StudentSummary> findSummaryById(@Param("id") Integer id);
+
+    @Query(SUMMARY + "WHERE student_id = :studentId")
+    Mono<StudentSummary> findSummaryByStudentId(@Param("studentId") String studentId);
+
+    @Query(SUMMARY + "WHERE id IN (:ids)")
+    Flux<StudentSummary> findSummariesByIdIn(@Param("ids") Collection<Integer> ids);
+
+    @Query(SUMMARY + "WHERE student_id IN (:studentIds)")
+    Flux<StudentSummary> findSummariesByStudentIdIn(@Param("studentIds") Collection<String> studentIds);
+}
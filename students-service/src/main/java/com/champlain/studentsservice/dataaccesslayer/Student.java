@@ -5,7 +5,8 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 
 @Entity
-@Table(name="students")
+//unique so the by-studentId and batch lookups are index seeks, schema.sql declares the same for MySQL
+@Table(name="students", indexes = @Index(name = "ix_students_student_id", columnList = "student_id", unique = true))
 @Data
 @NoArgsConstructor
 public class Student {
@@ -0,0 +1,77 @@
+package com.champlain.studentsservice.dataaccesslayer;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/*
+   Startup self-check: explains every hot student lookup and refuses to start
+   if one of them is a full table scan (H2 "tableScan", MySQL access type ALL).
+ */
+@Component
+@Profile("!reactive")
+@Slf4j
+@ConditionalOnProperty(name = "app.query-plan-check.enabled", havingValue = "true")
+public class StudentQueryPlanVerifier implements ApplicationRunner {
+
+    private static final String SAMPLE_ID = "00000000-0000-0000-0000-000000000000";
+    private static final String OTHER_SAMPLE_ID = "00000000-0000-0000-0000-000000000001";
+
+    private static final Map<String, String> HOT_QUERIES = new LinkedHashMap<>();
+
+    static {
+        HOT_QUERIES.put("findStudentByStudentIdentifier_StudentId",
+                "SELECT * FROM students WHERE student_id = '" + SAMPLE_ID + "'");
+        HOT_QUERIES.put("findAllByStudentIdentifier_StudentIdIn",
+                "SELECT * FROM students WHERE student_id IN ('" + SAMPLE_ID + "', '" + OTHER_SAMPLE_ID + "')");
+        HOT_QUERIES.put("findAllById",
+                "SELECT * FROM students WHERE id IN (1, 2)");
+        HOT_QUERIES.put("findPageAfter",
+                "SELECT * FROM students WHERE id > 1 ORDER BY id LIMIT 500");
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public StudentQueryPlanVerifier(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        String database = jdbcTemplate.execute((ConnectionCallback<String>) connection -> connection.getMetaData().getDatabaseProductName());
+
+        List<String> fullScans = new ArrayList<>();
+        HOT_QUERIES.forEach((name, sql) -> {
+            List<Map<String, Object>> plan = jdbcTemplate.queryForList("EXPLAIN " + sql);
+            log.info("Query plan for {}: {}", name, plan);
+            if (isFullScan(database, plan)) {
+                fullScans.add(name);
+            }
+        });
+
+        if (!fullScans.isEmpty()) {
+            throw new IllegalStateException("Hot student lookups fall back to a full table scan: " + fullScans);
+        }
+    }
+
+    private static boolean isFullScan(String database, List<Map<String, Object>> plan) {
+        if (database.startsWith("MySQL")) {
+            return plan.stream().anyMatch(row -> "ALL".equals(row.get("type")));
+        }
+        if (database.startsWith("H2")) {
+            return plan.toString().contains("tableScan");
+        }
+        log.warn("No query plan check for database {}", database);
+        return false;
+    }
+}
@@ -1,8 +1,41 @@
 package com.champlain.studentsservice.dataaccesslayer;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
 
 public interface StudentRepository extends JpaRepository<Student, Integer> {
 
+    //every column but stuff, for reads that don't ask for it
+    String SUMMARY = "select new com.champlain.studentsservice.dataaccesslayer.StudentSummary("
+            + "s.id, s.studentIdentifier.studentId, s.firstName, s.lastName, s.program) from Student s ";
+
     Student findStudentByStudentIdentifier_StudentId(String studentId);
+
+    //single IN query for batch lookups
+    List<Student> findAllByStudentIdentifier_StudentIdIn(Collection<String> studentIds);
+
+    //one page of the listing, the rows after the last id already sent (a primary key range scan however deep the page)
+    @Query("select s from Student s where s.id > :afterId order by s.id")
+    List<Student> findPageAfter(@Param("afterId") Integer afterId, Limit limit);
+
+    @Query(SUMMARY + "where s.id = :id")
+    Optional<StudentSummary> findSummaryById(@Param("id") Integer id);
+
+    @Query(SUMMARY + "where s.studentIdentifier.studentId = :studentId")
+    Optional<StudentSummary> findSummaryByStudentId(@Param("studentId") String studentId);
+
+    @Query(SUMMARY + "where s.id in :ids")
+    List<StudentSummary> findSummariesByIdIn(@Param("ids") Collection<Integer> ids);
+
+    @Query(SUMMARY + "where s.studentIdentifier.studentId in :studentIds")
+    List<StudentSummary> findSummariesByStudentIdIn(@Param("studentIds") Collection<String> studentIds);
+
+    @Query(SUMMARY + "where s.id > :afterId order by s.id")
+    List<StudentSummary> findSummaryPageAfter(@Param("afterId") Integer afterId, Limit limit);
 }
@@ -0,0 +1,18 @@
+package com.champlain.studentsservice.dataaccesslayer;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+//a student row without the stuff column, filled straight from the select list by both the JPA and R2DBC repositories
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class StudentSummary {
+
+    private Integer id;
+    private String studentId;
+    private String firstName;
+    private String lastName;
+    private String program;
+}
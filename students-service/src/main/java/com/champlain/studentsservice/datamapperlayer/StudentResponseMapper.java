@@ -1,6 +1,8 @@
 package com.champlain.studentsservice.datamapperlayer;
 
+import com.champlain.studentsservice.dataaccesslayer.ReactiveStudent;
 import com.champlain.studentsservice.dataaccesslayer.Student;
+import com.champlain.studentsservice.dataaccesslayer.StudentSummary;
 import com.champlain.studentsservice.presentationlayer.StudentResponseModel;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
@@ -14,4 +16,9 @@ public interface StudentResponseMapper {
     StudentResponseModel entityToResponseModel(Student student);
 
     List<StudentResponseModel> entityListToResponseModelList(List<Student> students);
+
+    StudentResponseModel reactiveEntityToResponseModel(ReactiveStudent student);
+
+    @Mapping(target = "stuff", ignore = true)
+    StudentResponseModel summaryToResponseModel(StudentSummary student);
 }
@@ -0,0 +1,80 @@
+package com.champlain.studentsservice.presentationlayer;
+
+import com.champlain.studentsservice.businesslayer.ReactiveStudentService;
+import com.champlain.studentsservice.utils.exceptions.InvalidInputException;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+//same contract as StudentController, served by WebFlux on R2DBC when the reactive profile is on
+@RestController
+@Profile("reactive")
+@RequestMapping("api/v1/students")
+public class ReactiveStudentController {
+
+    private static final int MAX_BATCH_SIZE = 1000;
+    private static final String APPLICATION_SMILE_VALUE = "application/x-jackson-smile";
+    private static final String APPLICATION_STREAM_SMILE_VALUE = "application/stream+x-jackson-smile";
+
+    private final ReactiveStudentService reactiveStudentService;
+
+    public ReactiveStudentController(ReactiveStudentService reactiveStudentService) {
+        this.reactiveStudentService = reactiveStudentService;
+    }
+
+    @GetMapping(value = "", produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE,
+            APPLICATION_STREAM_SMILE_VALUE})
+    public Flux<StudentResponseModel> getStudents(@RequestParam(required = false) String fields) {
+        return Mono.fromCallable(() -> StudentFields.parse(fields))
+                .flatMapMany(reactiveStudentService::getStudents);
+    }
+
+    @GetMapping(value = "/row/{id}", produces = {MediaType.APPLICATION_JSON_VALUE, APPLICATION_SMILE_VALUE})
+    public Mono<ResponseEntity<StudentResponseModel>> getStudentByRowId(@PathVariable Integer id,
+                                                                        @RequestParam(required = false) String fields) {
+        return Mono.fromCallable(() -> StudentFields.parse(fields))
+                .flatMap(studentFields -> reactiveStudentService.getStudentByRowId(id, studentFields))
+                .map(ResponseEntity::ok);
+    }
+
+    @GetMapping(value = "/{studentId}", produces = {MediaType.APPLICATION_JSON_VALUE, APPLICATION_SMILE_VALUE})
+    public Mono<ResponseEntity<StudentResponseModel>> getStudentByStudentId(@PathVariable String studentId,
+                                                                            @RequestParam(required = false) String fields) {
+        return Mono.just(studentId)
+                .filter(id -> id.length() == 36)
+                .switchIfEmpty(Mono.error(new InvalidInputException("Invalid studentId: " + studentId)))
+                .flatMap(id -> reactiveStudentService.getStudentByStudentId(id, StudentFields.parse(fields)))
+                .map(ResponseEntity::ok);
+    }
+
+    @PostMapping(value = "/batch", consumes = MediaType.APPLICATION_JSON_VALUE, produces = {MediaType.APPLICATION_JSON_VALUE, APPLICATION_SMILE_VALUE})
+    public Flux<StudentResponseModel> getStudentsByBatch(@RequestBody Mono<StudentBatchRequestModel> studentBatchRequestModel,
+                                                         @RequestParam(required = false) String fields) {
+        return studentBatchRequestModel
+                .flatMap(batch -> {
+                    int studentIdCount = batch.getStudentIds() == null ? 0 : batch.getStudentIds().size();
+                    int rowIdCount = batch.getRowIds() == null ? 0 : batch.getRowIds().size();
+
+                    if (studentIdCount + rowIdCount > MAX_BATCH_SIZE) {
+                        return Mono.error(new InvalidInputException("Batch size exceeds " + MAX_BATCH_SIZE + ": " + (studentIdCount + rowIdCount)));
+                    }
+                    if (studentIdCount > 0 && batch.getStudentIds().stream().anyMatch(id -> id == null || id.length() != 36)) {
+                        return Mono.error(new InvalidInputException("Invalid studentId in batch"));
+                    }
+                    if (rowIdCount > 0 && batch.getRowIds().stream().anyMatch(id -> id == null || id < 1)) {
+                        return Mono.error(new InvalidInputException("Invalid rowId in batch"));
+                    }
+                    return Mono.just(batch);
+                })
+                .flatMapMany(batch -> reactiveStudentService.getStudentsByBatch(batch, StudentFields.parse(fields)));
+    }
+}
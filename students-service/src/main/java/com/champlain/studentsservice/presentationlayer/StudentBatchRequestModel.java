@@ -0,0 +1,19 @@
+package com.champlain.studentsservice.presentationlayer;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class StudentBatchRequestModel {
+
+    //either list may be used, both are looked up if both are provided
+    private List<String> studentIds;
+    private List<Integer> rowIds;
+}
@@ -2,43 +2,145 @@ package com.champlain.studentsservice.presentationlayer;
 
 import com.champlain.studentsservice.businesslayer.StudentService;
 import com.champlain.studentsservice.utils.exceptions.InvalidInputException;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.List;
 
 @RestController
+@Profile("!reactive")
 @RequestMapping("api/v1/students")
 public class StudentController {
 
+    private static final int MAX_BATCH_SIZE = 1000;
+    private static final String APPLICATION_SMILE_VALUE = "application/x-jackson-smile";
+    private static final String APPLICATION_STREAM_SMILE_VALUE = "application/stream+x-jackson-smile";
+
     private final StudentService studentService;
+    private final ObjectMapper objectMapper;
+    private final ObjectWriter studentWriter;
+    private final ObjectMapper smileMapper;
+    private final ObjectWriter smileStudentWriter;
 
-    public StudentController(StudentService studentService) {
+    public StudentController(StudentService studentService, ObjectMapper objectMapper) {
         this.studentService = studentService;
+        this.objectMapper = objectMapper;
+        //the container's buffer decides when bytes go out, not a flush after every student
+        this.studentWriter = objectMapper.writerFor(StudentResponseModel.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        //same configuration as the JSON mapper, only the wire format changes
+        this.smileMapper = objectMapper.copyWith(new SmileFactory());
+        this.smileStudentWriter = smileMapper.writerFor(StudentResponseModel.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
     }
 
+    //written to the response a page of rows at a time, so memory stays flat however big the table gets
     @GetMapping(value = "",
     produces = "application/json")
-    public ResponseEntity<List<StudentResponseModel>> getStudents() {
-        return ResponseEntity.ok().body(studentService.getStudents());
+    public ResponseEntity<StreamingResponseBody> getStudents(@RequestParam(required = false) String fields) {
+        StudentFields studentFields = StudentFields.parse(fields);
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(out -> {
+            JsonGenerator generator = objectMapper.getFactory().createGenerator(out);
+            generator.writeStartArray();
+            studentService.streamStudents(studentFields, student -> writeStudent(generator, student));
+            generator.writeEndArray();
+            //flush only, closing the generator would close the response stream under the container
+            generator.flush();
+        });
+    }
+
+    //one student per line, lets clients decode each one as it arrives instead of waiting for the closing bracket
+    @GetMapping(value = "", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> getStudentsAsNdjson(@RequestParam(required = false) String fields) {
+        StudentFields studentFields = StudentFields.parse(fields);
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(out -> {
+            JsonGenerator generator = objectMapper.getFactory().createGenerator(out);
+            generator.setRootValueSeparator(null);
+            studentService.streamStudents(studentFields, student -> {
+                writeStudent(generator, student);
+                try {
+                    generator.writeRaw('\n');
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+            generator.flush();
+        });
+    }
+
+    //Smile documents back to back, the stream format Spring's Jackson2SmileDecoder reads one student at a time
+    @GetMapping(value = "", produces = APPLICATION_STREAM_SMILE_VALUE)
+    public ResponseEntity<StreamingResponseBody> getStudentsAsSmileStream(@RequestParam(required = false) String fields) {
+        StudentFields studentFields = StudentFields.parse(fields);
+        return ResponseEntity.ok().contentType(MediaType.parseMediaType(APPLICATION_STREAM_SMILE_VALUE)).body(out -> {
+            JsonGenerator generator = smileMapper.getFactory().createGenerator(out);
+            studentService.streamStudents(studentFields, student -> writeStudent(smileStudentWriter, generator, student));
+            generator.flush();
+        });
+    }
+
+    private void writeStudent(JsonGenerator generator, StudentResponseModel student) {
+        writeStudent(studentWriter, generator, student);
+    }
+
+    private void writeStudent(ObjectWriter writer, JsonGenerator generator, StudentResponseModel student) {
+        try {
+            writer.writeValue(generator, student);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
     }
 
     //get by database rowId
-    @GetMapping(value = "/row/{id}", produces = "application/json")
-    public ResponseEntity<StudentResponseModel> getStudentByRowId(@PathVariable Integer id) {
-        return ResponseEntity.ok().body(studentService.getStudentByRowId(id));
+    @GetMapping(value = "/row/{id}", produces = {"application/json", APPLICATION_SMILE_VALUE})
+    public ResponseEntity<StudentResponseModel> getStudentByRowId(@PathVariable Integer id,
+                                                                  @RequestParam(required = false) String fields) {
+        return ResponseEntity.ok().body(studentService.getStudentByRowId(id, StudentFields.parse(fields)));
     }
 
     //get by studentId
-    @GetMapping(value = "/{studentId}", produces = "application/json")
-    public ResponseEntity<StudentResponseModel> getStudentByStudentId(@PathVariable String studentId) {
+    @GetMapping(value = "/{studentId}", produces = {"application/json", APPLICATION_SMILE_VALUE})
+    public ResponseEntity<StudentResponseModel> getStudentByStudentId(@PathVariable String studentId,
+                                                                      @RequestParam(required = false) String fields) {
         if (studentId.length() != 36) {
             throw new InvalidInputException("Invalid studentId: " + studentId);
         }
-        return ResponseEntity.ok().body(studentService.getStudentByStudentId(studentId));
+        return ResponseEntity.ok().body(studentService.getStudentByStudentId(studentId, StudentFields.parse(fields)));
+    }
+
+    //get many students in one round trip, by studentIds and/or database rowIds
+    @PostMapping(value = "/batch", consumes = "application/json", produces = {"application/json", APPLICATION_SMILE_VALUE})
+    public ResponseEntity<List<StudentResponseModel>> getStudentsByBatch(@RequestBody StudentBatchRequestModel studentBatchRequestModel,
+                                                                         @RequestParam(required = false) String fields) {
+        StudentFields studentFields = StudentFields.parse(fields);
+        int studentIdCount = studentBatchRequestModel.getStudentIds() == null ? 0 : studentBatchRequestModel.getStudentIds().size();
+        int rowIdCount = studentBatchRequestModel.getRowIds() == null ? 0 : studentBatchRequestModel.getRowIds().size();
+
+        if (studentIdCount + rowIdCount > MAX_BATCH_SIZE) {
+            throw new InvalidInputException("Batch size exceeds " + MAX_BATCH_SIZE + ": " + (studentIdCount + rowIdCount));
+        }
+        if (studentIdCount > 0 && studentBatchRequestModel.getStudentIds().stream().anyMatch(id -> id == null || id.length() != 36)) {
+            throw new InvalidInputException("Invalid studentId in batch");
+        }
+        if (rowIdCount > 0 && studentBatchRequestModel.getRowIds().stream().anyMatch(id -> id == null || id < 1)) {
+            throw new InvalidInputException("Invalid rowId in batch");
+        }
+        return ResponseEntity.ok().body(studentService.getStudentsByBatch(studentBatchRequestModel, studentFields));
     }
-    
 }
@@ -0,0 +1,59 @@
+package com.champlain.studentsservice.presentationlayer;
+
+import com.champlain.studentsservice.utils.exceptions.InvalidInputException;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/*
+   The ?fields= selection on student reads, e.g. fields=studentId,firstName,lastName. Without it every field
+   comes back. stuff is the one large column, so leaving it out switches the read to StudentSummary and the
+   column is never selected. The other fields are small and are just left out of the response.
+ */
+public final class StudentFields {
+
+    private static final List<String> NAMES = List.of("studentId", "firstName", "lastName", "program", "stuff");
+
+    public static final StudentFields ALL = new StudentFields(Set.copyOf(NAMES));
+
+    private final Set<String> fields;
+
+    private StudentFields(Set<String> fields) {
+        this.fields = fields;
+    }
+
+    public static StudentFields parse(String fields) {
+        if (fields == null || fields.isBlank()) {
+            return ALL;
+        }
+
+        Set<String> selected = new HashSet<>();
+        for (String field : fields.split(",")) {
+            String name = field.trim();
+            if (!NAMES.contains(name)) {
+                throw new InvalidInputException("Unknown student field: " + name);
+            }
+            selected.add(name);
+        }
+        return new StudentFields(selected);
+    }
+
+    public boolean includesStuff() {
+        return fields.contains("stuff");
+    }
+
+    //nulls the fields that weren't asked for, StudentResponseModel leaves nulls out of the JSON
+    public StudentResponseModel apply(StudentResponseModel student) {
+        if (fields.size() == NAMES.size()) {
+            return student;
+        }
+        return StudentResponseModel.builder()
+                .studentId(fields.contains("studentId") ? student.getStudentId() : null)
+                .firstName(fields.contains("firstName") ? student.getFirstName() : null)
+                .lastName(fields.contains("lastName") ? student.getLastName() : null)
+                .program(fields.contains("program") ? student.getProgram() : null)
+                .stuff(fields.contains("stuff") ? student.getStuff() : null)
+                .build();
+    }
+}
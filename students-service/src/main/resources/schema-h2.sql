@@ -0,0 +1,10 @@
+create table if not exists students (
+    id INTEGER NOT NULL AUTO_INCREMENT PRIMARY KEY,
+    student_id VARCHAR(36),
+    first_name VARCHAR(50),
+    last_name VARCHAR(50),
+    program VARCHAR(50),
+    stuff CLOB
+);
+
+create unique index if not exists ix_students_student_id on students (student_id);
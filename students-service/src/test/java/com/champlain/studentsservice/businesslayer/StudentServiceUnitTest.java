@@ -0,0 +1,149 @@
+package com.champlain.studentsservice.businesslayer;
+
+import com.champlain.studentsservice.dataaccesslayer.JdbcConcurrencyLimiter;
+import com.champlain.studentsservice.dataaccesslayer.Student;
+import com.champlain.studentsservice.dataaccesslayer.StudentIdentifier;
+import com.champlain.studentsservice.dataaccesslayer.StudentRepository;
+import com.champlain.studentsservice.dataaccesslayer.StudentSummary;
+import com.champlain.studentsservice.datamapperlayer.StudentResponseMapperImpl;
+import com.champlain.studentsservice.presentationlayer.StudentBatchRequestModel;
+import com.champlain.studentsservice.presentationlayer.StudentFields;
+import com.champlain.studentsservice.presentationlayer.StudentResponseModel;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class StudentServiceUnitTest {
+
+    @Mock
+    private StudentRepository studentRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private StudentServiceImpl studentService;
+
+    @BeforeEach
+    void setUp() {
+        studentService = new StudentServiceImpl(new StudentResponseMapperImpl(), studentRepository,
+                new JdbcConcurrencyLimiter(2, Duration.ofSeconds(1)), transactionManager, 500);
+    }
+
+    @Test
+    void whenStudentAskedForByRowIdAndStudentId_thenReturnItOnceInRowOrder() {
+        //arrange
+        Student first = student(1);
+        Student second = student(2);
+        String secondStudentId = second.getStudentIdentifier().getStudentId();
+        when(studentRepository.findAllById(List.of(2, 1))).thenReturn(List.of(second, first));
+        when(studentRepository.findAllByStudentIdentifier_StudentIdIn(List.of(secondStudentId))).thenReturn(List.of(second));
+
+        //act
+        List<StudentResponseModel> students = studentService.getStudentsByBatch(StudentBatchRequestModel.builder()
+                .rowIds(List.of(2, 1))
+                .studentIds(List.of(secondStudentId))
+                .build(), StudentFields.ALL);
+
+        //assert
+        assertEquals(List.of(first.getStudentIdentifier().getStudentId(), secondStudentId),
+                students.stream().map(StudentResponseModel::getStudentId).toList());
+        assertEquals("stuff-2", students.get(1).getStuff());
+    }
+
+    @Test
+    void whenSummaryAskedForByRowIdAndStudentId_thenReturnItOnce() {
+        //arrange
+        StudentSummary summary = new StudentSummary(7, "c3540a89-cb47-4c96-888e-ff96708db4d8", "Christine", "Gerard", "Computer Science");
+        when(studentRepository.findSummariesByIdIn(List.of(7))).thenReturn(List.of(summary));
+        when(studentRepository.findSummariesByStudentIdIn(List.of(summary.getStudentId())))
+                .thenReturn(List.of(new StudentSummary(7, summary.getStudentId(), "Christine", "Gerard", "Computer Science")));
+
+        //act
+        List<StudentResponseModel> students = studentService.getStudentsByBatch(StudentBatchRequestModel.builder()
+                .rowIds(List.of(7))
+                .studentIds(List.of(summary.getStudentId()))
+                .build(), StudentFields.parse("studentId,lastName"));
+
+        //assert
+        assertEquals(List.of(StudentResponseModel.builder().studentId(summary.getStudentId()).lastName("Gerard").build()), students);
+    }
+
+    @Test
+    void whenStudentsListed_thenReadThemPageByPageAfterTheLastId() {
+        //arrange
+        studentService = new StudentServiceImpl(new StudentResponseMapperImpl(), studentRepository,
+                new JdbcConcurrencyLimiter(2, Duration.ofSeconds(1)), transactionManager, 2);
+        when(studentRepository.findPageAfter(0, Limit.of(2))).thenReturn(List.of(student(1), student(2)));
+        when(studentRepository.findPageAfter(2, Limit.of(2))).thenReturn(List.of(student(5)));
+        List<StudentResponseModel> listed = new ArrayList<>();
+
+        //act
+        studentService.streamStudents(StudentFields.ALL, listed::add);
+
+        //assert
+        assertEquals(List.of("stuff-1", "stuff-2", "stuff-5"), listed.stream().map(StudentResponseModel::getStuff).toList());
+        verify(studentRepository, never()).findPageAfter(5, Limit.of(2));
+    }
+
+    @Test
+    void whenStudentListingStalls_thenLookupByRowIdStillGetsAConnection() throws Exception {
+        //arrange, one permit so a listing holding it would leave the lookup nothing
+        studentService = new StudentServiceImpl(new StudentResponseMapperImpl(), studentRepository,
+                new JdbcConcurrencyLimiter(1, Duration.ofMillis(200)), transactionManager, 2);
+        StudentSummary summary = new StudentSummary(1, "c3540a89-cb47-4c96-888e-ff96708db4d8", "Christine", "Gerard", "Computer Science");
+        when(studentRepository.findSummaryPageAfter(0, Limit.of(2))).thenReturn(List.of(summary));
+        when(studentRepository.findSummaryById(1)).thenReturn(Optional.of(summary));
+        CountDownLatch writing = new CountDownLatch(1);
+        CountDownLatch clientReads = new CountDownLatch(1);
+        StudentFields fields = StudentFields.parse("studentId,lastName");
+
+        CompletableFuture<Void> listing = CompletableFuture.runAsync(() -> studentService.streamStudents(fields, student -> {
+            //a client that stopped reading, the response write blocks
+            writing.countDown();
+            try {
+                clientReads.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }));
+        assertTrue(writing.await(5, TimeUnit.SECONDS));
+
+        //act
+        StudentResponseModel found = studentService.getStudentByRowId(1, fields);
+
+        //assert
+        assertEquals("Gerard", found.getLastName());
+        clientReads.countDown();
+        listing.get(5, TimeUnit.SECONDS);
+    }
+
+    private static Student student(int id) {
+        Student student = new Student();
+        student.setId(id);
+        student.setStudentIdentifier(new StudentIdentifier());
+        student.setFirstName("Christine");
+        student.setLastName("Gerard");
+        student.setProgram("Computer Science");
+        student.setStuff("stuff-" + id);
+        return student;
+    }
+}
@@ -0,0 +1,57 @@
+package com.champlain.studentsservice.dataaccesslayer;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import javax.sql.DataSource;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = "spring.datasource.hikari.maximum-pool-size=2")
+@AutoConfigureMockMvc
+@ActiveProfiles("h2")
+@Import(JdbcConcurrencyLimiterIntegrationTest.PoolProbeController.class)
+class JdbcConcurrencyLimiterIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void whenLimitedCallReturns_thenItsConnectionIsBackInThePoolBeforeTheRequestEnds() throws Exception {
+        //act & assert, the probe reads the pool while its own request is still being handled
+        mockMvc.perform(get("/test/pool-after-call"))
+                .andExpect(status().isOk())
+                .andExpect(content().string("0"));
+    }
+
+    //a repository call through the limiter, then the connections still checked out of Hikari in the same request
+    @RestController
+    static class PoolProbeController {
+
+        private final JdbcConcurrencyLimiter jdbcConcurrencyLimiter;
+        private final StudentRepository studentRepository;
+        private final HikariDataSource dataSource;
+
+        PoolProbeController(JdbcConcurrencyLimiter jdbcConcurrencyLimiter, StudentRepository studentRepository, DataSource dataSource) {
+            this.jdbcConcurrencyLimiter = jdbcConcurrencyLimiter;
+            this.studentRepository = studentRepository;
+            this.dataSource = (HikariDataSource) dataSource;
+        }
+
+        @GetMapping("/test/pool-after-call")
+        int activeConnectionsAfterCall() {
+            jdbcConcurrencyLimiter.call(() -> studentRepository.findById(1));
+            return dataSource.getHikariPoolMXBean().getActiveConnections();
+        }
+    }
+}
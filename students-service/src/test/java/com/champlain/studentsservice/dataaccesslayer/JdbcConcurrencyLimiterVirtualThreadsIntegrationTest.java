@@ -0,0 +1,86 @@
+package com.champlain.studentsservice.dataaccesslayer;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+//a real Tomcat, MockMvc would run the request on the test thread instead of the connector's executor
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {
+                "spring.threads.virtual.enabled=true",
+                "spring.datasource.hikari.maximum-pool-size=1",
+                "app.jdbc-limiter.acquire-timeout=200ms"
+        })
+@ActiveProfiles({"h2", "virtual-threads"})
+@Import(JdbcConcurrencyLimiterVirtualThreadsIntegrationTest.ThreadProbeController.class)
+class JdbcConcurrencyLimiterVirtualThreadsIntegrationTest {
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Autowired
+    private JdbcConcurrencyLimiter jdbcConcurrencyLimiter;
+
+    @Test
+    void whenVirtualThreadsEnabled_thenRequestRunsOnAVirtualThread() {
+        //act
+        ResponseEntity<String> response = restTemplate.getForEntity("/test/thread", String.class);
+
+        //assert
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals("true", response.getBody());
+    }
+
+    @Test
+    void whenEveryPermitIsHeld_thenRepositoryReadGetsServiceUnavailable() throws Exception {
+        //arrange, hold the only permit until the request has given up
+        CountDownLatch acquired = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<Void> holder = CompletableFuture.runAsync(() -> jdbcConcurrencyLimiter.call(() -> {
+            acquired.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return null;
+        }));
+        assertTrue(acquired.await(5, TimeUnit.SECONDS));
+
+        //act
+        ResponseEntity<String> response;
+        try {
+            response = restTemplate.getForEntity("/api/v1/students/row/1", String.class);
+        } finally {
+            release.countDown();
+            holder.get(5, TimeUnit.SECONDS);
+        }
+
+        //assert
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, response.getStatusCode());
+        assertTrue(response.getBody().contains("No database connection available within PT0.2S"));
+    }
+
+    @RestController
+    static class ThreadProbeController {
+
+        @GetMapping("/test/thread")
+        boolean isVirtual() {
+            return Thread.currentThread().isVirtual();
+        }
+    }
+}
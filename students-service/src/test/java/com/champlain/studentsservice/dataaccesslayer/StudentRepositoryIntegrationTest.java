@@ -0,0 +1,113 @@
+package com.champlain.studentsservice.dataaccesslayer;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Limit;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+//the h2 profile for its schema, schema.sql is MySQL only
+@DataJpaTest
+@ActiveProfiles("h2")
+class StudentRepositoryIntegrationTest {
+
+    @Autowired
+    private StudentRepository studentRepository;
+
+    private List<Student> students;
+
+    @BeforeEach
+    void setupDB() {
+        studentRepository.deleteAll();
+        students = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            Student student = new Student();
+            student.setStudentIdentifier(new StudentIdentifier());
+            student.setFirstName("Christine" + i);
+            student.setLastName("Gerard" + i);
+            student.setProgram("Computer Science");
+            student.setStuff("stuff-" + i);
+            students.add(studentRepository.save(student));
+        }
+    }
+
+    @Test
+    void whenPagesReadAfterTheLastId_thenReturnEveryStudentOnceInRowOrder() {
+        //arrange
+        List<Integer> expected = students.stream().map(Student::getId).toList();
+
+        //act
+        List<Student> firstPage = studentRepository.findPageAfter(0, Limit.of(3));
+        List<Student> secondPage = studentRepository.findPageAfter(firstPage.get(2).getId(), Limit.of(3));
+
+        //assert
+        assertEquals(expected.subList(0, 3), firstPage.stream().map(Student::getId).toList());
+        assertEquals(expected.subList(3, 5), secondPage.stream().map(Student::getId).toList());
+        assertEquals("stuff-3", secondPage.get(0).getStuff());
+    }
+
+    @Test
+    void whenSummaryPagesReadAfterTheLastId_thenReturnEveryStudentOnceInRowOrder() {
+        //arrange
+        List<Integer> expected = students.stream().map(Student::getId).toList();
+
+        //act
+        List<StudentSummary> firstPage = studentRepository.findSummaryPageAfter(0, Limit.of(3));
+        List<StudentSummary> secondPage = studentRepository.findSummaryPageAfter(firstPage.get(2).getId(), Limit.of(3));
+
+        //assert
+        assertEquals(expected.subList(0, 3), firstPage.stream().map(StudentSummary::getId).toList());
+        assertEquals(expected.subList(3, 5), secondPage.stream().map(StudentSummary::getId).toList());
+        assertEquals(new StudentSummary(expected.get(4), students.get(4).getStudentIdentifier().getStudentId(),
+                "Christine4", "Gerard4", "Computer Science"), secondPage.get(1));
+    }
+
+    @Test
+    void whenSummaryFoundById_thenReturnEveryColumnButStuff() {
+        //arrange
+        Student student = students.get(0);
+
+        //act
+        Optional<StudentSummary> summary = studentRepository.findSummaryById(student.getId());
+
+        //assert
+        assertEquals(Optional.of(summary(student)), summary);
+    }
+
+    @Test
+    void whenSummaryFoundByStudentId_thenReturnIt() {
+        //arrange
+        Student student = students.get(1);
+
+        //act
+        Optional<StudentSummary> summary = studentRepository.findSummaryByStudentId(student.getStudentIdentifier().getStudentId());
+
+        //assert
+        assertEquals(Optional.of(summary(student)), summary);
+    }
+
+    @Test
+    void whenSummariesFoundByIdsAndStudentIds_thenReturnOnlyTheStudentsThatExist() {
+        //act
+        List<StudentSummary> byIds = studentRepository.findSummariesByIdIn(List.of(students.get(0).getId(), students.get(2).getId(), -1));
+        List<StudentSummary> byStudentIds = studentRepository.findSummariesByStudentIdIn(
+                List.of(students.get(3).getStudentIdentifier().getStudentId(), "c3540a89-cb47-4c96-888e-ff96708db4d8"));
+
+        //assert
+        assertEquals(Set.of(summary(students.get(0)), summary(students.get(2))), Set.copyOf(byIds));
+        assertEquals(List.of(summary(students.get(3))), byStudentIds);
+    }
+
+    private static StudentSummary summary(Student student) {
+        return new StudentSummary(student.getId(), student.getStudentIdentifier().getStudentId(),
+                student.getFirstName(), student.getLastName(), student.getProgram());
+    }
+}
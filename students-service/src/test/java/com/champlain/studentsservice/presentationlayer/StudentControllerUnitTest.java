@@ -0,0 +1,117 @@
+package com.champlain.studentsservice.presentationlayer;
+
+import com.champlain.studentsservice.businesslayer.StudentService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(controllers = StudentController.class)
+class StudentControllerUnitTest {
+
+    private static final String STUDENT_ID = "c3540a89-cb47-4c96-888e-ff96708db4d8";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private StudentService studentService;
+
+    @Test
+    void whenGetStudentsByBatch_thenReturnStudents() throws Exception {
+        //arrange
+        when(studentService.getStudentsByBatch(any(StudentBatchRequestModel.class), any(StudentFields.class)))
+                .thenReturn(List.of(StudentResponseModel.builder().studentId(STUDENT_ID).lastName("Gerard").build()));
+
+        //act & assert
+        mockMvc.perform(post("/api/v1/students/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .accept(MediaType.APPLICATION_JSON)
+                        .content("{\"rowIds\":[1],\"studentIds\":[\"" + STUDENT_ID + "\"]}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].studentId").value(STUDENT_ID));
+    }
+
+    @Test
+    void whenGetStudentsByBatch_withNullRowId_thenUnprocessableEntity() throws Exception {
+        //act & assert
+        mockMvc.perform(post("/api/v1/students/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .accept(MediaType.APPLICATION_JSON)
+                        .content("{\"rowIds\":[1,null]}"))
+                .andExpect(status().isUnprocessableEntity())
+                .andExpect(jsonPath("$.message").value("Invalid rowId in batch"));
+
+        verify(studentService, never()).getStudentsByBatch(any(), any());
+    }
+
+    @Test
+    void whenGetStudentsByBatch_withInvalidStudentId_thenUnprocessableEntity() throws Exception {
+        //act & assert
+        mockMvc.perform(post("/api/v1/students/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .accept(MediaType.APPLICATION_JSON)
+                        .content("{\"studentIds\":[\"not-a-student-id\"]}"))
+                .andExpect(status().isUnprocessableEntity())
+                .andExpect(jsonPath("$.message").value("Invalid studentId in batch"));
+    }
+
+    @Test
+    void whenGetStudentsByBatch_overMaxBatchSize_thenUnprocessableEntity() throws Exception {
+        //arrange
+        String rowIds = String.join(",", IntStream.rangeClosed(1, 1001).mapToObj(String::valueOf).toList());
+
+        //act & assert
+        mockMvc.perform(post("/api/v1/students/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .accept(MediaType.APPLICATION_JSON)
+                        .content("{\"rowIds\":[" + rowIds + "]}"))
+                .andExpect(status().isUnprocessableEntity());
+    }
+
+    @Test
+    void whenGetStudentByRowId_withFields_thenLeaveTheOtherFieldsOutOfTheJson() throws Exception {
+        //arrange
+        when(studentService.getStudentByRowId(eq(1), any(StudentFields.class)))
+                .thenReturn(StudentResponseModel.builder().studentId(STUDENT_ID).lastName("Gerard").build());
+
+        //act & assert
+        mockMvc.perform(get("/api/v1/students/row/1")
+                        .param("fields", "studentId,lastName")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.studentId").value(STUDENT_ID))
+                .andExpect(jsonPath("$.lastName").value("Gerard"))
+                .andExpect(jsonPath("$.firstName").doesNotExist())
+                .andExpect(jsonPath("$.program").doesNotExist())
+                .andExpect(jsonPath("$.stuff").doesNotExist());
+    }
+
+    @Test
+    void whenGetStudentByRowId_withUnknownField_thenUnprocessableEntity() throws Exception {
+        //act & assert
+        mockMvc.perform(get("/api/v1/students/row/1")
+                        .param("fields", "studentId,gpa")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isUnprocessableEntity())
+                .andExpect(jsonPath("$.message").value("Unknown student field: gpa"));
+
+        verify(studentService, never()).getStudentByRowId(any(), any());
+    }
+}
@@ -0,0 +1,62 @@
+package com.champlain.studentsservice.presentationlayer;
+
+import com.champlain.studentsservice.utils.exceptions.InvalidInputException;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class StudentFieldsUnitTest {
+
+    private static final StudentResponseModel STUDENT = StudentResponseModel.builder()
+            .studentId("c3540a89-cb47-4c96-888e-ff96708db4d8")
+            .firstName("Christine")
+            .lastName("Gerard")
+            .program("Computer Science")
+            .stuff("stuff")
+            .build();
+
+    @Test
+    void whenNoFieldsGiven_thenSelectEveryField() {
+        //act & assert
+        assertSame(StudentFields.ALL, StudentFields.parse(null));
+        assertSame(StudentFields.ALL, StudentFields.parse(" "));
+        assertTrue(StudentFields.ALL.includesStuff());
+        assertSame(STUDENT, StudentFields.ALL.apply(STUDENT));
+    }
+
+    @Test
+    void whenFieldsGiven_thenKeepOnlyThem() {
+        //act
+        StudentFields fields = StudentFields.parse("studentId, lastName");
+
+        //assert
+        assertFalse(fields.includesStuff());
+        assertEquals(StudentResponseModel.builder()
+                .studentId(STUDENT.getStudentId())
+                .lastName("Gerard")
+                .build(), fields.apply(STUDENT));
+    }
+
+    @Test
+    void whenStuffAskedFor_thenIncludeStuff() {
+        //act
+        StudentFields fields = StudentFields.parse("studentId,stuff");
+
+        //assert
+        assertTrue(fields.includesStuff());
+        assertEquals("stuff", fields.apply(STUDENT).getStuff());
+    }
+
+    @Test
+    void whenUnknownFieldGiven_thenThrowInvalidInputException() {
+        //act
+        InvalidInputException exception = assertThrows(InvalidInputException.class, () -> StudentFields.parse("studentId,gpa"));
+
+        //assert
+        assertEquals("Unknown student field: gpa", exception.getMessage());
+    }
+}